@@ -116,6 +116,29 @@ NullValuePropertyMappingStrategy nullValuePropertyMappingStrategy()
      */
     NullValueCheckStrategy nullValueCheckStrategy() default ON_IMPLICIT_CONVERSION;
 
+    /**
+     * Whether the strings assigned to target properties are deduplicated through a {@link StringPool} shared by all
+     * instances of the mapper implementation.
+     *
+     * Can be overridden by the one on {@link Mapping}.
+     *
+     * @return whether the strings assigned to target properties are deduplicated
+     *
+     * @since 1.5
+     */
+    boolean deduplicateStrings() default false;
+
+    /**
+     * Determines how source collections, maps and arrays are assigned to target properties of a compatible type.
+     *
+     * Can be overridden by the one on {@link Mapping}.
+     *
+     * @return the strategy for assigning source collections, maps and arrays
+     *
+     * @since 1.5
+     */
+    CollectionCopyStrategy collectionCopyStrategy() default CollectionCopyStrategy.COPY;
+
     /**
      * Default ignore all mappings. All mappings have to be defined manually. No automatic mapping will take place. No
      * warning will be issued on missing target properties.
@@ -183,4 +206,21 @@ NullValuePropertyMappingStrategy nullValuePropertyMappingStrategy()
      */
     Class<? extends Annotation> mappingControl() default MappingControl.class;
 
+    /**
+     * Whether the target properties of an update method (a method with a {@code @}{@link MappingTarget} parameter)
+     * should only be written when their value actually changes. When enabled, the value to be written is compared
+     * with the current value of the target property, using {@code equals()} or {@code ==} for primitives, and the
+     * write is skipped when both are equal.
+     * <p>
+     * This is useful for targets that track modifications through their setters, such as bytecode enhanced JPA
+     * entities, where writing an unchanged value still marks the property as dirty.
+     * <p>
+     * NOTE: Target properties without a read accessor, as well as collection and map properties, are always written.
+     *
+     * @return whether unchanged target properties should not be written (default false)
+     *
+     * @since 1.5
+     */
+    boolean writeOnlyIfChanged() default false;
+
 }
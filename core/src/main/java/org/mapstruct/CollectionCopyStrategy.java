@@ -0,0 +1,55 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for assigning a source collection, map or array directly to a target property of a compatible type, i.e.
+ * when its elements don't need to be mapped.
+ * <p>
+ * <b>Note:</b> This strategy only applies when the target property is written by a setter or a field. Collections
+ * added to an existing target collection (update methods, {@link CollectionMappingStrategy#ADDER_PREFERRED} or getter
+ * based assignment) are always copied.
+ *
+ * @since 1.5
+ */
+public enum CollectionCopyStrategy {
+
+    /**
+     * The target gets a copy of the source, e.g. {@code new ArrayList<>( source )} or
+     * {@code Arrays.copyOf( source, source.length )}. Changes of the source aren't visible in the target and vice
+     * versa.
+     */
+    COPY,
+
+    /**
+     * The target gets the source instance itself. Changes of the source are visible in the target and vice versa.
+     */
+    SHARE,
+
+    /**
+     * The target gets an unmodifiable view of the source, e.g. {@code Collections.unmodifiableList( source )}, provided
+     * that the declared target type is {@code Collection}, {@code List}, {@code Set}, {@code SortedSet},
+     * {@code NavigableSet}, {@code Map}, {@code SortedMap} or {@code NavigableMap}. Otherwise, and for arrays, the
+     * source is copied. Changes of the source are visible in the target, but the target can't be changed.
+     */
+    UNMODIFIABLE_VIEW,
+
+    /**
+     * The target gets an unmodifiable copy of the source by {@code List.copyOf( source )}, {@code Set.copyOf( source )}
+     * or {@code Map.copyOf( source )}, provided that the declared target type is {@code List}, {@code Set} or
+     * {@code Map}. Otherwise, and for arrays, the source is copied. These methods return an already unmodifiable
+     * source as it is, without copying it again.
+     * <p>
+     * Before Java 10, i.e. if {@code copyOf()} isn't available to the generated code, the target gets an unmodifiable
+     * view of a copy of the source instead, e.g. {@code Collections.unmodifiableList( new ArrayList<>( source ) )}.
+     * <p>
+     * <b>Note:</b> Unlike the copies made with {@link #COPY}, the collections returned by {@code copyOf()} don't permit
+     * {@code null} elements, keys or values. A source containing {@code null} makes the generated code throw a
+     * {@link NullPointerException}, so {@link #UNMODIFIABLE_VIEW} or {@link #COPY} should be used for such sources.
+     */
+    IMMUTABLE_COPY;
+
+}
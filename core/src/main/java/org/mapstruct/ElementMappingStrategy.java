@@ -0,0 +1,36 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for determining when the elements of an iterable mapping method are mapped.
+ *
+ * @since 1.5
+ */
+public enum ElementMappingStrategy {
+
+    /**
+     * All elements are mapped when the mapping method is invoked. That's the default behavior.
+     */
+    EAGER,
+
+    /**
+     * The mapping method returns a read-only {@code List} view over the source list or array. An element is mapped
+     * whenever it is retrieved from the view, so elements that are never retrieved are never mapped. Changes of the
+     * source are visible through the view.
+     * <p>
+     * Lazy mapping is supported for mapping a {@code List} or an array to a new {@code List}, {@code Collection} or
+     * {@code Iterable}, if the element mapping doesn't throw checked exceptions.
+     */
+    LAZY,
+
+    /**
+     * Like {@link #LAZY}, but every element is mapped only once, when it is first retrieved from the view. The mapped
+     * elements are kept in an array of the size of the source, so the size of the source must not change afterwards.
+     * The view is not thread-safe.
+     */
+    LAZY_MEMOIZED;
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * Policy for evicting results from the cache of a {@link Memoized} method once it has reached its maximum size.
+ *
+ * @since 1.5
+ */
+public enum EvictionPolicy {
+
+    /**
+     * The least recently used result is evicted. Every cache hit updates the access order, so lookups are serialized.
+     * That's the default policy.
+     */
+    LRU,
+
+    /**
+     * A clock (second chance) approximation of {@link #LRU}: a cache hit only marks the result as referenced, and the
+     * clock hand evicts the first result which hasn't been referenced since the hand passed it. Lookups don't need to
+     * be serialized, which scales better with many concurrent callers.
+     */
+    CLOCK;
+}
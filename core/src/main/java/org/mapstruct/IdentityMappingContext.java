@@ -0,0 +1,140 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * A mapping context keeping track of the target instances mapped from each source instance, so that an object graph
+ * with shared references or cycles (e.g. bidirectional JPA relations) is mapped into a target graph of the same shape.
+ * <p>
+ * When a bean mapping method with a single source parameter is declared with a {@code @}{@link Context} parameter of
+ * this type, the generated implementation first looks up whether the source has already been mapped to the result
+ * type of the method, and returns that target if so. Otherwise the new target is registered right after it has been
+ * instantiated, i.e. before its properties are mapped. The context is passed on to all mapping methods invoked for the
+ * properties, so that each source instance is mapped only once per result type:
+ *
+ * <pre>
+ * <code>
+ * &#64;Mapper
+ * public interface EmployeeMapper {
+ *
+ *     EmployeeDto toDto(Employee employee, &#64;Context IdentityMappingContext context);
+ *
+ *     DepartmentDto toDto(Department department, &#64;Context IdentityMappingContext context);
+ * }
+ *
+ * // usage
+ * EmployeeDto dto = mapper.toDto( employee, new IdentityMappingContext() );
+ * </code>
+ * </pre>
+ * <p>
+ * Targets created with a builder are registered once they have been built, and targets created with a constructor
+ * taking mapped properties are registered once they have been constructed. Cycles through such properties therefore
+ * can't be preserved.
+ * <p>
+ * Source instances are compared by identity. The instances are kept in an open-addressed hash table, so that no
+ * entry objects are allocated per mapped instance. An instance is not thread-safe and should be created for each
+ * mapping of a graph.
+ *
+ * @since 1.5
+ */
+public class IdentityMappingContext {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private Object[] sources = new Object[INITIAL_CAPACITY];
+    private Class<?>[] targetTypes = new Class<?>[INITIAL_CAPACITY];
+    private Object[] targets = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Returns the target instance the given source has been mapped to.
+     *
+     * @param source the source instance
+     * @param targetType the type the source has been mapped to
+     * @param <T> the target type
+     *
+     * @return the target instance, or {@code null} if the source has not yet been mapped to the given type
+     */
+    public <T> T getMappedInstance(Object source, Class<T> targetType) {
+        if ( source == null ) {
+            return null;
+        }
+
+        int mask = sources.length - 1;
+        for ( int index = indexFor( source, targetType, mask ); sources[index] != null; index = ( index + 1 ) & mask ) {
+            if ( sources[index] == source && targetTypes[index] == targetType ) {
+                return targetType.cast( targets[index] );
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers the target instance the given source has been mapped to.
+     *
+     * @param source the source instance
+     * @param targetType the type the source has been mapped to
+     * @param target the target instance
+     * @param <T> the target type
+     *
+     * @return the given target instance
+     */
+    public <T> T storeMappedInstance(Object source, Class<T> targetType, T target) {
+        if ( source == null ) {
+            return target;
+        }
+
+        if ( ( size + 1 ) * 3 > sources.length * 2 ) {
+            resize();
+        }
+
+        int mask = sources.length - 1;
+        int index = indexFor( source, targetType, mask );
+        while ( sources[index] != null ) {
+            if ( sources[index] == source && targetTypes[index] == targetType ) {
+                targets[index] = target;
+                return target;
+            }
+            index = ( index + 1 ) & mask;
+        }
+
+        sources[index] = source;
+        targetTypes[index] = targetType;
+        targets[index] = target;
+        size++;
+        return target;
+    }
+
+    private void resize() {
+        Object[] oldSources = sources;
+        Class<?>[] oldTargetTypes = targetTypes;
+        Object[] oldTargets = targets;
+
+        int capacity = oldSources.length * 2;
+        sources = new Object[capacity];
+        targetTypes = new Class<?>[capacity];
+        targets = new Object[capacity];
+
+        int mask = capacity - 1;
+        for ( int oldIndex = 0; oldIndex < oldSources.length; oldIndex++ ) {
+            if ( oldSources[oldIndex] != null ) {
+                int index = indexFor( oldSources[oldIndex], oldTargetTypes[oldIndex], mask );
+                while ( sources[index] != null ) {
+                    index = ( index + 1 ) & mask;
+                }
+                sources[index] = oldSources[oldIndex];
+                targetTypes[index] = oldTargetTypes[oldIndex];
+                targets[index] = oldTargets[oldIndex];
+            }
+        }
+    }
+
+    private static int indexFor(Object source, Class<?> targetType, int mask) {
+        int hash = System.identityHashCode( source ) * 31 + System.identityHashCode( targetType );
+        // spread the higher bits, as identity hash codes tend to differ in them only
+        return ( hash ^ ( hash >>> 16 ) ) & mask;
+    }
+}
@@ -137,4 +137,51 @@
      */
     Class<? extends Annotation> elementMappingControl() default MappingControl.class;
 
+    /**
+     * The number of source elements from which on the elements are mapped in parallel, e.g. when mapping large lists
+     * of stateless objects. The elements are mapped on the common {@link java.util.concurrent.ForkJoinPool}, or on
+     * the {@link java.util.concurrent.Executor} passed as {@code @}{@link Context} parameter to the mapping method,
+     * keeping their original order. A negative value, which is the default, disables parallel mapping.
+     * <p>
+     * Parallel mapping is supported for collection and array sources with non-primitive elements. As the elements are
+     * mapped concurrently, the element mapping must not throw checked exceptions, and neither lifecycle methods
+     * ({@code @}{@link BeforeMapping}, {@code @}{@link AfterMapping}) nor {@code @Context} parameters other than the
+     * {@code Executor} may be involved, as they could be invoked or modified concurrently. Such cases are reported
+     * as errors.
+     *
+     * @return the number of source elements from which on the elements are mapped in parallel
+     *
+     * @since 1.5
+     */
+    int parallelThreshold() default -1;
+
+    /**
+     * When the elements are mapped. By default all elements are mapped eagerly. Use
+     * {@link ElementMappingStrategy#LAZY} or {@link ElementMappingStrategy#LAZY_MEMOIZED} to return a {@code List}
+     * view over the source, which maps the elements when they are retrieved, e.g. if callers typically read only a
+     * few elements of a large result.
+     *
+     * @return the strategy determining when the elements are mapped
+     *
+     * @since 1.5
+     */
+    ElementMappingStrategy elementMappingStrategy() default ElementMappingStrategy.EAGER;
+
+    /**
+     * The name of the property identifying an element, which both the source and the target element type need to
+     * provide a getter for. Can only be used on update methods (with a {@code @}{@link MappingTarget} parameter) whose
+     * target is a {@code Collection}.
+     * <p>
+     * If specified, the target collection is merged with the source instead of being cleared and populated with new
+     * elements: target elements with the key of a source element are updated in place, using an update method for the
+     * elements, which is generated if none is defined. Source elements without a matching target element are mapped
+     * and added to the target, and target elements without a matching source element are removed from it. This
+     * keeps the identity of unchanged elements, e.g. the child entities of a JPA aggregate.
+     *
+     * @return the name of the property identifying an element
+     *
+     * @since 1.5
+     */
+    String mergeKey() default "";
+
 }
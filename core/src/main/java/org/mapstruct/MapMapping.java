@@ -197,4 +197,21 @@
      */
     Class<? extends Annotation> valueMappingControl() default MappingControl.class;
 
+    /**
+     * The number of source entries from which on the entries are mapped in parallel, e.g. when mapping large maps of
+     * stateless objects. The entries are mapped on the common {@link java.util.concurrent.ForkJoinPool}, or on the
+     * {@link java.util.concurrent.Executor} passed as {@code @}{@link Context} parameter to the mapping method, keeping
+     * the iteration order of the source map. A negative value, which is the default, disables parallel mapping.
+     * <p>
+     * As the entries are mapped concurrently, the key and value mappings must not throw checked exceptions, and
+     * neither lifecycle methods ({@code @}{@link BeforeMapping}, {@code @}{@link AfterMapping}) nor {@code @Context}
+     * parameters other than the {@code Executor} may be involved, as they could be invoked or modified concurrently.
+     * Such cases are reported as errors.
+     *
+     * @return the number of source entries from which on the entries are mapped in parallel
+     *
+     * @since 1.5
+     */
+    int parallelThreshold() default -1;
+
 }
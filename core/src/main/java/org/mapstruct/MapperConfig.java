@@ -210,6 +210,47 @@ MappingInheritanceStrategy mappingInheritanceStrategy()
      */
     NullValueCheckStrategy nullValueCheckStrategy() default ON_IMPLICIT_CONVERSION;
 
+    /**
+     * Whether the strings assigned to target properties are deduplicated through a {@link StringPool} shared by all
+     * instances of the mapper implementation.
+     *
+     * Can be overridden by the one on {@link Mapper}, {@link BeanMapping} or {@link Mapping}.
+     *
+     * @return whether the strings assigned to target properties are deduplicated
+     *
+     * @since 1.5
+     */
+    boolean deduplicateStrings() default false;
+
+    /**
+     * Determines how source collections, maps and arrays are assigned to target properties of a compatible type, i.e.
+     * whether the target gets a copy, the source itself or an unmodifiable view of it.
+     *
+     * Can be overridden by the one on {@link Mapper}, {@link BeanMapping} or {@link Mapping}.
+     *
+     * @return the strategy for assigning source collections, maps and arrays
+     *
+     * @since 1.5
+     */
+    CollectionCopyStrategy collectionCopyStrategy() default CollectionCopyStrategy.COPY;
+
+    /**
+     * Whether {@code Set} and {@code Map} targets with an enum element or key type are created as
+     * {@link java.util.EnumSet} or {@link java.util.EnumMap} instead of the usual implementation types (e.g.
+     * {@code LinkedHashSet} or {@code LinkedHashMap}). This applies to the results of iterable and map mapping methods
+     * as well as to the copies of collections assigned to target properties.
+     * <p>
+     * Note that enum sets and maps iterate in the order the enum constants are declared in, and don't permit
+     * {@code null} elements or keys.
+     *
+     * Can be overridden by the one on {@link Mapper}.
+     *
+     * @return whether enum-keyed {@code Set} and {@code Map} targets are created as {@code EnumSet} or {@code EnumMap}
+     *
+     * @since 1.5
+     */
+    boolean useEnumCollections() default false;
+
     /**
      * Determines whether to use field or constructor injection. This is only used on annotated based component models
      * such as CDI, Spring and JSR 330.
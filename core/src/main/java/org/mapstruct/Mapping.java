@@ -447,6 +447,30 @@
      */
     NullValueCheckStrategy nullValueCheckStrategy() default ON_IMPLICIT_CONVERSION;
 
+    /**
+     * Whether the string assigned to the target property is deduplicated through a {@link StringPool} shared by all
+     * instances of the mapper implementation.
+     *
+     * Overrides the one on {@link MapperConfig}, {@link Mapper} or {@link BeanMapping}.
+     *
+     * @return whether the string assigned to the target property is deduplicated
+     *
+     * @since 1.5
+     */
+    boolean deduplicateStrings() default false;
+
+    /**
+     * Determines how a source collection, map or array is assigned to the target property if it is of a compatible
+     * type.
+     *
+     * Overrides the one on {@link MapperConfig}, {@link Mapper} or {@link BeanMapping}.
+     *
+     * @return the strategy for assigning the source collection, map or array
+     *
+     * @since 1.5
+     */
+    CollectionCopyStrategy collectionCopyStrategy() default CollectionCopyStrategy.COPY;
+
     /**
      * The strategy to be applied when the source property is {@code null} or not present. If no strategy is configured,
      * the strategy given via {@link MapperConfig#nullValuePropertyMappingStrategy()},
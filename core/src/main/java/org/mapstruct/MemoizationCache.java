@@ -0,0 +1,240 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache of the results of a {@link Memoized} method, keyed by the arguments of the method.
+ * Methods with a single parameter use the argument itself as key, methods with several parameters a list of the
+ * arguments. The cache counts its hits and misses, which helps to size it.
+ * <p>
+ * Instances are created by the generated mapper implementations, see {@link MemoizingMapper}.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ *
+ * @since 1.5
+ */
+public abstract class MemoizationCache<K, V> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private MemoizationCache(int maxSize) {
+        if ( maxSize < 1 ) {
+            throw new IllegalArgumentException( "The maximum size of a cache must be positive, but was " + maxSize );
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize the maximum number of results kept in the cache
+     * @param eviction the policy for evicting results once the cache has reached its maximum size
+     * @param <K> the key type
+     * @param <V> the result type
+     *
+     * @return the new cache
+     */
+    public static <K, V> MemoizationCache<K, V> create(int maxSize, EvictionPolicy eviction) {
+        return eviction == EvictionPolicy.CLOCK ? new ClockCache<>( maxSize ) : new LruCache<>( maxSize );
+    }
+
+    /**
+     * Returns the result cached for the given key.
+     *
+     * @param key the key, may be {@code null}
+     *
+     * @return the cached result, or {@code null} if there is no result for the given key
+     */
+    public final V get(K key) {
+        V value = lookup( key == null ? NULL_KEY : key );
+        if ( value == null ) {
+            misses.increment();
+        }
+        else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Caches the result for the given key, evicting another result if the cache has reached its maximum size.
+     * {@code null} results are not cached.
+     *
+     * @param key the key, may be {@code null}
+     * @param value the result
+     */
+    public final void put(K key, V value) {
+        if ( value != null ) {
+            store( key == null ? NULL_KEY : key, value );
+        }
+    }
+
+    /**
+     * @return the maximum number of results kept in this cache
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the number of lookups which found a cached result
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which didn't find a cached result
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of results currently kept in this cache
+     */
+    public abstract int size();
+
+    /**
+     * Removes all results from this cache. The hit and miss counters are retained.
+     */
+    public abstract void clear();
+
+    abstract V lookup(Object key);
+
+    abstract void store(Object key, V value);
+
+    /**
+     * Keeps the results in access order, so that the least recently used one is evicted. As each lookup changes the
+     * order, all accesses are synchronized.
+     */
+    private static final class LruCache<K, V> extends MemoizationCache<K, V> {
+
+        private final Map<Object, V> entries;
+
+        LruCache(int maxSize) {
+            super( maxSize );
+            this.entries = new LinkedHashMap<Object, V>( 16, 0.75f, true ) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, V> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        @Override
+        synchronized V lookup(Object key) {
+            return entries.get( key );
+        }
+
+        @Override
+        synchronized void store(Object key, V value) {
+            entries.put( key, value );
+        }
+
+        @Override
+        public synchronized int size() {
+            return entries.size();
+        }
+
+        @Override
+        public synchronized void clear() {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Keeps the results in a ring of slots. A lookup only sets the referenced flag of the slot it hits, so lookups
+     * don't need to be synchronized. When a result is stored into the full ring, the clock hand clears the flags of
+     * the slots it passes until it finds a slot which hasn't been referenced, whose result is evicted.
+     */
+    private static final class ClockCache<K, V> extends MemoizationCache<K, V> {
+
+        private final Map<Object, Slot<V>> entries = new ConcurrentHashMap<>();
+        private final Object[] keys;
+        private final Slot<?>[] slots;
+        private int occupied;
+        private int hand;
+
+        ClockCache(int maxSize) {
+            super( maxSize );
+            this.keys = new Object[maxSize];
+            this.slots = new Slot<?>[maxSize];
+        }
+
+        @Override
+        V lookup(Object key) {
+            Slot<V> slot = entries.get( key );
+            if ( slot == null ) {
+                return null;
+            }
+            slot.referenced = true;
+            return slot.value;
+        }
+
+        @Override
+        synchronized void store(Object key, V value) {
+            if ( entries.containsKey( key ) ) {
+                return;
+            }
+
+            int index;
+            if ( occupied < slots.length ) {
+                index = occupied++;
+            }
+            else {
+                while ( slots[hand].referenced ) {
+                    slots[hand].referenced = false;
+                    hand = ( hand + 1 ) % slots.length;
+                }
+                index = hand;
+                entries.remove( keys[index] );
+                hand = ( hand + 1 ) % slots.length;
+            }
+
+            Slot<V> slot = new Slot<>( value );
+            keys[index] = key;
+            slots[index] = slot;
+            entries.put( key, slot );
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public synchronized void clear() {
+            entries.clear();
+            Arrays.fill( keys, null );
+            Arrays.fill( slots, null );
+            occupied = 0;
+            hand = 0;
+        }
+    }
+
+    private static final class Slot<V> {
+
+        private final V value;
+        private volatile boolean referenced;
+
+        Slot(V value) {
+            this.value = value;
+        }
+    }
+}
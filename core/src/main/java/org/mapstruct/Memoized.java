@@ -0,0 +1,76 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method of a mapper whose results are cached, so that repeated invocations with equal arguments return the
+ * same result without mapping the source again. This pays off for expensive mappings of values that recur, e.g.
+ * reference data such as countries or currencies.
+ * <p>
+ * The annotation can be given on abstract mapping methods as well as on default or concrete methods of the mapper,
+ * e.g. {@code @Named} methods. The generated implementation puts a {@link MemoizationCache} in front of the method,
+ * which is keyed by the arguments of the method. The cache is bounded to {@link #maxSize()} entries, it is
+ * thread-safe and there is one cache per mapper instance. {@code null} results are not cached.
+ *
+ * <pre>
+ * <code>
+ * &#64;Mapper
+ * public interface CountryMapper {
+ *
+ *     &#64;Memoized(maxSize = 256)
+ *     CountryDto toDto(Country country);
+ * }
+ * </code>
+ * </pre>
+ * <p>
+ * The generated implementation also implements {@link MemoizingMapper}, which gives access to the caches, e.g. to
+ * their hit and miss counters.
+ * <p>
+ * Memoization can't be applied to update methods, to methods with {@code @}{@link Context} parameters and to
+ * methods returning a mutable type, as all callers would share the cached result. Mutable results can be memoized
+ * nevertheless by setting {@link #allowMutableResult()}.
+ *
+ * @since 1.5
+ */
+@Target( ElementType.METHOD )
+@Retention( RetentionPolicy.CLASS )
+public @interface Memoized {
+
+    /**
+     * The name of the cache, under which it is available from {@link MemoizingMapper#getMemoizationCaches()}.
+     * Defaults to the name of the annotated method. Overloaded methods need to be given distinct names.
+     *
+     * @return the name of the cache
+     */
+    String name() default "";
+
+    /**
+     * The maximum number of results kept in the cache.
+     *
+     * @return the maximum number of results kept in the cache
+     */
+    int maxSize() default 1024;
+
+    /**
+     * How results are evicted from the cache once it has reached its maximum size.
+     *
+     * @return the eviction policy
+     */
+    EvictionPolicy eviction() default EvictionPolicy.LRU;
+
+    /**
+     * Whether the method may be memoized although its result is of a mutable type. Callers must not modify the
+     * result in this case, as it is shared with all other callers.
+     *
+     * @return {@code true} if a mutable result may be memoized, {@code false} otherwise
+     */
+    boolean allowMutableResult() default false;
+}
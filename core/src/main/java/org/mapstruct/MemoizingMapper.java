@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import java.util.Map;
+
+/**
+ * Implemented by the generated implementation of a mapper with {@link Memoized} methods, giving access to the caches
+ * of these methods:
+ *
+ * <pre>
+ * <code>
+ * MemoizationCache&lt;?, ?&gt; cache = ( (MemoizingMapper) countryMapper ).getMemoizationCaches().get( "toDto" );
+ * long hits = cache.getHitCount();
+ * </code>
+ * </pre>
+ *
+ * @since 1.5
+ */
+public interface MemoizingMapper {
+
+    /**
+     * Returns the caches of the memoized methods of this mapper.
+     *
+     * @return the caches, keyed by their {@link Memoized#name() name}
+     */
+    Map<String, MemoizationCache<?, ?>> getMemoizationCaches();
+}
@@ -49,6 +49,11 @@
  * If there are two factory methods, both serving the same type, one with no parameters and one taking sources as input,
  * then the one with the source parameters is favored. If there are multiple such factories, an ambiguity error is
  * shown.
+ * <p>
+ * A factory method taking the source iterable of an iterable mapping method and returning a {@code Map} from the
+ * source elements to the target elements is a <em>batch factory method</em>. It is invoked once for all elements
+ * instead of once per element. Each source element is then mapped onto its target element with an update method,
+ * i.e. a method with a {@code @}{@link MappingTarget} parameter, which needs to be declared as well.
  *
  * @author Remo Meier
  * @since 1.2
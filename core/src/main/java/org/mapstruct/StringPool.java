@@ -0,0 +1,84 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded, thread-safe pool of strings, used by the generated mapper implementations to deduplicate the strings
+ * assigned to target properties (see {@link Mapper#deduplicateStrings()}). Equal strings mapped by the same mapper
+ * are then represented by a single instance, which saves heap when many targets are kept that share recurring values,
+ * e.g. status codes or country names.
+ * <p>
+ * Unlike {@link String#intern()}, the pool doesn't add to the JVM wide string table, but it is bounded by its own
+ * maximum size instead. Generated mappers keep their pool in a static field, so it lives as long as the mapper
+ * implementation class is loaded, and its strings are only released when the pool is cleared. This happens once the
+ * pool holds its maximum number of strings, so that the strings recurring afterwards are pooled again while rare ones
+ * don't accumulate.
+ *
+ * @since 1.5
+ */
+public class StringPool {
+
+    /**
+     * The maximum number of strings held by a pool created with {@link #StringPool()}.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Creates a pool holding at most {@link #DEFAULT_MAX_SIZE} strings.
+     */
+    public StringPool() {
+        this( DEFAULT_MAX_SIZE );
+    }
+
+    /**
+     * Creates a pool holding at most the given number of strings.
+     *
+     * @param maxSize the maximum number of strings held by the pool
+     */
+    public StringPool(int maxSize) {
+        if ( maxSize < 1 ) {
+            throw new IllegalArgumentException( "The maximum size of a pool must be positive, but was " + maxSize );
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the pooled instance of the given string, adding the string to the pool if there is none yet.
+     *
+     * @param value the string, may be {@code null}
+     *
+     * @return the pooled string equal to the given one, or {@code null} if the given string is {@code null}
+     */
+    public String deduplicate(String value) {
+        if ( value == null ) {
+            return null;
+        }
+
+        String pooled = strings.get( value );
+        if ( pooled != null ) {
+            return pooled;
+        }
+
+        if ( strings.size() >= maxSize ) {
+            strings.clear();
+        }
+        pooled = strings.putIfAbsent( value, value );
+        return pooled != null ? pooled : value;
+    }
+
+    /**
+     * @return the number of strings currently held by this pool
+     */
+    public int size() {
+        return strings.size();
+    }
+}
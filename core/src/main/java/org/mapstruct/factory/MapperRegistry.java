@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.factory;
+
+/**
+ * Creates the instances of the mappers of a package without reflection. Implementations are generated by the
+ * processor for the mappers with the default component model if the processor option
+ * {@code mapstruct.generateMapperRegistry} is set, and registered via the {@link java.util.ServiceLoader} mechanism.
+ * {@link Mappers#getMapper(Class)} consults the registries before falling back to instantiating the implementation of
+ * a mapper reflectively.
+ *
+ * @since 1.5
+ */
+public interface MapperRegistry {
+
+    /**
+     * Returns a new instance of the given mapper type.
+     *
+     * @param mapperType the type of the mapper
+     *
+     * @return a new instance of the mapper, or {@code null} if the mapper isn't registered with this registry
+     */
+    Object getMapper(Class<?> mapperType);
+}
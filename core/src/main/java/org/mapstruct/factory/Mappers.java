@@ -8,8 +8,12 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 
 import org.mapstruct.Mapper;
 
@@ -19,7 +23,8 @@
  * <p>
  * Mapper implementation types are expected to have the same fully qualified name as their interface type, with the
  * suffix {@code Impl} appended. When using this factory, mapper types - and any mappers they use - are instantiated by
- * invoking their public no-args constructor.
+ * invoking their public no-args constructor. Mappers registered with a generated {@link MapperRegistry} are
+ * instantiated by the registry instead, without reflection.
  * <p>
  * By convention, a single instance of each mapper is retrieved from the factory and exposed on the mapper interface
  * type by declaring a member named {@code INSTANCE} like this:
@@ -40,6 +45,12 @@ public class Mappers {
 
     private static final String IMPLEMENTATION_SUFFIX = "Impl";
 
+    /**
+     * The mapper registries per class loader, loaded once, as looking them up with the {@link ServiceLoader} scans the
+     * class path. The class loaders are weakly referenced, so that they can be unloaded.
+     */
+    private static final Map<ClassLoader, List<MapperRegistry>> MAPPER_REGISTRIES = new WeakHashMap<>();
+
     private Mappers() {
     }
 
@@ -65,6 +76,13 @@ public static <T> T getMapper(Class<T> clazz) {
     private static <T> T getMapper(Class<T> mapperType, Iterable<ClassLoader> classLoaders)
             throws ClassNotFoundException, NoSuchMethodException {
 
+        for ( ClassLoader classLoader : classLoaders ) {
+            T mapper = getMapperFromRegistries( mapperType, classLoader );
+            if ( mapper != null ) {
+                return mapper;
+            }
+        }
+
         for ( ClassLoader classLoader : classLoaders ) {
             T mapper = doGetMapper( mapperType, classLoader );
             if ( mapper != null ) {
@@ -141,6 +159,53 @@ private static <T> Class<? extends T> doGetMapperClass(Class<T> clazz, ClassLoad
         }
     }
 
+    private static <T> T getMapperFromRegistries(Class<T> clazz, ClassLoader classLoader) {
+        for ( MapperRegistry registry : getMapperRegistries( classLoader ) ) {
+            Object mapper = registry.getMapper( clazz );
+            if ( mapper != null ) {
+                return clazz.cast( mapper );
+            }
+        }
+
+        return null;
+    }
+
+    private static List<MapperRegistry> getMapperRegistries(ClassLoader classLoader) {
+        synchronized ( MAPPER_REGISTRIES ) {
+            return MAPPER_REGISTRIES.computeIfAbsent( classLoader, Mappers::loadMapperRegistries );
+        }
+    }
+
+    /**
+     * Loads the mapper registries visible to the given class loader. A registry which can't be loaded, e.g. as it is
+     * listed by a stale jar on the class path, is skipped, so that its mappers are retrieved reflectively instead.
+     */
+    private static List<MapperRegistry> loadMapperRegistries(ClassLoader classLoader) {
+        List<MapperRegistry> registries = new ArrayList<>();
+        Iterator<MapperRegistry> iterator = ServiceLoader.load( MapperRegistry.class, classLoader ).iterator();
+
+        while ( hasNextMapperRegistry( iterator ) ) {
+            try {
+                registries.add( iterator.next() );
+            }
+            catch ( ServiceConfigurationError e ) {
+                // skip this registry, the service loader continues with the next one
+            }
+        }
+
+        return registries;
+    }
+
+    private static boolean hasNextMapperRegistry(Iterator<MapperRegistry> iterator) {
+        try {
+            return iterator.hasNext();
+        }
+        catch ( ServiceConfigurationError e ) {
+            // a malformed provider configuration file, stop at the registries loaded so far
+            return false;
+        }
+    }
+
     private static <T> T getMapperFromServiceLoader(Class<T> clazz, ClassLoader classLoader) {
         ServiceLoader<T> loader = ServiceLoader.load( clazz, classLoader );
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@link MappingListener} committing a JDK Flight Recorder event named {@code org.mapstruct.Mapping} for each
+ * mapping, so that the mappings show up in flight recordings, e.g. when starting the JVM with
+ * {@code -XX:StartFlightRecording}. While no recording is running, the notifications are discarded right away.
+ * <p>
+ * Requires a JVM providing the {@code jdk.jfr} API, i.e. Java 11 or later, or Java 8 update 262 or later.
+ *
+ * @since 1.5
+ */
+public class JfrMappingListener implements MappingListener {
+
+    @Override
+    public void mappingCompleted(String methodId, long durationNanos, int elementCount) {
+        MappingEvent event = new MappingEvent();
+        if ( event.shouldCommit() ) {
+            event.methodId = methodId;
+            event.mappingDuration = durationNanos;
+            event.elementCount = elementCount;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void mappingFailed(String methodId, long durationNanos, Throwable failure) {
+        MappingEvent event = new MappingEvent();
+        if ( event.shouldCommit() ) {
+            event.methodId = methodId;
+            event.mappingDuration = durationNanos;
+            event.elementCount = UNKNOWN_ELEMENT_COUNT;
+            event.failure = failure.getClass().getName();
+            event.commit();
+        }
+    }
+
+    @Name("org.mapstruct.Mapping")
+    @Label("Mapping")
+    @Category("MapStruct")
+    @Description("The invocation of a mapping method of an instrumented mapper")
+    @StackTrace(false)
+    static class MappingEvent extends Event {
+
+        @Label("Method")
+        String methodId;
+
+        @Label("Mapping Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        long mappingDuration;
+
+        @Label("Element Count")
+        int elementCount;
+
+        @Label("Failure")
+        String failure;
+    }
+}
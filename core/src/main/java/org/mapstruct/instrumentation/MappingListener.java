@@ -0,0 +1,43 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.instrumentation;
+
+/**
+ * Notified about each invocation of a mapping method of the mappers generated with the processor option
+ * {@code mapstruct.instrumentation} set to {@code true}. Mappers generated without that option don't invoke any
+ * listener.
+ * <p>
+ * The listener in use is obtained from {@link MappingListeners#getListener()}. As it is invoked on each mapping, an
+ * implementation should be thread-safe and return quickly, e.g. by only updating some counters.
+ *
+ * @since 1.5
+ */
+public interface MappingListener {
+
+    /**
+     * The element count passed for mapping methods whose result isn't a collection, a map or an array.
+     */
+    int UNKNOWN_ELEMENT_COUNT = -1;
+
+    /**
+     * Invoked after a mapping method returned normally.
+     *
+     * @param methodId identifies the mapping method, e.g. {@code com.example.CarMapper#carToCarDto(Car)}
+     * @param durationNanos the time spent in the mapping method in nanoseconds
+     * @param elementCount the number of elements of the result of an iterable, stream or map mapping method, or
+     * {@link #UNKNOWN_ELEMENT_COUNT} for other mapping methods
+     */
+    void mappingCompleted(String methodId, long durationNanos, int elementCount);
+
+    /**
+     * Invoked after a mapping method threw an exception, which is propagated to the caller afterwards.
+     *
+     * @param methodId identifies the mapping method, e.g. {@code com.example.CarMapper#carToCarDto(Car)}
+     * @param durationNanos the time spent in the mapping method in nanoseconds
+     * @param failure the exception thrown by the mapping method
+     */
+    void mappingFailed(String methodId, long durationNanos, Throwable failure);
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.instrumentation;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the {@link MappingListener} invoked by instrumented mappers.
+ * <p>
+ * Unless a listener is {@link #setListener(MappingListener) set}, the first listener registered via the
+ * {@link ServiceLoader} mechanism, i.e. in a {@code META-INF/services/org.mapstruct.instrumentation.MappingListener}
+ * file, is used. If there is none, a {@link JfrMappingListener} is used when running on a JVM providing the JDK Flight
+ * Recorder API, and a listener ignoring all notifications otherwise.
+ *
+ * @since 1.5
+ */
+public final class MappingListeners {
+
+    private static final MappingListener NO_OP_LISTENER = new MappingListener() {
+
+        @Override
+        public void mappingCompleted(String methodId, long durationNanos, int elementCount) {
+        }
+
+        @Override
+        public void mappingFailed(String methodId, long durationNanos, Throwable failure) {
+        }
+    };
+
+    private static volatile MappingListener listener;
+
+    private MappingListeners() {
+    }
+
+    /**
+     * @return the listener to be invoked by instrumented mappers, never {@code null}
+     */
+    public static MappingListener getListener() {
+        MappingListener current = listener;
+        if ( current == null ) {
+            current = loadDefaultListener();
+            listener = current;
+        }
+        return current;
+    }
+
+    /**
+     * Sets the listener to be invoked by instrumented mappers.
+     *
+     * @param mappingListener the listener, or {@code null} to use the default listener again
+     */
+    public static void setListener(MappingListener mappingListener) {
+        listener = mappingListener;
+    }
+
+    private static MappingListener loadDefaultListener() {
+        Iterator<MappingListener> listeners =
+            ServiceLoader.load( MappingListener.class, MappingListeners.class.getClassLoader() ).iterator();
+        if ( listeners.hasNext() ) {
+            return listeners.next();
+        }
+
+        try {
+            Class.forName( "jdk.jfr.Event", false, MappingListeners.class.getClassLoader() );
+            return new JfrMappingListener();
+        }
+        catch ( ClassNotFoundException | LinkageError e ) {
+            return NO_OP_LISTENER;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+/**
+ * <p>
+ * Contains the {@link org.mapstruct.instrumentation.MappingListener} SPI, which is notified about the invocations of
+ * the mapping methods of mappers generated with the processor option {@code mapstruct.instrumentation}.
+ * </p>
+ */
+package org.mapstruct.instrumentation;
@@ -0,0 +1,64 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link IdentityMappingContext}.
+ */
+public class IdentityMappingContextTest {
+
+    @Test
+    public void shouldReturnStoredInstanceForSameSourceAndTargetType() {
+        IdentityMappingContext context = new IdentityMappingContext();
+        Object source = new Object();
+        StringBuilder target = new StringBuilder();
+
+        assertThat( context.getMappedInstance( source, StringBuilder.class ) ).isNull();
+        assertThat( context.storeMappedInstance( source, StringBuilder.class, target ) ).isSameAs( target );
+
+        assertThat( context.getMappedInstance( source, StringBuilder.class ) ).isSameAs( target );
+        assertThat( context.getMappedInstance( source, String.class ) ).isNull();
+        assertThat( context.getMappedInstance( new Object(), StringBuilder.class ) ).isNull();
+    }
+
+    @Test
+    public void shouldCompareSourcesByIdentity() {
+        IdentityMappingContext context = new IdentityMappingContext();
+
+        context.storeMappedInstance( new String( "source" ), StringBuilder.class, new StringBuilder() );
+
+        assertThat( context.getMappedInstance( new String( "source" ), StringBuilder.class ) ).isNull();
+    }
+
+    @Test
+    public void shouldIgnoreNullSources() {
+        IdentityMappingContext context = new IdentityMappingContext();
+        StringBuilder target = new StringBuilder();
+
+        assertThat( context.storeMappedInstance( null, StringBuilder.class, target ) ).isSameAs( target );
+        assertThat( context.getMappedInstance( null, StringBuilder.class ) ).isNull();
+    }
+
+    @Test
+    public void shouldKeepAllInstancesWhenGrowing() {
+        IdentityMappingContext context = new IdentityMappingContext();
+        Object[] sources = new Object[1000];
+        for ( int i = 0; i < sources.length; i++ ) {
+            sources[i] = new Object();
+            context.storeMappedInstance( sources[i], Integer.class, i );
+            context.storeMappedInstance( sources[i], String.class, String.valueOf( i ) );
+        }
+
+        for ( int i = 0; i < sources.length; i++ ) {
+            assertThat( context.getMappedInstance( sources[i], Integer.class ) ).isEqualTo( i );
+            assertThat( context.getMappedInstance( sources[i], String.class ) ).isEqualTo( String.valueOf( i ) );
+        }
+    }
+}
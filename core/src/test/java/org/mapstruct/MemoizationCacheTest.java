@@ -0,0 +1,93 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link MemoizationCache}.
+ */
+public class MemoizationCacheTest {
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        MemoizationCache<String, Integer> cache = MemoizationCache.create( 10, EvictionPolicy.LRU );
+
+        assertThat( cache.get( "one" ) ).isNull();
+        cache.put( "one", 1 );
+        assertThat( cache.get( "one" ) ).isEqualTo( 1 );
+        assertThat( cache.get( "one" ) ).isEqualTo( 1 );
+
+        assertThat( cache.getHitCount() ).isEqualTo( 2 );
+        assertThat( cache.getMissCount() ).isEqualTo( 1 );
+        assertThat( cache.size() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void shouldSupportNullKeysButNotCacheNullValues() {
+        MemoizationCache<String, Integer> cache = MemoizationCache.create( 10, EvictionPolicy.CLOCK );
+
+        cache.put( null, 0 );
+        cache.put( "one", null );
+
+        assertThat( cache.get( null ) ).isEqualTo( 0 );
+        assertThat( cache.get( "one" ) ).isNull();
+        assertThat( cache.size() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        MemoizationCache<String, Integer> cache = MemoizationCache.create( 2, EvictionPolicy.LRU );
+        cache.put( "one", 1 );
+        cache.put( "two", 2 );
+        cache.get( "one" );
+
+        cache.put( "three", 3 );
+
+        assertThat( cache.size() ).isEqualTo( 2 );
+        assertThat( cache.get( "one" ) ).isEqualTo( 1 );
+        assertThat( cache.get( "two" ) ).isNull();
+        assertThat( cache.get( "three" ) ).isEqualTo( 3 );
+    }
+
+    @Test
+    public void shouldGiveReferencedResultsSecondChanceWithClock() {
+        MemoizationCache<String, Integer> cache = MemoizationCache.create( 2, EvictionPolicy.CLOCK );
+        cache.put( "one", 1 );
+        cache.put( "two", 2 );
+        cache.get( "one" );
+
+        cache.put( "three", 3 );
+
+        assertThat( cache.size() ).isEqualTo( 2 );
+        assertThat( cache.get( "one" ) ).isEqualTo( 1 );
+        assertThat( cache.get( "two" ) ).isNull();
+        assertThat( cache.get( "three" ) ).isEqualTo( 3 );
+    }
+
+    @Test
+    public void shouldClearResultsButKeepCounters() {
+        MemoizationCache<String, Integer> cache = MemoizationCache.create( 2, EvictionPolicy.CLOCK );
+        cache.put( "one", 1 );
+        cache.get( "one" );
+
+        cache.clear();
+
+        assertThat( cache.size() ).isZero();
+        assertThat( cache.get( "one" ) ).isNull();
+        assertThat( cache.getHitCount() ).isEqualTo( 1 );
+        assertThat( cache.getMissCount() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void shouldRejectNonPositiveMaxSize() {
+        assertThatThrownBy( () -> MemoizationCache.create( 0, EvictionPolicy.LRU ) )
+            .isInstanceOf( IllegalArgumentException.class );
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link StringPool}.
+ */
+public class StringPoolTest {
+
+    @Test
+    public void shouldReturnPooledInstance() {
+        StringPool pool = new StringPool();
+        String first = new String( "Berlin" );
+
+        assertThat( pool.deduplicate( first ) ).isSameAs( first );
+        assertThat( pool.deduplicate( new String( "Berlin" ) ) ).isSameAs( first );
+        assertThat( pool.deduplicate( null ) ).isNull();
+        assertThat( pool.size() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void shouldClearWhenFull() {
+        StringPool pool = new StringPool( 2 );
+
+        pool.deduplicate( "one" );
+        pool.deduplicate( "two" );
+        pool.deduplicate( "three" );
+
+        assertThat( pool.size() ).isEqualTo( 1 );
+        String four = new String( "four" );
+        assertThat( pool.deduplicate( four ) ).isSameAs( four );
+    }
+
+    @Test
+    public void shouldRejectInvalidMaxSize() {
+        assertThatThrownBy( () -> new StringPool( 0 ) ).isInstanceOf( IllegalArgumentException.class );
+    }
+}
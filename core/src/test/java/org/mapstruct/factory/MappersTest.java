@@ -7,9 +7,21 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.test.model.Bar;
 import org.mapstruct.test.model.Foo;
+import org.mapstruct.test.model.FooImpl;
+import org.mapstruct.test.model.RegisteredBar;
 import org.mapstruct.test.model.SomeClass;
+import org.mapstruct.test.model.TestMapperRegistry;
 
 /**
  * Unit test for {@link Mappers}.
@@ -58,4 +70,50 @@ public void shouldReturnPackagePrivateImplementationInstance() {
     public void shouldReturnPackagePrivateImplementationClass() {
         assertThat( Mappers.getMapperClass( PackagePrivateMapper.class ) ).isNotNull();
     }
+
+    @Test
+    public void shouldReturnInstanceFromMapperRegistry() {
+        assertThat( Mappers.getMapper( Bar.class ) ).isExactlyInstanceOf( RegisteredBar.class );
+    }
+
+    @Test
+    public void shouldFallBackToImplementationNotInMapperRegistry() {
+        assertThat( Mappers.getMapper( Foo.class ) ).isExactlyInstanceOf( FooImpl.class );
+    }
+
+    @Test
+    public void shouldLoadMapperRegistriesOnlyOnce() {
+        Mappers.getMapper( Bar.class );
+        int registryInstances = TestMapperRegistry.getInstanceCount();
+
+        Mappers.getMapper( Bar.class );
+        Mappers.getMapper( Foo.class );
+
+        assertThat( registryInstances ).isPositive();
+        assertThat( TestMapperRegistry.getInstanceCount() ).isEqualTo( registryInstances );
+    }
+
+    @Test
+    public void shouldSkipMapperRegistriesWhichCannotBeLoaded(@TempDir Path classPath) throws IOException {
+        Path services = Files.createDirectories( classPath.resolve( "META-INF/services" ) );
+        Files.write(
+            services.resolve( MapperRegistry.class.getName() ),
+            "org.mapstruct.test.model.RemovedMapperRegistry".getBytes( StandardCharsets.UTF_8 )
+        );
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try ( URLClassLoader classLoader = new URLClassLoader(
+            new URL[] { classPath.toUri().toURL() },
+            MappersTest.class.getClassLoader()
+        ) ) {
+            thread.setContextClassLoader( classLoader );
+
+            assertThat( Mappers.getMapper( Foo.class ) ).isExactlyInstanceOf( FooImpl.class );
+            assertThat( Mappers.getMapper( Bar.class ) ).isExactlyInstanceOf( RegisteredBar.class );
+        }
+        finally {
+            thread.setContextClassLoader( contextClassLoader );
+        }
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link MappingListeners} and {@link JfrMappingListener}.
+ */
+public class MappingListenersTest {
+
+    @AfterEach
+    public void resetListener() {
+        MappingListeners.setListener( null );
+    }
+
+    @Test
+    public void shouldUseJfrListenerByDefault() {
+        assertThat( MappingListeners.getListener() ).isInstanceOf( JfrMappingListener.class );
+        assertThat( MappingListeners.getListener() ).isSameAs( MappingListeners.getListener() );
+    }
+
+    @Test
+    public void shouldUseListenerSet() {
+        MappingListener listener = new JfrMappingListener();
+
+        MappingListeners.setListener( listener );
+
+        assertThat( MappingListeners.getListener() ).isSameAs( listener );
+    }
+
+    @Test
+    public void shouldRecordMappingEvents() throws Exception {
+        Path file = Files.createTempFile( "mappings", ".jfr" );
+        try ( Recording recording = new Recording() ) {
+            recording.enable( "org.mapstruct.Mapping" );
+            recording.start();
+
+            JfrMappingListener listener = new JfrMappingListener();
+            listener.mappingCompleted( "CarMapper#toDtos(List)", 1500L, 3 );
+            listener.mappingFailed( "CarMapper#toDto(Car)", 700L, new IllegalArgumentException() );
+
+            recording.stop();
+            recording.dump( file );
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents( file );
+            assertThat( events ).hasSize( 2 );
+
+            assertThat( events.get( 0 ).getString( "methodId" ) ).isEqualTo( "CarMapper#toDtos(List)" );
+            assertThat( events.get( 0 ).getDuration( "mappingDuration" ).toNanos() ).isEqualTo( 1500L );
+            assertThat( events.get( 0 ).getInt( "elementCount" ) ).isEqualTo( 3 );
+            assertThat( events.get( 0 ).getString( "failure" ) ).isNull();
+
+            assertThat( events.get( 1 ).getString( "methodId" ) ).isEqualTo( "CarMapper#toDto(Car)" );
+            assertThat( events.get( 1 ).getInt( "elementCount" ) ).isEqualTo( MappingListener.UNKNOWN_ELEMENT_COUNT );
+            assertThat( events.get( 1 ).getString( "failure" ) )
+                .isEqualTo( IllegalArgumentException.class.getName() );
+        }
+        finally {
+            Files.delete( file );
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.test.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mapstruct.factory.MapperRegistry;
+
+public class TestMapperRegistry implements MapperRegistry {
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public TestMapperRegistry() {
+        INSTANCES.incrementAndGet();
+    }
+
+    public static int getInstanceCount() {
+        return INSTANCES.get();
+    }
+
+    @Override
+    public Object getMapper(Class<?> mapperType) {
+        if ( mapperType == Bar.class ) {
+            return new RegisteredBar();
+        }
+        return null;
+    }
+}
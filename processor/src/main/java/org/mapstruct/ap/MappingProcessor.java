@@ -34,10 +34,13 @@
 import javax.tools.Diagnostic.Kind;
 
 import org.mapstruct.ap.internal.model.Mapper;
+import org.mapstruct.ap.internal.option.EmissionBackend;
+import org.mapstruct.ap.internal.option.NullabilityAnnotationsPolicy;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.gem.MapperGem;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
 import org.mapstruct.ap.internal.processor.DefaultModelElementProcessorContext;
+import org.mapstruct.ap.internal.processor.MapperRegistrations;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor.ProcessorContext;
 import org.mapstruct.ap.internal.util.AnnotationProcessingException;
@@ -86,7 +89,15 @@
     MappingProcessor.UNMAPPED_TARGET_POLICY,
     MappingProcessor.DEFAULT_COMPONENT_MODEL,
     MappingProcessor.DEFAULT_INJECTION_STRATEGY,
-    MappingProcessor.VERBOSE
+    MappingProcessor.VERBOSE,
+    MappingProcessor.NULLABILITY_ANNOTATIONS,
+    MappingProcessor.INSTRUMENTATION,
+    MappingProcessor.GENERATE_MAPPER_REGISTRY,
+    MappingProcessor.GENERATE_NATIVE_IMAGE_CONFIG,
+    MappingProcessor.GENERATE_SPRING_CONFIGURATION,
+    MappingProcessor.LAZY_MAPPER_REFERENCES,
+    MappingProcessor.FINAL_IMPLEMENTATIONS,
+    MappingProcessor.EMISSION_BACKEND
 })
 public class MappingProcessor extends AbstractProcessor {
 
@@ -103,6 +114,22 @@ public class MappingProcessor extends AbstractProcessor {
     protected static final String DEFAULT_INJECTION_STRATEGY = "mapstruct.defaultInjectionStrategy";
     protected static final String ALWAYS_GENERATE_SERVICE_FILE = "mapstruct.alwaysGenerateServicesFile";
     protected static final String VERBOSE = "mapstruct.verbose";
+    protected static final String NULLABILITY_ANNOTATIONS = "mapstruct.nullabilityAnnotations";
+    protected static final String INSTRUMENTATION = "mapstruct.instrumentation";
+    protected static final String GENERATE_MAPPER_REGISTRY = "mapstruct.generateMapperRegistry";
+    protected static final String GENERATE_NATIVE_IMAGE_CONFIG = "mapstruct.generateNativeImageConfig";
+    protected static final String GENERATE_SPRING_CONFIGURATION = "mapstruct.generateSpringConfiguration";
+    protected static final String LAZY_MAPPER_REFERENCES = "mapstruct.lazyMapperReferences";
+    protected static final String FINAL_IMPLEMENTATIONS = "mapstruct.finalImplementations";
+    protected static final String EMISSION_BACKEND = "mapstruct.emissionBackend";
+
+    /**
+     * The options telling Gradle whether this processor is isolating or aggregating, see
+     * <a href="https://docs.gradle.org/current/userguide/java_plugin.html#sec:incremental_annotation_processing">
+     * incremental annotation processing</a>.
+     */
+    private static final String GRADLE_ISOLATING_PROCESSOR = "org.gradle.annotation.processing.isolating";
+    private static final String GRADLE_AGGREGATING_PROCESSOR = "org.gradle.annotation.processing.aggregating";
 
     private Options options;
 
@@ -119,6 +146,12 @@ public class MappingProcessor extends AbstractProcessor {
      */
     private Set<DeferredMapper> deferredMappers = new HashSet<>();
 
+    /**
+     * The generated mapper implementations to be registered with mapper registries and the native image
+     * configuration.
+     */
+    private final MapperRegistrations mapperRegistrations = new MapperRegistrations();
+
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init( processingEnv );
@@ -134,6 +167,8 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
 
     private Options createOptions() {
         String unmappedTargetPolicy = processingEnv.getOptions().get( UNMAPPED_TARGET_POLICY );
+        String nullabilityAnnotations = processingEnv.getOptions().get( NULLABILITY_ANNOTATIONS );
+        String emissionBackend = processingEnv.getOptions().get( EMISSION_BACKEND );
 
         return new Options(
             Boolean.valueOf( processingEnv.getOptions().get( SUPPRESS_GENERATOR_TIMESTAMP ) ),
@@ -142,10 +177,39 @@ private Options createOptions() {
             processingEnv.getOptions().get( DEFAULT_COMPONENT_MODEL ),
             processingEnv.getOptions().get( DEFAULT_INJECTION_STRATEGY ),
             Boolean.valueOf( processingEnv.getOptions().get( ALWAYS_GENERATE_SERVICE_FILE ) ),
-            Boolean.valueOf( processingEnv.getOptions().get( VERBOSE ) )
+            Boolean.valueOf( processingEnv.getOptions().get( VERBOSE ) ),
+            nullabilityAnnotations != null ?
+                NullabilityAnnotationsPolicy.valueOf( nullabilityAnnotations.toUpperCase() ) :
+                NullabilityAnnotationsPolicy.IGNORE,
+            Boolean.valueOf( processingEnv.getOptions().get( INSTRUMENTATION ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( GENERATE_MAPPER_REGISTRY ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( GENERATE_NATIVE_IMAGE_CONFIG ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( GENERATE_SPRING_CONFIGURATION ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( LAZY_MAPPER_REFERENCES ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( FINAL_IMPLEMENTATIONS ) ),
+            emissionBackend != null ?
+                EmissionBackend.valueOf( emissionBackend.toUpperCase() ) :
+                EmissionBackend.JAVA
         );
     }
 
+    /**
+     * Each mapper implementation is generated from its mapper type only, so the processor is isolating. The files
+     * registering all mapper implementations (or all Spring mapper implementations) are generated from all mapper
+     * types though, so the processor is aggregating if one of those is to be generated.
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> supportedOptions = new HashSet<>( super.getSupportedOptions() );
+        supportedOptions.add( isAggregating() ? GRADLE_AGGREGATING_PROCESSOR : GRADLE_ISOLATING_PROCESSOR );
+        return supportedOptions;
+    }
+
+    private boolean isAggregating() {
+        return options != null && ( options.isGenerateMapperRegistry() || options.isGenerateNativeImageConfig()
+            || options.isGenerateSpringConfiguration() );
+    }
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
@@ -157,15 +221,22 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
         if ( !roundEnvironment.processingOver() ) {
             RoundContext roundContext = new RoundContext( annotationProcessorContext );
 
-            // process any mappers left over from previous rounds
+            // any mappers left over from previous rounds and any mappers from this round
             Set<TypeElement> deferredMappers = getAndResetDeferredMappers();
-            processMapperElements( deferredMappers, roundContext );
-
-            // get and process any mappers from this round
             Set<TypeElement> mappers = getMappers( annotations, roundEnvironment );
+            roundContext.addMapperElements( deferredMappers );
+            roundContext.addMapperElements( mappers );
+
+            processMapperElements( deferredMappers, roundContext );
             processMapperElements( mappers, roundContext );
+
+            mapperRegistrations.writeRegistries( processingEnv, options );
         }
-        else if ( !deferredMappers.isEmpty() ) {
+        else {
+            mapperRegistrations.writeConfiguration( processingEnv.getFiler(), options );
+        }
+
+        if ( roundEnvironment.processingOver() && !deferredMappers.isEmpty() ) {
             // If the processing is over and there are deferred mappers it means something wrong occurred and
             // MapStruct didn't generate implementations for those
             for ( DeferredMapper deferredMapper : deferredMappers ) {
@@ -261,7 +332,8 @@ private void processMapperElements(Set<TypeElement> mapperElements, RoundContext
                 // of one outer interface
                 List<? extends Element> tst = mapperElement.getEnclosedElements();
                 ProcessorContext context = new DefaultModelElementProcessorContext(
-                        processingEnv, options, roundContext, getDeclaredTypesNotToBeImported( mapperElement )
+                        processingEnv, options, roundContext, getDeclaredTypesNotToBeImported( mapperElement ),
+                        mapperRegistrations
                 );
 
                 processMapperTypeElement( context, mapperElement );
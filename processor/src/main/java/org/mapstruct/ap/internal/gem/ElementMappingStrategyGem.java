@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.gem;
+
+/**
+ * Gem for the enum {@link org.mapstruct.ElementMappingStrategy}
+ */
+public enum ElementMappingStrategyGem {
+
+    EAGER( false, false ),
+    LAZY( true, false ),
+    LAZY_MEMOIZED( true, true );
+
+    private final boolean lazy;
+    private final boolean memoized;
+
+    ElementMappingStrategyGem(boolean lazy, boolean memoized) {
+        this.lazy = lazy;
+        this.memoized = memoized;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public boolean isMemoized() {
+        return memoized;
+    }
+}
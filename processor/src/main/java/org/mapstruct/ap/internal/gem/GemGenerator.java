@@ -24,6 +24,7 @@
 import org.mapstruct.MapperConfig;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Memoized;
 import org.mapstruct.Mappings;
 import org.mapstruct.Named;
 import org.mapstruct.ObjectFactory;
@@ -63,6 +64,7 @@
 @GemDefinition(Context.class)
 @GemDefinition(Builder.class)
 @GemDefinition(Condition.class)
+@GemDefinition(Memoized.class)
 
 @GemDefinition(MappingControl.class)
 @GemDefinition(MappingControls.class)
@@ -40,7 +40,7 @@ Assignment forgeMapping(SourceRHS sourceRHS, Type sourceType, Type targetType) {
         }
 
         String name = getName( sourceType, targetType );
-        name = Strings.getSafeVariableName( name, ctx.getReservedNames() );
+        name = ctx.getReservedNames().getSafeName( name );
         ForgedMethodHistory history = null;
         if ( method instanceof ForgedMethod ) {
             history = ( (ForgedMethod) method ).getHistory();
@@ -65,7 +65,7 @@ Assignment forgeMapping(SourceRHS sourceRHS, Type sourceType, Type targetType) {
         );
     }
 
-    private String getName(Type sourceType, Type targetType) {
+    String getName(Type sourceType, Type targetType) {
         String fromName = getName( sourceType );
         String toName = getName( targetType );
         return Strings.decapitalize( fromName + "To" + toName );
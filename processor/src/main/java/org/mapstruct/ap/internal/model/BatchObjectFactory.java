@@ -0,0 +1,174 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.ParameterBinding;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SourceMethod;
+import org.mapstruct.ap.internal.model.source.selector.SelectedMethod;
+import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.NameScope;
+
+import static org.mapstruct.ap.internal.util.Collections.first;
+
+/**
+ * Creates the target elements of an iterable mapping method with a single call to a batch factory method, which
+ * returns a {@code Map} from the source elements to the target elements, instead of creating them one by one. Each
+ * source element is then mapped onto its pre-created target element using an update method. Source elements without a
+ * pre-created target element are mapped with the regular element mapping.
+ * <p>
+ * This avoids a round-trip per element when the factory method e.g. loads the target entities from a database.
+ */
+public class BatchObjectFactory extends ModelElement {
+
+    private final MethodReference factoryMethod;
+    private final MethodReference updateMethod;
+    private final Type targetsType;
+    private final String targetsName;
+    private final Type targetElementType;
+    private final String targetName;
+
+    private BatchObjectFactory(MethodReference factoryMethod, MethodReference updateMethod, Type targetsType,
+                               String targetsName, Type targetElementType, String targetName) {
+        this.factoryMethod = factoryMethod;
+        this.updateMethod = updateMethod;
+        this.targetsType = targetsType;
+        this.targetsName = targetsName;
+        this.targetElementType = targetElementType;
+        this.targetName = targetName;
+    }
+
+    /**
+     * @param method the iterable mapping method
+     * @param sourceElementType the element type of the source iterable
+     * @param targetElementType the element type of the target iterable
+     * @param loopVariableName the name of the variable holding the current source element
+     * @param existingVariableNames the names of the variables existing in the mapping method
+     * @param ctx the mapping builder context
+     *
+     * @return the batch object factory, or {@code null} if there is no batch factory method for the given element
+     * types or no update method for mapping the elements
+     */
+    public static BatchObjectFactory getInstance(Method method, Type sourceElementType, Type targetElementType,
+                                                 String loopVariableName, NameScope existingVariableNames,
+                                                 MappingBuilderContext ctx) {
+        SelectedMethod<SourceMethod> factoryMethod = ObjectFactoryMethodResolver.getBatchFactoryMethod(
+            method,
+            sourceElementType,
+            targetElementType,
+            ctx
+        );
+        if ( factoryMethod == null ) {
+            return null;
+        }
+
+        ParameterBinding sourceBinding = ParameterBinding.fromTypeAndName( sourceElementType, loopVariableName );
+        List<SourceMethod> candidates = new ArrayList<>();
+        for ( SourceMethod candidate : ctx.getSourceModel() ) {
+            if ( isUpdateMethodFor( candidate, sourceElementType, targetElementType )
+                && ObjectFactoryMethodResolver.getParameterBindings( candidate, method, sourceBinding ) != null ) {
+                candidates.add( candidate );
+            }
+        }
+
+        if ( candidates.size() != 1 ) {
+            if ( candidates.isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.ITERABLEMAPPING_BATCH_FACTORY_WITHOUT_UPDATE_METHOD,
+                    factoryMethod.getMethod().describe(),
+                    sourceElementType.describe(),
+                    targetElementType.describe()
+                );
+            }
+            else {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.ITERABLEMAPPING_AMBIGUOUS_BATCH_UPDATE_METHOD,
+                    sourceElementType.describe(),
+                    targetElementType.describe(),
+                    factoryMethod.getMethod().describe(),
+                    candidates.stream().map( Method::describe ).collect( Collectors.joining( ", " ) )
+                );
+            }
+            return null;
+        }
+
+        SourceMethod updateMethod = first( candidates );
+        MethodReference updateMethodReference = MethodReference.forMapperReference(
+            updateMethod,
+            MapperReference.findMapperReference( ctx.getMapperReferences(), updateMethod ),
+            ObjectFactoryMethodResolver.getParameterBindings( updateMethod, method, sourceBinding )
+        );
+
+        return new BatchObjectFactory(
+            ObjectFactoryMethodResolver.getFactoryMethodReference( method, factoryMethod, ctx ),
+            updateMethodReference,
+            factoryMethod.getMethod().getResultType(),
+            existingVariableNames.allocate( targetElementType.getName() + "Map" ),
+            targetElementType,
+            existingVariableNames.newNestedScope().allocate( targetElementType.getName() )
+        );
+    }
+
+    private static boolean isUpdateMethodFor(SourceMethod candidate, Type sourceElementType, Type targetElementType) {
+        if ( !candidate.isUpdateMethod() || candidate.isLifecycleCallbackMethod()
+            || candidate.getSourceParameters().size() != 1 ) {
+            return false;
+        }
+        Parameter sourceParameter = first( candidate.getSourceParameters() );
+        return sourceElementType.isAssignableTo( sourceParameter.getType() )
+            && targetElementType.isAssignableTo( candidate.getMappingTargetParameter().getType() );
+    }
+
+    public MethodReference getFactoryMethod() {
+        return factoryMethod;
+    }
+
+    public MethodReference getUpdateMethod() {
+        return updateMethod;
+    }
+
+    public Type getTargetsType() {
+        return targetsType;
+    }
+
+    public String getTargetsName() {
+        return targetsName;
+    }
+
+    public Type getTargetElementType() {
+        return targetElementType;
+    }
+
+    public String getTargetName() {
+        return targetName;
+    }
+
+    public List<Type> getThrownTypes() {
+        List<Type> thrownTypes = new ArrayList<>( factoryMethod.getThrownTypes() );
+        thrownTypes.addAll( updateMethod.getThrownTypes() );
+        return thrownTypes;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = new HashSet<>( factoryMethod.getImportTypes() );
+        types.addAll( updateMethod.getImportTypes() );
+        types.addAll( targetsType.getImportTypes() );
+        types.addAll( targetElementType.getImportTypes() );
+        return types;
+    }
+}
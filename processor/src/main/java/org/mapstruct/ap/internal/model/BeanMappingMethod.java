@@ -7,7 +7,7 @@
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -27,6 +27,7 @@
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic;
@@ -52,10 +53,15 @@
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
 import org.mapstruct.ap.internal.model.source.SourceMethod;
 import org.mapstruct.ap.internal.model.source.selector.SelectedMethod;
+import org.mapstruct.ap.internal.option.NullabilityAnnotationsPolicy;
 import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.NameScope;
+import org.mapstruct.ap.internal.util.Nullability;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.internal.util.accessor.AccessorType;
+import org.mapstruct.ap.internal.util.accessor.MapPutAccessor;
+import org.mapstruct.ap.internal.util.accessor.MapValueAccessor;
 import org.mapstruct.ap.internal.util.accessor.ParameterElementAccessor;
 
 import static org.mapstruct.ap.internal.model.beanmapping.MappingReferences.forSourceMethod;
@@ -76,14 +82,26 @@
  */
 public class BeanMappingMethod extends NormalTypeMappingMethod {
 
+    private static final String IDENTITY_MAPPING_CONTEXT_FQN = "org.mapstruct.IdentityMappingContext";
+    private static final Set<String> MAP_TARGET_TYPES = new HashSet<>( Arrays.asList(
+        Map.class.getName(),
+        HashMap.class.getName(),
+        LinkedHashMap.class.getName()
+    ) );
+
     private final List<PropertyMapping> propertyMappings;
     private final Map<String, List<PropertyMapping>> mappingsByParameter;
     private final Map<String, List<PropertyMapping>> constructorMappingsByParameter;
     private final List<PropertyMapping> constantMappings;
     private final List<PropertyMapping> constructorConstantMappings;
     private final Type returnTypeToConstruct;
+    private final Integer mapTargetCapacity;
     private final BuilderType returnTypeBuilder;
     private final MethodReference finalizerMethod;
+    private final Parameter identityMappingContext;
+    private final String mappedInstanceName;
+    private final List<Parameter> nonNullSourceParameters;
+    private final boolean assertNonNullSourceParameters;
 
     private final MappingReferences mappingReferences;
 
@@ -102,12 +120,14 @@ public static class Builder {
         private Set<String> targetProperties;
         private final List<PropertyMapping> propertyMappings = new ArrayList<>();
         private final Set<Parameter> unprocessedSourceParameters = new HashSet<>();
-        private final Set<String> existingVariableNames = new HashSet<>();
+        private final NameScope existingVariableNames = new NameScope();
         private final Map<String, Set<MappingReference>> unprocessedDefinedTargets = new LinkedHashMap<>();
 
         private MappingReferences mappingReferences;
         private MethodReference factoryMethod;
         private boolean hasFactoryMethod;
+        private Map<String, Accessor> mapTargetReadAccessors;
+        private boolean presizeMapTarget;
 
         public Builder mappingContext(MappingBuilderContext mappingContext) {
             this.ctx = mappingContext;
@@ -184,6 +204,12 @@ else if ( userDefinedReturnType != null ) {
                 else if ( !method.isUpdateMethod() ) {
                     returnTypeImpl = method.getReturnType();
                     initializeFactoryMethod( returnTypeImpl, selectionParameters );
+                    if ( factoryMethod == null && isMapTarget( returnTypeImpl )
+                        && returnTypeImpl.getImplementationType() != null ) {
+                        // a Map target is constructed from its implementation type, presized when it is hashed
+                        presizeMapTarget = returnTypeImpl.getImplementation().isLoadFactorAdjustment();
+                        returnTypeImpl = returnTypeImpl.getImplementationType();
+                    }
                     if ( factoryMethod != null || canReturnTypeBeConstructed( returnTypeImpl ) ) {
                         returnTypeToConstruct = returnTypeImpl;
                     }
@@ -206,12 +232,18 @@ else if ( !method.isUpdateMethod() ) {
             CollectionMappingStrategyGem cms = this.method.getOptions().getMapper().getCollectionMappingStrategy();
 
             // determine accessors
-            Map<String, Accessor> accessors = resultTypeToMap.getPropertyWriteAccessors( cms );
+            Map<String, Accessor> accessors;
+            if ( isMapTarget( resultTypeToMap ) ) {
+                accessors = initializeMapTargetAccessors( resultTypeToMap );
+            }
+            else {
+                accessors = resultTypeToMap.getPropertyWriteAccessors( cms );
+            }
             this.targetProperties = new LinkedHashSet<>( accessors.keySet() );
 
             this.unprocessedTargetProperties = new LinkedHashMap<>( accessors );
 
-            if ( !method.isUpdateMethod() && !hasFactoryMethod ) {
+            if ( !method.isUpdateMethod() && !hasFactoryMethod && mapTargetReadAccessors == null ) {
                 ConstructorAccessor constructorAccessor = getConstructorAccessor( resultTypeToMap );
                 if ( constructorAccessor != null ) {
 
@@ -302,6 +334,11 @@ else if ( !method.isUpdateMethod() ) {
             // sort
             sortPropertyMappingsByDependencies();
 
+            Integer mapTargetCapacity = null;
+            if ( presizeMapTarget ) {
+                mapTargetCapacity = Math.max( (int) ( propertyMappings.size() / .75f ) + 1, 16 );
+            }
+
             // before / after mappings
             List<LifecycleCallbackMethodReference> beforeMappingMethods = LifecycleMethodResolver.beforeMappingMethods(
                             method,
@@ -345,18 +382,89 @@ else if ( !method.isUpdateMethod() ) {
                 factoryMethod,
                 mapNullToDefault,
                 returnTypeToConstruct,
+                mapTargetCapacity,
                 returnTypeBuilder,
                 beforeMappingMethods,
                 afterMappingMethods,
                 finalizeMethod,
-                mappingReferences
+                mappingReferences,
+                ctx.getOptions().getNullabilityAnnotationsPolicy()
             );
         }
 
+        /**
+         * Whether the given type is a {@code Map} with {@code String} keys, whose entries are then written like the
+         * properties of a bean, using the target property names as keys. Subtypes of {@code Map} declaring properties
+         * of their own are mapped like any other bean.
+         */
+        private boolean isMapTarget(Type type) {
+            if ( !type.isMapType() ) {
+                return false;
+            }
+            List<Type> typeArguments = type.determineTypeArguments( Map.class );
+            if ( typeArguments == null || typeArguments.size() != 2 || !typeArguments.get( 0 ).isString() ) {
+                return false;
+            }
+            Type valueType = typeArguments.get( 1 );
+            if ( valueType.getTypeMirror().getKind() != TypeKind.DECLARED && !valueType.isArrayType() ) {
+                return false;
+            }
+            return MAP_TARGET_TYPES.contains( type.getFullyQualifiedName() ) || type.getPropertyWriteAccessors(
+                method.getOptions().getMapper().getCollectionMappingStrategy() ).isEmpty();
+        }
+
+        /**
+         * Determines the entries of a {@code Map} target: the properties of the source beans, followed by the
+         * targets of the defined mappings.
+         *
+         * @return the accessors putting the entries into the map, by key
+         */
+        private Map<String, Accessor> initializeMapTargetAccessors(Type mapType) {
+            Set<String> keys = new LinkedHashSet<>();
+            for ( Parameter sourceParameter : method.getSourceParameters() ) {
+                Type sourceType = sourceParameter.getType();
+                if ( !sourceType.isPrimitive() && !sourceType.isArrayType() && !sourceType.isMapType() ) {
+                    keys.addAll( sourceType.getPropertyReadAccessors().keySet() );
+                }
+            }
+            if ( mappingReferences != null ) {
+                for ( MappingReference mappingReference : mappingReferences.getMappingReferences() ) {
+                    List<String> propertyEntries = mappingReference.getTargetReference().getPropertyEntries();
+                    if ( !propertyEntries.isEmpty() ) {
+                        keys.add( first( propertyEntries ) );
+                    }
+                }
+            }
+            else {
+                for ( MappingOptions mapping : method.getOptions().getMappings() ) {
+                    String targetName = mapping.getTargetName();
+                    int separatorIndex = targetName.indexOf( '.' );
+                    String key = separatorIndex < 0 ? targetName : targetName.substring( 0, separatorIndex );
+                    if ( !key.isEmpty() ) {
+                        keys.add( key );
+                    }
+                }
+            }
+
+            Element mapElement = mapType.getTypeElement();
+            TypeMirror valueType = mapType.determineTypeArguments( Map.class ).get( 1 ).getTypeMirror();
+            Map<String, Accessor> writeAccessors = new LinkedHashMap<>();
+            mapTargetReadAccessors = new LinkedHashMap<>();
+            for ( String key : keys ) {
+                writeAccessors.put( key, new MapPutAccessor( mapElement, valueType, key ) );
+                mapTargetReadAccessors.put( key, new MapValueAccessor( mapElement, valueType, key ) );
+            }
+            return writeAccessors;
+        }
+
+        private Map<String, Accessor> getTargetReadAccessors(Type targetType) {
+            return mapTargetReadAccessors != null ? mapTargetReadAccessors : targetType.getPropertyReadAccessors();
+        }
+
         private void initializeMappingReferencesIfNeeded(Type resultTypeToMap) {
             if ( mappingReferences == null && method instanceof SourceMethod ) {
                 Set<String> readAndWriteTargetProperties = new HashSet<>( unprocessedTargetProperties.keySet() );
-                readAndWriteTargetProperties.addAll( resultTypeToMap.getPropertyReadAccessors().keySet() );
+                readAndWriteTargetProperties.addAll( getTargetReadAccessors( resultTypeToMap ).keySet() );
                 mappingReferences = forSourceMethod(
                     (SourceMethod) method,
                     resultTypeToMap,
@@ -421,7 +529,7 @@ private void handleUnprocessedDefinedTargets() {
                         .build();
 
                     Accessor targetPropertyReadAccessor =
-                        method.getResultType().getPropertyReadAccessors().get( propertyName );
+                        getTargetReadAccessors( method.getResultType() ).get( propertyName );
                     MappingReferences mappingRefs = extractMappingReferences( propertyName, true );
                     PropertyMapping propertyMapping = new PropertyMappingBuilder()
                         .mappingContext( ctx )
@@ -789,11 +897,7 @@ else if ( constructorProperties.size() != constructorParameters.size() ) {
         }
 
         private Accessor createConstructorAccessor(Element element, TypeMirror accessedType, String parameterName) {
-            String safeParameterName = Strings.getSafeVariableName(
-                parameterName,
-                existingVariableNames
-            );
-            existingVariableNames.add( safeParameterName );
+            String safeParameterName = existingVariableNames.allocate( parameterName );
             return new ParameterElementAccessor( element, accessedType, safeParameterName );
         }
 
@@ -943,7 +1047,7 @@ private boolean handleDefinedMapping(MappingReference mappingRef, Type resultTyp
             }
 
             Accessor targetWriteAccessor = unprocessedTargetProperties.get( targetPropertyName );
-            Accessor targetReadAccessor = resultTypeToMap.getPropertyReadAccessors().get( targetPropertyName );
+            Accessor targetReadAccessor = getTargetReadAccessors( resultTypeToMap ).get( targetPropertyName );
 
             if ( targetWriteAccessor == null ) {
                 if ( targetReadAccessor == null ) {
@@ -966,7 +1070,7 @@ else if ( inheritContext.isReversed() ) {
                             return false;
                         }
                     }
-                    Set<String> readAccessors = resultTypeToMap.getPropertyReadAccessors().keySet();
+                    Set<String> readAccessors = getTargetReadAccessors( resultTypeToMap ).keySet();
                     String mostSimilarProperty = Strings.getMostSimilarWord( targetPropertyName, readAccessors );
 
                     Message msg;
@@ -1284,7 +1388,7 @@ private void applyPropertyNameBasedMapping(List<SourceReference> sourceReference
                 }
 
                 Accessor targetPropertyReadAccessor =
-                    method.getResultType().getPropertyReadAccessors().get( targetPropertyName );
+                    getTargetReadAccessors( method.getResultType() ).get( targetPropertyName );
                 MappingReferences mappingRefs = extractMappingReferences( targetPropertyName, false );
                 PropertyMapping propertyMapping = new PropertyMappingBuilder().mappingContext( ctx )
                     .sourceMethod( method )
@@ -1327,7 +1431,7 @@ private void applyParameterNameBasedMapping() {
                             .build();
 
                         Accessor targetPropertyReadAccessor =
-                            method.getResultType().getPropertyReadAccessors().get( targetProperty.getKey() );
+                            getTargetReadAccessors( method.getResultType() ).get( targetProperty.getKey() );
                         MappingReferences mappingRefs = extractMappingReferences( targetProperty.getKey(), false );
                         PropertyMapping propertyMapping = new PropertyMappingBuilder()
                             .mappingContext( ctx )
@@ -1591,16 +1695,18 @@ private ConstructorAccessor(
 
     //CHECKSTYLE:OFF
     private BeanMappingMethod(Method method,
-                              Collection<String> existingVariableNames,
+                              NameScope existingVariableNames,
                               List<PropertyMapping> propertyMappings,
                               MethodReference factoryMethod,
                               boolean mapNullToDefault,
                               Type returnTypeToConstruct,
+                              Integer mapTargetCapacity,
                               BuilderType returnTypeBuilder,
                               List<LifecycleCallbackMethodReference> beforeMappingReferences,
                               List<LifecycleCallbackMethodReference> afterMappingReferences,
                               MethodReference finalizerMethod,
-                              MappingReferences mappingReferences) {
+                              MappingReferences mappingReferences,
+                              NullabilityAnnotationsPolicy nullabilityAnnotationsPolicy) {
         super(
             method,
             existingVariableNames,
@@ -1646,6 +1752,44 @@ else if ( sourceParameterNames.contains( mapping.getSourceBeanName() ) ) {
             }
         }
         this.returnTypeToConstruct = returnTypeToConstruct;
+        this.mapTargetCapacity = mapTargetCapacity;
+
+        this.identityMappingContext = getIdentityMappingContext( method );
+        if ( identityMappingContext != null ) {
+            this.mappedInstanceName = existingVariableNames.allocate(
+                "mapped" + Strings.capitalize( getResultName() )
+            );
+        }
+        else {
+            this.mappedInstanceName = null;
+        }
+
+        if ( nullabilityAnnotationsPolicy.isOmitNullChecks() ) {
+            this.nonNullSourceParameters = getSourceParameters().stream()
+                .filter( parameter -> !parameter.getType().isPrimitive() )
+                .filter( parameter -> Nullability.isNonNull( parameter.getElement() ) )
+                .collect( Collectors.toList() );
+        }
+        else {
+            this.nonNullSourceParameters = Collections.emptyList();
+        }
+        this.assertNonNullSourceParameters = nullabilityAnnotationsPolicy == NullabilityAnnotationsPolicy.ASSERT;
+    }
+
+    /**
+     * Returns the {@code @Context} parameter tracking the targets mapped from each source instance. Targets are only
+     * tracked for methods creating a new target from a single source parameter.
+     */
+    private static Parameter getIdentityMappingContext(Method method) {
+        if ( method.isUpdateMethod() || method.getSourceParameters().size() != 1 ) {
+            return null;
+        }
+        for ( Parameter contextParameter : method.getContextParameters() ) {
+            if ( contextParameter.getType().getFullyQualifiedName().equals( IDENTITY_MAPPING_CONTEXT_FQN ) ) {
+                return contextParameter;
+            }
+        }
+        return null;
     }
 
     public List<PropertyMapping> getConstantMappings() {
@@ -1670,6 +1814,14 @@ public Type getReturnTypeToConstruct() {
         return returnTypeToConstruct;
     }
 
+    /**
+     * @return the initial capacity passed to the constructor of a hashed {@code Map} target, or {@code null} if the
+     * target is not presized
+     */
+    public Integer getMapTargetCapacity() {
+        return mapTargetCapacity;
+    }
+
     public boolean hasConstructorMappings() {
         return !constructorMappingsByParameter.isEmpty() || !constructorConstantMappings.isEmpty();
     }
@@ -1678,6 +1830,26 @@ public MethodReference getFinalizerMethod() {
         return finalizerMethod;
     }
 
+    public Parameter getIdentityMappingContext() {
+        return identityMappingContext;
+    }
+
+    public String getMappedInstanceName() {
+        return mappedInstanceName;
+    }
+
+    /**
+     * Returns the source parameters declared to be non-null by nullability annotations. A method having such a
+     * parameter never maps all of its source parameters being {@code null}, so that it doesn't need to check for that.
+     */
+    public List<Parameter> getNonNullSourceParameters() {
+        return nonNullSourceParameters;
+    }
+
+    public boolean isAssertNonNullSourceParameters() {
+        return assertNonNullSourceParameters;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
@@ -1719,7 +1891,7 @@ public List<Parameter> getSourceParametersNotNeedingNullCheck() {
     }
 
     private boolean needsNullCheck(Parameter parameter) {
-        if ( parameter.getType().isPrimitive() ) {
+        if ( parameter.getType().isPrimitive() || nonNullSourceParameters.contains( parameter ) ) {
             return false;
         }
 
@@ -15,6 +15,7 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.gem.CollectionMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValueCheckStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
@@ -64,6 +65,9 @@ public class CollectionAssignmentBuilder {
     private SourceRHS sourceRHS;
     private NullValueCheckStrategyGem nvcs;
     private NullValuePropertyMappingStrategyGem nvpms;
+    private CollectionCopyStrategyGem collectionCopyStrategy = CollectionCopyStrategyGem.COPY;
+    private boolean useEnumCollections;
+    private boolean sourceNullCheckRedundant;
 
     public CollectionAssignmentBuilder mappingBuilderContext(MappingBuilderContext ctx) {
         this.ctx = ctx;
@@ -125,13 +129,46 @@ public CollectionAssignmentBuilder nullValuePropertyMappingStrategy( NullValuePr
         return this;
     }
 
+    /**
+     * @param collectionCopyStrategy how a source collection or map is assigned directly to a target set by a setter
+     *
+     * @return this builder for chaining
+     */
+    public CollectionAssignmentBuilder collectionCopyStrategy(CollectionCopyStrategyGem collectionCopyStrategy) {
+        this.collectionCopyStrategy = collectionCopyStrategy;
+        return this;
+    }
+
+    /**
+     * @param useEnumCollections whether a copy of a source set of enums or map with enum keys is created as
+     * {@code EnumSet} or {@code EnumMap}
+     *
+     * @return this builder for chaining
+     */
+    public CollectionAssignmentBuilder useEnumCollections(boolean useEnumCollections) {
+        this.useEnumCollections = useEnumCollections;
+        return this;
+    }
+
+    /**
+     * @param sourceNullCheckRedundant whether the source is declared to be non-null, so that a null check on it would
+     * never fail
+     *
+     * @return this builder for chaining
+     */
+    public CollectionAssignmentBuilder sourceNullCheckRedundant(boolean sourceNullCheckRedundant) {
+        this.sourceNullCheckRedundant = sourceNullCheckRedundant;
+        return this;
+    }
+
     public Assignment build() {
         Assignment result = assignment;
 
         CollectionMappingStrategyGem cms = method.getOptions().getMapper().getCollectionMappingStrategy();
         boolean targetImmutable = cms == CollectionMappingStrategyGem.TARGET_IMMUTABLE || targetReadAccessor == null;
 
-        if ( targetAccessorType == AccessorType.SETTER || targetAccessorType.isFieldAssignment() ) {
+        if ( targetAccessorType == AccessorType.SETTER || targetAccessorType == AccessorType.MAP_PUT
+            || targetAccessorType.isFieldAssignment() ) {
 
             if ( result.isCallingUpdateMethod() && !targetImmutable ) {
 
@@ -176,7 +213,10 @@ else if ( setterWrapperNeedsSourceNullCheck( result ) ) {
                     method.getThrownTypes(),
                     targetType,
                     ctx.getTypeFactory(),
-                    targetAccessorType.isFieldAssignment()
+                    targetAccessorType.isFieldAssignment(),
+                    !sourceNullCheckRedundant,
+                    collectionCopyStrategy,
+                    useEnumCollections
                 );
             }
             else {
@@ -0,0 +1,230 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.type.DeclaredType;
+
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.NameScope;
+import org.mapstruct.ap.internal.util.ValueProvider;
+import org.mapstruct.ap.internal.util.accessor.Accessor;
+
+/**
+ * Merges the source elements of an iterable update method into the existing elements of the target collection by a
+ * key property, instead of clearing the target collection and populating it with newly created elements.
+ * <p>
+ * Target elements whose key is not the key of any source element are removed from the target collection, the other
+ * target elements are updated in place with the source element having the same key, and the remaining source
+ * elements are mapped to new target elements, which are added to the target collection.
+ * <p>
+ * {@code null} elements have no key: {@code null} target elements are removed, and {@code null} source elements are
+ * mapped like any other source element without a matching target element. If several target elements have the same
+ * key, only the first one is kept. If several source elements have the same key, only the first one updates the
+ * target element with that key, the others are mapped to new target elements.
+ */
+public class CollectionMerge extends ModelElement {
+
+    private final Type keyType;
+    private final String sourceKeyReadAccessorName;
+    private final String targetKeyReadAccessorName;
+    private final Type targetElementType;
+    private final Assignment updateAssignment;
+    private final Type setType;
+    private final Type hashSetType;
+    private final Type mapType;
+    private final Type hashMapType;
+    private final Type iteratorType;
+    private final String keysName;
+    private final String targetsByKeyName;
+    private final String iteratorName;
+    private final String targetName;
+    private final String keyName;
+
+    @SuppressWarnings( "checkstyle:parameternumber" )
+    private CollectionMerge(Type keyType, String sourceKeyReadAccessorName, String targetKeyReadAccessorName,
+                            Type targetElementType, Assignment updateAssignment, MappingBuilderContext ctx,
+                            String keysName, String targetsByKeyName, String iteratorName, NameScope loopScope) {
+        this.keyType = keyType;
+        this.sourceKeyReadAccessorName = sourceKeyReadAccessorName;
+        this.targetKeyReadAccessorName = targetKeyReadAccessorName;
+        this.targetElementType = targetElementType;
+        this.updateAssignment = updateAssignment;
+        this.setType = ctx.getTypeFactory().getType( Set.class );
+        this.hashSetType = ctx.getTypeFactory().getType( HashSet.class );
+        this.mapType = ctx.getTypeFactory().getType( Map.class );
+        this.hashMapType = ctx.getTypeFactory().getType( HashMap.class );
+        this.iteratorType = ctx.getTypeFactory().getType( Iterator.class );
+        this.keysName = keysName;
+        this.targetsByKeyName = targetsByKeyName;
+        this.iteratorName = iteratorName;
+        this.targetName = loopScope.allocate( targetElementType.getName() );
+        this.keyName = loopScope.allocate( "key" );
+    }
+
+    /**
+     * @param method the iterable update method
+     * @param mergeKey the name of the property identifying the elements
+     * @param sourceElementType the element type of the source iterable
+     * @param targetElementType the element type of the target collection
+     * @param updateAssignment the update method mapping a source element onto a target element, or {@code null} if
+     * there is none
+     * @param existingVariableNames the names of the variables existing in the mapping method
+     * @param ctx the mapping builder context
+     *
+     * @return the merge, or {@code null} if the elements can't be merged by the given key, which is reported as error
+     */
+    public static CollectionMerge getInstance(Method method, String mergeKey, Type sourceElementType,
+                                              Type targetElementType, Assignment updateAssignment,
+                                              NameScope existingVariableNames, MappingBuilderContext ctx) {
+        AnnotationMirror mirror = method.getOptions().getIterableMapping().getMirror();
+        Accessor sourceKeyAccessor = sourceElementType.getPropertyReadAccessors().get( mergeKey );
+        Accessor targetKeyAccessor = targetElementType.getPropertyReadAccessors().get( mergeKey );
+        if ( sourceKeyAccessor == null || targetKeyAccessor == null ) {
+            ctx.getMessager().printMessage(
+                method.getExecutable(),
+                mirror,
+                Message.ITERABLEMAPPING_UNKNOWN_MERGE_KEY,
+                mergeKey,
+                ( sourceKeyAccessor == null ? sourceElementType : targetElementType ).describe()
+            );
+            return null;
+        }
+
+        Type sourceKeyType = getKeyType( sourceElementType, sourceKeyAccessor, ctx );
+        Type targetKeyType = getKeyType( targetElementType, targetKeyAccessor, ctx );
+        if ( !sourceKeyType.isAssignableTo( targetKeyType ) ) {
+            ctx.getMessager().printMessage(
+                method.getExecutable(),
+                mirror,
+                Message.ITERABLEMAPPING_MERGE_KEY_TYPE_MISMATCH,
+                mergeKey,
+                sourceKeyType.describe(),
+                sourceElementType.describe(),
+                targetKeyType.describe(),
+                targetElementType.describe()
+            );
+            return null;
+        }
+
+        if ( updateAssignment == null ) {
+            ctx.getMessager().printMessage(
+                method.getExecutable(),
+                mirror,
+                Message.ITERABLEMAPPING_MERGE_WITHOUT_UPDATE_METHOD,
+                sourceElementType.describe(),
+                targetElementType.describe()
+            );
+            return null;
+        }
+
+        return new CollectionMerge(
+            targetKeyType,
+            ValueProvider.of( sourceKeyAccessor ).getValue(),
+            ValueProvider.of( targetKeyAccessor ).getValue(),
+            targetElementType,
+            updateAssignment,
+            ctx,
+            existingVariableNames.allocate( "keys" ),
+            existingVariableNames.allocate( targetElementType.getName() + "sByKey" ),
+            existingVariableNames.allocate( "iterator" ),
+            existingVariableNames.newNestedScope()
+        );
+    }
+
+    private static Type getKeyType(Type elementType, Accessor keyAccessor, MappingBuilderContext ctx) {
+        return ctx.getTypeFactory()
+            .getReturnType( (DeclaredType) elementType.getTypeMirror(), keyAccessor )
+            .getBoxedEquivalent();
+    }
+
+    public Type getKeyType() {
+        return keyType;
+    }
+
+    public String getSourceKeyReadAccessorName() {
+        return sourceKeyReadAccessorName;
+    }
+
+    public String getTargetKeyReadAccessorName() {
+        return targetKeyReadAccessorName;
+    }
+
+    public Type getTargetElementType() {
+        return targetElementType;
+    }
+
+    public Assignment getUpdateAssignment() {
+        return updateAssignment;
+    }
+
+    public Type getSetType() {
+        return setType;
+    }
+
+    public Type getHashSetType() {
+        return hashSetType;
+    }
+
+    public Type getMapType() {
+        return mapType;
+    }
+
+    public Type getHashMapType() {
+        return hashMapType;
+    }
+
+    public Type getIteratorType() {
+        return iteratorType;
+    }
+
+    public String getKeysName() {
+        return keysName;
+    }
+
+    public String getTargetsByKeyName() {
+        return targetsByKeyName;
+    }
+
+    public String getIteratorName() {
+        return iteratorName;
+    }
+
+    public String getTargetName() {
+        return targetName;
+    }
+
+    public String getKeyName() {
+        return keyName;
+    }
+
+    public List<Type> getThrownTypes() {
+        return updateAssignment.getThrownTypes();
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = new HashSet<>( updateAssignment.getImportTypes() );
+        types.addAll( keyType.getImportTypes() );
+        types.addAll( targetElementType.getImportTypes() );
+        types.add( setType );
+        types.add( hashSetType );
+        types.add( mapType );
+        types.add( hashMapType );
+        types.add( iteratorType );
+        return types;
+    }
+}
@@ -15,7 +15,7 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
-import org.mapstruct.ap.internal.util.Strings;
+import org.mapstruct.ap.internal.util.NameScope;
 
 /**
  * A {@link MappingMethod} implemented by a {@link Mapper} class which does mapping of generic types.
@@ -30,20 +30,29 @@ public abstract class ContainerMappingMethod extends NormalTypeMappingMethod {
     private final SelectionParameters selectionParameters;
     private final String index1Name;
     private final String index2Name;
+    private final ParallelMapping parallelMapping;
+    private final Type enumCollectionType;
     private IterableCreation iterableCreation;
 
     ContainerMappingMethod(Method method, Collection<String> existingVariables, Assignment parameterAssignment,
         MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
         List<LifecycleCallbackMethodReference> beforeMappingReferences,
         List<LifecycleCallbackMethodReference> afterMappingReferences,
-        SelectionParameters selectionParameters) {
+        SelectionParameters selectionParameters, ParallelMapping parallelMapping) {
         super( method, existingVariables, factoryMethod, mapNullToDefault, beforeMappingReferences,
             afterMappingReferences );
         this.elementAssignment = parameterAssignment;
         this.loopVariableName = loopVariableName;
         this.selectionParameters = selectionParameters;
-        this.index1Name = Strings.getSafeVariableName( "i", existingVariables );
-        this.index2Name = Strings.getSafeVariableName( "j", existingVariables );
+        NameScope loopScope = NameScope.of( existingVariables ).newNestedScope();
+        this.index1Name = loopScope.allocate( "i" );
+        this.index2Name = loopScope.allocate( "j" );
+        this.parallelMapping = parallelMapping;
+        this.enumCollectionType = IterableCreation.determineEnumCollectionType(
+            method,
+            factoryMethod,
+            method.getOptions().getIterableMapping().isUseEnumCollections()
+        );
     }
 
     public Parameter getSourceParameter() {
@@ -58,7 +67,7 @@ public Parameter getSourceParameter() {
 
     public IterableCreation getIterableCreation() {
         if ( iterableCreation == null ) {
-            iterableCreation = IterableCreation.create( this, getSourceParameter() );
+            iterableCreation = IterableCreation.create( this, getSourceParameter(), enumCollectionType );
         }
         return iterableCreation;
     }
@@ -77,9 +86,26 @@ public Set<Type> getImportTypes() {
         if ( iterableCreation != null ) {
             types.addAll( iterableCreation.getImportTypes() );
         }
+
+        if ( enumCollectionType != null ) {
+            // the enum set is created instead of an instance of the implementation type
+            types.remove( getReturnType().getImplementationType() );
+            types.addAll( enumCollectionType.getImportTypes() );
+        }
+
+        if ( parallelMapping != null ) {
+            types.addAll( parallelMapping.getImportTypes() );
+        }
         return types;
     }
 
+    /**
+     * @return the parallel mapping of the elements, or {@code null} if the elements are always mapped sequentially
+     */
+    public ParallelMapping getParallelMapping() {
+        return parallelMapping;
+    }
+
     public String getLoopVariableName() {
         return loopVariableName;
     }
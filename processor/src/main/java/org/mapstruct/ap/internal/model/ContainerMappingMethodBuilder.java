@@ -8,7 +8,6 @@
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
@@ -18,6 +17,7 @@
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
 import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
 import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.NameScope;
 import org.mapstruct.ap.internal.util.Strings;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
@@ -77,6 +77,19 @@ public final M build() {
         String loopVariableName =
             Strings.getSafeVariableName( sourceElementType.getName(), method.getParameterNames() );
 
+        NameScope existingVariables = new NameScope( method.getParameterNames() );
+        existingVariables.add( loopVariableName );
+
+        ParallelMapping parallelMapping = null;
+        BatchObjectFactory batchObjectFactory = getBatchObjectFactory(
+            sourceElementType,
+            targetElementType,
+            loopVariableName,
+            existingVariables,
+            selectionParameters
+        );
+
+        // the elements missing in the targets of a batch factory are mapped as usual
         SourceRHS sourceRHS = new SourceRHS(
             loopVariableName,
             sourceElementType,
@@ -122,6 +135,30 @@ public final M build() {
                 ForgedMethod forgedMethod = (ForgedMethod) method;
                 forgedMethod.addThrownTypes( assignment.getThrownTypes() );
             }
+            if ( batchObjectFactory == null ) {
+                parallelMapping = ParallelMapping.getInstance(
+                    method,
+                    assignment,
+                    isParallelMappingSupported( sourceParameterType, sourceElementType, targetElementType ),
+                    sourceElementType,
+                    targetElementType,
+                    ctx
+                );
+            }
+        }
+
+        if ( batchObjectFactory != null ) {
+            if ( method instanceof ForgedMethod ) {
+                ( (ForgedMethod) method ).addThrownTypes( batchObjectFactory.getThrownTypes() );
+            }
+            parallelMapping = ParallelMapping.getInstance(
+                method,
+                null,
+                false,
+                sourceElementType,
+                targetElementType,
+                ctx
+            );
         }
         assignment = getWrapper( assignment, method );
 
@@ -136,9 +173,6 @@ public final M build() {
             factoryMethod = ObjectFactoryMethodResolver.getFactoryMethod( method, null, ctx );
         }
 
-        Set<String> existingVariables = new HashSet<>( method.getParameterNames() );
-        existingVariables.add( loopVariableName );
-
         List<LifecycleCallbackMethodReference> beforeMappingMethods = LifecycleMethodResolver.beforeMappingMethods(
             method,
             selectionParameters,
@@ -161,7 +195,8 @@ public final M build() {
             loopVariableName,
             beforeMappingMethods,
             afterMappingMethods,
-            selectionParameters
+            selectionParameters,
+            parallelMapping
         );
     }
 
@@ -173,12 +208,41 @@ private Assignment forge(SourceRHS sourceRHS, Type sourceType, Type targetType)
         return assignment;
     }
 
+    /**
+     * @param sourceElementType the element type of the source
+     * @param targetElementType the element type of the target
+     * @param loopVariableName the name of the variable holding the current source element
+     * @param existingVariables the names of the variables existing in the mapping method
+     * @param selectionParameters the parameters selecting the element mapping
+     *
+     * @return the batch object factory creating all target elements at once, or {@code null} if the elements should
+     * be mapped one by one
+     */
+    protected BatchObjectFactory getBatchObjectFactory(Type sourceElementType, Type targetElementType,
+                                                       String loopVariableName, NameScope existingVariables,
+                                                       SelectionParameters selectionParameters) {
+        return null;
+    }
+
+    /**
+     * @param sourceType the type of the source
+     * @param sourceElementType the element type of the source
+     * @param targetElementType the element type of the target
+     *
+     * @return whether the elements can be mapped in parallel
+     */
+    protected boolean isParallelMappingSupported(Type sourceType, Type sourceElementType, Type targetElementType) {
+        return ( sourceType.isCollectionType() || sourceType.isArrayType() )
+            && !sourceElementType.isPrimitive()
+            && !targetElementType.isPrimitive();
+    }
+
     protected abstract M instantiateMappingMethod(Method method, Collection<String> existingVariables,
                                                   Assignment assignment, MethodReference factoryMethod,
                                                   boolean mapNullToDefault, String loopVariableName,
                                                   List<LifecycleCallbackMethodReference> beforeMappingMethods,
                                                   List<LifecycleCallbackMethodReference> afterMappingMethods,
-        SelectionParameters selectionParameters);
+        SelectionParameters selectionParameters, ParallelMapping parallelMapping);
 
     protected abstract Type getElementType(Type parameterType);
 
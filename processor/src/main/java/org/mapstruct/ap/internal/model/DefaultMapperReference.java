@@ -5,17 +5,24 @@
  */
 package org.mapstruct.ap.internal.model;
 
-import java.util.List;
+import java.util.HashSet;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
-import org.mapstruct.ap.internal.util.Collections;
+import org.mapstruct.ap.internal.util.NameScope;
 import org.mapstruct.ap.internal.util.Strings;
 
 /**
  * Mapper reference which is retrieved via the {@code Mappers#getMapper()} method. Used by default if no other component
  * model is specified via {@code Mapper#uses()}.
+ * <p>
+ * If lazy, a mapper annotated with {@code @Mapper} is retrieved upon its first use rather than when instantiating the
+ * referencing mapper. It is then held by a static nested holder class, whose initialization the JVM performs exactly
+ * once and in a thread-safe manner, so that the reference doesn't need to be synchronized.
+ * <p>
+ * If the implementation of the referenced mapper is known, it is instantiated directly and referenced by its
+ * implementation type, so that the calls into it target a single, possibly final class.
  *
  * @author Gunnar Morling
  */
@@ -23,29 +30,41 @@ public class DefaultMapperReference extends MapperReference {
 
     private final boolean isSingleton;
     private final boolean isAnnotatedMapper;
+    private final boolean lazy;
+    private String holderName;
+    private final String implementationName;
     private final Set<Type> importTypes;
 
-    private DefaultMapperReference(Type type, boolean isAnnotatedMapper, boolean isSingleton,
-                                   Set<Type> importTypes, String variableName) {
+    private DefaultMapperReference(Type type, boolean isAnnotatedMapper, boolean isSingleton, boolean lazy,
+                                   String implementationName, Set<Type> importTypes, String variableName) {
         super( type, variableName );
         this.isAnnotatedMapper = isAnnotatedMapper;
+        this.lazy = lazy;
+        this.implementationName = implementationName;
         this.importTypes = importTypes;
         this.isSingleton = isSingleton;
     }
 
     public static DefaultMapperReference getInstance(Type type, boolean isAnnotatedMapper, boolean isSingleton,
-                                                     TypeFactory typeFactory, List<String> otherMapperReferences) {
-        Set<Type> importTypes = Collections.asSet( type );
-        if ( isAnnotatedMapper && !isSingleton) {
-            importTypes.add( typeFactory.getType( "org.mapstruct.factory.Mappers" ) );
+                                                     boolean lazy, String implementationName,
+                                                     TypeFactory typeFactory, NameScope fieldNames) {
+        Set<Type> importTypes = new HashSet<>();
+        if ( implementationName == null ) {
+            importTypes.add( type );
+            if ( isAnnotatedMapper && !isSingleton ) {
+                importTypes.add( typeFactory.getType( "org.mapstruct.factory.Mappers" ) );
+            }
         }
 
-        String variableName = Strings.getSafeVariableName(
-            type.getName(),
-            otherMapperReferences
+        return new DefaultMapperReference(
+            type,
+            isAnnotatedMapper,
+            isSingleton,
+            lazy && isAnnotatedMapper && !isSingleton,
+            implementationName,
+            importTypes,
+            fieldNames.allocate( type.getName() )
         );
-
-        return new DefaultMapperReference( type, isAnnotatedMapper, isSingleton, importTypes, variableName );
     }
 
     @Override
@@ -61,4 +80,42 @@ public boolean isSingleton() {
       return isSingleton;
     }
 
+    /**
+     * @return whether the referenced mapper is held by a nested class rather than by a field
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Allocates the name of the nested class holding the referenced mapper. This is done once the referencing mapper
+     * is complete, as the nested class must not hide any type referenced by the mapper.
+     *
+     * @param typeNames the names of the types visible within the referencing mapper
+     */
+    public void allocateHolderName(NameScope typeNames) {
+        holderName = typeNames.allocateTypeName( Strings.capitalize( getVariableName() ) + "Holder" );
+    }
+
+    /**
+     * @return the name of the nested class holding the referenced mapper, or {@code null} if the mapper is
+     * referenced by a field
+     */
+    public String getHolderName() {
+        return holderName;
+    }
+
+    /**
+     * @return the name of the implementation of the referenced mapper, qualified unless residing in the package of the
+     * referencing mapper, or {@code null} if the mapper is retrieved via {@code Mappers#getMapper()}
+     */
+    public String getImplementationName() {
+        return implementationName;
+    }
+
+    @Override
+    public String getInstanceReference() {
+        return holderName != null ? holderName + ".INSTANCE" : getVariableName();
+    }
+
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.version.VersionInformation;
+
+/**
+ * The {@code @Generated} annotation of a type generated besides the mapper implementations, written with its
+ * qualified name. If no {@code @Generated} annotation is available, it is written as a comment.
+ */
+public class GeneratedAnnotation extends ModelElement {
+
+    private final String typeName;
+    private final boolean suppressGeneratorTimestamp;
+    private final boolean suppressGeneratorVersionComment;
+    private final VersionInformation versionInformation;
+
+    /**
+     * @param typeName the qualified name of the available {@code @Generated} annotation, or {@code null} if none is
+     * available
+     * @param options the processor options
+     * @param versionInformation the version information written into the annotation
+     */
+    public GeneratedAnnotation(String typeName, Options options, VersionInformation versionInformation) {
+        this.typeName = typeName;
+        this.suppressGeneratorTimestamp = options.isSuppressGeneratorTimestamp();
+        this.suppressGeneratorVersionComment = options.isSuppressGeneratorVersionComment();
+        this.versionInformation = versionInformation;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public boolean isSuppressGeneratorTimestamp() {
+        return suppressGeneratorTimestamp;
+    }
+
+    public boolean isSuppressGeneratorVersionComment() {
+        return suppressGeneratorVersionComment;
+    }
+
+    public VersionInformation getVersionInformation() {
+        return versionInformation;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+}
@@ -19,6 +19,7 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.util.NameScope;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.internal.version.VersionInformation;
 
@@ -92,6 +93,8 @@ public T methods(List<MappingMethod> methods) {
     private final Accessibility accessibility;
     private List<Field> fields;
     private Constructor constructor;
+    private MemoizationCaches memoizationCaches;
+    private boolean finalType;
 
     /**
      * Type representing the {@code @Generated} annotation
@@ -197,42 +200,86 @@ public void setConstructor(Constructor constructor) {
         this.constructor = constructor;
     }
 
+    public MemoizationCaches getMemoizationCaches() {
+        return memoizationCaches;
+    }
+
+    public void setMemoizationCaches(MemoizationCaches memoizationCaches) {
+        this.memoizationCaches = memoizationCaches;
+    }
+
+    public boolean isFinalType() {
+        return finalType;
+    }
+
+    public void setFinalType(boolean finalType) {
+        this.finalType = finalType;
+    }
+
     @Override
     public SortedSet<Type> getImportTypes() {
         SortedSet<Type> importedTypes = new TreeSet<>();
-        addIfImportRequired( importedTypes, generatedType );
+        for ( Type type : getReferencedTypes() ) {
+            addIfImportRequired( importedTypes, type );
+        }
+        return importedTypes;
+    }
+
+    /**
+     * Returns the simple names of the types visible within this type, i.e. of the types it references, its own name and
+     * the name of the type it implements or extends. A nested type declared by this type must not hide any of them.
+     *
+     * @return the names of the types visible within this type
+     */
+    public NameScope getVisibleTypeNames() {
+        NameScope typeNames = new NameScope();
+        typeNames.add( name );
+        for ( Type type : getReferencedTypes() ) {
+            Type referencedType = type.isArrayType() ? type.getComponentType() : type;
+            if ( referencedType != null && referencedType.getTypeElement() != null ) {
+                typeNames.add( referencedType.getTypeElement().getSimpleName().toString() );
+            }
+        }
+        return typeNames;
+    }
+
+    private List<Type> getReferencedTypes() {
+        List<Type> referencedTypes = new ArrayList<>();
+        addIfNotNull( referencedTypes, generatedType );
 
-        addIfImportRequired( importedTypes, mapperDefinitionType );
+        addIfNotNull( referencedTypes, mapperDefinitionType );
 
         for ( MappingMethod mappingMethod : methods ) {
-            for ( Type type : mappingMethod.getImportTypes() ) {
-                addIfImportRequired( importedTypes, type );
-            }
+            referencedTypes.addAll( mappingMethod.getImportTypes() );
         }
 
         for ( Field field : fields ) {
             if ( field.isTypeRequiresImport() ) {
-                for ( Type type : field.getImportTypes() ) {
-                    addIfImportRequired( importedTypes, type );
-                }
+                referencedTypes.addAll( field.getImportTypes() );
             }
         }
 
         for ( Annotation annotation : annotations ) {
-            addIfImportRequired( importedTypes, annotation.getType() );
+            addIfNotNull( referencedTypes, annotation.getType() );
         }
 
-        for ( Type extraImport : extraImportedTypes ) {
-            addIfImportRequired( importedTypes, extraImport );
-        }
+        referencedTypes.addAll( extraImportedTypes );
 
         if ( constructor != null ) {
-            for ( Type type : constructor.getImportTypes() ) {
-                addIfImportRequired( importedTypes, type );
-            }
+            referencedTypes.addAll( constructor.getImportTypes() );
         }
 
-        return importedTypes;
+        if ( memoizationCaches != null ) {
+            referencedTypes.addAll( memoizationCaches.getImportTypes() );
+        }
+
+        return referencedTypes;
+    }
+
+    private static void addIfNotNull(List<Type> types, Type type) {
+        if ( type != null ) {
+            types.add( type );
+        }
     }
 
     public SortedSet<String> getImportTypeNames() {
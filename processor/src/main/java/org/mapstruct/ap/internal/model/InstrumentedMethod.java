@@ -0,0 +1,112 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.util.NameScope;
+
+/**
+ * A mapping method generated with the processor option {@code mapstruct.instrumentation}, which measures the
+ * invocation of the actual implementation and notifies the {@code org.mapstruct.instrumentation.MappingListener}
+ * about its outcome.
+ * <p>
+ * The actual implementation is the generated mapping method, which has been
+ * {@link MappingMethod#hideBehindWrappingMethod(String) renamed}.
+ */
+public class InstrumentedMethod extends MappingMethod {
+
+    private final String methodId;
+    private final String implementationName;
+    private final Type listenerType;
+    private final Type listenersType;
+    private final String listenerName;
+    private final String startName;
+    private final String failureName;
+    private final String resultVariableName;
+    private final String elementCountVariableName;
+
+    /**
+     * @param method the instrumented method
+     * @param methodId the id of the method passed to the listener
+     * @param implementationName the name of the generated implementation
+     * @param listenerType the {@code MappingListener} type
+     * @param listenersType the {@code MappingListeners} type
+     */
+    public InstrumentedMethod(Method method, String methodId, String implementationName, Type listenerType,
+                              Type listenersType) {
+        super( method );
+        this.methodId = methodId;
+        this.implementationName = implementationName;
+        this.listenerType = listenerType;
+        this.listenersType = listenersType;
+
+        NameScope localNames = new NameScope( getParameterNames() );
+        this.listenerName = localNames.allocate( "listener" );
+        this.startName = localNames.allocate( "start" );
+        this.failureName = localNames.allocate( "failure" );
+        this.resultVariableName = getReturnType().isVoid() ? null : localNames.allocate( "result" );
+
+        // the elements of collections, maps and arrays are counted, also when updated in a mapping target
+        Type resultType = getResultType();
+        if ( resultType.isCollectionOrMapType() || resultType.isArrayType() ) {
+            this.elementCountVariableName = resultVariableName != null ? resultVariableName : getResultName();
+        }
+        else {
+            this.elementCountVariableName = null;
+        }
+    }
+
+    public String getMethodId() {
+        return methodId;
+    }
+
+    public String getImplementationName() {
+        return implementationName;
+    }
+
+    public Type getListenerType() {
+        return listenerType;
+    }
+
+    public Type getListenersType() {
+        return listenersType;
+    }
+
+    public String getListenerName() {
+        return listenerName;
+    }
+
+    public String getStartName() {
+        return startName;
+    }
+
+    public String getFailureName() {
+        return failureName;
+    }
+
+    public String getResultVariableName() {
+        return resultVariableName;
+    }
+
+    public String getElementCountVariableName() {
+        return elementCountVariableName;
+    }
+
+    public boolean isArrayResult() {
+        return getResultType().isArrayType();
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = super.getImportTypes();
+        types.add( listenerType );
+        types.add( listenersType );
+        return types;
+    }
+}
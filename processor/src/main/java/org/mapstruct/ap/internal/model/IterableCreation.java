@@ -11,6 +11,7 @@
 import org.mapstruct.ap.internal.model.common.ModelElement;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
@@ -19,6 +20,9 @@
  * type is used and the target type has a constructor with {@code int} as parameter and the source parameter is of
  * {@link java.util.Collection}, {@link java.util.Map} or {@code Array} type then MapStruct will use that constructor
  * with the {@code size} / {@code length} from the source parameter.
+ * <p>
+ * If enabled by {@code useEnumCollections}, an {@link java.util.EnumSet} or {@link java.util.EnumMap} is created for
+ * a {@link Set} of enums or a {@link java.util.Map} with enum keys.
  *
  * @author Filip Hrisafov
  */
@@ -29,11 +33,14 @@ public class IterableCreation extends ModelElement {
     private final MethodReference factoryMethod;
     private final boolean canUseSize;
     private final boolean loadFactorAdjustment;
+    private final Type enumCollectionType;
 
-    private IterableCreation(Type resultType, Parameter sourceParameter, MethodReference factoryMethod) {
+    private IterableCreation(Type resultType, Parameter sourceParameter, MethodReference factoryMethod,
+                             Type enumCollectionType) {
         this.resultType = resultType;
         this.sourceParameter = sourceParameter;
         this.factoryMethod = factoryMethod;
+        this.enumCollectionType = enumCollectionType;
         this.canUseSize = ( sourceParameter.getType().isCollectionOrMapType() ||
             sourceParameter.getType().isArrayType() )
             && resultType.getImplementation() != null && resultType.getImplementation().hasInitialCapacityConstructor();
@@ -41,8 +48,32 @@ private IterableCreation(Type resultType, Parameter sourceParameter, MethodRefer
 
     }
 
-    public static IterableCreation create(NormalTypeMappingMethod mappingMethod, Parameter sourceParameter) {
-        return new IterableCreation( mappingMethod.getResultType(), sourceParameter, mappingMethod.getFactoryMethod() );
+    public static IterableCreation create(NormalTypeMappingMethod mappingMethod, Parameter sourceParameter,
+                                          Type enumCollectionType) {
+        return new IterableCreation(
+            mappingMethod.getResultType(),
+            sourceParameter,
+            mappingMethod.getFactoryMethod(),
+            enumCollectionType
+        );
+    }
+
+    /**
+     * Determines the {@link java.util.EnumSet} or {@link java.util.EnumMap} type to create instead of the
+     * implementation type of the result type of the given method.
+     *
+     * @param method the iterable or map mapping method
+     * @param factoryMethod the factory method creating the result, if any
+     * @param useEnumCollections whether enum sets and enum maps are to be created for enum-keyed results
+     *
+     * @return the enum set or enum map type, or {@code null} if the result is created otherwise
+     */
+    public static Type determineEnumCollectionType(Method method, MethodReference factoryMethod,
+                                                   boolean useEnumCollections) {
+        if ( !useEnumCollections || factoryMethod != null || method.isUpdateMethod() ) {
+            return null;
+        }
+        return method.getResultType().getEnumCollectionType();
     }
 
     public Type getResultType() {
@@ -68,13 +99,16 @@ public boolean isLoadFactorAdjustment() {
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = new HashSet<>();
-        if ( factoryMethod == null && resultType.getImplementationType() != null ) {
+        if ( enumCollectionType != null ) {
+            types.addAll( enumCollectionType.getImportTypes() );
+        }
+        else if ( factoryMethod == null && resultType.getImplementationType() != null ) {
             types.addAll( resultType.getImplementationType().getImportTypes() );
         }
 
         if ( isEnumSet() ) {
             types.add( getEnumSetElementType() );
-            // The result type itself is an EnumSet
+            // The result type itself is an EnumSet, unless the enum set type has been added above
             types.add( resultType );
         }
         return types;
@@ -85,6 +119,18 @@ public Type getEnumSetElementType() {
     }
 
     public boolean isEnumSet() {
-        return "java.util.EnumSet".equals( resultType.getFullyQualifiedName() );
+        return "java.util.EnumSet".equals( resultType.getFullyQualifiedName() )
+            || ( enumCollectionType != null && resultType.isCollectionType() );
+    }
+
+    /**
+     * @return the {@link java.util.EnumMap} type to create, {@code null} if no enum map is created
+     */
+    public Type getEnumMapType() {
+        return enumCollectionType != null && resultType.isMapType() ? enumCollectionType : null;
+    }
+
+    public Type getEnumMapKeyType() {
+        return first( resultType.getTypeParameters() );
     }
 }
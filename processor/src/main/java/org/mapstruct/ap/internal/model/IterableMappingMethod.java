@@ -7,16 +7,28 @@
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import javax.lang.model.element.AnnotationMirror;
+
+import org.mapstruct.ap.internal.gem.ElementMappingStrategyGem;
 import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
 import org.mapstruct.ap.internal.model.assignment.SetterWrapper;
 import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.SourceRHS;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
+import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.NameScope;
+import org.mapstruct.ap.internal.util.Strings;
 
 /**
  * A {@link MappingMethod} implemented by a {@link Mapper} class which maps one iterable type to another. The collection
@@ -28,6 +40,10 @@ public class IterableMappingMethod extends ContainerMappingMethod {
 
     public static class Builder extends ContainerMappingMethodBuilder<Builder, IterableMappingMethod> {
 
+        private BatchObjectFactory batchObjectFactory;
+        private boolean lazy;
+        private CollectionMerge collectionMerge;
+
         public Builder() {
             super( Builder.class, "collection element" );
         }
@@ -41,20 +57,254 @@ protected Type getElementType(Type parameterType) {
         @Override
         protected Assignment getWrapper(Assignment assignment, Method method) {
             Type resultType = method.getResultType();
+            boolean lazy = isLazy( assignment );
             // target accessor is setter, so decorate assignment as setter
             if ( resultType.isArrayType() ) {
                 return new LocalVarWrapper( assignment, method.getThrownTypes(), resultType, false );
             }
+            else if ( lazy ) {
+                // the elements are mapped in the get() method of the view, which can't throw checked exceptions
+                return new LocalVarWrapper(
+                    assignment,
+                    Collections.emptyList(),
+                    getElementType( resultType ),
+                    false
+                );
+            }
             else {
                 return new SetterWrapper( assignment, method.getThrownTypes(), false );
             }
         }
 
+        @Override
+        protected boolean isParallelMappingSupported(Type sourceType, Type sourceElementType,
+                                                     Type targetElementType) {
+            // an existing array can't be replaced by the array collected from the parallel stream
+            return super.isParallelMappingSupported( sourceType, sourceElementType, targetElementType )
+                && !( method.isUpdateMethod() && method.getResultType().isArrayType() )
+                && !getConfiguredElementMappingStrategy().isLazy()
+                && getMergeKey() == null;
+        }
+
+        private String getMergeKey() {
+            return method.getOptions().getIterableMapping().getMergeKey();
+        }
+
+        /**
+         * Determines how the source elements are merged into the target collection by the configured merge key,
+         * reporting an error if merging was requested for an unsupported method.
+         */
+        private CollectionMerge getCollectionMerge(Assignment elementAssignment, String loopVariableName,
+                                                   Collection<String> existingVariables,
+                                                   SelectionParameters selectionParameters) {
+            String mergeKey = getMergeKey();
+            if ( mergeKey == null || elementAssignment == null ) {
+                return null;
+            }
+
+            Type sourceType = first( method.getSourceParameters() ).getType();
+            Type resultType = method.getResultType();
+            if ( !method.isUpdateMethod() || !resultType.isCollectionType() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    method.getOptions().getIterableMapping().getMirror(),
+                    Message.ITERABLEMAPPING_MERGE_NOT_SUPPORTED,
+                    sourceType.describe(),
+                    resultType.describe()
+                );
+                return null;
+            }
+
+            Type sourceElementType = getElementType( sourceType );
+            Type targetElementType = getElementType( resultType );
+            SourceRHS sourceRHS = new SourceRHS(
+                loopVariableName,
+                sourceElementType,
+                new HashSet<>(),
+                "collection element"
+            );
+            CollectionMerge merge = CollectionMerge.getInstance(
+                method,
+                mergeKey,
+                sourceElementType,
+                targetElementType,
+                getElementUpdateAssignment( sourceRHS, targetElementType, selectionParameters ),
+                NameScope.of( existingVariables ),
+                ctx
+            );
+            if ( merge != null && method instanceof ForgedMethod ) {
+                ( (ForgedMethod) method ).addThrownTypes( merge.getThrownTypes() );
+            }
+            return merge;
+        }
+
+        /**
+         * @return the update method mapping a source element onto an existing target element, which is generated if
+         * there is no such method, or {@code null} if the elements can't be updated
+         */
+        private Assignment getElementUpdateAssignment(SourceRHS sourceRHS, Type targetElementType,
+                                                      SelectionParameters selectionParameters) {
+            SelectionCriteria criteria = SelectionCriteria.forMappingMethods(
+                selectionParameters,
+                method.getOptions().getIterableMapping().getMappingControl( ctx.getElementUtils() ),
+                null,
+                true
+            );
+            Assignment assignment = ctx.getMappingResolver().getTargetAssignment(
+                method,
+                getDescription(),
+                targetElementType,
+                null,
+                criteria,
+                sourceRHS,
+                null,
+                () -> null
+            );
+            if ( assignment != null && assignment.isCallingUpdateMethod() ) {
+                return assignment;
+            }
+
+            Type sourceElementType = sourceRHS.getSourceType();
+            if ( !canGenerateAutoSubMappingBetween( sourceElementType, targetElementType ) ) {
+                return null;
+            }
+
+            List<Parameter> parameters = new ArrayList<>( method.getContextParameters() );
+            parameters.add( Parameter.forForgedMappingTarget( targetElementType ) );
+            ForgedMethodHistory history = new ForgedMethodHistory(
+                method instanceof ForgedMethod ? ( (ForgedMethod) method ).getHistory() : null,
+                Strings.stubPropertyName( sourceElementType.getName() ),
+                Strings.stubPropertyName( targetElementType.getName() ),
+                sourceElementType,
+                targetElementType,
+                false,
+                sourceRHS.getSourceErrorMessagePart()
+            );
+            ForgedMethod forgedMethod = ForgedMethod.forPropertyMapping(
+                ctx.getReservedNames().getSafeName( getName( sourceElementType, targetElementType ) ),
+                sourceElementType,
+                ctx.getTypeFactory().createVoidType(),
+                parameters,
+                method,
+                history,
+                null,
+                true
+            );
+            return createForgedAssignment(
+                sourceRHS,
+                ctx.getTypeFactory().builderTypeFor(
+                    targetElementType,
+                    method.getOptions().getBeanMapping().getBuilder()
+                ),
+                forgedMethod
+            );
+        }
+
+        private ElementMappingStrategyGem getConfiguredElementMappingStrategy() {
+            return method.getOptions().getIterableMapping().getElementMappingStrategy();
+        }
+
+        /**
+         * Determines whether the elements are mapped lazily, reporting an error if lazy mapping was requested for an
+         * unsupported method.
+         */
+        private boolean isLazy(Assignment assignment) {
+            if ( !getConfiguredElementMappingStrategy().isLazy() || assignment == null ) {
+                return false;
+            }
+
+            Type sourceType = first( method.getSourceParameters() ).getType();
+            Type resultType = method.getResultType();
+            AnnotationMirror mirror = method.getOptions().getIterableMapping().getMirror();
+            if ( method.isUpdateMethod() || !isListOrArray( sourceType ) || !isListSuperType( resultType ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    mirror,
+                    Message.ITERABLEMAPPING_LAZY_NOT_SUPPORTED,
+                    sourceType.describe(),
+                    resultType.describe()
+                );
+                return false;
+            }
+            if ( !assignment.getThrownTypes().isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    mirror,
+                    Message.ITERABLEMAPPING_LAZY_WITH_CHECKED_EXCEPTION,
+                    first( assignment.getThrownTypes() ).describe()
+                );
+                return false;
+            }
+
+            lazy = true;
+            return true;
+        }
+
+        private boolean isListOrArray(Type type) {
+            return type.isArrayType()
+                || type.erasure().isAssignableTo( ctx.getTypeFactory().getType( List.class ).erasure() );
+        }
+
+        private boolean isListSuperType(Type type) {
+            String name = type.getFullyQualifiedName();
+            return name.equals( List.class.getName() )
+                || name.equals( Collection.class.getName() )
+                || name.equals( Iterable.class.getName() );
+        }
+
+        @Override
+        protected BatchObjectFactory getBatchObjectFactory(Type sourceElementType, Type targetElementType,
+                                                           String loopVariableName, NameScope existingVariables,
+                                                           SelectionParameters selectionParameters) {
+            // creating all elements at once would defeat lazy mapping, and a batch factory would pre-empt the
+            // qualified element mapping
+            if ( !method.isUpdateMethod() && !method.getResultType().isArrayType()
+                && !getConfiguredElementMappingStrategy().isLazy() && !isQualified( selectionParameters ) ) {
+                batchObjectFactory = BatchObjectFactory.getInstance(
+                    method,
+                    sourceElementType,
+                    targetElementType,
+                    loopVariableName,
+                    existingVariables,
+                    ctx
+                );
+            }
+            return batchObjectFactory;
+        }
+
+        private boolean isQualified(SelectionParameters selectionParameters) {
+            return selectionParameters != null
+                && ( !selectionParameters.getQualifiers().isEmpty()
+                    || !selectionParameters.getQualifyingNames().isEmpty() );
+        }
+
         @Override
         protected IterableMappingMethod instantiateMappingMethod(Method method, Collection<String> existingVariables,
             Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
             List<LifecycleCallbackMethodReference> beforeMappingMethods,
-            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters) {
+            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters,
+            ParallelMapping parallelMapping) {
+            if ( parallelMapping != null && method.getResultType().isArrayType() && !method.isUpdateMethod() ) {
+                // the new array is created by the parallel stream
+                for ( LifecycleCallbackMethodReference beforeMappingMethod : beforeMappingMethods ) {
+                    if ( beforeMappingMethod.hasMappingTargetParameter() ) {
+                        ctx.getMessager().printMessage(
+                            method.getExecutable(),
+                            method.getOptions().getIterableMapping().getMirror(),
+                            Message.ITERABLEMAPPING_PARALLEL_WITH_BEFORE_MAPPING_TARGET,
+                            beforeMappingMethod.getName()
+                        );
+                        parallelMapping = null;
+                        break;
+                    }
+                }
+            }
+            collectionMerge = getCollectionMerge(
+                assignment,
+                loopVariableName,
+                existingVariables,
+                selectionParameters
+            );
             return new IterableMappingMethod(
                 method,
                 existingVariables,
@@ -64,16 +314,33 @@ protected IterableMappingMethod instantiateMappingMethod(Method method, Collecti
                 loopVariableName,
                 beforeMappingMethods,
                 afterMappingMethods,
-                selectionParameters
+                selectionParameters,
+                parallelMapping,
+                batchObjectFactory,
+                lazy ? LazyListView.getInstance(
+                    method,
+                    assignment,
+                    getConfiguredElementMappingStrategy().isMemoized(),
+                    loopVariableName,
+                    existingVariables,
+                    ctx
+                ) : null,
+                collectionMerge
             );
         }
     }
 
+    private final BatchObjectFactory batchObjectFactory;
+    private final LazyListView lazyListView;
+    private final CollectionMerge collectionMerge;
+
+    @SuppressWarnings( "checkstyle:parameternumber" )
     private IterableMappingMethod(Method method, Collection<String> existingVariables, Assignment parameterAssignment,
                                   MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
                                   List<LifecycleCallbackMethodReference> beforeMappingReferences,
                                   List<LifecycleCallbackMethodReference> afterMappingReferences,
-        SelectionParameters selectionParameters) {
+        SelectionParameters selectionParameters, ParallelMapping parallelMapping,
+        BatchObjectFactory batchObjectFactory, LazyListView lazyListView, CollectionMerge collectionMerge) {
         super(
             method,
             existingVariables,
@@ -83,8 +350,12 @@ private IterableMappingMethod(Method method, Collection<String> existingVariable
             loopVariableName,
             beforeMappingReferences,
             afterMappingReferences,
-            selectionParameters
+            selectionParameters,
+            parallelMapping
         );
+        this.batchObjectFactory = batchObjectFactory;
+        this.lazyListView = lazyListView;
+        this.collectionMerge = collectionMerge;
     }
 
     @Override
@@ -92,9 +363,55 @@ public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
 
         types.add( getSourceElementType() );
+        if ( batchObjectFactory != null ) {
+            types.addAll( batchObjectFactory.getImportTypes() );
+        }
+        if ( lazyListView != null ) {
+            // the view is returned instead of an instance of the implementation type
+            if ( !isMapNullToDefault() && getReturnType().getImplementationType() != null ) {
+                types.remove( getReturnType().getImplementationType() );
+            }
+            types.addAll( lazyListView.getImportTypes() );
+        }
+        if ( collectionMerge != null ) {
+            types.addAll( collectionMerge.getImportTypes() );
+        }
         return types;
     }
 
+    /**
+     * @return whether the elements mapped in parallel are collected directly into a new result collection, which is
+     * possible if the collection is created with a constructor, not passed to a lifecycle method before the mapping
+     * and the elements are mapped by a parallel stream
+     */
+    public boolean isCollectingParallelResult() {
+        IterableCreation iterableCreation = getIterableCreation();
+        return getParallelMapping() != null && getParallelMapping().getExecutor() == null
+            && !getResultType().isArrayType() && !isExistingInstanceMapping()
+            && iterableCreation.getFactoryMethod() == null && !iterableCreation.isEnumSet()
+            && getBeforeMappingReferencesWithMappingTarget().isEmpty();
+    }
+
+    public BatchObjectFactory getBatchObjectFactory() {
+        return batchObjectFactory;
+    }
+
+    /**
+     * @return the view over the source returned instead of the eagerly mapped result, or {@code null} if the
+     * elements are mapped eagerly
+     */
+    public LazyListView getLazyListView() {
+        return lazyListView;
+    }
+
+    /**
+     * @return the merge of the source elements into the existing target elements, or {@code null} if the target is
+     * cleared and populated with newly mapped elements
+     */
+    public CollectionMerge getCollectionMerge() {
+        return collectionMerge;
+    }
+
     public Type getSourceElementType() {
         Type sourceParameterType = getSourceParameter().getType();
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.util.NameScope;
+
+import static org.mapstruct.ap.internal.util.Collections.first;
+
+/**
+ * A read-only {@code List} view over the source list or array of an iterable mapping method, which maps an element
+ * whenever it is retrieved instead of mapping all elements up front. Optionally each element is mapped only once,
+ * keeping the mapped elements in an array of the size of the source.
+ */
+public class LazyListView extends ModelElement {
+
+    private final Type abstractListType;
+    private final Parameter sourceParameter;
+    private final Type sourceElementType;
+    private final Type targetElementType;
+    private final Assignment elementAssignment;
+    private final boolean memoized;
+    private final String indexName;
+    private final String sourceElementName;
+    private final String targetElementName;
+    private final String mappedElementsName;
+    private final String mappedName;
+
+    @SuppressWarnings( "checkstyle:parameternumber" )
+    private LazyListView(Type abstractListType, Parameter sourceParameter, Type sourceElementType,
+                         Type targetElementType, Assignment elementAssignment, boolean memoized, String indexName,
+                         String sourceElementName, String targetElementName, String mappedElementsName,
+                         String mappedName) {
+        this.abstractListType = abstractListType;
+        this.sourceParameter = sourceParameter;
+        this.sourceElementType = sourceElementType;
+        this.targetElementType = targetElementType;
+        this.elementAssignment = elementAssignment;
+        this.memoized = memoized;
+        this.indexName = indexName;
+        this.sourceElementName = sourceElementName;
+        this.targetElementName = targetElementName;
+        this.mappedElementsName = mappedElementsName;
+        this.mappedName = mappedName;
+    }
+
+    /**
+     * @param method the iterable mapping method
+     * @param elementAssignment the assignment mapping the source element to a local variable of the target element
+     * type
+     * @param memoized whether every element should be mapped only once
+     * @param loopVariableName the name of the variable holding the source element read by the element assignment
+     * @param existingVariableNames the names of the variables existing in the mapping method
+     * @param ctx the mapping builder context
+     *
+     * @return the lazy view
+     */
+    public static LazyListView getInstance(Method method, Assignment elementAssignment, boolean memoized,
+                                           String loopVariableName, Collection<String> existingVariableNames,
+                                           MappingBuilderContext ctx) {
+        Parameter sourceParameter = first( method.getSourceParameters() );
+        Type sourceType = sourceParameter.getType();
+        Type sourceElementType = sourceType.isArrayType() ? sourceType.getComponentType() :
+            first( sourceType.determineTypeArguments( Iterable.class ) ).getTypeBound();
+        Type targetElementType = first( method.getResultType().determineTypeArguments( Iterable.class ) )
+            .getTypeBound();
+
+        // the names declared within the view; the view's fields must not hide the parameters of the method
+        NameScope viewScope = NameScope.of( existingVariableNames ).newNestedScope();
+        viewScope.add( loopVariableName );
+        return new LazyListView(
+            ctx.getTypeFactory().getType( AbstractList.class ),
+            sourceParameter,
+            sourceElementType,
+            targetElementType,
+            elementAssignment,
+            memoized,
+            viewScope.allocate( "index" ),
+            loopVariableName,
+            viewScope.allocate( targetElementType.getName() ),
+            viewScope.allocate( "mappedElements" ),
+            viewScope.allocate( "mapped" )
+        );
+    }
+
+    public Type getAbstractListType() {
+        return abstractListType;
+    }
+
+    public Parameter getSourceParameter() {
+        return sourceParameter;
+    }
+
+    public Type getSourceElementType() {
+        return sourceElementType;
+    }
+
+    public Type getTargetElementType() {
+        return targetElementType;
+    }
+
+    public Assignment getElementAssignment() {
+        return elementAssignment;
+    }
+
+    public boolean isMemoized() {
+        return memoized;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public String getSourceElementName() {
+        return sourceElementName;
+    }
+
+    public String getTargetElementName() {
+        return targetElementName;
+    }
+
+    public String getMappedElementsName() {
+        return mappedElementsName;
+    }
+
+    public String getMappedName() {
+        return mappedName;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = new HashSet<>( elementAssignment.getImportTypes() );
+        types.add( abstractListType );
+        types.addAll( sourceElementType.getImportTypes() );
+        types.addAll( targetElementType.getImportTypes() );
+        return types;
+    }
+}
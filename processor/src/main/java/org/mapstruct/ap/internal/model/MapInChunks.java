@@ -0,0 +1,88 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.MappingMethodOptions;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+/**
+ * HelperMethod that maps the elements of a collection on an {@link Executor}, e.g. for a {@link ParallelMapping} with
+ * an executor passed as context parameter. The elements are split into one chunk per available processor, and the
+ * mapped elements are written into a presized array, keeping the order of the elements.
+ */
+public class MapInChunks extends HelperMethod {
+
+    private final Parameter sources;
+    private final List<Parameter> parameters;
+    private final Type returnType;
+    private final Set<Type> importTypes;
+
+    public MapInChunks(TypeFactory typeFactory) {
+        this.sources = new Parameter( "sources", typeFactory.getType( Collection.class ) );
+        this.parameters = Arrays.asList(
+            sources,
+            new Parameter( "mapping", typeFactory.getType( Function.class ) ),
+            new Parameter( "executor", typeFactory.getType( Executor.class ) )
+        );
+        this.returnType = typeFactory.getType( List.class );
+        this.importTypes = asSet(
+            typeFactory.getType( ArrayList.class ),
+            typeFactory.getType( Arrays.class ),
+            typeFactory.getType( Collection.class ),
+            typeFactory.getType( CompletableFuture.class ),
+            typeFactory.getType( CompletionException.class ),
+            typeFactory.getType( Executor.class ),
+            typeFactory.getType( Function.class ),
+            returnType,
+            typeFactory.getType( RandomAccess.class )
+        );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return sources;
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public MappingMethodOptions getOptions() {
+        return MappingMethodOptions.empty();
+    }
+
+    @Override
+    public String describe() {
+        return null;
+    }
+}
@@ -21,6 +21,7 @@
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
 import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
 import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.NameScope;
 import org.mapstruct.ap.internal.util.Strings;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
@@ -35,6 +36,8 @@ public class MapMappingMethod extends NormalTypeMappingMethod {
 
     private final Assignment keyAssignment;
     private final Assignment valueAssignment;
+    private final Type enumCollectionType;
+    private final ParallelMapping parallelMapping;
     private IterableCreation iterableCreation;
 
     public static class Builder extends AbstractMappingMethodBuilder<Builder, MapMappingMethod> {
@@ -188,10 +191,17 @@ public MapMappingMethod build() {
                     .getFactoryMethod( method, null, ctx );
             }
 
+            ParallelMapping parallelMapping = ParallelMapping.forMapEntries(
+                method,
+                keyAssignment,
+                valueAssignment,
+                ctx
+            );
+
             keyAssignment = new LocalVarWrapper( keyAssignment, method.getThrownTypes(), keyTargetType, false );
             valueAssignment = new LocalVarWrapper( valueAssignment, method.getThrownTypes(), valueTargetType, false );
 
-            Set<String> existingVariables = new HashSet<>( method.getParameterNames() );
+            NameScope existingVariables = new NameScope( method.getParameterNames() );
             List<LifecycleCallbackMethodReference> beforeMappingMethods =
                 LifecycleMethodResolver.beforeMappingMethods( method, null, ctx, existingVariables );
             List<LifecycleCallbackMethodReference> afterMappingMethods =
@@ -205,7 +215,8 @@ public MapMappingMethod build() {
                 factoryMethod,
                 mapNullToDefault,
                 beforeMappingMethods,
-                afterMappingMethods
+                afterMappingMethods,
+                parallelMapping
             );
         }
 
@@ -227,12 +238,19 @@ protected boolean shouldUsePropertyNamesInHistory() {
     private MapMappingMethod(Method method, Collection<String> existingVariableNames, Assignment keyAssignment,
                              Assignment valueAssignment, MethodReference factoryMethod, boolean mapNullToDefault,
                              List<LifecycleCallbackMethodReference> beforeMappingReferences,
-                             List<LifecycleCallbackMethodReference> afterMappingReferences) {
+                             List<LifecycleCallbackMethodReference> afterMappingReferences,
+                             ParallelMapping parallelMapping) {
         super( method, existingVariableNames, factoryMethod, mapNullToDefault, beforeMappingReferences,
             afterMappingReferences );
 
         this.keyAssignment = keyAssignment;
         this.valueAssignment = valueAssignment;
+        this.parallelMapping = parallelMapping;
+        this.enumCollectionType = IterableCreation.determineEnumCollectionType(
+            method,
+            factoryMethod,
+            method.getOptions().getMapMapping().isUseEnumCollections()
+        );
     }
 
     public Parameter getSourceParameter() {
@@ -277,6 +295,16 @@ public Set<Type> getImportTypes() {
             types.addAll( iterableCreation.getImportTypes() );
         }
 
+        if ( parallelMapping != null ) {
+            types.addAll( parallelMapping.getImportTypes() );
+        }
+
+        if ( enumCollectionType != null ) {
+            // the enum map is created instead of an instance of the implementation type
+            types.remove( getReturnType().getImplementationType() );
+            types.addAll( enumCollectionType.getImportTypes() );
+        }
+
         return types;
     }
 
@@ -301,9 +329,23 @@ public String getEntryVariableName() {
         );
     }
 
+    public String getMappedEntryVariableName() {
+        return Strings.getSafeVariableName(
+            "mappedEntry",
+            getParameterNames()
+        );
+    }
+
+    /**
+     * @return the parallel mapping of the entries, or {@code null} if the entries are always mapped sequentially
+     */
+    public ParallelMapping getParallelMapping() {
+        return parallelMapping;
+    }
+
     public IterableCreation getIterableCreation() {
         if ( iterableCreation == null ) {
-            iterableCreation = IterableCreation.create( this, getSourceParameter() );
+            iterableCreation = IterableCreation.create( this, getSourceParameter(), enumCollectionType );
         }
         return iterableCreation;
     }
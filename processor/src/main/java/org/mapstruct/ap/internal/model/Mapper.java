@@ -16,6 +16,7 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.util.ElementUtils;
 import org.mapstruct.ap.internal.version.VersionInformation;
 
 /**
@@ -80,11 +81,10 @@ public Builder implPackage(String implPackage) {
         }
 
         public Mapper build() {
-            String implementationName = implName.replace( CLASS_NAME_PLACEHOLDER, getFlatName( element ) ) +
+            String implementationName = getImplementationName( element, implName ) +
                 ( decorator == null ? "" : "_" );
 
-            String elementPackage = elementUtils.getPackageOf( element ).getQualifiedName().toString();
-            String packageName = implPackage.replace( PACKAGE_NAME_PLACEHOLDER, elementPackage );
+            String packageName = getImplementationPackage( element, implPackage, elementUtils );
             Constructor constructor = null;
             if ( !fragments.isEmpty() ) {
                 constructor = new NoArgumentConstructor( implementationName, fragments );
@@ -160,6 +160,29 @@ protected String getTemplateName() {
         return getTemplateNameForClass( GeneratedType.class );
     }
 
+    /**
+     * @param element the mapper type
+     * @param implName the implementation name as configured via {@code Mapper#implementationName()}
+     *
+     * @return the simple name of the implementation of the given mapper, unless it is decorated
+     */
+    public static String getImplementationName(TypeElement element, String implName) {
+        return implName.replace( CLASS_NAME_PLACEHOLDER, getFlatName( element ) );
+    }
+
+    /**
+     * @param element the mapper type
+     * @param implPackage the implementation package as configured via {@code Mapper#implementationPackage()}
+     * @param elementUtils the element utils
+     *
+     * @return the package of the implementation of the given mapper
+     */
+    public static String getImplementationPackage(TypeElement element, String implPackage,
+                                                  ElementUtils elementUtils) {
+        String elementPackage = elementUtils.getPackageOf( element ).getQualifiedName().toString();
+        return implPackage.replace( PACKAGE_NAME_PLACEHOLDER, elementPackage );
+    }
+
     /**
      * Returns the same as {@link Class#getName()} but without the package declaration.
      *
@@ -24,6 +24,13 @@ public MapperReference(Type type, String variableName, boolean isUsed) {
         super( type, variableName, isUsed );
     }
 
+    /**
+     * @return the expression referencing the mapper instance from within the referencing mapper
+     */
+    public String getInstanceReference() {
+        return getVariableName();
+    }
+
     public static MapperReference findMapperReference(List<MapperReference> mapperReferences, SourceMethod method) {
         for ( MapperReference ref : mapperReferences ) {
             if ( ref.getType().equals( method.getDeclaringMapper() ) ) {
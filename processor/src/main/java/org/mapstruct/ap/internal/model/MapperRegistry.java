@@ -0,0 +1,83 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * An implementation of {@code org.mapstruct.factory.MapperRegistry}, instantiating the mappers whose implementations
+ * reside in its package.
+ */
+public class MapperRegistry extends ModelElement {
+
+    private final String packageName;
+    private final String name;
+    private final GeneratedAnnotation generated;
+    private final List<Entry> entries;
+
+    public MapperRegistry(String packageName, String name, GeneratedAnnotation generated, List<Entry> entries) {
+        this.packageName = packageName;
+        this.name = name;
+        this.generated = generated;
+        this.entries = entries;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getQualifiedName() {
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    public GeneratedAnnotation getGenerated() {
+        return generated;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * A mapper instantiated by the registry.
+     */
+    public static class Entry {
+
+        private final String mapperName;
+        private final String implementationName;
+
+        /**
+         * @param mapperName the canonical name of the mapper type
+         * @param implementationName the qualified name of the implementation type
+         */
+        public Entry(String mapperName, String implementationName) {
+            this.mapperName = mapperName;
+            this.implementationName = implementationName;
+        }
+
+        public String getMapperName() {
+            return mapperName;
+        }
+
+        public String getImplementationName() {
+            return implementationName;
+        }
+    }
+}
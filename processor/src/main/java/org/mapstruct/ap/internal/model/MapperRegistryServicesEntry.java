@@ -0,0 +1,34 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * The {@code META-INF/services} entry registering the generated {@link MapperRegistry mapper registries}.
+ */
+public class MapperRegistryServicesEntry extends ModelElement {
+
+    private final List<String> registryNames;
+
+    public MapperRegistryServicesEntry(List<String> registryNames) {
+        this.registryNames = registryNames;
+    }
+
+    public List<String> getRegistryNames() {
+        return registryNames;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+}
@@ -16,6 +16,7 @@
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.TypeElement;
 
+import org.mapstruct.ap.internal.model.assignment.StringPoolField;
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
 import org.mapstruct.ap.internal.model.common.SourceRHS;
@@ -28,6 +29,7 @@
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
 import org.mapstruct.ap.internal.util.ElementUtils;
 import org.mapstruct.ap.internal.util.FormattingMessager;
+import org.mapstruct.ap.internal.util.NameScope;
 import org.mapstruct.ap.internal.util.Services;
 import org.mapstruct.ap.internal.util.TypeUtils;
 import org.mapstruct.ap.spi.EnumMappingStrategy;
@@ -118,8 +120,11 @@ Assignment getTargetAssignment(Method mappingMethod, ForgedMethodHistory descrip
     private final List<MapperReference> mapperReferences;
     private final MappingResolver mappingResolver;
     private final List<MappingMethod> mappingsToGenerate = new ArrayList<>();
+    private NameScope reservedNames;
+    private int reservedMappingsCount;
     private final Map<ForgedMethod, ForgedMethod> forgedMethodsUnderCreation =
         new HashMap<>();
+    private Field stringPoolField;
 
     //CHECKSTYLE:OFF
     public MappingBuilderContext(TypeFactory typeFactory,
@@ -214,18 +219,27 @@ public List<MappingMethod> getMappingsToGenerate() {
         return mappingsToGenerate;
     }
 
-    public List<String> getReservedNames() {
-        Set<String> nameSet = new HashSet<>();
-        for ( MappingMethod method : mappingsToGenerate ) {
-            nameSet.add( method.getName() );
-        }
-        // add existing names
-        for ( SourceMethod method : sourceModel) {
-            if ( method.isAbstract() ) {
-                nameSet.add( method.getName() );
+    /**
+     * Returns the names of the abstract methods of the mapper and of the methods to generate. The scope is maintained
+     * incrementally, as methods are only ever added to {@link #getMappingsToGenerate()}. Names obtained via
+     * {@link NameScope#getSafeName(String)} are reserved once the method with that name is added to the methods to
+     * generate.
+     *
+     * @return the reserved method names
+     */
+    public NameScope getReservedNames() {
+        if ( reservedNames == null ) {
+            reservedNames = new NameScope();
+            for ( SourceMethod method : sourceModel ) {
+                if ( method.isAbstract() ) {
+                    reservedNames.add( method.getName() );
+                }
             }
         }
-        return new ArrayList<>( nameSet );
+        while ( reservedMappingsCount < mappingsToGenerate.size() ) {
+            reservedNames.add( mappingsToGenerate.get( reservedMappingsCount++ ).getName() );
+        }
+        return reservedNames;
     }
 
     public MappingMethod getExistingMappingMethod(MappingMethod newMappingMethod) {
@@ -247,6 +261,22 @@ public Set<Field> getUsedSupportedFields() {
         return mappingResolver.getUsedSupportedFields();
     }
 
+    /**
+     * Returns the field holding the {@code org.mapstruct.StringPool} of the mapper, adding it to the
+     * {@link #getUsedSupportedFields() used supported fields} on first access.
+     *
+     * @return the string pool field
+     */
+    public Field getStringPoolField() {
+        if ( stringPoolField == null ) {
+            Set<Field> existingFields = new HashSet<>( mapperReferences );
+            existingFields.addAll( getUsedSupportedFields() );
+            stringPoolField = SupportingField.getSafeField( null, new StringPoolField( typeFactory ), existingFields );
+            getUsedSupportedFields().add( stringPoolField );
+        }
+        return stringPoolField;
+    }
+
     /**
      * @param sourceType from which an automatic sub-mapping needs to be generated
      * @param targetType to which an automatic sub-mapping needs to be generated
@@ -20,6 +20,7 @@
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.util.NameScope;
 
 /**
  * A method implemented or referenced by a {@link Mapper} class.
@@ -28,18 +29,19 @@
  */
 public abstract class MappingMethod extends ModelElement {
 
-    private final String name;
+    private String name;
     private final List<Parameter> parameters;
     private final List<Parameter> sourceParameters;
     private final Type returnType;
     private final Parameter targetParameter;
-    private final Accessibility accessibility;
+    private Accessibility accessibility;
     private final List<Type> thrownTypes;
     private final boolean isStatic;
     private final String resultName;
     private final List<LifecycleCallbackMethodReference> beforeMappingReferencesWithMappingTarget;
     private final List<LifecycleCallbackMethodReference> beforeMappingReferencesWithoutMappingTarget;
     private final List<LifecycleCallbackMethodReference> afterMappingReferences;
+    private boolean hiddenBehindWrappingMethod;
 
     /**
      * constructor to be overloaded when local variable names are required prior to calling this constructor. (e.g. for
@@ -74,16 +76,16 @@ protected MappingMethod(Method method, List<Parameter> parameters, Collection<St
     }
 
     protected MappingMethod(Method method, List<Parameter> parameters) {
-        this( method, parameters, new ArrayList<>( method.getParameterNames() ), null, null );
+        this( method, parameters, new NameScope( method.getParameterNames() ), null, null );
     }
 
     protected MappingMethod(Method method) {
-        this( method, new ArrayList<>( method.getParameterNames() ), null, null );
+        this( method, new NameScope( method.getParameterNames() ), null, null );
     }
 
     protected MappingMethod(Method method, List<LifecycleCallbackMethodReference> beforeMappingReferences,
                             List<LifecycleCallbackMethodReference> afterMappingReferences) {
-        this( method, new ArrayList<>( method.getParameterNames() ), beforeMappingReferences,
+        this( method, new NameScope( method.getParameterNames() ), beforeMappingReferences,
             afterMappingReferences );
     }
 
@@ -131,6 +133,23 @@ public Accessibility getAccessibility() {
         return accessibility;
     }
 
+    /**
+     * Turns this method into the implementation invoked by a wrapping method, i.e. a {@link MemoizedMethod} on a cache
+     * miss or an {@link InstrumentedMethod}. The wrapping method takes over the name of this method, so this method is
+     * renamed and made private.
+     *
+     * @param implementationName the new name of this method
+     */
+    public void hideBehindWrappingMethod(String implementationName) {
+        this.name = implementationName;
+        this.accessibility = Accessibility.PRIVATE;
+        this.hiddenBehindWrappingMethod = true;
+    }
+
+    public boolean isHiddenBehindWrappingMethod() {
+        return hiddenBehindWrappingMethod;
+    }
+
     public boolean isExistingInstanceMapping() {
         return targetParameter != null;
     }
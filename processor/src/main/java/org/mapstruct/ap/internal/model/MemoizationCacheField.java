@@ -0,0 +1,54 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.util.Collections;
+
+/**
+ * A field holding the {@code org.mapstruct.MemoizationCache} of a {@link MemoizedMethod}.
+ */
+public class MemoizationCacheField extends Field {
+
+    private final Type valueType;
+    private final Type evictionPolicyType;
+    private final int maxSize;
+    private final String eviction;
+
+    public MemoizationCacheField(Type cacheType, Type valueType, Type evictionPolicyType, int maxSize,
+                                 String eviction, String variableName) {
+        super( cacheType, variableName, true );
+        this.valueType = valueType;
+        this.evictionPolicyType = evictionPolicyType;
+        this.maxSize = maxSize;
+        this.eviction = eviction;
+    }
+
+    public Type getValueType() {
+        return valueType;
+    }
+
+    public Type getEvictionPolicyType() {
+        return evictionPolicyType;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String getEviction() {
+        return eviction;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> importTypes = Collections.asSet( getType(), evictionPolicyType );
+        importTypes.addAll( valueType.getImportTypes() );
+        return importTypes;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.util.Collections;
+
+/**
+ * The implementation of {@code org.mapstruct.MemoizingMapper#getMemoizationCaches()} for a mapper with
+ * {@link MemoizedMethod memoized methods}.
+ */
+public class MemoizationCaches extends ModelElement {
+
+    private final List<MemoizedMethod> memoizedMethods;
+    private final Type memoizingMapperType;
+    private final Type cacheType;
+    private final Type mapType;
+    private final Type linkedHashMapType;
+
+    public MemoizationCaches(List<MemoizedMethod> memoizedMethods, TypeFactory typeFactory) {
+        this.memoizedMethods = memoizedMethods;
+        this.memoizingMapperType = typeFactory.getType( "org.mapstruct.MemoizingMapper" );
+        this.cacheType = typeFactory.getType( "org.mapstruct.MemoizationCache" );
+        this.mapType = typeFactory.getType( "java.util.Map" );
+        this.linkedHashMapType = typeFactory.getType( "java.util.LinkedHashMap" );
+    }
+
+    public List<MemoizedMethod> getMemoizedMethods() {
+        return memoizedMethods;
+    }
+
+    public Type getMemoizingMapperType() {
+        return memoizingMapperType;
+    }
+
+    public Type getCacheType() {
+        return cacheType;
+    }
+
+    public Type getMapType() {
+        return mapType;
+    }
+
+    public Type getLinkedHashMapType() {
+        return linkedHashMapType;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.asSet( memoizingMapperType, cacheType, mapType, linkedHashMapType );
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.util.NameScope;
+
+/**
+ * A method annotated with {@code @Memoized}, which looks up the result for its arguments in a
+ * {@link MemoizationCacheField cache} and only invokes the actual implementation on a cache miss.
+ * <p>
+ * The actual implementation is either a generated mapping method which has been
+ * {@link MappingMethod#hideBehindWrappingMethod(String) renamed}, or the default or concrete method of the mapper,
+ * which is invoked via {@code super}.
+ */
+public class MemoizedMethod extends MappingMethod {
+
+    private final String cacheName;
+    private final MemoizationCacheField cacheField;
+    private final String implementationName;
+    private final Type superInterface;
+    private final Type arraysType;
+    private final String keyName;
+    private final String valueName;
+
+    /**
+     * @param method the memoized method
+     * @param cacheName the name under which the cache is exposed
+     * @param cacheField the field holding the cache
+     * @param implementationName the name of the generated implementation, or {@code null} if the memoized method is
+     * implemented by the mapper itself
+     * @param superInterface the mapper interface declaring the default method, or {@code null} if the method is not a
+     * default method
+     * @param arraysType the {@code java.util.Arrays} type if the method has several parameters, which are combined
+     * into a list key, {@code null} otherwise
+     */
+    public MemoizedMethod(Method method, String cacheName, MemoizationCacheField cacheField,
+                          String implementationName, Type superInterface, Type arraysType) {
+        super( method );
+        this.cacheName = cacheName;
+        this.cacheField = cacheField;
+        this.implementationName = implementationName;
+        this.superInterface = superInterface;
+        this.arraysType = arraysType;
+
+        NameScope localNames = new NameScope( getParameterNames() );
+        this.keyName = arraysType != null ? localNames.allocate( "key" ) : getParameters().get( 0 ).getName();
+        this.valueName = localNames.allocate( cacheField.getValueType().getName() );
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public MemoizationCacheField getCacheField() {
+        return cacheField;
+    }
+
+    public String getImplementationName() {
+        return implementationName;
+    }
+
+    public Type getSuperInterface() {
+        return superInterface;
+    }
+
+    public Type getArraysType() {
+        return arraysType;
+    }
+
+    public String getKeyName() {
+        return keyName;
+    }
+
+    public String getValueName() {
+        return valueName;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = super.getImportTypes();
+        types.addAll( cacheField.getValueType().getImportTypes() );
+        if ( arraysType != null ) {
+            types.add( arraysType );
+        }
+        if ( superInterface != null ) {
+            types.add( superInterface );
+        }
+        return types;
+    }
+}
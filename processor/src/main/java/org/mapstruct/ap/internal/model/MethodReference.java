@@ -168,7 +168,7 @@ public Parameter getProvidingParameter() {
     }
 
     public String getMapperVariableName() {
-        return declaringMapper.getVariableName();
+        return declaringMapper.getInstanceReference();
     }
 
     public String getContextParam() {
@@ -0,0 +1,35 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * The {@code reflect-config.json} file of GraalVM native images, registering the no-args constructors of the mapper
+ * implementations, so that they can be instantiated reflectively by {@code org.mapstruct.factory.Mappers}.
+ */
+public class NativeImageReflectConfig extends ModelElement {
+
+    private final List<String> implementationNames;
+
+    public NativeImageReflectConfig(List<String> implementationNames) {
+        this.implementationNames = implementationNames;
+    }
+
+    public List<String> getImplementationNames() {
+        return implementationNames;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+}
@@ -15,6 +15,8 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.beanmapping.PropertyEntry;
 import org.mapstruct.ap.internal.model.presence.SourceReferenceMethodPresenceCheck;
+import org.mapstruct.ap.internal.option.NullabilityAnnotationsPolicy;
+import org.mapstruct.ap.internal.util.Nullability;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.internal.util.ValueProvider;
 
@@ -30,6 +32,7 @@
 public class NestedPropertyMappingMethod extends MappingMethod {
 
     private final List<SafePropertyEntry> safePropertyEntries;
+    private final boolean assertNonNullEntries;
 
     public static class Builder {
 
@@ -67,23 +70,34 @@ public NestedPropertyMappingMethod build() {
                 throw new IllegalStateException( "Method " + method + " has no source parameter." );
             }
 
+            NullabilityAnnotationsPolicy nullabilityPolicy = ctx.getOptions().getNullabilityAnnotationsPolicy();
             String previousPropertyName = sourceParameter.getName();
             for ( PropertyEntry propertyEntry : propertyEntries ) {
                 String safeName = Strings.getSafeVariableName( propertyEntry.getName(), existingVariableNames );
-                safePropertyEntries.add( new SafePropertyEntry( propertyEntry, safeName, previousPropertyName ) );
+                boolean nonNull = nullabilityPolicy.isOmitNullChecks()
+                    && Nullability.isNonNull( propertyEntry.getReadAccessor().getElement() );
+                safePropertyEntries.add(
+                    new SafePropertyEntry( propertyEntry, safeName, previousPropertyName, nonNull )
+                );
                 existingVariableNames.add( safeName );
                 thrownTypes.addAll( ctx.getTypeFactory().getThrownTypes(
                         propertyEntry.getReadAccessor() ) );
                 previousPropertyName = safeName;
             }
             method.addThrownTypes( thrownTypes );
-            return new NestedPropertyMappingMethod( method, safePropertyEntries );
+            return new NestedPropertyMappingMethod(
+                method,
+                safePropertyEntries,
+                nullabilityPolicy == NullabilityAnnotationsPolicy.ASSERT
+            );
         }
     }
 
-    private NestedPropertyMappingMethod( ForgedMethod method, List<SafePropertyEntry> sourcePropertyEntries ) {
+    private NestedPropertyMappingMethod( ForgedMethod method, List<SafePropertyEntry> sourcePropertyEntries,
+                                         boolean assertNonNullEntries ) {
         super( method );
         this.safePropertyEntries = sourcePropertyEntries;
+        this.assertNonNullEntries = assertNonNullEntries;
     }
 
     public Parameter getSourceParameter() {
@@ -99,6 +113,10 @@ public List<SafePropertyEntry> getPropertyEntries() {
         return safePropertyEntries;
     }
 
+    public boolean isAssertNonNullEntries() {
+        return assertNonNullEntries;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
@@ -161,8 +179,10 @@ public static class SafePropertyEntry {
         private final PresenceCheck presenceChecker;
         private final String previousPropertyName;
         private final Type type;
+        private final boolean nonNull;
 
-        public SafePropertyEntry(PropertyEntry entry, String safeName, String previousPropertyName) {
+        public SafePropertyEntry(PropertyEntry entry, String safeName, String previousPropertyName,
+                                 boolean nonNull) {
             this.safeName = safeName;
             this.readAccessorName = ValueProvider.of( entry.getReadAccessor() ).getValue();
             if ( entry.getPresenceChecker() != null ) {
@@ -176,6 +196,7 @@ public SafePropertyEntry(PropertyEntry entry, String safeName, String previousPr
             }
             this.previousPropertyName = previousPropertyName;
             this.type = entry.getType();
+            this.nonNull = nonNull;
         }
 
         public String getName() {
@@ -198,6 +219,13 @@ public Type getType() {
             return type;
         }
 
+        /**
+         * @return whether the value of this entry is declared to be non-null, so that it doesn't need a null check
+         */
+        public boolean isNonNull() {
+            return nonNull;
+        }
+
         @Override
         public boolean equals(Object o) {
             if ( this == o ) {
@@ -53,7 +53,7 @@ public boolean isMapNullToDefault() {
     }
 
     public boolean isOverridden() {
-        return overridden;
+        return overridden && !isHiddenBehindWrappingMethod();
     }
 
     public MethodReference getFactoryMethod() {
@@ -16,6 +16,7 @@
 
 import org.mapstruct.ap.internal.model.common.BuilderType;
 import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.ParameterBinding;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.ParameterProvidedMethods;
@@ -138,6 +139,108 @@ public static List<SelectedMethod<SourceMethod>> getMatchingFactoryMethods( Meth
         );
     }
 
+    /**
+     * returns a batch factory method for the elements of an iterable mapping method, i.e. a method annotated with
+     * {@code @ObjectFactory} taking the source iterable and returning a {@code Map} from the source elements to the
+     * target elements.
+     *
+     * @param method target iterable mapping method
+     * @param sourceElementType the element type of the source iterable
+     * @param targetElementType the element type of the target iterable
+     * @param ctx the mapping builder context
+     *
+     * @return the batch factory method, or null if no suitable, or ambiguous method found
+     */
+    public static SelectedMethod<SourceMethod> getBatchFactoryMethod(Method method, Type sourceElementType,
+                                                                     Type targetElementType,
+                                                                     MappingBuilderContext ctx) {
+        Parameter sourceParameter = first( method.getSourceParameters() );
+
+        List<SelectedMethod<SourceMethod>> matchingFactoryMethods = new ArrayList<>();
+        for ( SourceMethod candidate : getAllAvailableMethods( method, ctx.getSourceModel() ) ) {
+            if ( !candidate.hasObjectFactoryAnnotation()
+                || candidate.getSourceParameters().size() != 1
+                || !sourceParameter.getType().isAssignableTo( first( candidate.getSourceParameters() ).getType() )
+                || !isMapOf( candidate.getResultType(), sourceElementType, targetElementType ) ) {
+                continue;
+            }
+
+            List<ParameterBinding> parameterBindings =
+                getParameterBindings( candidate, method, ParameterBinding.fromParameter( sourceParameter ) );
+            if ( parameterBindings != null ) {
+                SelectedMethod<SourceMethod> selectedMethod = new SelectedMethod<>( candidate );
+                selectedMethod.setParameterBindings( parameterBindings );
+                matchingFactoryMethods.add( selectedMethod );
+            }
+        }
+
+        if ( matchingFactoryMethods.isEmpty() ) {
+            return null;
+        }
+
+        if ( matchingFactoryMethods.size() > 1 ) {
+            ctx.getMessager().printMessage(
+                method.getExecutable(),
+                Message.GENERAL_AMBIGUOUS_FACTORY_METHOD,
+                sourceElementType.describe() + " -> " + targetElementType.describe(),
+                matchingFactoryMethods.stream()
+                    .map( SelectedMethod::getMethod )
+                    .map( Method::describe )
+                    .collect( Collectors.joining( ", " ) )
+            );
+
+            return null;
+        }
+
+        return first( matchingFactoryMethods );
+    }
+
+    private static boolean isMapOf(Type type, Type keyType, Type valueType) {
+        if ( !type.isMapType() || type.getTypeParameters().size() != 2 ) {
+            return false;
+        }
+        return keyType.isAssignableTo( type.getTypeParameters().get( 0 ) )
+            && type.getTypeParameters().get( 1 ).isAssignableTo( valueType );
+    }
+
+    /**
+     * Binds the parameters of the given candidate method: its source parameter to the given binding, its mapping
+     * target parameter to the target bean and its context parameters to the context parameters of the calling method.
+     *
+     * @param candidate the method to bind the parameters of
+     * @param method the calling method
+     * @param sourceBinding the binding for the source parameter of the candidate
+     *
+     * @return the bindings, or null if a parameter of the candidate can't be bound
+     */
+    static List<ParameterBinding> getParameterBindings(SourceMethod candidate, Method method,
+                                                       ParameterBinding sourceBinding) {
+        List<ParameterBinding> parameterBindings = new ArrayList<>( candidate.getParameters().size() );
+        for ( Parameter parameter : candidate.getParameters() ) {
+            if ( parameter.isMappingTarget() ) {
+                parameterBindings.add( ParameterBinding.forMappingTargetBinding( parameter.getType() ) );
+            }
+            else if ( parameter.isMappingContext() ) {
+                Parameter contextParameter = method.getContextParameters()
+                    .stream()
+                    .filter( p -> p.getType().isAssignableTo( parameter.getType() ) )
+                    .findFirst()
+                    .orElse( null );
+                if ( contextParameter == null ) {
+                    return null;
+                }
+                parameterBindings.add( ParameterBinding.fromParameter( contextParameter ) );
+            }
+            else if ( parameter.isTargetType() ) {
+                return null;
+            }
+            else {
+                parameterBindings.add( sourceBinding );
+            }
+        }
+        return parameterBindings;
+    }
+
     public static MethodReference getBuilderFactoryMethod(Method method, BuilderType builder ) {
         if ( builder == null ) {
             return null;
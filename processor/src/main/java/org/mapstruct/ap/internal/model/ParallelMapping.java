@@ -0,0 +1,299 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mapstruct.ap.internal.model.assignment.Java8FunctionWrapper;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.BuilderType;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SourceMethod;
+import org.mapstruct.ap.internal.util.Message;
+
+import static org.mapstruct.ap.internal.util.Collections.first;
+
+/**
+ * The parallel mapping of the elements of a {@link ContainerMappingMethod} or of the entries of a
+ * {@link MapMappingMethod}. Once the number of source elements reaches the configured threshold, the elements are
+ * mapped using a parallel stream, either on the common {@link ForkJoinPool} or on the {@code ForkJoinPool} passed as
+ * context parameter to the mapping method. Any other {@link Executor} passed as context parameter gets the elements in
+ * chunks, which are mapped by the {@link MapInChunks} helper method.
+ */
+public class ParallelMapping {
+
+    private final int threshold;
+    private final Parameter forkJoinPool;
+    private final Parameter executor;
+    private final String chunkMappingMethodName;
+    private final Assignment elementFunction;
+    private final Set<Type> importTypes;
+
+    private ParallelMapping(int threshold, Parameter forkJoinPool, Parameter executor, String chunkMappingMethodName,
+                            Assignment elementFunction, Set<Type> importTypes) {
+        this.threshold = threshold;
+        this.forkJoinPool = forkJoinPool;
+        this.executor = executor;
+        this.chunkMappingMethodName = chunkMappingMethodName;
+        this.elementFunction = elementFunction;
+        this.importTypes = importTypes;
+    }
+
+    /**
+     * @param method the container mapping method
+     * @param elementAssignment the (unwrapped) assignment mapping a single element, {@code null} if the elements are
+     * not mapped one by one
+     * @param supported whether the source and result types of the method can be mapped in parallel
+     * @param sourceElementType the element type of the source
+     * @param targetElementType the element type of the target
+     * @param ctx the mapping builder context
+     *
+     * @return the parallel mapping, or {@code null} if the elements should not or can't be mapped in parallel, in
+     * which case an error has been reported
+     */
+    public static ParallelMapping getInstance(Method method, Assignment elementAssignment, boolean supported,
+                                              Type sourceElementType, Type targetElementType,
+                                              MappingBuilderContext ctx) {
+        int threshold = method.getOptions().getIterableMapping().getParallelThreshold();
+        if ( threshold < 0 ) {
+            return null;
+        }
+
+        Type sourceType = first( method.getSourceParameters() ).getType();
+        Type resultType = method.getResultType();
+        if ( !supported || elementAssignment == null ) {
+            reportError( method, ctx, Message.ITERABLEMAPPING_PARALLEL_NOT_SUPPORTED, sourceType.describe(),
+                resultType.describe() );
+            return null;
+        }
+
+        if ( !isPoolContextOnly( method, ctx, Message.ITERABLEMAPPING_PARALLEL_WITH_CONTEXT ) ) {
+            return null;
+        }
+        Parameter pool = method.getContextParameters().isEmpty() ? null : first( method.getContextParameters() );
+
+        BuilderType targetElementBuilderType = ctx.getTypeFactory().builderTypeFor(
+            targetElementType,
+            method.getOptions().getBeanMapping().getBuilder()
+        );
+        for ( SourceMethod sourceMethod : ctx.getSourceModel() ) {
+            if ( sourceMethod.isLifecycleCallbackMethod() && isApplicableToElements(
+                sourceMethod,
+                sourceElementType,
+                targetElementType,
+                targetElementBuilderType
+            ) ) {
+                reportError( method, ctx, Message.ITERABLEMAPPING_PARALLEL_WITH_LIFECYCLE_METHOD,
+                    sourceMethod.describe() );
+                return null;
+            }
+        }
+
+        if ( !elementAssignment.getThrownTypes().isEmpty() ) {
+            reportError( method, ctx, Message.ITERABLEMAPPING_PARALLEL_WITH_CHECKED_EXCEPTION,
+                first( elementAssignment.getThrownTypes() ).describe() );
+            return null;
+        }
+
+        Set<Type> importTypes = new HashSet<>();
+        if ( !resultType.isStreamType() && sourceType.isArrayType() ) {
+            importTypes.add( ctx.getTypeFactory().getType( Arrays.class ) );
+        }
+        if ( isForkJoinPool( pool, ctx ) ) {
+            if ( !resultType.isStreamType() && !resultType.isArrayType() ) {
+                importTypes.add( ctx.getTypeFactory().getType( Collectors.class ) );
+            }
+            return new ParallelMapping(
+                threshold,
+                pool,
+                null,
+                null,
+                new Java8FunctionWrapper( elementAssignment ),
+                importTypes
+            );
+        }
+
+        return new ParallelMapping(
+            threshold,
+            null,
+            pool,
+            addChunkMappingMethod( ctx ),
+            new Java8FunctionWrapper( elementAssignment, ctx.getTypeFactory().getType( Function.class ) ),
+            importTypes
+        );
+    }
+
+    /**
+     * @param method the map mapping method
+     * @param keyAssignment the (unwrapped) assignment mapping a single key
+     * @param valueAssignment the (unwrapped) assignment mapping a single value
+     * @param ctx the mapping builder context
+     *
+     * @return the parallel mapping, or {@code null} if the entries should not or can't be mapped in parallel, in
+     * which case an error has been reported
+     */
+    public static ParallelMapping forMapEntries(Method method, Assignment keyAssignment, Assignment valueAssignment,
+                                                MappingBuilderContext ctx) {
+        int threshold = method.getOptions().getMapMapping().getParallelThreshold();
+        if ( threshold < 0 || keyAssignment == null || valueAssignment == null ) {
+            return null;
+        }
+
+        if ( !isPoolContextOnly( method, ctx, Message.MAPMAPPING_PARALLEL_WITH_CONTEXT ) ) {
+            return null;
+        }
+        Parameter pool = method.getContextParameters().isEmpty() ? null : first( method.getContextParameters() );
+
+        List<Type> sourceTypes = first( method.getSourceParameters() ).getType().determineTypeArguments( Map.class );
+        List<Type> resultTypes = method.getResultType().determineTypeArguments( Map.class );
+        for ( int i = 0; i < 2; i++ ) {
+            Type sourceType = sourceTypes.get( i ).getTypeBound();
+            Type targetType = resultTypes.get( i ).getTypeBound();
+            BuilderType targetBuilderType = ctx.getTypeFactory().builderTypeFor(
+                targetType,
+                method.getOptions().getBeanMapping().getBuilder()
+            );
+            for ( SourceMethod sourceMethod : ctx.getSourceModel() ) {
+                if ( sourceMethod.isLifecycleCallbackMethod()
+                    && isApplicableToElements( sourceMethod, sourceType, targetType, targetBuilderType ) ) {
+                    reportError( method, ctx, Message.MAPMAPPING_PARALLEL_WITH_LIFECYCLE_METHOD,
+                        sourceMethod.describe() );
+                    return null;
+                }
+            }
+        }
+
+        for ( Assignment assignment : Arrays.asList( keyAssignment, valueAssignment ) ) {
+            if ( !assignment.getThrownTypes().isEmpty() ) {
+                reportError( method, ctx, Message.MAPMAPPING_PARALLEL_WITH_CHECKED_EXCEPTION,
+                    first( assignment.getThrownTypes() ).describe() );
+                return null;
+            }
+        }
+
+        if ( isForkJoinPool( pool, ctx ) ) {
+            return new ParallelMapping( threshold, pool, null, null, null, new HashSet<>() );
+        }
+        return new ParallelMapping( threshold, null, pool, addChunkMappingMethod( ctx ), null, new HashSet<>() );
+    }
+
+    /**
+     * @return whether the method has no other context parameter than a single executor to map on, which is not
+     * supported for methods returning a stream, as the stream is consumed by the caller; if not, an error has been
+     * reported
+     */
+    private static boolean isPoolContextOnly(Method method, MappingBuilderContext ctx, Message contextMessage) {
+        Type executorType = ctx.getTypeFactory().getType( Executor.class );
+        boolean hasPool = false;
+        for ( Parameter contextParameter : method.getContextParameters() ) {
+            if ( !hasPool && !method.getResultType().isStreamType()
+                && contextParameter.getType().isAssignableTo( executorType ) ) {
+                hasPool = true;
+            }
+            else {
+                reportError( method, ctx, contextMessage, contextParameter.getName() );
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the elements are mapped by a parallel stream, i.e. on the common pool or the given fork join pool
+     */
+    private static boolean isForkJoinPool(Parameter pool, MappingBuilderContext ctx) {
+        return pool == null || pool.getType().isAssignableTo( ctx.getTypeFactory().getType( ForkJoinPool.class ) );
+    }
+
+    private static String addChunkMappingMethod(MappingBuilderContext ctx) {
+        MapInChunks mapInChunks = new MapInChunks( ctx.getTypeFactory() );
+        ctx.getUsedSupportedMappings().add( new SupportingMappingMethod( mapInChunks ) );
+        return mapInChunks.getName();
+    }
+
+    /**
+     * Whether the given lifecycle method could be invoked when mapping a single element, i.e. whether each of its
+     * source and target parameters accepts the source or target element respectively.
+     */
+    private static boolean isApplicableToElements(SourceMethod lifecycleMethod, Type sourceElementType,
+                                                  Type targetElementType, BuilderType targetElementBuilderType) {
+        for ( Parameter parameter : lifecycleMethod.getParameters() ) {
+            Type type = parameter.getType();
+            if ( parameter.isMappingContext() || parameter.isTargetType() || type.isTypeVar() ) {
+                continue;
+            }
+
+            if ( parameter.isMappingTarget() ) {
+                if ( !targetElementType.isAssignableTo( type ) && ( targetElementBuilderType == null
+                    || !targetElementBuilderType.getBuilder().isAssignableTo( type ) ) ) {
+                    return false;
+                }
+            }
+            else if ( !sourceElementType.isAssignableTo( type ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void reportError(Method method, MappingBuilderContext ctx, Message message, Object... args) {
+        ctx.getMessager().printMessage(
+            method.getExecutable(),
+            method.getResultType().isMapType() ? method.getOptions().getMapMapping().getMirror() :
+                method.getOptions().getIterableMapping().getMirror(),
+            message,
+            args
+        );
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public Parameter getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * @return the executor other than a fork join pool, which gets the elements in chunks, or {@code null} if the
+     * elements are mapped by a parallel stream
+     */
+    public Parameter getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return the name of the helper method mapping the elements in chunks on the {@link #getExecutor() executor}
+     */
+    public String getChunkMappingMethodName() {
+        return chunkMappingMethodName;
+    }
+
+    /**
+     * @return the function mapping a single element, {@code null} for map entries
+     */
+    public Assignment getElementFunction() {
+        return elementFunction;
+    }
+
+    public Set<Type> getImportTypes() {
+        Set<Type> types = new HashSet<>( importTypes );
+        if ( elementFunction != null ) {
+            types.addAll( elementFunction.getImportTypes() );
+        }
+        return types;
+    }
+}
@@ -5,15 +5,21 @@
  */
 package org.mapstruct.ap.internal.model;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
 
 import org.mapstruct.ap.internal.gem.BuilderGem;
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValueCheckStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
 import org.mapstruct.ap.internal.model.assignment.AdderWrapper;
@@ -21,7 +27,9 @@
 import org.mapstruct.ap.internal.model.assignment.EnumConstantWrapper;
 import org.mapstruct.ap.internal.model.assignment.GetterWrapperForCollectionsAndMaps;
 import org.mapstruct.ap.internal.model.assignment.SetterWrapper;
+import org.mapstruct.ap.internal.model.assignment.SetterWrapperWithChangeCheck;
 import org.mapstruct.ap.internal.model.assignment.StreamAdderWrapper;
+import org.mapstruct.ap.internal.model.assignment.StringDeduplicationWrapper;
 import org.mapstruct.ap.internal.model.assignment.UpdateWrapper;
 import org.mapstruct.ap.internal.model.beanmapping.MappingReferences;
 import org.mapstruct.ap.internal.model.beanmapping.PropertyEntry;
@@ -45,12 +53,16 @@
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
 import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
+import org.mapstruct.ap.internal.option.NullabilityAnnotationsPolicy;
 import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.NativeTypes;
+import org.mapstruct.ap.internal.util.Nullability;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.internal.util.ValueProvider;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.internal.util.accessor.AccessorType;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 import static org.mapstruct.ap.internal.gem.NullValueCheckStrategyGem.ALWAYS;
 import static org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem.IGNORE;
@@ -70,15 +82,19 @@
  */
 public class PropertyMapping extends ModelElement {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final String name;
     private final String sourceBeanName;
     private final String targetWriteAccessorName;
+    private final String targetWriteAccessorKey;
     private final ValueProvider targetReadAccessorProvider;
     private final Type targetType;
     private final Assignment assignment;
     private final Set<String> dependsOn;
     private final Assignment defaultValueAssignment;
     private final boolean constructorMapping;
+    private final String assertedNonNullSourceReference;
 
     @SuppressWarnings("unchecked")
     private static class MappingBuilderBase<T extends MappingBuilderBase<T>> extends AbstractBaseBuilder<T> {
@@ -137,6 +153,37 @@ public T existingVariableNames(Set<String> existingVariableNames) {
         protected boolean isFieldAssignment() {
             return targetWriteAccessorType.isFieldAssignment();
         }
+
+        /**
+         * Wraps the assignment in a target setter. For update methods with {@code writeOnlyIfChanged} the setter is
+         * only invoked when the value differs from the current target value, provided that it can be read.
+         */
+        protected SetterWrapper createSetterWrapper(Assignment rhs, boolean includeSourceNullCheck,
+                                                    boolean setExplicitlyToNull, boolean setExplicitlyToDefault) {
+            if ( method.getMappingTargetParameter() != null && targetReadAccessor != null
+                && method.getOptions().getBeanMapping().isWriteOnlyIfChanged() ) {
+                return new SetterWrapperWithChangeCheck(
+                    rhs,
+                    method.getThrownTypes(),
+                    isFieldAssignment(),
+                    includeSourceNullCheck,
+                    setExplicitlyToNull,
+                    setExplicitlyToDefault,
+                    targetPropertyName,
+                    targetType,
+                    ctx.getTypeFactory().getType( Objects.class ),
+                    targetType.isPrimitive() && targetReadAccessor.getAccessedType().getKind().isPrimitive()
+                );
+            }
+            return new SetterWrapper(
+                rhs,
+                method.getThrownTypes(),
+                isFieldAssignment(),
+                includeSourceNullCheck,
+                setExplicitlyToNull,
+                setExplicitlyToDefault
+            );
+        }
     }
 
     public static class PropertyMappingBuilder extends MappingBuilderBase<PropertyMappingBuilder> {
@@ -155,6 +202,9 @@ public static class PropertyMappingBuilder extends MappingBuilderBase<PropertyMa
         private boolean forgedNamedBased = true;
         private NullValueCheckStrategyGem nvcs;
         private NullValuePropertyMappingStrategyGem nvpms;
+        private boolean deduplicateStrings;
+        private CollectionCopyStrategyGem collectionCopyStrategy;
+        private boolean useEnumCollections;
 
         PropertyMappingBuilder() {
             super( PropertyMappingBuilder.class );
@@ -219,6 +269,9 @@ public PropertyMappingBuilder forgedNamedBased(boolean forgedNamedBased) {
         public PropertyMappingBuilder options(DelegatingOptions options) {
             this.mappingControl = options.getMappingControl( ctx.getElementUtils() );
             this.nvcs = options.getNullValueCheckStrategy();
+            this.deduplicateStrings = options.isDeduplicateStrings();
+            this.collectionCopyStrategy = options.getCollectionCopyStrategy();
+            this.useEnumCollections = options.isUseEnumCollections();
             if ( method.isUpdateMethod() ) {
                 this.nvpms = options.getNullValuePropertyMappingStrategy();
             }
@@ -275,10 +328,19 @@ public PropertyMapping build() {
                 if ( targetType.isCollectionOrMapType() ) {
                     assignment = assignToCollection( targetType, targetWriteAccessorType, assignment );
                 }
-                else if ( targetType.isArrayType() && sourceType.isArrayType() && assignment.getType() == DIRECT ) {
+                else if ( targetType.isArrayType() && sourceType.isArrayType() && assignment.getType() == DIRECT
+                    && collectionCopyStrategy != CollectionCopyStrategyGem.SHARE ) {
                     assignment = assignToArray( targetType, assignment );
                 }
                 else {
+                    if ( deduplicateStrings && targetType.isString() ) {
+                        Field stringPool = ctx.getStringPoolField();
+                        assignment = new StringDeduplicationWrapper(
+                            assignment,
+                            stringPool.getType(),
+                            stringPool.getVariableName()
+                        );
+                    }
                     assignment = assignToPlain( targetType, targetWriteAccessorType, assignment );
                 }
             }
@@ -289,16 +351,25 @@ else if ( targetType.isArrayType() && sourceType.isArrayType() && assignment.get
             return new PropertyMapping(
                 targetPropertyName,
                 rightHandSide.getSourceParameterName(),
-                targetWriteAccessor.getSimpleName(),
+                targetWriteAccessor,
                 ValueProvider.of( targetReadAccessor ),
                 targetType,
                 assignment,
                 dependsOn,
                 getDefaultValueAssignment( assignment ),
-                targetWriteAccessorType == AccessorType.PARAMETER
+                targetWriteAccessorType == AccessorType.PARAMETER,
+                getAssertedNonNullSourceReference()
             );
         }
 
+        private String getAssertedNonNullSourceReference() {
+            if ( ctx.getOptions().getNullabilityAnnotationsPolicy() == NullabilityAnnotationsPolicy.ASSERT
+                && isSourceNullCheckRedundant() ) {
+                return rightHandSide.getSourceReference();
+            }
+            return null;
+        }
+
         private Assignment forge( ) {
             Assignment assignment;
             Type sourceType = rightHandSide.getSourceType();
@@ -396,7 +467,8 @@ private Assignment assignToPlain(Type targetType, AccessorType targetAccessorTyp
 
             Assignment result;
 
-            if ( targetAccessorType == AccessorType.SETTER || targetAccessorType.isFieldAssignment() ) {
+            if ( targetAccessorType == AccessorType.SETTER || targetAccessorType == AccessorType.MAP_PUT
+                || targetAccessorType.isFieldAssignment() ) {
                 result = assignToPlainViaSetter( targetType, rightHandSide );
             }
             else {
@@ -439,10 +511,8 @@ private Assignment assignToPlainViaSetter(Type targetType, Assignment rhs) {
                     // however, a local var is not needed if there's no need to check for null.
                     rhs.setSourceLocalVarName( null );
                 }
-                return new SetterWrapper(
+                return createSetterWrapper(
                     rhs,
-                    method.getThrownTypes(),
-                    isFieldAssignment(),
                     includeSourceNullCheck,
                     includeSourceNullCheck && nvpms == SET_TO_NULL && !targetType.isPrimitive(),
                     nvpms == SET_TO_DEFAULT );
@@ -464,6 +534,11 @@ private boolean setterWrapperNeedsSourceNullCheck(Assignment rhs, Type targetTyp
                 return false;
             }
 
+            if ( isSourceNullCheckRedundant() ) {
+                // The source is declared to be non-null -> a null check would never fail
+                return false;
+            }
+
             if ( nvcs == ALWAYS ) {
                 // NullValueCheckStrategy is ALWAYS -> do a null check
                 return true;
@@ -497,6 +572,20 @@ private boolean setterWrapperNeedsSourceNullCheck(Assignment rhs, Type targetTyp
             return false;
         }
 
+        /**
+         * Checks whether the source is declared to be non-null and there is nothing else requiring a null / presence
+         * check, i.e. no presence checker, no {@link NullValueCheckStrategyGem#ALWAYS} and no default value.
+         *
+         * @return whether a null check on the source would be redundant
+         */
+        private boolean isSourceNullCheckRedundant() {
+            return rightHandSide.isSourceNonNull()
+                && rightHandSide.getSourcePresenceCheckerReference() == null
+                && nvcs != ALWAYS
+                && defaultValue == null
+                && defaultJavaExpression == null;
+        }
+
         private Assignment assignToPlainViaAdder( Assignment rightHandSide) {
 
             Assignment result = rightHandSide;
@@ -536,6 +625,9 @@ private Assignment assignToCollection(Type targetType, AccessorType targetAccess
                 .assignment( rhs )
                 .nullValueCheckStrategy( nvcs )
                 .nullValuePropertyMappingStrategy( nvpms )
+                .collectionCopyStrategy( collectionCopyStrategy )
+                .useEnumCollections( useEnumCollections )
+                .sourceNullCheckRedundant( isSourceNullCheckRedundant() )
                 .build();
         }
 
@@ -559,11 +651,13 @@ private SourceRHS getSourceRHS( SourceReference sourceReference ) {
 
             // parameter reference
             if ( propertyEntry == null ) {
-                return new SourceRHS( sourceParam.getName(),
+                SourceRHS sourceRHS = new SourceRHS( sourceParam.getName(),
                                       sourceParam.getType(),
                                       existingVariableNames,
                                       sourceReference.toString()
                 );
+                sourceRHS.setSourceNonNull( isNonNull( sourceParam.getElement(), sourceParam.getType() ) );
+                return sourceRHS;
             }
             // simple property
             else if ( !sourceReference.isNested() ) {
@@ -580,6 +674,8 @@ else if ( !sourceReference.isNested() ) {
                     sourceReference,
                     sourceRHS
                 ) );
+                sourceRHS.setSourceNonNull( isNonNull( propertyEntry.getReadAccessor().getElement(),
+                    propertyEntry.getType() ) );
                 return sourceRHS;
             }
             // nested property given as dot path
@@ -594,7 +690,7 @@ else if ( !sourceReference.isNested() ) {
 
                 // forge a method from the parameter type to the last entry type.
                 String forgedName = Strings.joinAndCamelize( sourceReference.getElementNames() );
-                forgedName = Strings.getSafeVariableName( forgedName, ctx.getReservedNames() );
+                forgedName = ctx.getReservedNames().getSafeName( forgedName );
                 Type sourceParameterType = sourceReference.getParameter().getType();
                 ForgedMethod methodRef = forParameterMapping( forgedName, sourceParameterType, sourceType, method );
 
@@ -624,6 +720,9 @@ else if ( !sourceReference.isNested() ) {
                     sourceReference,
                     sourceRhs
                 ) );
+                sourceRhs.setSourceNonNull( sourceReference.getPropertyEntries()
+                    .stream()
+                    .allMatch( entry -> isNonNull( entry.getReadAccessor().getElement(), entry.getType() ) ) );
 
                 // create a local variable to which forged method can be assigned.
                 String desiredName = propertyEntry.getName();
@@ -634,6 +733,12 @@ else if ( !sourceReference.isNested() ) {
             }
         }
 
+        private boolean isNonNull(Element element, Type type) {
+            return ctx.getOptions().getNullabilityAnnotationsPolicy().isOmitNullChecks()
+                && !type.isPrimitive()
+                && Nullability.isNonNull( element );
+        }
+
         private PresenceCheck getSourcePresenceCheckerRef(SourceReference sourceReference,
                                                           SourceRHS sourceRHS) {
 
@@ -732,7 +837,7 @@ private Assignment forgeWithElementMapping(Type sourceType, Type targetType, Sou
 
         private ForgedMethod prepareForgedMethod(Type sourceType, Type targetType, SourceRHS source, String suffix) {
             String name = getName( sourceType, targetType );
-            name = Strings.getSafeVariableName( name, ctx.getReservedNames() );
+            name = ctx.getReservedNames().getSafeName( name );
 
             // copy mapper configuration from the source method, its the same mapper
             ForgedMethodHistory forgedMethodHistory = getForgedMethodHistory( source, suffix );
@@ -785,7 +890,7 @@ private Assignment forgeMapping(SourceRHS sourceRHS) {
             }
 
             String name = getName( sourceType, targetType );
-            name = Strings.getSafeVariableName( name, ctx.getReservedNames() );
+            name = ctx.getReservedNames().getSafeName( name );
 
             List<Parameter> parameters = new ArrayList<>( method.getContextParameters() );
             Type returnType;
@@ -936,6 +1041,7 @@ public PropertyMapping build() {
             if ( assignment != null ) {
 
                 if ( targetWriteAccessor.getAccessorType() == AccessorType.SETTER  ||
+                targetWriteAccessor.getAccessorType() == AccessorType.MAP_PUT ||
                 targetWriteAccessor.getAccessorType().isFieldAssignment() ) {
 
                     // target accessor is setter, so decorate assignment as setter
@@ -963,7 +1069,7 @@ public PropertyMapping build() {
                             false );
                     }
                     else {
-                        assignment = new SetterWrapper( assignment, method.getThrownTypes(), isFieldAssignment() );
+                        assignment = createSetterWrapper( assignment, false, false, false );
                     }
                 }
                 else {
@@ -1000,13 +1106,14 @@ else if ( errorMessageDetails == null ) {
 
             return new PropertyMapping(
                 targetPropertyName,
-                targetWriteAccessor.getSimpleName(),
+                targetWriteAccessor,
                 ValueProvider.of( targetReadAccessor ),
                 targetType,
                 assignment,
                 dependsOn,
                 null,
-                targetWriteAccessorType == AccessorType.PARAMETER
+                targetWriteAccessorType == AccessorType.PARAMETER,
+                null
             );
         }
 
@@ -1051,9 +1158,10 @@ public PropertyMapping build() {
             Assignment assignment = new SourceRHS( javaExpression, null, existingVariableNames, "" );
 
             if ( targetWriteAccessor.getAccessorType() == AccessorType.SETTER  ||
+                            targetWriteAccessor.getAccessorType() == AccessorType.MAP_PUT ||
                             targetWriteAccessor.getAccessorType().isFieldAssignment() ) {
                 // setter, so wrap in setter
-                assignment = new SetterWrapper( assignment, method.getThrownTypes(), isFieldAssignment() );
+                assignment = createSetterWrapper( assignment, false, false, false );
             }
             else {
                 // target accessor is getter, so wrap the setter in getter map/ collection handling
@@ -1066,36 +1174,46 @@ public PropertyMapping build() {
 
             return new PropertyMapping(
                 targetPropertyName,
-                targetWriteAccessor.getSimpleName(),
+                targetWriteAccessor,
                 ValueProvider.of( targetReadAccessor ),
                 targetType,
                 assignment,
                 dependsOn,
                 null,
-                targetWriteAccessorType == AccessorType.PARAMETER
+                targetWriteAccessorType == AccessorType.PARAMETER,
+                null
             );
         }
 
     }
 
     // Constructor for creating mappings of constant expressions.
-    private PropertyMapping(String name, String targetWriteAccessorName,
+    private PropertyMapping(String name, Accessor targetWriteAccessor,
         ValueProvider targetReadAccessorProvider,
         Type targetType, Assignment propertyAssignment,
-        Set<String> dependsOn, Assignment defaultValueAssignment, boolean constructorMapping) {
-        this( name, null, targetWriteAccessorName, targetReadAccessorProvider,
+        Set<String> dependsOn, Assignment defaultValueAssignment, boolean constructorMapping,
+        String assertedNonNullSourceReference) {
+        this( name, null, targetWriteAccessor, targetReadAccessorProvider,
             targetType, propertyAssignment, dependsOn, defaultValueAssignment,
-            constructorMapping
+            constructorMapping, assertedNonNullSourceReference
         );
     }
 
-    private PropertyMapping(String name, String sourceBeanName, String targetWriteAccessorName,
+    private PropertyMapping(String name, String sourceBeanName, Accessor targetWriteAccessor,
         ValueProvider targetReadAccessorProvider, Type targetType,
         Assignment assignment,
-        Set<String> dependsOn, Assignment defaultValueAssignment, boolean constructorMapping) {
+        Set<String> dependsOn, Assignment defaultValueAssignment, boolean constructorMapping,
+        String assertedNonNullSourceReference) {
         this.name = name;
         this.sourceBeanName = sourceBeanName;
-        this.targetWriteAccessorName = targetWriteAccessorName;
+        if ( targetWriteAccessor.getAccessorType() == AccessorType.MAP_PUT ) {
+            this.targetWriteAccessorName = "put";
+            this.targetWriteAccessorKey = targetWriteAccessor.getSimpleName();
+        }
+        else {
+            this.targetWriteAccessorName = targetWriteAccessor.getSimpleName();
+            this.targetWriteAccessorKey = null;
+        }
         this.targetReadAccessorProvider = targetReadAccessorProvider;
         this.targetType = targetType;
 
@@ -1103,6 +1221,7 @@ private PropertyMapping(String name, String sourceBeanName, String targetWriteAc
         this.dependsOn = dependsOn != null ? dependsOn : Collections.<String>emptySet();
         this.defaultValueAssignment = defaultValueAssignment;
         this.constructorMapping = constructorMapping;
+        this.assertedNonNullSourceReference = assertedNonNullSourceReference;
     }
 
     /**
@@ -1120,6 +1239,14 @@ public String getTargetWriteAccessorName() {
         return targetWriteAccessorName;
     }
 
+    /**
+     * @return the key under which the value is put, if the target is a {@link java.util.Map} rather than a bean,
+     * {@code null} otherwise
+     */
+    public String getTargetWriteAccessorKey() {
+        return targetWriteAccessorKey;
+    }
+
     public String getTargetReadAccessorName() {
         return targetReadAccessorProvider == null ? null : targetReadAccessorProvider.getValue();
     }
@@ -1140,6 +1267,19 @@ public boolean isConstructorMapping() {
         return constructorMapping;
     }
 
+    /**
+     * @return the reference to the source value that is asserted to be non-null instead of being null checked, or
+     * {@code null} if there is no such assertion
+     */
+    public String getAssertedNonNullSourceReference() {
+        return assertedNonNullSourceReference;
+    }
+
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         if ( defaultValueAssignment == null ) {
@@ -1198,4 +1338,26 @@ public String toString() {
             + "\n    dependsOn=" + dependsOn
             + "\n}";
     }
+
+    private static class Emitter extends JavaEmitter<PropertyMapping> {
+
+        @Override
+        public void emit(PropertyMapping propertyMapping, Context context, Writer writer) throws IOException {
+            if ( propertyMapping.getAssertedNonNullSourceReference() != null ) {
+                writer.write( "assert " );
+                writer.write( propertyMapping.getAssertedNonNullSourceReference() );
+                writer.write( " != null;\n" );
+            }
+
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put( "targetBeanName", getParameter( context, "targetBeanName" ) );
+            parameters.put( "existingInstanceMapping", getParameter( context, "existingInstanceMapping" ) );
+            parameters.put( "targetReadAccessorName", propertyMapping.getTargetReadAccessorName() );
+            parameters.put( "targetWriteAccessorName", propertyMapping.getTargetWriteAccessorName() );
+            parameters.put( "targetWriteAccessorKey", propertyMapping.getTargetWriteAccessorKey() );
+            parameters.put( "targetType", propertyMapping.getTargetType() );
+            parameters.put( "defaultValueAssignment", propertyMapping.getDefaultValueAssignment() );
+            include( propertyMapping.getAssignment(), context, writer, parameters );
+        }
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * A Spring {@code @Configuration} class, declaring the Spring mappers whose implementations reside in its package via
+ * {@code @Bean} factory methods.
+ */
+public class SpringConfiguration extends ModelElement {
+
+    private final String packageName;
+    private final String name;
+    private final GeneratedAnnotation generated;
+    private final List<Bean> beans;
+    private final boolean proxyBeanMethodsSupported;
+
+    /**
+     * @param packageName the package of the configuration
+     * @param name the simple name of the configuration
+     * @param generated the {@code @Generated} annotation of the configuration
+     * @param beans the beans declared by the configuration
+     * @param proxyBeanMethodsSupported whether proxying the bean methods can be disabled, which requires Spring
+     * Framework 5.2 or later
+     */
+    public SpringConfiguration(String packageName, String name, GeneratedAnnotation generated, List<Bean> beans,
+                               boolean proxyBeanMethodsSupported) {
+        this.packageName = packageName;
+        this.name = name;
+        this.generated = generated;
+        this.beans = beans;
+        this.proxyBeanMethodsSupported = proxyBeanMethodsSupported;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getQualifiedName() {
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    public GeneratedAnnotation getGenerated() {
+        return generated;
+    }
+
+    public List<Bean> getBeans() {
+        return beans;
+    }
+
+    public boolean isProxyBeanMethodsSupported() {
+        return proxyBeanMethodsSupported;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * A bean declared by the configuration, created by invoking the constructor of a generated mapper
+     * implementation or decorator.
+     */
+    public static class Bean {
+
+        private final String name;
+        private final String methodName;
+        private final String implementationName;
+        private final List<String> annotations;
+        private final List<BeanParameter> parameters;
+
+        /**
+         * @param name the name of the bean
+         * @param methodName the name of the factory method of the bean
+         * @param implementationName the qualified name of the implementation type
+         * @param annotations the annotations of the factory method besides {@code @Bean}, as source code
+         * @param parameters the parameters of the constructor of the implementation type
+         */
+        public Bean(String name, String methodName, String implementationName, List<String> annotations,
+                    List<BeanParameter> parameters) {
+            this.name = name;
+            this.methodName = methodName;
+            this.implementationName = implementationName;
+            this.annotations = annotations;
+            this.parameters = parameters;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getMethodName() {
+            return methodName;
+        }
+
+        public String getImplementationName() {
+            return implementationName;
+        }
+
+        public List<String> getAnnotations() {
+            return annotations;
+        }
+
+        public List<BeanParameter> getParameters() {
+            return parameters;
+        }
+    }
+
+    /**
+     * A parameter of a bean factory method, resolved by Spring and passed on to the constructor of the bean.
+     */
+    public static class BeanParameter {
+
+        private final String typeName;
+        private final String name;
+        private final List<String> annotations;
+
+        /**
+         * @param typeName the qualified name of the parameter type
+         * @param name the name of the parameter
+         * @param annotations the annotations of the parameter, as source code
+         */
+        public BeanParameter(String typeName, String name, List<String> annotations) {
+            this.typeName = typeName;
+            this.name = name;
+            this.annotations = annotations;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getAnnotations() {
+            return annotations;
+        }
+    }
+}
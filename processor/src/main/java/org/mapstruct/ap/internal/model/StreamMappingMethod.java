@@ -5,10 +5,15 @@
  */
 package org.mapstruct.ap.internal.model;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -18,17 +23,28 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.util.Strings;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
 /**
  * A {@link MappingMethod} implemented by a {@link Mapper} class which maps one iterable or array type to Stream.
  * The collection elements are mapped either by a {@link TypeConversion} or another mapping method.
+ * <p>
+ * {@link Iterator} and {@link Spliterator} sources and results are handled like streams, i.e. the elements are
+ * mapped one by one while the result is consumed.
+ * <p>
+ * {@code IntStream}, {@code LongStream} and {@code DoubleStream} sources and results, as well as {@code int},
+ * {@code long} and {@code double} arrays, are streamed as primitive streams, so that their elements aren't boxed
+ * unless they are mapped from or to objects.
  *
  * @author Filip Hrisafov
  */
 public class StreamMappingMethod extends ContainerMappingMethod {
 
+    private static final Set<String> PRIMITIVE_STREAM_ELEMENT_TYPES =
+        new HashSet<>( Arrays.asList( "int", "long", "double" ) );
+
     private final Set<Type> helperImports;
 
     public static class Builder extends ContainerMappingMethodBuilder<Builder, StreamMappingMethod> {
@@ -47,22 +63,54 @@ protected Assignment getWrapper(Assignment assignment, Method method) {
             return new Java8FunctionWrapper( assignment );
         }
 
+        @Override
+        protected boolean isParallelMappingSupported(Type sourceType, Type sourceElementType,
+                                                     Type targetElementType) {
+            // the elements of a returned iterator or spliterator are consumed one by one by the caller
+            return super.isParallelMappingSupported( sourceType, sourceElementType, targetElementType )
+                && method.getResultType().isStreamType();
+        }
+
         @Override
         protected StreamMappingMethod instantiateMappingMethod(Method method, Collection<String> existingVariables,
             Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
             List<LifecycleCallbackMethodReference> beforeMappingMethods,
-            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters) {
+            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters,
+            ParallelMapping parallelMapping) {
 
             Set<Type> helperImports = new HashSet<>();
-            if ( method.getResultType().isIterableType() ) {
+            Type resultType = method.getResultType();
+            if ( resultType.isIterableType() && !resultType.isArrayType() ) {
                 helperImports.add( ctx.getTypeFactory().getType( Collectors.class ) );
             }
+            else if ( isEmptyResultRequired( method, mapNullToDefault, beforeMappingMethods, afterMappingMethods ) ) {
+                if ( resultType.isIteratorType() ) {
+                    helperImports.add( ctx.getTypeFactory().getType( Collections.class ) );
+                }
+                else if ( resultType.isSpliteratorType() ) {
+                    helperImports.add( ctx.getTypeFactory().getType( Spliterators.class ) );
+                }
+            }
 
             Type sourceParameterType = first( method.getSourceParameters() ).getType();
             if ( !sourceParameterType.isCollectionType() && !sourceParameterType.isArrayType() &&
                 sourceParameterType.isIterableType() ) {
                 helperImports.add( ctx.getTypeFactory().getType( StreamSupport.class ) );
             }
+            else if ( sourceParameterType.isIteratorType() ) {
+                helperImports.add( ctx.getTypeFactory().getType( StreamSupport.class ) );
+                helperImports.add( ctx.getTypeFactory().getType( Spliterators.class ) );
+                helperImports.add( ctx.getTypeFactory().getType( Spliterator.class ) );
+            }
+            else if ( sourceParameterType.isSpliteratorType() ) {
+                helperImports.add( ctx.getTypeFactory().getType( StreamSupport.class ) );
+            }
+            else if ( isStreamedAsPrimitives( sourceParameterType ) && sourceParameterType.isArrayType() ) {
+                helperImports.add( ctx.getTypeFactory().getType( Arrays.class ) );
+            }
+            else if ( sourceParameterType.isArrayType() && !resultType.isStreamType() ) {
+                helperImports.add( ctx.getTypeFactory().getType( Stream.class ) );
+            }
 
             return new StreamMappingMethod(
                 method,
@@ -74,16 +122,33 @@ protected StreamMappingMethod instantiateMappingMethod(Method method, Collection
                 beforeMappingMethods,
                 afterMappingMethods,
                 selectionParameters,
+                parallelMapping,
                 helperImports
             );
         }
+
+        /**
+         * Whether an empty iterator or stream is returned or assigned to the result variable by the generated method.
+         */
+        private boolean isEmptyResultRequired(Method method, boolean mapNullToDefault,
+                                              List<LifecycleCallbackMethodReference> beforeMappingMethods,
+                                              List<LifecycleCallbackMethodReference> afterMappingMethods) {
+            if ( method.isUpdateMethod() ) {
+                return false;
+            }
+            return mapNullToDefault
+                || !afterMappingMethods.isEmpty()
+                || beforeMappingMethods.stream()
+                    .anyMatch( LifecycleCallbackMethodReference::hasMappingTargetParameter );
+        }
     }
 
+    @SuppressWarnings( "checkstyle:parameternumber" )
     private StreamMappingMethod(Method method, Collection<String> existingVariables, Assignment parameterAssignment,
                                 MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
                                 List<LifecycleCallbackMethodReference> beforeMappingReferences,
                                 List<LifecycleCallbackMethodReference> afterMappingReferences,
-        SelectionParameters selectionParameters, Set<Type> helperImports) {
+        SelectionParameters selectionParameters, ParallelMapping parallelMapping, Set<Type> helperImports) {
         super(
             method,
             existingVariables,
@@ -93,7 +158,8 @@ private StreamMappingMethod(Method method, Collection<String> existingVariables,
             loopVariableName,
             beforeMappingReferences,
             afterMappingReferences,
-            selectionParameters
+            selectionParameters,
+            parallelMapping
         );
         this.helperImports = helperImports;
     }
@@ -115,6 +181,57 @@ public Type getResultElementType() {
         return getElementType( getResultType() );
     }
 
+    public boolean isPrimitiveSourceStream() {
+        return isStreamedAsPrimitives( getSourceParameter().getType() );
+    }
+
+    public boolean isPrimitiveResultStream() {
+        return isStreamedAsPrimitives( getResultType() );
+    }
+
+    /**
+     * Returns the stream operation mapping the source elements to the result elements, e.g. {@code map},
+     * {@code mapToObj} or {@code asLongStream}, choosing between the operations of {@code Stream} and the primitive
+     * streams by the kind of the source and the result.
+     *
+     * @return the name of the stream operation, or {@code null} if the source elements are passed as they are
+     */
+    public String getElementMappingMethod() {
+        boolean directAssignment = getElementAssignment() instanceof Java8FunctionWrapper
+            && ( (Java8FunctionWrapper) getElementAssignment() ).isDirectAssignment();
+
+        if ( !isPrimitiveResultStream() ) {
+            if ( isPrimitiveSourceStream() ) {
+                return directAssignment ? "boxed" : "mapToObj";
+            }
+            return directAssignment ? null : "map";
+        }
+
+        String resultElementName = getResultElementType().getName();
+        if ( !isPrimitiveSourceStream() ) {
+            return "mapTo" + Strings.capitalize( resultElementName );
+        }
+        else if ( getSourceElementType().getName().equals( resultElementName ) ) {
+            return directAssignment ? null : "map";
+        }
+        // the elements can only be assigned directly if the conversion is widening, e.g. from int to long
+        return directAssignment ?
+            "as" + Strings.capitalize( resultElementName ) + "Stream" :
+            "mapTo" + Strings.capitalize( resultElementName );
+    }
+
+    /**
+     * Whether the elements of the given type are streamed as {@code IntStream}, {@code LongStream} or
+     * {@code DoubleStream}, i.e. whether it is one of these or an array of their element type.
+     */
+    private static boolean isStreamedAsPrimitives(Type type) {
+        if ( type.isArrayType() ) {
+            return type.getComponentType().isPrimitive()
+                && PRIMITIVE_STREAM_ELEMENT_TYPES.contains( type.getComponentType().getName() );
+        }
+        return type.isPrimitiveStreamType();
+    }
+
     private static Type getElementType(Type parameterType) {
         if ( parameterType.isArrayType() ) {
             return parameterType.getComponentType();
@@ -125,6 +242,15 @@ else if ( parameterType.isIterableType() ) {
         else if ( parameterType.isStreamType() ) {
             return first( parameterType.determineTypeArguments( Stream.class ) ).getTypeBound();
         }
+        else if ( parameterType.isPrimitiveStreamType() ) {
+            return parameterType.getPrimitiveStreamElementType();
+        }
+        else if ( parameterType.isIteratorType() ) {
+            return first( parameterType.determineTypeArguments( Iterator.class ) ).getTypeBound();
+        }
+        else if ( parameterType.isSpliteratorType() ) {
+            return first( parameterType.determineTypeArguments( Spliterator.class ) ).getTypeBound();
+        }
 
         throw new IllegalArgumentException( "Could not get the element type" );
     }
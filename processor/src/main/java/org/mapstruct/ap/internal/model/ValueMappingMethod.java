@@ -587,7 +587,7 @@ public Parameter getSourceParameter() {
     }
 
     public boolean isOverridden() {
-        return overridden;
+        return overridden && !isHiddenBehindWrappingMethod();
     }
 
     public static class MappingEntry {
@@ -5,6 +5,8 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -14,6 +16,8 @@
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.util.Nouns;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
@@ -24,6 +28,8 @@
  */
 public class AdderWrapper extends AssignmentWrapper {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final List<Type> thrownTypesToExclude;
     private final Type adderType;
 
@@ -79,4 +85,39 @@ public Set<Type> getImportTypes() {
         return imported;
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<AdderWrapper> {
+
+        @Override
+        public void emit(AdderWrapper wrapper, Context context, Writer writer) throws IOException {
+            handleExceptions( wrapper, context, writer, w -> {
+                sourceLocalVarAssignment( wrapper, context, w );
+                handleSourceReferenceNullCheck(
+                    wrapper,
+                    context,
+                    w,
+                    wrapper.isIncludeSourceNullCheck(),
+                    wrapper.isSetExplicitlyToNull(),
+                    wrapper.isSetExplicitlyToDefault(),
+                    nested -> {
+                        nested.write( "for ( " );
+                        include( wrapper.getAdderType().getTypeBound(), context, nested, NO_PARAMETERS );
+                        nested.write( ' ' );
+                        nested.write( wrapper.getSourceLoopVarName() );
+                        nested.write( " : " );
+                        nested.write( getSourceVarName( wrapper ) );
+                        nested.write( " ) {\n" );
+                        writeTargetBeanPrefix( context, nested );
+                        nested.write( getStringParameter( context, "targetWriteAccessorName" ) );
+                        handleWrite( wrapper, context, nested, value -> handleAssignment( wrapper, context, value ) );
+                        nested.write( ";\n}\n" );
+                    }
+                );
+            } );
+        }
+    }
 }
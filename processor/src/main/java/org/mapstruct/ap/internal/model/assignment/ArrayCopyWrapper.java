@@ -5,11 +5,15 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  * Decorates the assignment as a Map or Collection constructor
@@ -18,6 +22,8 @@
  */
 public class ArrayCopyWrapper extends AssignmentWrapper {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final Type arraysType;
     private final Type targetType;
     private final boolean setExplicitlyToNull;
@@ -41,11 +47,21 @@ public ArrayCopyWrapper(Assignment rhs,
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> imported = new HashSet<>( getAssignment().getImportTypes() );
-        imported.add( arraysType );
+        if ( !isCloneArray() ) {
+            imported.add( arraysType );
+        }
         imported.add( targetType );
         return imported;
     }
 
+    /**
+     * @return whether the array is copied with {@code clone()} rather than {@code Arrays.copyOf()}, which is the case
+     * for arrays of primitives, as the source and target array types are the same for those
+     */
+    public boolean isCloneArray() {
+        return targetType.getComponentType().isPrimitive();
+    }
+
     public boolean isIncludeSourceNullCheck() {
         return true;
     }
@@ -57,4 +73,48 @@ public boolean isSetExplicitlyToNull() {
     public boolean isSetExplicitlyToDefault() {
         return setExplicitlyToDefault;
     }
+
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<ArrayCopyWrapper> {
+
+        @Override
+        public void emit(ArrayCopyWrapper wrapper, Context context, Writer writer) throws IOException {
+            handleExceptions( wrapper, context, writer, w -> {
+                sourceLocalVarAssignment( wrapper, context, w );
+                handleSourceReferenceNullCheck(
+                    wrapper,
+                    context,
+                    w,
+                    wrapper.isIncludeSourceNullCheck(),
+                    wrapper.isSetExplicitlyToNull(),
+                    wrapper.isSetExplicitlyToDefault(),
+                    nested -> {
+                        writeTargetBeanPrefix( context, nested );
+                        nested.write( getStringParameter( context, "targetWriteAccessorName" ) );
+                        handleWrite( wrapper, context, nested, value -> writeCopy( wrapper, value ) );
+                        nested.write( ";\n" );
+                    }
+                );
+            } );
+        }
+
+        private void writeCopy(ArrayCopyWrapper wrapper, Writer writer) throws IOException {
+            String sourceLocalVarName = wrapper.getSourceLocalVarName();
+            if ( wrapper.isCloneArray() ) {
+                writer.write( sourceLocalVarName );
+                writer.write( ".clone()" );
+            }
+            else {
+                writer.write( "Arrays.copyOf( " );
+                writer.write( sourceLocalVarName );
+                writer.write( ", " );
+                writer.write( sourceLocalVarName );
+                writer.write( ".length )" );
+            }
+        }
+    }
 }
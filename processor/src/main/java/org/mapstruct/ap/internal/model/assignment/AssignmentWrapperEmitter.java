@@ -0,0 +1,332 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.assignment;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
+
+import freemarker.template.utility.StringUtil;
+
+/**
+ * Base class of the emitters of the {@link AssignmentWrapper}s, writing what the macros of {@code CommonMacros.ftl}
+ * write. The methods are named after the macros; the nested content of a macro is passed as {@link Content}.
+ *
+ * @param <T> the type of the written wrapper
+ */
+abstract class AssignmentWrapperEmitter<T extends AssignmentWrapper> extends JavaEmitter<T> {
+
+    /**
+     * The parameters passed on to the wrapped assignment.
+     */
+    static final Set<String> ASSIGNMENT_PARAMETERS = asSet(
+        "targetBeanName",
+        "existingInstanceMapping",
+        "targetReadAccessorName",
+        "targetWriteAccessorName",
+        "targetWriteAccessorKey",
+        "targetType"
+    );
+
+    /**
+     * The parameters passed on to the wrapped assignment by the wrappers writing expressions or local variables, which
+     * don't put into maps.
+     */
+    static final Set<String> EXPRESSION_PARAMETERS = asSet(
+        "targetBeanName",
+        "existingInstanceMapping",
+        "targetReadAccessorName",
+        "targetWriteAccessorName",
+        "targetType"
+    );
+
+    private static final Set<String> DEFAULT_VALUE_ASSIGNMENT_PARAMETERS = asSet(
+        "targetBeanName",
+        "existingInstanceMapping",
+        "targetReadAccessorName",
+        "targetWriteAccessorName",
+        "targetWriteAccessorKey",
+        "targetType",
+        "defaultValue"
+    );
+
+    private static final Set<String> FACTORY_METHOD_PARAMETERS = Collections.singleton( "targetType" );
+
+    static final Map<String, Object> NO_PARAMETERS = Collections.emptyMap();
+
+    static final Map<String, Object> RAW = Collections.singletonMap( "raw", Boolean.TRUE );
+
+    /**
+     * {@code <@lib.handleExceptions>}
+     */
+    void handleExceptions(T wrapper, Context context, Writer writer, Content nested) throws IOException {
+        List<Type> thrownTypes = wrapper.getThrownTypes();
+        if ( thrownTypes.isEmpty() ) {
+            nested.write( writer );
+            return;
+        }
+
+        writer.write( "try {\n" );
+        nested.write( writer );
+        writer.write( "}\n" );
+        for ( Type exceptionType : thrownTypes ) {
+            writer.write( "catch ( " );
+            include( exceptionType, context, writer, NO_PARAMETERS );
+            writer.write( " e ) {\nthrow new RuntimeException( e );\n}\n" );
+        }
+    }
+
+    /**
+     * {@code <@lib.sourceLocalVarAssignment/>}
+     */
+    void sourceLocalVarAssignment(T wrapper, Context context, Writer writer) throws IOException {
+        if ( wrapper.getSourceLocalVarName() != null ) {
+            include( wrapper.getSourceType(), context, writer, NO_PARAMETERS );
+            writer.write( ' ' );
+            writer.write( wrapper.getSourceLocalVarName() );
+            writer.write( " = " );
+            writer.write( wrapper.getSourceReference() );
+            writer.write( ";\n" );
+        }
+    }
+
+    /**
+     * {@code <@lib.handleSourceReferenceNullCheck>}
+     */
+    void handleSourceReferenceNullCheck(T wrapper, Context context, Writer writer, boolean includeSourceNullCheck,
+                                        boolean setExplicitlyToNull, boolean setExplicitlyToDefault, Content nested)
+        throws IOException {
+        if ( wrapper.getSourcePresenceCheckerReference() != null ) {
+            writer.write( "if ( " );
+            include( wrapper.getSourcePresenceCheckerReference(), context, writer, NO_PARAMETERS );
+            writer.write( " ) {\n" );
+            nested.write( writer );
+            writer.write( "}\n" );
+            elseDefaultAssignment( wrapper, context, writer, setExplicitlyToNull, setExplicitlyToDefault );
+        }
+        else if ( includeSourceNullCheck || hasParameter( context, "defaultValueAssignment" ) ) {
+            writer.write( "if ( " );
+            writer.write( getSourceVarName( wrapper ) );
+            writer.write( " != null ) {\n" );
+            nested.write( writer );
+            writer.write( "}\n" );
+            elseDefaultAssignment( wrapper, context, writer, setExplicitlyToNull, setExplicitlyToDefault );
+        }
+        else {
+            nested.write( writer );
+        }
+    }
+
+    private void elseDefaultAssignment(T wrapper, Context context, Writer writer, boolean setExplicitlyToNull,
+                                       boolean setExplicitlyToDefault)
+        throws IOException {
+        if ( hasParameter( context, "defaultValueAssignment" ) ) {
+            writer.write( "else {\n" );
+            handleDefaultAssignment( context, writer );
+            writer.write( "}\n" );
+        }
+        else if ( setExplicitlyToDefault || setExplicitlyToNull ) {
+            writer.write( "else {\n" );
+            writeTargetBeanPrefix( context, writer );
+            writer.write( getStringParameter( context, "targetWriteAccessorName" ) );
+            handleWrite(
+                wrapper,
+                context,
+                writer,
+                setExplicitlyToDefault ? w -> initTargetObject( null, context, w ) : w -> w.write( "null" )
+            );
+            writer.write( ";\n}\n" );
+        }
+    }
+
+    /**
+     * {@code <@lib.handleLocalVarNullCheck>}
+     */
+    void handleLocalVarNullCheck(T wrapper, Context context, Writer writer, boolean needsExplicitLocalVar,
+                                 Content nested)
+        throws IOException {
+        WrapperForCollectionsAndMaps localVarWrapper = (WrapperForCollectionsAndMaps) wrapper;
+
+        if ( wrapper.getSourcePresenceCheckerReference() != null ) {
+            writer.write( "if ( " );
+            include( wrapper.getSourcePresenceCheckerReference(), context, writer, NO_PARAMETERS );
+            writer.write( " ) {\n" );
+            if ( needsExplicitLocalVar ) {
+                writeNullCheckLocalVar( localVarWrapper, context, writer );
+            }
+            nested.write( writer );
+            writer.write( "}\n" );
+        }
+        else {
+            writeNullCheckLocalVar( localVarWrapper, context, writer );
+            writer.write( "if ( " );
+            writer.write( localVarWrapper.getNullCheckLocalVarName() );
+            writer.write( " != null ) {\n" );
+            nested.write( writer );
+            writer.write( "}\n" );
+        }
+
+        if ( hasParameter( context, "defaultValueAssignment" ) ) {
+            writer.write( "else {\n" );
+            handleDefaultAssignment( context, writer );
+            writer.write( "}\n" );
+        }
+    }
+
+    private void writeNullCheckLocalVar(WrapperForCollectionsAndMaps wrapper, Context context, Writer writer)
+        throws IOException {
+        include( wrapper.getNullCheckLocalVarType(), context, writer, NO_PARAMETERS );
+        writer.write( ' ' );
+        writer.write( wrapper.getNullCheckLocalVarName() );
+        writer.write( " = " );
+        handleAssignment( wrapper, context, writer );
+        writer.write( ";\n" );
+    }
+
+    /**
+     * {@code <@lib.handleWithAssignmentOrNullCheckVar/>}
+     */
+    void handleWithAssignmentOrNullCheckVar(T wrapper, Context context, Writer writer) throws IOException {
+        if ( wrapper.getSourcePresenceCheckerReference() != null ) {
+            handleAssignment( wrapper, context, writer );
+        }
+        else {
+            writer.write( ( (WrapperForCollectionsAndMaps) wrapper ).getNullCheckLocalVarName() );
+        }
+    }
+
+    /**
+     * {@code <@lib.handleAssignment/>}
+     */
+    void handleAssignment(AssignmentWrapper wrapper, Context context, Writer writer) throws IOException {
+        include( wrapper.getAssignment(), context, writer, getParameters( context, ASSIGNMENT_PARAMETERS ) );
+    }
+
+    /**
+     * {@code <@lib.handeDefaultAssigment/>}
+     */
+    void handleDefaultAssignment(Context context, Writer writer) throws IOException {
+        include(
+            getParameter( context, "defaultValueAssignment" ),
+            context,
+            writer,
+            getParameters( context, DEFAULT_VALUE_ASSIGNMENT_PARAMETERS )
+        );
+    }
+
+    /**
+     * {@code <@lib.handleWrite>}
+     */
+    void handleWrite(T wrapper, Context context, Writer writer, Content nested) throws IOException {
+        if ( wrapper.isFieldAssignment() ) {
+            writer.write( " = " );
+            nested.write( writer );
+        }
+        else {
+            writer.write( "( " );
+            Object targetWriteAccessorKey = getParameter( context, "targetWriteAccessorKey" );
+            if ( targetWriteAccessorKey != null ) {
+                writer.write( '"' );
+                writer.write( StringUtil.javaStringEnc( targetWriteAccessorKey.toString() ) );
+                writer.write( "\", " );
+            }
+            nested.write( writer );
+            writer.write( " )" );
+        }
+    }
+
+    /**
+     * {@code <@lib.handleWriteAccesing/>}
+     */
+    void handleWriteAccessing(T wrapper, Writer writer) throws IOException {
+        if ( !wrapper.isFieldAssignment() ) {
+            writer.write( "()" );
+        }
+    }
+
+    /**
+     * {@code <@lib.initTargetObject/>}
+     *
+     * @param factoryMethod the factory method creating the target object, {@code null} if it is constructed
+     */
+    void initTargetObject(Assignment factoryMethod, Context context, Writer writer) throws IOException {
+        if ( factoryMethod != null ) {
+            compress(
+                writer,
+                true,
+                w -> include( factoryMethod, context, w, getParameters( context, FACTORY_METHOD_PARAMETERS ) )
+            );
+        }
+        else {
+            constructTargetObject( context, writer );
+        }
+    }
+
+    /**
+     * {@code <@lib.constructTargetObject/>}
+     */
+    private void constructTargetObject(Context context, Writer writer) throws IOException {
+        Type targetType = (Type) getParameter( context, "targetType" );
+        if ( targetType.getImplementationType() != null ) {
+            writer.write( "new " );
+            include( targetType.getImplementationType(), context, writer, NO_PARAMETERS );
+            writer.write( "()" );
+        }
+        else if ( targetType.isArrayType() ) {
+            writer.write( "new " );
+            include( targetType.getComponentType(), context, writer, NO_PARAMETERS );
+            writer.write( "[0]" );
+        }
+        else if ( targetType.getSensibleDefault() != null ) {
+            writer.write( targetType.getSensibleDefault() );
+        }
+        else {
+            writer.write( "new " );
+            include( targetType, context, writer, NO_PARAMETERS );
+            writer.write( "()" );
+        }
+    }
+
+    /**
+     * {@code <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>}
+     */
+    void writeTargetBeanPrefix(Context context, Writer writer) throws IOException {
+        if ( hasContent( context, "targetBeanName" ) ) {
+            writer.write( getStringParameter( context, "targetBeanName" ) );
+            writer.write( '.' );
+        }
+    }
+
+    /**
+     * {@code <#if sourceLocalVarName??>${sourceLocalVarName}<#else>${sourceReference}</#if>}
+     */
+    String getSourceVarName(Assignment assignment) {
+        return assignment.getSourceLocalVarName() != null ?
+            assignment.getSourceLocalVarName() :
+            assignment.getSourceReference();
+    }
+
+    /**
+     * {@code ${ext.name}}
+     */
+    String getStringParameter(Context context, String name) {
+        return String.valueOf( getParameter( context, name ) );
+    }
+
+    private static Set<String> asSet(String... names) {
+        return Collections.unmodifiableSet( new HashSet<>( Arrays.asList( names ) ) );
+    }
+}
@@ -5,11 +5,15 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  *
@@ -17,6 +21,8 @@
  */
 public class EnumConstantWrapper extends AssignmentWrapper {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final Type enumType;
 
     public EnumConstantWrapper(Assignment decoratedAssignment, Type enumType ) {
@@ -36,4 +42,18 @@ public String toString() {
         return enumType.getName() + "." + getAssignment();
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<EnumConstantWrapper> {
+
+        @Override
+        public void emit(EnumConstantWrapper wrapper, Context context, Writer writer) throws IOException {
+            writer.write( ( (Type) getParameter( context, "targetType" ) ).getName() );
+            writer.write( '.' );
+            writer.write( String.valueOf( wrapper.getAssignment() ) );
+        }
+    }
 }
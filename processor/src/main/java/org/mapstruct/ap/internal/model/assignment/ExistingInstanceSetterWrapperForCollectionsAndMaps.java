@@ -9,6 +9,8 @@
 import static org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem.IGNORE;
 import static org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem.SET_TO_DEFAULT;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -16,8 +18,11 @@
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValueCheckStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  * This wrapper handles the situation where an assignment is done for an update method.
@@ -34,6 +39,8 @@
 public class ExistingInstanceSetterWrapperForCollectionsAndMaps
     extends SetterWrapperForCollectionsAndMapsWithNullCheck {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final boolean includeElseBranch;
     private final boolean mapNullToDefault;
     private final Type targetType;
@@ -51,7 +58,10 @@ public ExistingInstanceSetterWrapperForCollectionsAndMaps(Assignment decoratedAs
             thrownTypesToExclude,
             targetType,
             typeFactory,
-            fieldAssignment
+            fieldAssignment,
+            true,
+            CollectionCopyStrategyGem.COPY,
+            false
         );
         this.mapNullToDefault = SET_TO_DEFAULT == nvpms;
         this.targetType = targetType;
@@ -75,4 +85,112 @@ public boolean isMapNullToDefault() {
         return mapNullToDefault;
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<ExistingInstanceSetterWrapperForCollectionsAndMaps> {
+
+        @Override
+        public void emit(ExistingInstanceSetterWrapperForCollectionsAndMaps wrapper, Context context, Writer writer)
+            throws IOException {
+            sourceLocalVarAssignment( wrapper, context, writer );
+            handleExceptions( wrapper, context, writer, w -> {
+                w.write( "if ( " );
+                writeTargetRead( context, w );
+                w.write( " != null ) {\n" );
+                handleLocalVarNullCheck( wrapper, context, w, false, nested -> {
+                    writeTargetRead( context, nested );
+                    nested.write( ".clear();\n" );
+                    writeTargetRead( context, nested );
+                    nested.write( ( (Type) getParameter( context, "targetType" ) ).isCollectionType() ?
+                        ".addAll( " :
+                        ".putAll( " );
+                    handleWithAssignmentOrNullCheckVar( wrapper, context, nested );
+                    nested.write( " );\n" );
+                } );
+                // the opposite (defaultValueAssignment) case is handled by handleLocalVarNullCheck
+                if ( !hasParameter( context, "defaultValueAssignment" )
+                    && wrapper.getSourcePresenceCheckerReference() == null && wrapper.isIncludeElseBranch() ) {
+                    w.write( "else {\n" );
+                    writeTargetWrite( context, w );
+                    handleWrite( wrapper, context, w, value -> {
+                        if ( wrapper.isMapNullToDefault() ) {
+                            initTargetObject( null, context, value );
+                        }
+                        else {
+                            value.write( "null" );
+                        }
+                    } );
+                    w.write( ";\n}\n" );
+                }
+                w.write( "}\nelse {\n" );
+                callTargetWriteAccessor( wrapper, context, w );
+                w.write( "}\n" );
+            } );
+        }
+
+        /**
+         * Assigns the target via the regular target write accessor (usually the setter).
+         */
+        private void callTargetWriteAccessor(ExistingInstanceSetterWrapperForCollectionsAndMaps wrapper,
+                                             Context context, Writer writer)
+            throws IOException {
+            handleLocalVarNullCheck( wrapper, context, writer, wrapper.isDirectAssignment(), nested -> {
+                writeTargetWrite( context, nested );
+                handleWrite( wrapper, context, nested, value -> {
+                    if ( wrapper.isDirectAssignment() ) {
+                        wrapLocalVarInCollectionInitializer( wrapper, context, value );
+                    }
+                    else {
+                        handleWithAssignmentOrNullCheckVar( wrapper, context, value );
+                    }
+                } );
+                nested.write( ";\n" );
+            } );
+        }
+
+        /**
+         * Wraps the local variable in a collection initializer (new collection, or {@code EnumSet.copyOf}).
+         */
+        private void wrapLocalVarInCollectionInitializer(ExistingInstanceSetterWrapperForCollectionsAndMaps wrapper,
+                                                         Context context, Writer writer)
+            throws IOException {
+            if ( wrapper.isEnumSet() ) {
+                writer.write( "EnumSet.copyOf( " );
+            }
+            else {
+                Type targetType = (Type) getParameter( context, "targetType" );
+                writer.write( "new " );
+                include(
+                    targetType.getImplementationType() != null ? targetType.getImplementationType() : targetType,
+                    context,
+                    writer,
+                    NO_PARAMETERS
+                );
+                writer.write( "( " );
+            }
+            writer.write( wrapper.getNullCheckLocalVarName() );
+            writer.write( " )" );
+        }
+
+        /**
+         * {@code ${ext.targetBeanName}.${ext.targetReadAccessorName}}
+         */
+        private void writeTargetRead(Context context, Writer writer) throws IOException {
+            writer.write( getStringParameter( context, "targetBeanName" ) );
+            writer.write( '.' );
+            writer.write( getStringParameter( context, "targetReadAccessorName" ) );
+        }
+
+        /**
+         * {@code ${ext.targetBeanName}.${ext.targetWriteAccessorName}}
+         */
+        private void writeTargetWrite(Context context, Writer writer) throws IOException {
+            writer.write( getStringParameter( context, "targetBeanName" ) );
+            writer.write( '.' );
+            writer.write( getStringParameter( context, "targetWriteAccessorName" ) );
+        }
+    }
 }
@@ -5,12 +5,16 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  * This wrapper handles the situation were an assignment must be done via a target getter method because there
@@ -27,6 +31,8 @@
  */
 public class GetterWrapperForCollectionsAndMaps extends WrapperForCollectionsAndMaps {
 
+    private static final Emitter EMITTER = new Emitter();
+
     /**
      * @param decoratedAssignment source RHS
      * @param thrownTypesToExclude set of types to exclude from re-throwing
@@ -54,4 +60,47 @@ public Set<Type> getImportTypes() {
         }
         return imported;
     }
+
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<GetterWrapperForCollectionsAndMaps> {
+
+        @Override
+        public void emit(GetterWrapperForCollectionsAndMaps wrapper, Context context, Writer writer)
+            throws IOException {
+            sourceLocalVarAssignment( wrapper, context, writer );
+            writer.write( "if ( " );
+            writeTarget( wrapper, context, writer );
+            writer.write( " != null ) {\n" );
+            handleExceptions( wrapper, context, writer, w -> {
+                if ( getBooleanParameter( context, "existingInstanceMapping" ) ) {
+                    writeTarget( wrapper, context, w );
+                    w.write( ".clear();\n" );
+                }
+                handleLocalVarNullCheck( wrapper, context, w, false, nested -> {
+                    writeTarget( wrapper, context, nested );
+                    nested.write( ( (Type) getParameter( context, "targetType" ) ).isCollectionType() ?
+                        ".addAll( " :
+                        ".putAll( " );
+                    handleWithAssignmentOrNullCheckVar( wrapper, context, nested );
+                    nested.write( " );\n" );
+                } );
+            } );
+            writer.write( "}\n" );
+        }
+
+        /**
+         * {@code ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWriteAccesing />}
+         */
+        private void writeTarget(GetterWrapperForCollectionsAndMaps wrapper, Context context, Writer writer)
+            throws IOException {
+            writer.write( getStringParameter( context, "targetBeanName" ) );
+            writer.write( '.' );
+            writer.write( getStringParameter( context, "targetWriteAccessorName" ) );
+            handleWriteAccessing( wrapper, writer );
+        }
+    }
 }
@@ -5,11 +5,16 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  * Wraps the assignment in a Function to be used in Java 8 map methods
@@ -18,6 +23,8 @@
  */
 public class Java8FunctionWrapper extends AssignmentWrapper {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final Type functionType;
 
     public Java8FunctionWrapper(Assignment decoratedAssignment) {
@@ -47,4 +54,47 @@ public boolean isDirectAssignment() {
         return getAssignment().getType() == AssignmentType.DIRECT;
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<Java8FunctionWrapper> {
+
+        @Override
+        public void emit(Java8FunctionWrapper wrapper, Context context, Writer writer) throws IOException {
+            List<Type> thrownTypes = wrapper.getThrownTypes();
+            if ( thrownTypes.isEmpty() ) {
+                if ( wrapper.isDirectAssignment() ) {
+                    writer.write( "Function.identity()" );
+                }
+                else {
+                    compress( writer, false, w -> {
+                        w.write( getSourceVarName( wrapper.getAssignment() ) );
+                        w.write( " -> " );
+                        writeAssignment( wrapper, context, w );
+                    } );
+                }
+            }
+            else {
+                compress( writer, false, w -> {
+                    w.write( getSourceVarName( wrapper.getAssignment() ) );
+                    w.write( " -> {\ntry {\nreturn " );
+                    writeAssignment( wrapper, context, w );
+                    w.write( ";\n}\n" );
+                    for ( Type exceptionType : thrownTypes ) {
+                        w.write( "catch ( " );
+                        include( exceptionType, context, w, NO_PARAMETERS );
+                        w.write( " e ) {\nthrow new RuntimeException( e );\n}\n" );
+                    }
+                    w.write( "}" );
+                } );
+            }
+        }
+
+        private void writeAssignment(Java8FunctionWrapper wrapper, Context context, Writer writer)
+            throws IOException {
+            include( wrapper.getAssignment(), context, writer, getParameters( context, EXPRESSION_PARAMETERS ) );
+        }
+    }
 }
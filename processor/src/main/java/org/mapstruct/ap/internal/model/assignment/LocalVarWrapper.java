@@ -5,6 +5,8 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -12,6 +14,8 @@
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  * Decorates an assignment as local variable.
@@ -20,6 +24,8 @@
  */
 public class LocalVarWrapper extends AssignmentWrapper {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final List<Type> thrownTypesToExclude;
     private final Type targetType;
 
@@ -52,4 +58,51 @@ public Set<Type> getImportTypes() {
         return imported;
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<LocalVarWrapper> {
+
+        @Override
+        public void emit(LocalVarWrapper wrapper, Context context, Writer writer) throws IOException {
+            List<Type> thrownTypes = wrapper.getThrownTypes();
+            String targetWriteAccessorName = getStringParameter( context, "targetWriteAccessorName" );
+            boolean targetDefined = hasParameter( context, "isTargetDefined" );
+
+            if ( thrownTypes.isEmpty() ) {
+                if ( !targetDefined ) {
+                    include( (Type) getParameter( context, "targetType" ), context, writer, NO_PARAMETERS );
+                }
+                writer.write( ' ' );
+                writer.write( targetWriteAccessorName );
+                writer.write( " = " );
+                writeAssignment( wrapper, context, writer );
+                writer.write( ";\n" );
+            }
+            else {
+                if ( !targetDefined ) {
+                    include( (Type) getParameter( context, "targetType" ), context, writer, NO_PARAMETERS );
+                    writer.write( ' ' );
+                    writer.write( targetWriteAccessorName );
+                    writer.write( ';' );
+                }
+                writer.write( "\ntry {\n" );
+                writer.write( targetWriteAccessorName );
+                writer.write( " = " );
+                writeAssignment( wrapper, context, writer );
+                writer.write( ";\n}\n" );
+                for ( Type exceptionType : thrownTypes ) {
+                    writer.write( "catch ( " );
+                    include( exceptionType, context, writer, NO_PARAMETERS );
+                    writer.write( " e ) {\nthrow new RuntimeException( e );\n}\n" );
+                }
+            }
+        }
+
+        private void writeAssignment(LocalVarWrapper wrapper, Context context, Writer writer) throws IOException {
+            include( wrapper.getAssignment(), context, writer, getParameters( context, EXPRESSION_PARAMETERS ) );
+        }
+    }
 }
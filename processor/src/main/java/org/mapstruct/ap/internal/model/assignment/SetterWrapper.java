@@ -5,11 +5,15 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  * Wraps the assignment in a target setter.
@@ -18,6 +22,8 @@
  */
 public class SetterWrapper extends AssignmentWrapper {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final List<Type> thrownTypesToExclude;
     private final boolean includeSourceNullCheck;
     private final boolean setExplicitlyToNull;
@@ -71,4 +77,32 @@ public boolean isIncludeSourceNullCheck() {
         return includeSourceNullCheck;
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<SetterWrapper> {
+
+        @Override
+        public void emit(SetterWrapper wrapper, Context context, Writer writer) throws IOException {
+            handleExceptions( wrapper, context, writer, w -> {
+                sourceLocalVarAssignment( wrapper, context, w );
+                handleSourceReferenceNullCheck(
+                    wrapper,
+                    context,
+                    w,
+                    wrapper.isIncludeSourceNullCheck(),
+                    wrapper.isSetExplicitlyToNull(),
+                    wrapper.isSetExplicitlyToDefault(),
+                    nested -> {
+                        writeTargetBeanPrefix( context, nested );
+                        nested.write( getStringParameter( context, "targetWriteAccessorName" ) );
+                        handleWrite( wrapper, context, nested, value -> handleAssignment( wrapper, context, value ) );
+                        nested.write( ";\n" );
+                    }
+                );
+            } );
+        }
+    }
 }
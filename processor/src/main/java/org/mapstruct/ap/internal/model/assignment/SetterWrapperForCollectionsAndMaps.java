@@ -5,10 +5,14 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  * This wrapper handles the situation where an assignment is done via the setter, without doing anything special.
@@ -17,6 +21,8 @@
  */
 public class SetterWrapperForCollectionsAndMaps extends WrapperForCollectionsAndMaps {
 
+    private static final Emitter EMITTER = new Emitter();
+
     public SetterWrapperForCollectionsAndMaps(Assignment decoratedAssignment,
         List<Type> thrownTypesToExclude,
         Type targetType,
@@ -29,4 +35,24 @@ public SetterWrapperForCollectionsAndMaps(Assignment decoratedAssignment,
             fieldAssignment
         );
     }
+
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<SetterWrapperForCollectionsAndMaps> {
+
+        @Override
+        public void emit(SetterWrapperForCollectionsAndMaps wrapper, Context context, Writer writer)
+            throws IOException {
+            sourceLocalVarAssignment( wrapper, context, writer );
+            handleExceptions( wrapper, context, writer, w -> {
+                writeTargetBeanPrefix( context, w );
+                w.write( getStringParameter( context, "targetWriteAccessorName" ) );
+                handleWrite( wrapper, context, w, value -> handleAssignment( wrapper, context, value ) );
+                w.write( ";\n" );
+            } );
+        }
+    }
 }
@@ -7,31 +7,71 @@
 
 import static org.mapstruct.ap.internal.model.common.Assignment.AssignmentType.DIRECT;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  * This wrapper handles the situation where an assignment is done via the setter and a null check is needed.
  * This is needed when a direct assignment is used, or if the user has chosen the appropriate strategy
+ * <p>
+ * A directly assigned source is copied, shared, or wrapped in an unmodifiable view or copy, depending on the
+ * {@link CollectionCopyStrategyGem}. A copy of a set of enums or a map with enum keys can be created as
+ * {@link EnumSet} or {@link java.util.EnumMap}. An unmodifiable copy is created with {@code copyOf()} of the target
+ * type if available (Java 10 and later), and as an unmodifiable view of a new collection otherwise.
  *
  * @author Sjaak Derksen
  */
 public class SetterWrapperForCollectionsAndMapsWithNullCheck extends WrapperForCollectionsAndMaps {
 
+    private static final Emitter EMITTER = new Emitter();
+
+    private static final Map<String, String> UNMODIFIABLE_VIEW_METHODS = new HashMap<>();
+    private static final Set<String> IMMUTABLE_COPY_TYPES = new HashSet<>();
+
+    static {
+        UNMODIFIABLE_VIEW_METHODS.put( "java.util.Collection", "unmodifiableCollection" );
+        UNMODIFIABLE_VIEW_METHODS.put( "java.util.List", "unmodifiableList" );
+        UNMODIFIABLE_VIEW_METHODS.put( "java.util.Set", "unmodifiableSet" );
+        UNMODIFIABLE_VIEW_METHODS.put( "java.util.SortedSet", "unmodifiableSortedSet" );
+        UNMODIFIABLE_VIEW_METHODS.put( "java.util.NavigableSet", "unmodifiableNavigableSet" );
+        UNMODIFIABLE_VIEW_METHODS.put( "java.util.Map", "unmodifiableMap" );
+        UNMODIFIABLE_VIEW_METHODS.put( "java.util.SortedMap", "unmodifiableSortedMap" );
+        UNMODIFIABLE_VIEW_METHODS.put( "java.util.NavigableMap", "unmodifiableNavigableMap" );
+
+        IMMUTABLE_COPY_TYPES.add( "java.util.List" );
+        IMMUTABLE_COPY_TYPES.add( "java.util.Set" );
+        IMMUTABLE_COPY_TYPES.add( "java.util.Map" );
+    }
+
     private final Type targetType;
     private final TypeFactory typeFactory;
+    private final boolean includeSourceNullCheck;
+    private final CollectionCopyStrategyGem collectionCopyStrategy;
+    private final Type enumCollectionType;
+    private final boolean copyOfAvailable;
 
     public SetterWrapperForCollectionsAndMapsWithNullCheck(Assignment decoratedAssignment,
         List<Type> thrownTypesToExclude,
         Type targetType,
         TypeFactory typeFactory,
-        boolean fieldAssignment) {
+        boolean fieldAssignment,
+        boolean includeSourceNullCheck,
+        CollectionCopyStrategyGem collectionCopyStrategy,
+        boolean useEnumCollections) {
         super(
             decoratedAssignment,
             thrownTypesToExclude,
@@ -40,12 +80,55 @@ public SetterWrapperForCollectionsAndMapsWithNullCheck(Assignment decoratedAssig
         );
         this.targetType = targetType;
         this.typeFactory = typeFactory;
+        this.includeSourceNullCheck = includeSourceNullCheck;
+        this.collectionCopyStrategy = getEffectiveCollectionCopyStrategy( collectionCopyStrategy, targetType );
+        this.copyOfAvailable = this.collectionCopyStrategy == CollectionCopyStrategyGem.IMMUTABLE_COPY
+            && typeFactory.isMethodAvailable( targetType.getFullyQualifiedName(), "copyOf" );
+        // the emptiness of the source is checked to create the enum collection, which requires a local variable
+        if ( useEnumCollections && includeSourceNullCheck
+            && this.collectionCopyStrategy == CollectionCopyStrategyGem.COPY ) {
+            this.enumCollectionType = targetType.getEnumCollectionType();
+        }
+        else {
+            this.enumCollectionType = null;
+        }
+    }
+
+    /**
+     * Falls back to {@link CollectionCopyStrategyGem#COPY} when there is no unmodifiable view or copy for the declared
+     * target type.
+     */
+    private static CollectionCopyStrategyGem getEffectiveCollectionCopyStrategy(CollectionCopyStrategyGem strategy,
+                                                                                Type targetType) {
+        String targetTypeName = targetType.getFullyQualifiedName();
+        if ( strategy == CollectionCopyStrategyGem.UNMODIFIABLE_VIEW
+            && !UNMODIFIABLE_VIEW_METHODS.containsKey( targetTypeName ) ) {
+            return CollectionCopyStrategyGem.COPY;
+        }
+        if ( strategy == CollectionCopyStrategyGem.IMMUTABLE_COPY
+            && !IMMUTABLE_COPY_TYPES.contains( targetTypeName ) ) {
+            return CollectionCopyStrategyGem.COPY;
+        }
+        return strategy;
     }
 
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> imported = new HashSet<>( super.getImportTypes() );
-        if ( isDirectAssignment() ) {
+        if ( isDirectAssignment() && collectionCopyStrategy == CollectionCopyStrategyGem.UNMODIFIABLE_VIEW ) {
+            imported.add( typeFactory.getType( Collections.class ) );
+        }
+        else if ( isDirectAssignment() && copyOfAvailable ) {
+            imported.add( targetType.asRawType() );
+        }
+        else if ( isDirectAssignment() && collectionCopyStrategy == CollectionCopyStrategyGem.IMMUTABLE_COPY ) {
+            imported.add( typeFactory.getType( Collections.class ) );
+            imported.addAll( targetType.getImplementationType().getImportTypes() );
+        }
+        else if ( isDirectAssignment() && enumCollectionType != null ) {
+            imported.addAll( enumCollectionType.getImportTypes() );
+        }
+        else if ( isDirectAssignment() && collectionCopyStrategy == CollectionCopyStrategyGem.COPY ) {
             if ( targetType.getImplementationType() != null ) {
                 imported.addAll( targetType.getImplementationType().getImportTypes() );
             }
@@ -57,7 +140,7 @@ public Set<Type> getImportTypes() {
                 imported.add( typeFactory.getType( EnumSet.class ) );
             }
         }
-        if (isDirectAssignment() || getSourcePresenceCheckerReference() == null ) {
+        if ( includeSourceNullCheck && ( isDirectAssignment() || getSourcePresenceCheckerReference() == null ) ) {
             imported.addAll( getNullCheckLocalVarType().getImportTypes() );
         }
         return imported;
@@ -67,8 +150,196 @@ public boolean isDirectAssignment() {
         return getType() == DIRECT;
     }
 
+    /**
+     * @return whether the source needs to be checked for {@code null}, which is not the case when it is declared to be
+     * non-null
+     */
+    public boolean isIncludeSourceNullCheck() {
+        return includeSourceNullCheck;
+    }
+
+    /**
+     * @return whether a directly assigned source is assigned as it is, instead of being copied
+     */
+    public boolean isSharedSource() {
+        return collectionCopyStrategy == CollectionCopyStrategyGem.SHARE;
+    }
+
+    /**
+     * @return the method of {@link Collections} creating an unmodifiable view of a directly assigned source (or of a
+     * copy of it, if {@link #isImmutableCopy()}), e.g. {@code unmodifiableList}, {@code null} if the source is not
+     * wrapped in a view
+     */
+    public String getUnmodifiableViewMethod() {
+        if ( collectionCopyStrategy == CollectionCopyStrategyGem.UNMODIFIABLE_VIEW
+            || ( collectionCopyStrategy == CollectionCopyStrategyGem.IMMUTABLE_COPY && !copyOfAvailable ) ) {
+            return UNMODIFIABLE_VIEW_METHODS.get( targetType.getFullyQualifiedName() );
+        }
+        return null;
+    }
+
+    /**
+     * @return whether a directly assigned source is copied into an unmodifiable collection, by {@code copyOf()} of the
+     * target type (e.g. {@code List.copyOf}) or by wrapping a new collection in an unmodifiable view before Java 10
+     */
+    public boolean isImmutableCopy() {
+        return collectionCopyStrategy == CollectionCopyStrategyGem.IMMUTABLE_COPY;
+    }
+
+    /**
+     * @return the {@link EnumSet} or {@link java.util.EnumMap} type of the copy of a directly assigned source,
+     * {@code null} if the copy is not an enum collection
+     */
+    public Type getEnumCollectionType() {
+        return enumCollectionType;
+    }
+
+    /**
+     * @return the element type of the {@link EnumSet} or the key type of the {@link java.util.EnumMap}
+     */
+    public Type getEnumCollectionKeyType() {
+        return targetType.getTypeParameters().get( 0 );
+    }
+
     public boolean isEnumSet() {
         return "java.util.EnumSet".equals( targetType.getFullyQualifiedName() );
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<SetterWrapperForCollectionsAndMapsWithNullCheck> {
+
+        @Override
+        public void emit(SetterWrapperForCollectionsAndMapsWithNullCheck wrapper, Context context, Writer writer)
+            throws IOException {
+            sourceLocalVarAssignment( wrapper, context, writer );
+            handleExceptions( wrapper, context, writer, w -> callTargetWriteAccessor( wrapper, context, w ) );
+        }
+
+        private void callTargetWriteAccessor(SetterWrapperForCollectionsAndMapsWithNullCheck wrapper,
+                                             Context context, Writer writer)
+            throws IOException {
+            if ( wrapper.isIncludeSourceNullCheck() ) {
+                handleLocalVarNullCheck( wrapper, context, writer, wrapper.isDirectAssignment(), nested -> {
+                    writeTargetBeanPrefix( context, nested );
+                    nested.write( getStringParameter( context, "targetWriteAccessorName" ) );
+                    handleWrite( wrapper, context, nested, value -> {
+                        if ( wrapper.isDirectAssignment() ) {
+                            wrapInCollectionInitializer(
+                                wrapper,
+                                context,
+                                value,
+                                source -> source.write( wrapper.getNullCheckLocalVarName() )
+                            );
+                        }
+                        else {
+                            handleWithAssignmentOrNullCheckVar( wrapper, context, value );
+                        }
+                    } );
+                    nested.write( ";\n" );
+                } );
+            }
+            else {
+                writeTargetBeanPrefix( context, writer );
+                writer.write( getStringParameter( context, "targetWriteAccessorName" ) );
+                handleWrite( wrapper, context, writer, value -> {
+                    if ( wrapper.isDirectAssignment() ) {
+                        wrapInCollectionInitializer(
+                            wrapper,
+                            context,
+                            value,
+                            source -> handleAssignment( wrapper, context, source )
+                        );
+                    }
+                    else {
+                        handleAssignment( wrapper, context, value );
+                    }
+                } );
+                writer.write( ";\n" );
+            }
+        }
+
+        /**
+         * Wraps the source in a collection initializer, an unmodifiable view or copy, or writes it as it is,
+         * depending on the collection copy strategy.
+         */
+        private void wrapInCollectionInitializer(SetterWrapperForCollectionsAndMapsWithNullCheck wrapper,
+                                                 Context context, Writer writer, Content source)
+            throws IOException {
+            Type targetType = (Type) getParameter( context, "targetType" );
+            Type enumCollectionType = wrapper.getEnumCollectionType();
+
+            compress( writer, true, w -> {
+                if ( wrapper.isSharedSource() ) {
+                    source.write( w );
+                }
+                else if ( wrapper.getUnmodifiableViewMethod() != null && wrapper.isImmutableCopy() ) {
+                    w.write( "Collections." );
+                    w.write( wrapper.getUnmodifiableViewMethod() );
+                    w.write( "( new " );
+                    include( targetType.getImplementationType(), context, w, NO_PARAMETERS );
+                    w.write( "( " );
+                    source.write( w );
+                    w.write( " ) )" );
+                }
+                else if ( wrapper.getUnmodifiableViewMethod() != null ) {
+                    w.write( "Collections." );
+                    w.write( wrapper.getUnmodifiableViewMethod() );
+                    w.write( "( " );
+                    source.write( w );
+                    w.write( " )" );
+                }
+                else if ( wrapper.isImmutableCopy() ) {
+                    include( targetType, context, w, RAW );
+                    w.write( ".copyOf( " );
+                    source.write( w );
+                    w.write( " )" );
+                }
+                else if ( wrapper.isEnumSet() ) {
+                    w.write( "EnumSet.copyOf( " );
+                    source.write( w );
+                    w.write( " )" );
+                }
+                else if ( enumCollectionType != null && enumCollectionType.isCollectionType() ) {
+                    source.write( w );
+                    w.write( ".isEmpty() ? " );
+                    include( enumCollectionType, context, w, RAW );
+                    w.write( ".noneOf( " );
+                    include( wrapper.getEnumCollectionKeyType(), context, w, RAW );
+                    w.write( ".class ) : " );
+                    include( enumCollectionType, context, w, RAW );
+                    w.write( ".copyOf( " );
+                    source.write( w );
+                    w.write( " )" );
+                }
+                else if ( enumCollectionType != null ) {
+                    source.write( w );
+                    w.write( ".isEmpty() ? new " );
+                    include( enumCollectionType, context, w, NO_PARAMETERS );
+                    w.write( "( " );
+                    include( wrapper.getEnumCollectionKeyType(), context, w, RAW );
+                    w.write( ".class ) : new " );
+                    include( enumCollectionType, context, w, NO_PARAMETERS );
+                    w.write( "( " );
+                    source.write( w );
+                    w.write( " )" );
+                }
+                else {
+                    w.write( "new " );
+                    include(
+                        targetType.getImplementationType() != null ? targetType.getImplementationType() : targetType,
+                        context,
+                        w,
+                        NO_PARAMETERS
+                    );
+                    w.write( "( " );
+                    source.write( w );
+                    w.write( " )" );
+                }
+            } );
+        }
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.assignment;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
+
+/**
+ * Wraps the assignment in a target setter, which is only invoked when the assigned value differs from the current
+ * value of the target property.
+ * <p>
+ * The value is first stored in a local variable, which is compared with the value obtained through the target read
+ * accessor. Primitives are compared with {@code ==}, all other values with {@code Objects.equals()}.
+ */
+public class SetterWrapperWithChangeCheck extends SetterWrapper {
+
+    private static final Emitter EMITTER = new Emitter();
+
+    private final Type targetType;
+    private final Type objectsType;
+    private final String changedValueLocalVarName;
+    private final boolean primitiveComparison;
+
+    public SetterWrapperWithChangeCheck(Assignment rhs,
+                                        List<Type> thrownTypesToExclude,
+                                        boolean fieldAssignment,
+                                        boolean includeSourceNullCheck,
+                                        boolean setExplicitlyToNull,
+                                        boolean setExplicitlyToDefault,
+                                        String targetPropertyName,
+                                        Type targetType,
+                                        Type objectsType,
+                                        boolean primitiveComparison) {
+        super(
+            rhs,
+            thrownTypesToExclude,
+            fieldAssignment,
+            includeSourceNullCheck,
+            setExplicitlyToNull,
+            setExplicitlyToDefault
+        );
+        this.targetType = targetType;
+        this.objectsType = objectsType;
+        this.changedValueLocalVarName = rhs.createUniqueVarName( targetPropertyName );
+        this.primitiveComparison = primitiveComparison;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> imported = new HashSet<>( super.getImportTypes() );
+        imported.add( targetType );
+        if ( !primitiveComparison ) {
+            imported.add( objectsType );
+        }
+        return imported;
+    }
+
+    public Type getTargetType() {
+        return targetType;
+    }
+
+    public Type getObjectsType() {
+        return objectsType;
+    }
+
+    public String getChangedValueLocalVarName() {
+        return changedValueLocalVarName;
+    }
+
+    public boolean isPrimitiveComparison() {
+        return primitiveComparison;
+    }
+
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<SetterWrapperWithChangeCheck> {
+
+        @Override
+        public void emit(SetterWrapperWithChangeCheck wrapper, Context context, Writer writer) throws IOException {
+            handleExceptions( wrapper, context, writer, w -> {
+                sourceLocalVarAssignment( wrapper, context, w );
+                if ( wrapper.getSourcePresenceCheckerReference() != null ) {
+                    w.write( "if ( " );
+                    include( wrapper.getSourcePresenceCheckerReference(), context, w, NO_PARAMETERS );
+                    w.write( " ) {\n" );
+                    writeIfChanged( wrapper, context, w, value -> handleAssignment( wrapper, context, value ) );
+                    w.write( "}\n" );
+                    elseAssignment( wrapper, context, w );
+                }
+                else if ( wrapper.isIncludeSourceNullCheck() || hasParameter( context, "defaultValueAssignment" ) ) {
+                    w.write( "if ( " );
+                    w.write( getSourceVarName( wrapper ) );
+                    w.write( " != null ) {\n" );
+                    writeIfChanged( wrapper, context, w, value -> handleAssignment( wrapper, context, value ) );
+                    w.write( "}\n" );
+                    elseAssignment( wrapper, context, w );
+                }
+                else {
+                    writeIfChanged( wrapper, context, w, value -> handleAssignment( wrapper, context, value ) );
+                }
+            } );
+        }
+
+        /**
+         * Stores the value in a local variable and only writes it when it differs from the current target value.
+         */
+        private void writeIfChanged(SetterWrapperWithChangeCheck wrapper, Context context, Writer writer,
+                                    Content value)
+            throws IOException {
+            String changedValueLocalVarName = wrapper.getChangedValueLocalVarName();
+
+            include( wrapper.getTargetType(), context, writer, NO_PARAMETERS );
+            writer.write( ' ' );
+            writer.write( changedValueLocalVarName );
+            writer.write( " = " );
+            value.write( writer );
+            writer.write( ";\nif ( " );
+            if ( wrapper.isPrimitiveComparison() ) {
+                writer.write( changedValueLocalVarName );
+                writer.write( " != " );
+                writeCurrentTargetValue( context, writer );
+            }
+            else {
+                writer.write( '!' );
+                include( wrapper.getObjectsType(), context, writer, NO_PARAMETERS );
+                writer.write( ".equals( " );
+                writer.write( changedValueLocalVarName );
+                writer.write( ", " );
+                writeCurrentTargetValue( context, writer );
+                writer.write( " )" );
+            }
+            writer.write( " ) {\n" );
+            writeTargetBeanPrefix( context, writer );
+            writer.write( getStringParameter( context, "targetWriteAccessorName" ) );
+            handleWrite( wrapper, context, writer, w -> w.write( changedValueLocalVarName ) );
+            writer.write( ";\n}\n" );
+        }
+
+        private void writeCurrentTargetValue(Context context, Writer writer) throws IOException {
+            writeTargetBeanPrefix( context, writer );
+            writer.write( getStringParameter( context, "targetReadAccessorName" ) );
+        }
+
+        /**
+         * The default value takes precedence, an explicit null is only written when the target value is not null
+         * already.
+         */
+        private void elseAssignment(SetterWrapperWithChangeCheck wrapper, Context context, Writer writer)
+            throws IOException {
+            if ( hasParameter( context, "defaultValueAssignment" ) ) {
+                writer.write( "else {\n" );
+                handleDefaultAssignment( context, writer );
+                writer.write( "}\n" );
+            }
+            else if ( wrapper.isSetExplicitlyToDefault() ) {
+                writer.write( "else {\n" );
+                writeIfChanged( wrapper, context, writer, value -> initTargetObject( null, context, value ) );
+                writer.write( "}\n" );
+            }
+            else if ( wrapper.isSetExplicitlyToNull() ) {
+                writer.write( "else if ( " );
+                writeCurrentTargetValue( context, writer );
+                writer.write( " != null ) {\n" );
+                writeTargetBeanPrefix( context, writer );
+                writer.write( getStringParameter( context, "targetWriteAccessorName" ) );
+                handleWrite( wrapper, context, writer, value -> value.write( "null" ) );
+                writer.write( ";\n}\n" );
+            }
+        }
+    }
+}
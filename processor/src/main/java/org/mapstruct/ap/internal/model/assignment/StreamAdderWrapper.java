@@ -5,6 +5,8 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -14,6 +16,8 @@
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.util.Nouns;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
@@ -24,6 +28,8 @@
  */
 public class StreamAdderWrapper extends AssignmentWrapper {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final List<Type> thrownTypesToExclude;
     private final Type adderType;
 
@@ -75,4 +81,34 @@ public Set<Type> getImportTypes() {
         return imported;
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<StreamAdderWrapper> {
+
+        @Override
+        public void emit(StreamAdderWrapper wrapper, Context context, Writer writer) throws IOException {
+            handleExceptions( wrapper, context, writer, w -> {
+                sourceLocalVarAssignment( wrapper, context, w );
+                handleSourceReferenceNullCheck(
+                    wrapper,
+                    context,
+                    w,
+                    wrapper.isIncludeSourceNullCheck(),
+                    wrapper.isSetExplicitlyToNull(),
+                    wrapper.isSetExplicitlyToDefault(),
+                    nested -> {
+                        nested.write( getSourceVarName( wrapper ) );
+                        nested.write( ".forEach( " );
+                        nested.write( getStringParameter( context, "targetBeanName" ) );
+                        nested.write( "::" );
+                        nested.write( getStringParameter( context, "targetWriteAccessorName" ) );
+                        nested.write( " );\n" );
+                    }
+                );
+            } );
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.assignment;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
+
+/**
+ * Wraps the assignment of a {@code String} target property, such that the assigned string is replaced by the equal
+ * one held in the {@link StringPoolField string pool} of the mapper.
+ */
+public class StringDeduplicationWrapper extends AssignmentWrapper {
+
+    private static final Emitter EMITTER = new Emitter();
+
+    private final Type stringPoolType;
+    private final String stringPoolName;
+
+    public StringDeduplicationWrapper(Assignment decoratedAssignment, Type stringPoolType, String stringPoolName) {
+        super( decoratedAssignment, false );
+        this.stringPoolType = stringPoolType;
+        this.stringPoolName = stringPoolName;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> imported = new HashSet<>( super.getImportTypes() );
+        imported.add( stringPoolType );
+        return imported;
+    }
+
+    public String getStringPoolName() {
+        return stringPoolName;
+    }
+
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<StringDeduplicationWrapper> {
+
+        @Override
+        public void emit(StringDeduplicationWrapper wrapper, Context context, Writer writer) throws IOException {
+            writer.write( wrapper.getStringPoolName() );
+            writer.write( ".deduplicate( " );
+            include( wrapper.getAssignment(), context, writer, getParameters( context, EXPRESSION_PARAMETERS ) );
+            writer.write( " )" );
+        }
+    }
+}
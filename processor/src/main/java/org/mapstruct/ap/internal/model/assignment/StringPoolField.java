@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.assignment;
+
+import org.mapstruct.ap.internal.model.common.FinalField;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+/**
+ * The {@code org.mapstruct.StringPool} of a mapper, used by the {@link StringDeduplicationWrapper}s of its property
+ * mappings.
+ */
+public class StringPoolField extends FinalField {
+
+    public StringPoolField(TypeFactory typeFactory) {
+        super( typeFactory.getType( "org.mapstruct.StringPool" ), "stringPool" );
+    }
+}
@@ -5,6 +5,8 @@
  */
 package org.mapstruct.ap.internal.model.assignment;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -12,6 +14,8 @@
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 /**
  * Wraps the assignment in a target setter.
@@ -20,6 +24,8 @@
  */
 public class UpdateWrapper extends AssignmentWrapper {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final List<Type> thrownTypesToExclude;
     private final Assignment factoryMethod;
     private final Type targetImplementationType;
@@ -100,4 +106,80 @@ public boolean isSetExplicitlyToNull() {
     public boolean isSetExplicitlyToDefault() {
         return setExplicitlyToDefault;
     }
+
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
+    private static class Emitter extends AssignmentWrapperEmitter<UpdateWrapper> {
+
+        @Override
+        public void emit(UpdateWrapper wrapper, Context context, Writer writer) throws IOException {
+            handleExceptions( wrapper, context, writer, w -> {
+                if ( wrapper.isIncludeSourceNullCheck() ) {
+                    sourceLocalVarAssignment( wrapper, context, w );
+                    w.write( "if ( " );
+                    if ( wrapper.getSourcePresenceCheckerReference() != null ) {
+                        include( wrapper.getSourcePresenceCheckerReference(), context, w, NO_PARAMETERS );
+                    }
+                    else {
+                        w.write( getSourceVarName( wrapper ) );
+                        w.write( " != null" );
+                    }
+                    w.write( " ) {\n" );
+                    assignToExistingTarget( wrapper, context, w );
+                    handleAssignment( wrapper, context, w );
+                    w.write( ";\n}\n" );
+                    if ( wrapper.isSetExplicitlyToDefault() || wrapper.isSetExplicitlyToNull() ) {
+                        w.write( "else {\n" );
+                        writeTargetWrite( context, w );
+                        handleWrite( wrapper, context, w, value -> {
+                            if ( wrapper.isSetExplicitlyToDefault() ) {
+                                initTargetObject( wrapper.getFactoryMethod(), context, value );
+                            }
+                            else {
+                                value.write( "null" );
+                            }
+                        } );
+                        w.write( ";\n}\n" );
+                    }
+                }
+                else {
+                    assignToExistingTarget( wrapper, context, w );
+                    handleAssignment( wrapper, context, w );
+                    w.write( ";\n" );
+                }
+            } );
+        }
+
+        /**
+         * Creates the target if it is {@code null}, so that it can be updated.
+         */
+        private void assignToExistingTarget(UpdateWrapper wrapper, Context context, Writer writer)
+            throws IOException {
+            writer.write( "if ( " );
+            writer.write( getStringParameter( context, "targetBeanName" ) );
+            writer.write( '.' );
+            writer.write( getStringParameter( context, "targetReadAccessorName" ) );
+            writer.write( " == null ) {\n" );
+            writeTargetWrite( context, writer );
+            handleWrite(
+                wrapper,
+                context,
+                writer,
+                value -> initTargetObject( wrapper.getFactoryMethod(), context, value )
+            );
+            writer.write( ";\n}\n" );
+        }
+
+        /**
+         * {@code ${ext.targetBeanName}.${ext.targetWriteAccessorName}}
+         */
+        private void writeTargetWrite(Context context, Writer writer) throws IOException {
+            writer.write( getStringParameter( context, "targetBeanName" ) );
+            writer.write( '.' );
+            writer.write( getStringParameter( context, "targetWriteAccessorName" ) );
+        }
+    }
 }
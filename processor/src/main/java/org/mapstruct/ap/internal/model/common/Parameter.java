@@ -5,6 +5,8 @@
  */
 package org.mapstruct.ap.internal.model.common;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -16,6 +18,9 @@
 import org.mapstruct.ap.internal.gem.MappingTargetGem;
 import org.mapstruct.ap.internal.gem.TargetTypeGem;
 import org.mapstruct.ap.internal.util.Collections;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
+
+import static java.util.Collections.singletonMap;
 
 /**
  * A parameter of a mapping method.
@@ -24,6 +29,8 @@
  */
 public class Parameter extends ModelElement {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final Element element;
     private final String name;
     private final String originalName;
@@ -97,6 +104,11 @@ private String format() {
             +  "%s " + name;
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         return Collections.asSet( type );
@@ -199,4 +211,21 @@ private static boolean isSourceParameter( Parameter parameter ) {
         return !parameter.isMappingTarget() && !parameter.isTargetType() && !parameter.isMappingContext();
     }
 
+    /**
+     * Writes a parameter exactly like {@code Parameter.ftl} does.
+     */
+    private static class Emitter extends JavaEmitter<Parameter> {
+
+        @Override
+        public void emit(Parameter parameter, Context context, Writer writer) throws IOException {
+            include(
+                parameter.getType(),
+                context,
+                writer,
+                singletonMap( "asVarArgs", parameter.isVarArgs() )
+            );
+            writer.write( ' ' );
+            writer.write( parameter.getName() );
+        }
+    }
 }
@@ -5,6 +5,8 @@
  */
 package org.mapstruct.ap.internal.model.common;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -12,6 +14,7 @@
 import java.util.stream.Stream;
 
 import org.mapstruct.ap.internal.util.Strings;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
@@ -24,6 +27,8 @@
  */
 public class SourceRHS extends ModelElement implements Assignment {
 
+    private static final Emitter EMITTER = new Emitter();
+
     private final String sourceReference;
     private final Type sourceType;
     private String sourceLocalVarName;
@@ -32,6 +37,7 @@ public class SourceRHS extends ModelElement implements Assignment {
     private final String sourceErrorMessagePart;
     private PresenceCheck sourcePresenceCheckerReference;
     private boolean useElementAsSourceTypeForMatching = false;
+    private boolean sourceNonNull = false;
     private final String sourceParameterName;
 
     public SourceRHS(String sourceReference, Type sourceType, Set<String> existingVariableNames,
@@ -68,6 +74,18 @@ public void setSourcePresenceCheckerReference(PresenceCheck sourcePresenceChecke
         this.sourcePresenceCheckerReference = sourcePresenceCheckerReference;
     }
 
+    /**
+     * @return {@code true} if the source value is declared to be non-null by nullability annotations and the processor
+     * is configured to take them into account, {@code false} otherwise
+     */
+    public boolean isSourceNonNull() {
+        return sourceNonNull;
+    }
+
+    public void setSourceNonNull(boolean sourceNonNull) {
+        this.sourceNonNull = sourceNonNull;
+    }
+
     @Override
     public Type getSourceType() {
         return sourceType;
@@ -98,6 +116,11 @@ public void setSourceLoopVarName(String sourceLoopVarName) {
         this.sourceLoopVarName = sourceLoopVarName;
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         if ( sourcePresenceCheckerReference != null ) {
@@ -167,4 +190,22 @@ public String getSourceParameterName() {
         return sourceParameterName;
     }
 
+    /**
+     * Writes a source reference exactly like {@code SourceRHS.ftl} does.
+     */
+    private static class Emitter extends JavaEmitter<SourceRHS> {
+
+        @Override
+        public void emit(SourceRHS sourceRHS, Context context, Writer writer) throws IOException {
+            if ( sourceRHS.getSourceLoopVarName() != null ) {
+                writer.write( sourceRHS.getSourceLoopVarName() );
+            }
+            else if ( sourceRHS.getSourceLocalVarName() != null ) {
+                writer.write( sourceRHS.getSourceLocalVarName() );
+            }
+            else {
+                writer.write( sourceRHS.getSourceReference() );
+            }
+        }
+    }
 }
@@ -5,17 +5,27 @@
  */
 package org.mapstruct.ap.internal.model.common;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import javax.lang.model.element.Element;
@@ -45,6 +55,7 @@
 import org.mapstruct.ap.internal.util.TypeUtils;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.internal.util.accessor.AccessorType;
+import org.mapstruct.ap.internal.writer.JavaEmitter;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
@@ -60,6 +71,15 @@
  */
 public class Type extends ModelElement implements Comparable<Type> {
 
+    private static final Emitter EMITTER = new Emitter();
+    private static final Map<String, Class<?>> PRIMITIVE_STREAM_ELEMENT_TYPES = new HashMap<>();
+
+    static {
+        PRIMITIVE_STREAM_ELEMENT_TYPES.put( IntStream.class.getName(), int.class );
+        PRIMITIVE_STREAM_ELEMENT_TYPES.put( LongStream.class.getName(), long.class );
+        PRIMITIVE_STREAM_ELEMENT_TYPES.put( DoubleStream.class.getName(), double.class );
+    }
+
     private final TypeUtils typeUtils;
     private final ElementUtils elementUtils;
     private final TypeFactory typeFactory;
@@ -292,6 +312,36 @@ public boolean isCollectionOrMapType() {
         return isCollectionType || isMapType;
     }
 
+    /**
+     * Returns the {@link EnumSet} or {@link EnumMap} type that can be instantiated for this type, i.e.
+     * {@code EnumSet<E>} if this type is {@code Set<E>} and {@code EnumMap<K, V>} if this type is {@code Map<K, V>},
+     * given that {@code E} or {@code K} respectively is an enum type.
+     *
+     * @return the enum set or enum map type, or {@code null} if this type is no {@link Set} of enums or {@link Map}
+     * with enum keys
+     */
+    public Type getEnumCollectionType() {
+        Class<?> enumCollectionType;
+        if ( Set.class.getName().equals( qualifiedName ) ) {
+            enumCollectionType = EnumSet.class;
+        }
+        else if ( Map.class.getName().equals( qualifiedName ) ) {
+            enumCollectionType = EnumMap.class;
+        }
+        else {
+            return null;
+        }
+
+        if ( typeParameters.isEmpty() || !typeParameters.get( 0 ).isEnumType() ) {
+            return null;
+        }
+
+        return typeFactory.getType( typeUtils.getDeclaredType(
+            elementUtils.getTypeElement( enumCollectionType.getName() ),
+            ( (DeclaredType) typeMirror ).getTypeArguments().toArray( new TypeMirror[0] )
+        ) );
+    }
+
     public boolean isArrayType() {
         return componentType != null;
     }
@@ -317,6 +367,55 @@ public boolean isStreamType() {
         return isStream;
     }
 
+    /**
+     * Whether this type is {@link java.util.Iterator}.
+     *
+     * @return {@code true} it this type is {@link java.util.Iterator}, {@code false otherwise}
+     */
+    public boolean isIteratorType() {
+        return Iterator.class.getName().equals( qualifiedName );
+    }
+
+    /**
+     * Whether this type is {@link java.util.Spliterator}.
+     *
+     * @return {@code true} it this type is {@link java.util.Spliterator}, {@code false otherwise}
+     */
+    public boolean isSpliteratorType() {
+        return Spliterator.class.getName().equals( qualifiedName );
+    }
+
+    /**
+     * Whether this type is one of the primitive streams {@link IntStream}, {@link LongStream} or
+     * {@link DoubleStream}.
+     *
+     * @return {@code true} if this type is a primitive stream, {@code false otherwise}
+     */
+    public boolean isPrimitiveStreamType() {
+        return PRIMITIVE_STREAM_ELEMENT_TYPES.containsKey( qualifiedName );
+    }
+
+    /**
+     * Returns the primitive element type of this primitive stream type, e.g. {@code int} for {@link IntStream}.
+     *
+     * @return the primitive element type, or {@code null} if this type is no primitive stream
+     */
+    public Type getPrimitiveStreamElementType() {
+        Class<?> elementType = PRIMITIVE_STREAM_ELEMENT_TYPES.get( qualifiedName );
+        return elementType != null ? typeFactory.getType( elementType ) : null;
+    }
+
+    /**
+     * Whether the elements of this type can only be mapped lazily, i.e. whether this type is a sub-type of
+     * {@link java.util.stream.Stream}, a primitive stream, or is {@link java.util.Iterator} or
+     * {@link java.util.Spliterator}.
+     *
+     * @return {@code true} if the elements of this type can only be mapped lazily, {@code false otherwise}
+     */
+    public boolean isStreamOrIteratorType() {
+        return isStreamType() || isPrimitiveStreamType() || isIteratorType() || isSpliteratorType();
+    }
+
     /**
      * A wild card type can have two types of bounds (mutual exclusive): extends and super.
      *
@@ -390,6 +489,11 @@ public String getImportName() {
         return isArrayType() ? trimSimpleClassName( qualifiedName ) : qualifiedName;
     }
 
+    @Override
+    protected JavaEmitter<?> getJavaEmitter() {
+        return EMITTER;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> result = new HashSet<>();
@@ -1249,6 +1353,56 @@ public boolean isArrayTypeVar() {
         return  isArrayType() && getComponentType().isTypeVar();
     }
 
+    /**
+     * Writes a type exactly like {@code Type.ftl} does.
+     */
+    private static class Emitter extends JavaEmitter<Type> {
+
+        @Override
+        public void emit(Type type, Context context, Writer writer) throws IOException {
+            emit(
+                type,
+                getBooleanParameter( context, "asVarArgs" ),
+                hasParameter( context, "raw" ),
+                writer
+            );
+        }
+
+        private void emit(Type type, boolean asVarArgs, boolean raw, Writer writer) throws IOException {
+            if ( type.hasExtendsBound() ) {
+                writer.write( "? extends " );
+                emit( type.getTypeBound(), false, false, writer );
+            }
+            else if ( type.hasSuperBound() ) {
+                writer.write( "? super " );
+                emit( type.getTypeBound(), false, false, writer );
+            }
+            else if ( asVarArgs ) {
+                String referenceName = type.createReferenceName();
+                if ( referenceName.endsWith( "[]" ) ) {
+                    referenceName = referenceName.substring( 0, referenceName.length() - 2 );
+                }
+                writer.write( referenceName );
+                writer.write( "..." );
+            }
+            else {
+                writer.write( type.createReferenceName() );
+            }
+
+            if ( !raw && !type.getTypeParameters().isEmpty() ) {
+                writer.write( '<' );
+                Iterator<Type> typeParameters = type.getTypeParameters().iterator();
+                while ( typeParameters.hasNext() ) {
+                    emit( typeParameters.next(), false, false, writer );
+                    if ( typeParameters.hasNext() ) {
+                        writer.write( ", " );
+                    }
+                }
+                writer.write( '>' );
+            }
+        }
+    }
+
     private static class TypeVarMatcher extends SimpleTypeVisitor8<ResolvedPair, Type> {
 
         private final TypeFactory typeFactory;
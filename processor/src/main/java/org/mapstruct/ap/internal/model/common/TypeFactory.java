@@ -38,6 +38,7 @@
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
 import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
 import org.mapstruct.ap.internal.util.ElementUtils;
 import org.mapstruct.ap.internal.util.TypeUtils;
 
@@ -172,6 +173,21 @@ public boolean isTypeAvailable(String canonicalName) {
         return null != elementUtils.getTypeElement( canonicalName );
     }
 
+    /**
+     * Determines if the type with the given full qualified name declares a method with the given name, e.g. to find
+     * out whether a method added by a later Java version can be used by the generated code
+     *
+     * @param canonicalName Name of the type declaring the method
+     * @param methodName Name of the method to be checked for availability
+     * @return true if the type with the given full qualified name is part of the classpath and declares the method
+     */
+    public boolean isMethodAvailable(String canonicalName, String methodName) {
+        TypeElement typeElement = elementUtils.getTypeElement( canonicalName );
+        return typeElement != null && ElementFilter.methodsIn( typeElement.getEnclosedElements() )
+            .stream()
+            .anyMatch( method -> method.getSimpleName().contentEquals( methodName ) );
+    }
+
     public Type getWrappedType(Type type ) {
         Type result = type;
         if ( type.isPrimitive() ) {
@@ -288,7 +304,7 @@ else if (componentTypeMirror.getKind().isPrimitive()) {
 
         return new Type(
             typeUtils, elementUtils, this,
-            roundContext.getAnnotationProcessorContext().getAccessorNaming(),
+            roundContext.getAccessorNaming(),
             mirror,
             typeElement,
             getTypeParameters( mirror, false ),
@@ -511,7 +527,7 @@ private ImplementationType getImplementationType(TypeMirror mirror) {
                 typeUtils,
                 elementUtils,
                 this,
-                roundContext.getAnnotationProcessorContext().getAccessorNaming(),
+                roundContext.getAccessorNaming(),
                 typeUtils.getDeclaredType(
                     implementationType.getTypeElement(),
                     declaredType.getTypeArguments().toArray( new TypeMirror[] { } )
@@ -546,9 +562,7 @@ private BuilderInfo findBuilder(TypeMirror type, BuilderGem builderGem, boolean
             return null;
         }
         try {
-            return roundContext.getAnnotationProcessorContext()
-                .getBuilderProvider()
-                .findBuilderInfo( type );
+            return roundContext.findBuilderInfo( type );
         }
         catch ( MoreThanOneBuilderCreationMethodException ex ) {
             if ( report ) {
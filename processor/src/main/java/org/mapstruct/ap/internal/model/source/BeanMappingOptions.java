@@ -19,6 +19,7 @@
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.gem.BeanMappingGem;
 import org.mapstruct.ap.internal.gem.BuilderGem;
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValueCheckStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
@@ -94,6 +95,9 @@ private static boolean isConsistent(BeanMappingGem gem, ExecutableElement method
             && !gem.nullValueMappingStrategy().hasValue()
             && !gem.unmappedTargetPolicy().hasValue()
             && !gem.ignoreByDefault().hasValue()
+            && !gem.writeOnlyIfChanged().hasValue()
+            && !gem.deduplicateStrings().hasValue()
+            && !gem.collectionCopyStrategy().hasValue()
             && !gem.builder().hasValue() ) {
 
             messager.printMessage( method, Message.BEANMAPPING_NO_ELEMENTS );
@@ -121,6 +125,23 @@ public NullValueCheckStrategyGem getNullValueCheckStrategy() {
             .orElse( next().getNullValueCheckStrategy() );
     }
 
+    @Override
+    public boolean isDeduplicateStrings() {
+        return Optional.ofNullable( beanMapping ).map( BeanMappingGem::deduplicateStrings )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .orElse( next().isDeduplicateStrings() );
+    }
+
+    @Override
+    public CollectionCopyStrategyGem getCollectionCopyStrategy() {
+        return Optional.ofNullable( beanMapping ).map( BeanMappingGem::collectionCopyStrategy )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .map( CollectionCopyStrategyGem::valueOf )
+            .orElse( next().getCollectionCopyStrategy() );
+    }
+
     @Override
     public NullValuePropertyMappingStrategyGem getNullValuePropertyMappingStrategy() {
         return Optional.ofNullable( beanMapping ).map( BeanMappingGem::nullValuePropertyMappingStrategy )
@@ -177,6 +198,12 @@ public boolean isignoreByDefault() {
             .orElse( false );
     }
 
+    public boolean isWriteOnlyIfChanged() {
+        return Optional.ofNullable( beanMapping ).map( BeanMappingGem::writeOnlyIfChanged )
+            .map( GemValue::get )
+            .orElse( false );
+    }
+
     public List<String> getIgnoreUnmappedSourceProperties() {
         return Optional.ofNullable( beanMapping ).map( BeanMappingGem::ignoreUnmappedSourceProperties )
             .map( GemValue::get )
@@ -13,6 +13,7 @@
 
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.gem.BuilderGem;
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.gem.CollectionMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.InjectionStrategyGem;
 import org.mapstruct.ap.internal.gem.MapperGem;
@@ -97,6 +98,11 @@ public Boolean isDisableSubMappingMethodsGeneration() {
         return mapper.disableSubMappingMethodsGeneration().getDefaultValue();
     }
 
+    @Override
+    public boolean isUseEnumCollections() {
+        return mapper.useEnumCollections().getDefaultValue();
+    }
+
     // BeanMapping and Mapping
 
     public CollectionMappingStrategyGem getCollectionMappingStrategy() {
@@ -107,6 +113,14 @@ public NullValueCheckStrategyGem getNullValueCheckStrategy() {
         return NullValueCheckStrategyGem.valueOf( mapper.nullValueCheckStrategy().getDefaultValue() );
     }
 
+    public boolean isDeduplicateStrings() {
+        return mapper.deduplicateStrings().getDefaultValue();
+    }
+
+    public CollectionCopyStrategyGem getCollectionCopyStrategy() {
+        return CollectionCopyStrategyGem.valueOf( mapper.collectionCopyStrategy().getDefaultValue() );
+    }
+
     public NullValuePropertyMappingStrategyGem getNullValuePropertyMappingStrategy() {
         return NullValuePropertyMappingStrategyGem.valueOf(
             mapper.nullValuePropertyMappingStrategy().getDefaultValue() );
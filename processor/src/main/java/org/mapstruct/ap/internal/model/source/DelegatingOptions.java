@@ -13,6 +13,7 @@
 import org.mapstruct.ap.internal.util.ElementUtils;
 
 import org.mapstruct.ap.internal.gem.BuilderGem;
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.gem.CollectionMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.InjectionStrategyGem;
 import org.mapstruct.ap.internal.gem.MappingInheritanceStrategyGem;
@@ -79,6 +80,10 @@ public Boolean isDisableSubMappingMethodsGeneration() {
         return next.isDisableSubMappingMethodsGeneration();
     }
 
+    public boolean isUseEnumCollections() {
+        return next.isUseEnumCollections();
+    }
+
     // BeanMapping and Mapping
 
     public CollectionMappingStrategyGem getCollectionMappingStrategy() {
@@ -89,6 +94,14 @@ public NullValueCheckStrategyGem getNullValueCheckStrategy() {
         return next.getNullValueCheckStrategy();
     }
 
+    public boolean isDeduplicateStrings() {
+        return next.isDeduplicateStrings();
+    }
+
+    public CollectionCopyStrategyGem getCollectionCopyStrategy() {
+        return next.getCollectionCopyStrategy();
+    }
+
     public NullValuePropertyMappingStrategyGem getNullValuePropertyMappingStrategy() {
         return next.getNullValuePropertyMappingStrategy();
     }
@@ -0,0 +1,157 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.source;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * Index over the methods a {@link SourceMethod} can inherit its configuration from, i.e. the prototype methods of a
+ * {@code MapperConfig} or the methods of a mapper.
+ * <p>
+ * Both forward and inverse inheritance require the result type of the candidate to be assignable from a type of the
+ * inheriting method (its result type or its source type respectively). The candidates are therefore indexed by their
+ * erased result type, so that only the candidates declared for one of the super types of that type need to be
+ * checked. Candidates whose result type is not a declared type, or is {@code Object}, are always checked.
+ */
+public class InheritanceCandidateIndex {
+
+    private static final InheritanceCandidateIndex EMPTY = new InheritanceCandidateIndex( Collections.emptyList() );
+
+    private final List<SourceMethod> methods;
+    private final Map<TypeElement, List<Integer>> positionsByResultType = new HashMap<>();
+    private final List<Integer> unindexedPositions = new ArrayList<>();
+    private final Map<TypeElement, Set<TypeElement>> superTypes = new HashMap<>();
+
+    public InheritanceCandidateIndex(List<SourceMethod> methods) {
+        this.methods = methods;
+
+        for ( int i = 0; i < methods.size(); i++ ) {
+            SourceMethod method = methods.get( i );
+            // only abstract methods not stemming from a used mapper can be inherited from
+            if ( method.getDeclaringMapper() != null || !method.isAbstract() ) {
+                continue;
+            }
+
+            TypeElement resultType = getDeclaredTypeElement( method.getResultType() );
+            // interfaces don't have Object as super class, so don't index it
+            if ( resultType != null && !resultType.getQualifiedName().contentEquals( Object.class.getName() ) ) {
+                positionsByResultType.computeIfAbsent( resultType, type -> new ArrayList<>() ).add( i );
+            }
+            else {
+                unindexedPositions.add( i );
+            }
+        }
+    }
+
+    public static InheritanceCandidateIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param method the inheriting method
+     *
+     * @return the indexed methods the given method can inherit its configuration from, in their original order
+     */
+    public List<SourceMethod> getForwardCandidates(SourceMethod method) {
+        return getCandidates( method.getResultType(), method, SourceMethod::canInheritFrom );
+    }
+
+    /**
+     * @param method the inheriting method
+     *
+     * @return the indexed methods the given method can inherit its inverse configuration from, in their original
+     * order
+     */
+    public List<SourceMethod> getInverseCandidates(SourceMethod method) {
+        if ( method.getSourceParameters().size() != 1 ) {
+            return Collections.emptyList();
+        }
+        return getCandidates( method.getMappingSourceType(), method, SourceMethod::inverses );
+    }
+
+    private List<SourceMethod> getCandidates(Type assignedType, SourceMethod method,
+                                             BiPredicate<SourceMethod, SourceMethod> canInherit) {
+        if ( methods.isEmpty() ) {
+            return Collections.emptyList();
+        }
+
+        List<SourceMethod> candidates = new ArrayList<>();
+        TypeElement assignedTypeElement = getDeclaredTypeElement( assignedType );
+        if ( assignedTypeElement == null ) {
+            for ( SourceMethod candidate : methods ) {
+                if ( canInherit.test( method, candidate ) ) {
+                    candidates.add( candidate );
+                }
+            }
+            return candidates;
+        }
+
+        List<Integer> positions = new ArrayList<>( unindexedPositions );
+        for ( TypeElement superType : getSuperTypes( assignedTypeElement ) ) {
+            positions.addAll( positionsByResultType.getOrDefault( superType, Collections.emptyList() ) );
+        }
+        Collections.sort( positions );
+
+        for ( Integer position : positions ) {
+            SourceMethod candidate = methods.get( position );
+            if ( canInherit.test( method, candidate ) ) {
+                candidates.add( candidate );
+            }
+        }
+        return candidates;
+    }
+
+    private Set<TypeElement> getSuperTypes(TypeElement typeElement) {
+        Set<TypeElement> result = superTypes.get( typeElement );
+        if ( result == null ) {
+            result = new LinkedHashSet<>();
+            collectSuperTypes( typeElement, result );
+            superTypes.put( typeElement, result );
+        }
+        return result;
+    }
+
+    private void collectSuperTypes(TypeElement typeElement, Set<TypeElement> result) {
+        if ( !result.add( typeElement ) ) {
+            return;
+        }
+
+        addSuperType( typeElement.getSuperclass(), result );
+        for ( TypeMirror superInterface : typeElement.getInterfaces() ) {
+            addSuperType( superInterface, result );
+        }
+    }
+
+    private void addSuperType(TypeMirror superType, Set<TypeElement> result) {
+        if ( superType.getKind() == TypeKind.DECLARED ) {
+            Element superTypeElement = ( (DeclaredType) superType ).asElement();
+            if ( superTypeElement instanceof TypeElement ) {
+                collectSuperTypes( (TypeElement) superTypeElement, result );
+            }
+        }
+    }
+
+    private static TypeElement getDeclaredTypeElement(Type type) {
+        if ( type.getTypeMirror().getKind() != TypeKind.DECLARED ) {
+            return null;
+        }
+        return type.getTypeElement();
+    }
+}
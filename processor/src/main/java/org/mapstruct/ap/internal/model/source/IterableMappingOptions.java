@@ -12,6 +12,7 @@
 import org.mapstruct.ap.internal.util.TypeUtils;
 
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
+import org.mapstruct.ap.internal.gem.ElementMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.IterableMappingGem;
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.util.FormattingMessager;
@@ -65,7 +66,10 @@ private static boolean isConsistent(IterableMappingGem gem, ExecutableElement me
             && !gem.qualifiedBy().hasValue()
             && !gem.qualifiedByName().hasValue()
             && !gem.elementTargetType().hasValue()
-            && !gem.nullValueMappingStrategy().hasValue() ) {
+            && !gem.nullValueMappingStrategy().hasValue()
+            && !gem.parallelThreshold().hasValue()
+            && !gem.elementMappingStrategy().hasValue()
+            && !gem.mergeKey().hasValue() ) {
             messager.printMessage( method, Message.ITERABLEMAPPING_NO_ELEMENTS );
             return false;
         }
@@ -110,6 +114,37 @@ public MappingControl getElementMappingControl(ElementUtils elementUtils) {
             .orElse( next().getMappingControl( elementUtils ) );
     }
 
+    /**
+     * @return the number of source elements from which on the elements are mapped in parallel, or a negative value if
+     * the elements should never be mapped in parallel
+     */
+    public int getParallelThreshold() {
+        return Optional.ofNullable( iterableMapping ).map( IterableMappingGem::parallelThreshold )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .orElse( -1 );
+    }
+
+    public ElementMappingStrategyGem getElementMappingStrategy() {
+        return Optional.ofNullable( iterableMapping ).map( IterableMappingGem::elementMappingStrategy )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .map( ElementMappingStrategyGem::valueOf )
+            .orElse( ElementMappingStrategyGem.EAGER );
+    }
+
+    /**
+     * @return the name of the property identifying the elements when merging the source into the target collection,
+     * or {@code null} if the target collection should be cleared and populated
+     */
+    public String getMergeKey() {
+        return Optional.ofNullable( iterableMapping ).map( IterableMappingGem::mergeKey )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .filter( mergeKey -> !mergeKey.isEmpty() )
+            .orElse( null );
+    }
+
     @Override
     public boolean hasAnnotation() {
         return iterableMapping != null;
@@ -100,7 +100,8 @@ private static boolean isConsistent(MapMappingGem gem, ExecutableElement method,
             && !gem.valueQualifiedByName().hasValue()
             && !gem.keyTargetType().hasValue()
             && !gem.valueTargetType().hasValue()
-            && !gem.nullValueMappingStrategy().hasValue() ) {
+            && !gem.nullValueMappingStrategy().hasValue()
+            && !gem.parallelThreshold().hasValue() ) {
             messager.printMessage( method, Message.MAPMAPPING_NO_ELEMENTS );
             return false;
         }
@@ -138,6 +139,13 @@ public AnnotationMirror getMirror() {
         return Optional.ofNullable( mapMapping ).map( MapMappingGem::mirror ).orElse( null );
     }
 
+    public int getParallelThreshold() {
+        return Optional.ofNullable( mapMapping ).map( MapMappingGem::parallelThreshold )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .orElse( -1 );
+    }
+
     @Override
     public NullValueMappingStrategyGem getNullValueMappingStrategy() {
         return Optional.ofNullable( mapMapping ).map( MapMappingGem::nullValueMappingStrategy )
@@ -11,6 +11,7 @@
 import org.mapstruct.ap.internal.util.ElementUtils;
 
 import org.mapstruct.ap.internal.gem.BuilderGem;
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.gem.CollectionMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.InjectionStrategyGem;
 import org.mapstruct.ap.internal.gem.MapperConfigGem;
@@ -96,6 +97,13 @@ public Boolean isDisableSubMappingMethodsGeneration() {
             next().isDisableSubMappingMethodsGeneration();
     }
 
+    @Override
+    public boolean isUseEnumCollections() {
+        return mapperConfig.useEnumCollections().hasValue() ?
+            mapperConfig.useEnumCollections().get() :
+            next().isUseEnumCollections();
+    }
+
     // @Mapping, @BeanMapping
 
     @Override
@@ -112,6 +120,20 @@ public NullValueCheckStrategyGem getNullValueCheckStrategy() {
             next().getNullValueCheckStrategy();
     }
 
+    @Override
+    public boolean isDeduplicateStrings() {
+        return mapperConfig.deduplicateStrings().hasValue() ?
+            mapperConfig.deduplicateStrings().get() :
+            next().isDeduplicateStrings();
+    }
+
+    @Override
+    public CollectionCopyStrategyGem getCollectionCopyStrategy() {
+        return mapperConfig.collectionCopyStrategy().hasValue() ?
+            CollectionCopyStrategyGem.valueOf( mapperConfig.collectionCopyStrategy().get() ) :
+            next().getCollectionCopyStrategy();
+    }
+
     @Override
     public NullValuePropertyMappingStrategyGem getNullValuePropertyMappingStrategy() {
         return mapperConfig.nullValuePropertyMappingStrategy().hasValue() ?
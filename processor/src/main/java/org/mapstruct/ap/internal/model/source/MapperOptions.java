@@ -16,6 +16,7 @@
 
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.gem.BuilderGem;
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.gem.CollectionMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.InjectionStrategyGem;
 import org.mapstruct.ap.internal.gem.MapperConfigGem;
@@ -25,14 +26,15 @@
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.NullValuePropertyMappingStrategyGem;
 import org.mapstruct.ap.internal.gem.ReportingPolicyGem;
+import org.mapstruct.ap.internal.util.RoundContext;
 
 public class MapperOptions extends DelegatingOptions {
 
     private final MapperGem mapper;
     private final DeclaredType mapperConfigType;
 
-    public static MapperOptions getInstanceOn(TypeElement typeElement, Options options) {
-        MapperGem mapper = MapperGem.instanceOn( typeElement );
+    public static MapperOptions getInstanceOn(TypeElement typeElement, Options options, RoundContext roundContext) {
+        MapperGem mapper = roundContext.getGem( typeElement, MapperGem.class, MapperGem::instanceOn );
         MapperOptions mapperAnnotation;
         DelegatingOptions defaults = new DefaultOptions( mapper, options );
         DeclaredType mapperConfigType;
@@ -44,7 +46,8 @@ public static MapperOptions getInstanceOn(TypeElement typeElement, Options optio
         }
         if ( mapperConfigType != null ) {
             Element mapperConfigElement = mapperConfigType.asElement();
-            MapperConfigGem mapperConfig = MapperConfigGem.instanceOn( mapperConfigElement );
+            MapperConfigGem mapperConfig =
+                roundContext.getGem( mapperConfigElement, MapperConfigGem.class, MapperConfigGem::instanceOn );
             MapperConfigOptions mapperConfigAnnotation = new MapperConfigOptions( mapperConfig, defaults );
             mapperAnnotation = new MapperOptions( mapper, mapperConfigType, mapperConfigAnnotation );
         }
@@ -125,6 +128,13 @@ public Boolean isDisableSubMappingMethodsGeneration() {
             next().isDisableSubMappingMethodsGeneration();
     }
 
+    @Override
+    public boolean isUseEnumCollections() {
+        return mapper.useEnumCollections().hasValue() ?
+            mapper.useEnumCollections().get() :
+            next().isUseEnumCollections();
+    }
+
     // @Mapping, @BeanMapping
 
     @Override
@@ -141,6 +151,20 @@ public NullValueCheckStrategyGem getNullValueCheckStrategy() {
             next().getNullValueCheckStrategy();
     }
 
+    @Override
+    public boolean isDeduplicateStrings() {
+        return mapper.deduplicateStrings().hasValue() ?
+            mapper.deduplicateStrings().get() :
+            next().isDeduplicateStrings();
+    }
+
+    @Override
+    public CollectionCopyStrategyGem getCollectionCopyStrategy() {
+        return mapper.collectionCopyStrategy().hasValue() ?
+            CollectionCopyStrategyGem.valueOf( mapper.collectionCopyStrategy().get() ) :
+            next().getCollectionCopyStrategy();
+    }
+
     @Override
     public NullValuePropertyMappingStrategyGem getNullValuePropertyMappingStrategy() {
         return mapper.nullValuePropertyMappingStrategy().hasValue() ?
@@ -21,6 +21,7 @@
 import org.mapstruct.ap.internal.util.ElementUtils;
 import org.mapstruct.ap.internal.util.TypeUtils;
 
+import org.mapstruct.ap.internal.gem.CollectionCopyStrategyGem;
 import org.mapstruct.ap.internal.gem.MappingGem;
 import org.mapstruct.ap.internal.gem.MappingsGem;
 import org.mapstruct.ap.internal.gem.NullValueCheckStrategyGem;
@@ -445,6 +446,23 @@ public NullValueCheckStrategyGem getNullValueCheckStrategy() {
             .orElse( next().getNullValueCheckStrategy() );
     }
 
+    @Override
+    public boolean isDeduplicateStrings() {
+        return Optional.ofNullable( mapping ).map( MappingGem::deduplicateStrings )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .orElse( next().isDeduplicateStrings() );
+    }
+
+    @Override
+    public CollectionCopyStrategyGem getCollectionCopyStrategy() {
+        return Optional.ofNullable( mapping ).map( MappingGem::collectionCopyStrategy )
+            .filter( GemValue::hasValue )
+            .map( GemValue::getValue )
+            .map( CollectionCopyStrategyGem::valueOf )
+            .orElse( next().getCollectionCopyStrategy() );
+    }
+
     @Override
     public NullValuePropertyMappingStrategyGem getNullValuePropertyMappingStrategy() {
         return Optional.ofNullable( mapping ).map( MappingGem::nullValuePropertyMappingStrategy )
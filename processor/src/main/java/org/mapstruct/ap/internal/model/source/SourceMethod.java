@@ -54,7 +54,7 @@ public class SourceMethod implements Method {
     private final Accessibility accessibility;
     private final List<Type> exceptionTypes;
     private final MappingMethodOptions mappingMethodOptions;
-    private final List<SourceMethod> prototypeMethods;
+    private final InheritanceCandidateIndex prototypeMethods;
     private final Type mapperToImplement;
 
     private final List<Parameter> sourceParameters;
@@ -90,7 +90,7 @@ public static class Builder {
         private TypeUtils typeUtils;
         private TypeFactory typeFactory = null;
         private MapperOptions mapper = null;
-        private List<SourceMethod> prototypeMethods = Collections.emptyList();
+        private InheritanceCandidateIndex prototypeMethods = InheritanceCandidateIndex.empty();
         private List<ValueMappingOptions> valueMappings;
         private EnumMappingOptions enumMappingOptions;
         private ParameterProvidedMethods contextProvidedMethods;
@@ -168,7 +168,7 @@ public Builder setMapper(MapperOptions mapper) {
             return this;
         }
 
-        public Builder setPrototypeMethods(List<SourceMethod> prototypeMethods) {
+        public Builder setPrototypeMethods(InheritanceCandidateIndex prototypeMethods) {
             this.prototypeMethods = prototypeMethods;
             return this;
         }
@@ -374,9 +374,9 @@ && getMappingSourceType().isIterableType()
     public boolean isStreamMapping() {
         if ( isStreamMapping == null ) {
             isStreamMapping = getSourceParameters().size() == 1
-                && ( getMappingSourceType().isIterableType() && getResultType().isStreamType()
-                    || getMappingSourceType().isStreamType() && getResultType().isIterableType()
-                    || getMappingSourceType().isStreamType() && getResultType().isStreamType() );
+                && ( getMappingSourceType().isIterableType() && getResultType().isStreamOrIteratorType()
+                    || getMappingSourceType().isStreamOrIteratorType() && getResultType().isIterableType()
+                    || getMappingSourceType().isStreamOrIteratorType() && getResultType().isStreamOrIteratorType() );
         }
         return isStreamMapping;
     }
@@ -430,13 +430,7 @@ public String toString() {
 
     public List<SourceMethod> getApplicablePrototypeMethods() {
         if ( applicablePrototypeMethods == null ) {
-            applicablePrototypeMethods = new ArrayList<>();
-
-            for ( SourceMethod prototype : prototypeMethods ) {
-                if ( canInheritFrom( prototype ) ) {
-                    applicablePrototypeMethods.add( prototype );
-                }
-            }
+            applicablePrototypeMethods = prototypeMethods.getForwardCandidates( this );
         }
 
         return applicablePrototypeMethods;
@@ -444,13 +438,7 @@ public List<SourceMethod> getApplicablePrototypeMethods() {
 
     public List<SourceMethod> getApplicableReversePrototypeMethods() {
         if ( applicableReversePrototypeMethods == null ) {
-            applicableReversePrototypeMethods = new ArrayList<>();
-
-            for ( SourceMethod prototype : prototypeMethods ) {
-                if ( inverses( prototype ) ) {
-                    applicableReversePrototypeMethods.add( prototype );
-                }
-            }
+            applicableReversePrototypeMethods = prototypeMethods.getInverseCandidates( this );
         }
 
         return applicableReversePrototypeMethods;
@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.option;
+
+/**
+ * Determines how the model elements which provide a {@link org.mapstruct.ap.internal.writer.JavaEmitter} are written
+ * to the generated sources. Both backends write the same sources.
+ */
+public enum EmissionBackend {
+
+    /**
+     * The model elements are written by their emitters, falling back to their templates if they have no emitter.
+     */
+    JAVA,
+
+    /**
+     * All model elements are written by their FreeMarker templates, ignoring their emitters.
+     */
+    FREEMARKER
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.option;
+
+/**
+ * Determines how the nullability annotations (e.g. JSpecify's {@code @NonNull} and {@code @NullMarked}) on the
+ * source parameters and source properties are taken into account when generating null checks.
+ */
+public enum NullabilityAnnotationsPolicy {
+
+    /**
+     * Null checks are generated regardless of any nullability annotations.
+     */
+    IGNORE,
+
+    /**
+     * Null checks for values that are declared to be non-null are omitted.
+     */
+    TRUST,
+
+    /**
+     * Null checks for values that are declared to be non-null are replaced by {@code assert} statements.
+     */
+    ASSERT;
+
+    public boolean isOmitNullChecks() {
+        return this != IGNORE;
+    }
+}
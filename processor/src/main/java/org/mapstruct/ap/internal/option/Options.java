@@ -21,11 +21,24 @@ public class Options {
     private final String defaultComponentModel;
     private final String defaultInjectionStrategy;
     private final boolean verbose;
+    private final NullabilityAnnotationsPolicy nullabilityAnnotationsPolicy;
+    private final boolean instrumentation;
+    private final boolean generateMapperRegistry;
+    private final boolean generateNativeImageConfig;
+    private final boolean generateSpringConfiguration;
+    private final boolean lazyMapperReferences;
+    private final boolean finalImplementations;
+    private final EmissionBackend emissionBackend;
 
+    //CHECKSTYLE:OFF
     public Options(boolean suppressGeneratorTimestamp, boolean suppressGeneratorVersionComment,
                    ReportingPolicyGem unmappedTargetPolicy,
                    String defaultComponentModel, String defaultInjectionStrategy,
-                   boolean alwaysGenerateSpi, boolean verbose) {
+                   boolean alwaysGenerateSpi, boolean verbose,
+                   NullabilityAnnotationsPolicy nullabilityAnnotationsPolicy, boolean instrumentation,
+                   boolean generateMapperRegistry, boolean generateNativeImageConfig,
+                   boolean generateSpringConfiguration, boolean lazyMapperReferences,
+                   boolean finalImplementations, EmissionBackend emissionBackend) {
         this.suppressGeneratorTimestamp = suppressGeneratorTimestamp;
         this.suppressGeneratorVersionComment = suppressGeneratorVersionComment;
         this.unmappedTargetPolicy = unmappedTargetPolicy;
@@ -33,7 +46,16 @@ public Options(boolean suppressGeneratorTimestamp, boolean suppressGeneratorVers
         this.defaultInjectionStrategy = defaultInjectionStrategy;
         this.alwaysGenerateSpi = alwaysGenerateSpi;
         this.verbose = verbose;
+        this.nullabilityAnnotationsPolicy = nullabilityAnnotationsPolicy;
+        this.instrumentation = instrumentation;
+        this.generateMapperRegistry = generateMapperRegistry;
+        this.generateNativeImageConfig = generateNativeImageConfig;
+        this.generateSpringConfiguration = generateSpringConfiguration;
+        this.lazyMapperReferences = lazyMapperReferences;
+        this.finalImplementations = finalImplementations;
+        this.emissionBackend = emissionBackend;
     }
+    //CHECKSTYLE:ON
 
     public boolean isSuppressGeneratorTimestamp() {
         return suppressGeneratorTimestamp;
@@ -62,4 +84,36 @@ public boolean isAlwaysGenerateSpi() {
     public boolean isVerbose() {
         return verbose;
     }
+
+    public NullabilityAnnotationsPolicy getNullabilityAnnotationsPolicy() {
+        return nullabilityAnnotationsPolicy;
+    }
+
+    public boolean isInstrumentation() {
+        return instrumentation;
+    }
+
+    public boolean isGenerateMapperRegistry() {
+        return generateMapperRegistry;
+    }
+
+    public boolean isGenerateNativeImageConfig() {
+        return generateNativeImageConfig;
+    }
+
+    public boolean isGenerateSpringConfiguration() {
+        return generateSpringConfiguration;
+    }
+
+    public boolean isLazyMapperReferences() {
+        return lazyMapperReferences;
+    }
+
+    public boolean isFinalImplementations() {
+        return finalImplementations;
+    }
+
+    public EmissionBackend getEmissionBackend() {
+        return emissionBackend;
+    }
 }
@@ -25,6 +25,7 @@
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.gem.InjectionStrategyGem;
 import org.mapstruct.ap.internal.model.source.MapperOptions;
+import org.mapstruct.ap.internal.option.Options;
 
 /**
  * An {@link ModelElementProcessor} which converts the given {@link Mapper} object into an annotation based component
@@ -37,12 +38,18 @@
 public abstract class AnnotationBasedComponentModelProcessor implements ModelElementProcessor<Mapper, Mapper> {
 
     private TypeFactory typeFactory;
+    private Options options;
 
     @Override
     public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
         this.typeFactory = context.getTypeFactory();
+        this.options = context.getOptions();
 
-        MapperOptions mapperAnnotation = MapperOptions.getInstanceOn( mapperTypeElement, context.getOptions() );
+        MapperOptions mapperAnnotation = MapperOptions.getInstanceOn(
+            mapperTypeElement,
+            context.getOptions(),
+            context.getRoundContext()
+        );
 
         String componentModel = mapperAnnotation.componentModel();
         InjectionStrategyGem injectionStrategy = mapperAnnotation.getInjectionStrategy();
@@ -78,9 +85,22 @@ else if ( mapper.getDecorator() != null ) {
             buildConstructors( mapper );
         }
 
+        componentModelApplied( context, mapperTypeElement, mapper );
+
         return mapper;
     }
 
+    /**
+     * Invoked once the component model has been applied to the given mapper and its decorator. Does nothing by
+     * default.
+     *
+     * @param context the processor context
+     * @param mapperTypeElement the mapper type
+     * @param mapper the mapper
+     */
+    protected void componentModelApplied(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
+    }
+
     protected void adjustDecorator(Mapper mapper, InjectionStrategyGem injectionStrategy) {
         Decorator decorator = mapper.getDecorator();
 
@@ -274,4 +294,8 @@ public int getPriority() {
     protected TypeFactory getTypeFactory() {
         return typeFactory;
     }
+
+    protected Options getOptions() {
+        return options;
+    }
 }
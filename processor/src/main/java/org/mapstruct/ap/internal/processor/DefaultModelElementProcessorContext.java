@@ -27,6 +27,7 @@
 import org.mapstruct.ap.internal.version.VersionInformation;
 import org.mapstruct.ap.spi.EnumMappingStrategy;
 import org.mapstruct.ap.spi.EnumTransformationStrategy;
+import org.mapstruct.ap.spi.ImmutableTypeProvider;
 
 /**
  * Default implementation of the processor context.
@@ -44,13 +45,14 @@ public class DefaultModelElementProcessorContext implements ProcessorContext {
     private final ElementUtils delegatingElements;
     private final AccessorNamingUtils accessorNaming;
     private final RoundContext roundContext;
+    private final MapperRegistrations mapperRegistrations;
 
     public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvironment, Options options,
-            RoundContext roundContext, Map<String, String> notToBeImported) {
+            RoundContext roundContext, Map<String, String> notToBeImported, MapperRegistrations mapperRegistrations) {
 
         this.processingEnvironment = processingEnvironment;
         this.messager = new DelegatingMessager( processingEnvironment.getMessager(), options.isVerbose() );
-        this.accessorNaming = roundContext.getAnnotationProcessorContext().getAccessorNaming();
+        this.accessorNaming = roundContext.getAccessorNaming();
         this.versionInformation = DefaultVersionInformation.fromProcessingEnvironment( processingEnvironment );
         this.delegatingTypes = TypeUtils.create( processingEnvironment, versionInformation );
         this.delegatingElements = ElementUtils.create( processingEnvironment, versionInformation );
@@ -64,6 +66,7 @@ public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvir
             options.isVerbose()
         );
         this.options = options;
+        this.mapperRegistrations = mapperRegistrations;
     }
 
     @Override
@@ -106,6 +109,11 @@ public EnumMappingStrategy getEnumMappingStrategy() {
         return roundContext.getAnnotationProcessorContext().getEnumMappingStrategy();
     }
 
+    @Override
+    public ImmutableTypeProvider getImmutableTypeProvider() {
+        return roundContext.getAnnotationProcessorContext().getImmutableTypeProvider();
+    }
+
     @Override
     public Options getOptions() {
         return options;
@@ -116,6 +124,16 @@ public VersionInformation getVersionInformation() {
         return versionInformation;
     }
 
+    @Override
+    public RoundContext getRoundContext() {
+        return roundContext;
+    }
+
+    @Override
+    public MapperRegistrations getMapperRegistrations() {
+        return mapperRegistrations;
+    }
+
     @Override
     public boolean isErroneous() {
         return messager.isErroneous();
@@ -8,12 +8,17 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
@@ -27,8 +32,11 @@
 import org.mapstruct.ap.internal.gem.DecoratedWithGem;
 import org.mapstruct.ap.internal.gem.InheritConfigurationGem;
 import org.mapstruct.ap.internal.gem.InheritInverseConfigurationGem;
+import org.mapstruct.ap.internal.gem.MapperConfigGem;
 import org.mapstruct.ap.internal.gem.MapperGem;
+import org.mapstruct.ap.internal.gem.MappingConstantsGem;
 import org.mapstruct.ap.internal.gem.MappingInheritanceStrategyGem;
+import org.mapstruct.ap.internal.gem.MemoizedGem;
 import org.mapstruct.ap.internal.gem.NullValueMappingStrategyGem;
 import org.mapstruct.ap.internal.model.BeanMappingMethod;
 import org.mapstruct.ap.internal.model.ContainerMappingMethod;
@@ -43,12 +51,17 @@
 import org.mapstruct.ap.internal.model.MapperReference;
 import org.mapstruct.ap.internal.model.MappingBuilderContext;
 import org.mapstruct.ap.internal.model.MappingMethod;
+import org.mapstruct.ap.internal.model.InstrumentedMethod;
+import org.mapstruct.ap.internal.model.MemoizationCacheField;
+import org.mapstruct.ap.internal.model.MemoizationCaches;
+import org.mapstruct.ap.internal.model.MemoizedMethod;
 import org.mapstruct.ap.internal.model.StreamMappingMethod;
 import org.mapstruct.ap.internal.model.SupportingConstructorFragment;
 import org.mapstruct.ap.internal.model.ValueMappingMethod;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.InheritanceCandidateIndex;
 import org.mapstruct.ap.internal.model.source.MapperOptions;
 import org.mapstruct.ap.internal.model.source.MappingMethodOptions;
 import org.mapstruct.ap.internal.model.source.Method;
@@ -60,9 +73,12 @@
 import org.mapstruct.ap.internal.util.ElementUtils;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.NameScope;
+import org.mapstruct.ap.internal.util.RoundContext;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.internal.util.TypeUtils;
 import org.mapstruct.ap.internal.version.VersionInformation;
+import org.mapstruct.ap.spi.ImmutableTypeProvider;
 
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PUBLIC;
@@ -91,6 +107,8 @@ public class MapperCreationProcessor implements ModelElementProcessor<List<Sourc
     private TypeFactory typeFactory;
     private AccessorNamingUtils accessorNaming;
     private MappingBuilderContext mappingContext;
+    private RoundContext roundContext;
+    private ImmutableTypeProvider immutableTypeProvider;
 
     @Override
     public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, List<SourceMethod> sourceModel) {
@@ -101,8 +119,14 @@ public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, L
         this.versionInformation = context.getVersionInformation();
         this.typeFactory = context.getTypeFactory();
         this.accessorNaming = context.getAccessorNaming();
+        this.roundContext = context.getRoundContext();
+        this.immutableTypeProvider = context.getImmutableTypeProvider();
 
-        MapperOptions mapperOptions = MapperOptions.getInstanceOn( mapperTypeElement, context.getOptions() );
+        MapperOptions mapperOptions = MapperOptions.getInstanceOn(
+            mapperTypeElement,
+            context.getOptions(),
+            context.getRoundContext()
+        );
         List<MapperReference> mapperReferences = initReferencedMappers( mapperTypeElement, mapperOptions );
 
         MappingBuilderContext ctx = new MappingBuilderContext(
@@ -121,6 +145,7 @@ public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, L
                 typeFactory,
                 new ArrayList<>( sourceModel ),
                 mapperReferences,
+                immutableTypeProvider,
                 options.isVerbose()
             ),
             mapperTypeElement,
@@ -140,24 +165,99 @@ public int getPriority() {
 
     private List<MapperReference> initReferencedMappers(TypeElement element, MapperOptions mapperAnnotation) {
         List<MapperReference> result = new LinkedList<>();
-        List<String> variableNames = new LinkedList<>();
+        NameScope fieldNames = new NameScope();
+        // other component models replace the references by injected fields
+        boolean defaultComponentModel =
+            MappingConstantsGem.ComponentModelGem.DEFAULT.equals( mapperAnnotation.componentModel() );
+        boolean lazy = options.isLazyMapperReferences() && defaultComponentModel;
+        String implementationPackage = Mapper.getImplementationPackage(
+            element,
+            mapperAnnotation.implementationPackage(),
+            elementUtils
+        );
 
         for ( TypeMirror usedMapper : mapperAnnotation.uses() ) {
+            Element usedMapperElement = typeUtils.asElement( usedMapper );
+            boolean annotatedMapper =
+                roundContext.getGem( usedMapperElement, MapperGem.class, MapperGem::instanceOn ) != null;
+            boolean singleton = hasSingletonInstance( usedMapper );
+            String usedImplementationName = null;
+            if ( options.isFinalImplementations() && defaultComponentModel && annotatedMapper && !singleton ) {
+                usedImplementationName = getFinalImplementationName(
+                    (TypeElement) usedMapperElement,
+                    implementationPackage
+                );
+            }
+
             DefaultMapperReference mapperReference = DefaultMapperReference.getInstance(
                 typeFactory.getType( usedMapper ),
-                MapperGem.instanceOn( typeUtils.asElement( usedMapper ) ) != null,
-                hasSingletonInstance( usedMapper ),
+                annotatedMapper,
+                singleton,
+                lazy,
+                usedImplementationName,
                 typeFactory,
-                variableNames
+                fieldNames
             );
 
             result.add( mapperReference );
-            variableNames.add( mapperReference.getVariableName() );
         }
 
         return result;
     }
 
+    /**
+     * Returns the name of the implementation of the given used mapper if it is generated as final class and accessible
+     * from the given package, so that the referencing mapper can invoke it directly. The component model of a used
+     * mapper which isn't processed in this round is only known if its annotation or its config declares it, as the
+     * processor options it was compiled with may differ from the current ones.
+     *
+     * @param usedMapperElement the used mapper
+     * @param referencingPackage the package of the implementation of the referencing mapper
+     *
+     * @return the name of the implementation, qualified unless in the referencing package, or {@code null}
+     */
+    private String getFinalImplementationName(TypeElement usedMapperElement, String referencingPackage) {
+        MapperOptions usedMapperOptions = MapperOptions.getInstanceOn( usedMapperElement, options, roundContext );
+        if ( !MappingConstantsGem.ComponentModelGem.DEFAULT.equals( usedMapperOptions.componentModel() )
+            || DecoratedWithGem.instanceOn( usedMapperElement ) != null ) {
+            return null;
+        }
+        if ( !roundContext.isMapperOfRound( usedMapperElement )
+            && !declaresDefaultComponentModel( usedMapperElement ) ) {
+            return null;
+        }
+
+        String name = Mapper.getImplementationName( usedMapperElement, usedMapperOptions.implementationName() );
+        String packageName = Mapper.getImplementationPackage(
+            usedMapperElement,
+            usedMapperOptions.implementationPackage(),
+            elementUtils
+        );
+        if ( packageName.equals( referencingPackage ) ) {
+            return name;
+        }
+        if ( !usedMapperElement.getModifiers().contains( Modifier.PUBLIC ) ) {
+            return null;
+        }
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    private boolean declaresDefaultComponentModel(TypeElement mapperElement) {
+        MapperGem mapper = roundContext.getGem( mapperElement, MapperGem.class, MapperGem::instanceOn );
+        if ( mapper.componentModel().hasValue() ) {
+            return MappingConstantsGem.ComponentModelGem.DEFAULT.equals( mapper.componentModel().get() );
+        }
+        if ( !mapper.config().hasValue() || mapper.config().get().getKind() != TypeKind.DECLARED ) {
+            return false;
+        }
+
+        Element mapperConfigElement = typeUtils.asElement( mapper.config().get() );
+        MapperConfigGem mapperConfig =
+            roundContext.getGem( mapperConfigElement, MapperConfigGem.class, MapperConfigGem::instanceOn );
+        return mapperConfig != null && mapperConfig.componentModel().hasValue()
+            && MappingConstantsGem.ComponentModelGem.DEFAULT.equals( mapperConfig.componentModel().get() );
+    }
+
     private boolean hasSingletonInstance(TypeMirror mapper) {
       return typeUtils.asElement( mapper ).getEnclosedElements().stream()
           .anyMatch( a -> isPublicConstantOfType( a, "INSTANCE", mapper ) );
@@ -176,12 +276,22 @@ private boolean isPublicConstantOfType(Element element, String fieldName, TypeMi
 
     private Mapper getMapper(TypeElement element, MapperOptions mapperOptions, List<SourceMethod> methods) {
 
-        List<MappingMethod> mappingMethods = getMappingMethods( mapperOptions, methods );
-        mappingMethods.addAll( mappingContext.getUsedSupportedMappings() );
-        mappingMethods.addAll( mappingContext.getMappingsToGenerate() );
+        Map<SourceMethod, MappingMethod> implementations = new IdentityHashMap<>();
+        List<MappingMethod> mappingMethods = getMappingMethods( mapperOptions, methods, implementations );
 
         // handle fields
         List<Field> fields = new ArrayList<>( mappingContext.getMapperReferences() );
+
+        NameScope methodNames = getMethodNames( element, mappingMethods );
+        List<MemoizedMethod> memoizedMethods =
+            getMemoizedMethods( element, methods, implementations, fields, methodNames );
+        mappingMethods.addAll( memoizedMethods );
+        if ( options.isInstrumentation() ) {
+            mappingMethods.addAll( getInstrumentedMethods( element, methods, implementations, methodNames ) );
+        }
+        mappingMethods.addAll( mappingContext.getUsedSupportedMappings() );
+        mappingMethods.addAll( mappingContext.getMappingsToGenerate() );
+
         Set<Field> supportingFieldSet = new LinkedHashSet<>(mappingContext.getUsedSupportedFields());
         addAllFieldsIn( mappingContext.getUsedSupportedMappings(), supportingFieldSet );
         fields.addAll( supportingFieldSet );
@@ -206,6 +316,18 @@ private Mapper getMapper(TypeElement element, MapperOptions mapperOptions, List<
             .implPackage( mapperOptions.implementationPackage() )
             .build();
 
+        if ( !memoizedMethods.isEmpty() ) {
+            mapper.setMemoizationCaches( new MemoizationCaches( memoizedMethods, typeFactory ) );
+        }
+
+        allocateHolderNames( element, mapper );
+
+        // other component models may require their beans to be proxyable
+        if ( options.isFinalImplementations() && mapper.getDecorator() == null
+            && MappingConstantsGem.ComponentModelGem.DEFAULT.equals( mapperOptions.componentModel() ) ) {
+            mapper.setFinalType( true );
+        }
+
         if ( !mappingContext.getForgedMethodsUnderCreation().isEmpty() ) {
             messager.printMessage( element, Message.GENERAL_NOT_ALL_FORGED_CREATED,
                 mappingContext.getForgedMethodsUnderCreation().keySet() );
@@ -225,6 +347,26 @@ private Mapper getMapper(TypeElement element, MapperOptions mapperOptions, List<
         return mapper;
     }
 
+    /**
+     * Allocates the names of the holder classes of lazily instantiated mappers. The holders are nested in the mapper
+     * implementation, so their names must neither hide a type referenced by the mapper nor a member type it inherits.
+     */
+    private void allocateHolderNames(TypeElement element, Mapper mapper) {
+        NameScope typeNames = null;
+        for ( Field field : mapper.getFields() ) {
+            if ( !( field instanceof DefaultMapperReference ) || !( (DefaultMapperReference) field ).isLazy() ) {
+                continue;
+            }
+            if ( typeNames == null ) {
+                typeNames = mapper.getVisibleTypeNames();
+                for ( TypeElement memberType : ElementFilter.typesIn( elementUtils.getAllMembers( element ) ) ) {
+                    typeNames.add( memberType.getSimpleName().toString() );
+                }
+            }
+            ( (DefaultMapperReference) field ).allocateHolderName( typeNames );
+        }
+    }
+
     private Decorator getDecorator(TypeElement element, List<SourceMethod> methods, String implName,
                                    String implPackage, SortedSet<Type> extraImports) {
         DecoratedWithGem decoratedWith = DecoratedWithGem.instanceOn( element );
@@ -311,19 +453,28 @@ private SortedSet<Type> getExtraImports(TypeElement element,  MapperOptions mapp
         return extraImports;
     }
 
-    private List<MappingMethod> getMappingMethods(MapperOptions mapperAnnotation, List<SourceMethod> methods) {
+    private List<MappingMethod> getMappingMethods(MapperOptions mapperAnnotation, List<SourceMethod> methods,
+                                                  Map<SourceMethod, MappingMethod> implementations) {
         List<MappingMethod> mappingMethods = new ArrayList<>();
+        InheritanceCandidateIndex inheritanceCandidates = new InheritanceCandidateIndex( methods );
 
         for ( SourceMethod method : methods ) {
             if ( !method.overridesMethod() ) {
                 continue;
             }
 
-            mergeInheritedOptions( method, mapperAnnotation, methods, new ArrayList<>() );
+            mergeInheritedOptions(
+                method,
+                mapperAnnotation,
+                inheritanceCandidates,
+                Collections.emptyList(),
+                new ArrayList<>()
+            );
 
             MappingMethodOptions mappingOptions = method.getOptions();
 
             boolean hasFactoryMethod = false;
+            int mappingMethodCount = mappingMethods.size();
 
             if ( method.isIterableMapping() ) {
                 this.messager.note( 1, Message.ITERABLEMAPPING_CREATE_NOTE, method );
@@ -399,7 +550,7 @@ else if ( method.isStreamMapping() ) {
 
                 // If we do StreamMapping that means that internally there is a way to generate the result type
                 hasFactoryMethod =
-                    streamMappingMethod.getFactoryMethod() != null || method.getResultType().isStreamType();
+                    streamMappingMethod.getFactoryMethod() != null || method.getResultType().isStreamOrIteratorType();
                 mappingMethods.add( streamMappingMethod );
             }
             else {
@@ -423,6 +574,10 @@ else if ( method.isStreamMapping() ) {
                 }
             }
 
+            if ( mappingMethods.size() > mappingMethodCount ) {
+                implementations.put( method, mappingMethods.get( mappingMethodCount ) );
+            }
+
             if ( !hasFactoryMethod ) {
                 // A factory method  is allowed to return an interface type and hence, the generated
                 // implementation as well. The check below must only be executed if there's no factory
@@ -460,8 +615,193 @@ private <M extends ContainerMappingMethod> M createWithElementMappingMethod(Sour
             .build();
     }
 
+    /**
+     * Returns the names of the methods of the mapper, i.e. of the methods declared or inherited by the mapper type, of
+     * the mapping methods to generate and of the forged methods. The names of the implementations hidden behind
+     * wrapping methods are allocated from it, so that they neither clash with nor override a method of the mapper.
+     */
+    private NameScope getMethodNames(TypeElement element, List<MappingMethod> mappingMethods) {
+        NameScope methodNames = new NameScope( mappingContext.getReservedNames() );
+        for ( ExecutableElement executable : elementUtils.getAllEnclosedExecutableElements( element ) ) {
+            methodNames.add( executable.getSimpleName().toString() );
+        }
+        for ( MappingMethod mappingMethod : mappingMethods ) {
+            methodNames.add( mappingMethod.getName() );
+        }
+        return methodNames;
+    }
+
+    /**
+     * Creates the caching methods for the {@code @Memoized} methods of the mapper, adding a field for the cache of
+     * each. The generated implementations of memoized abstract methods are renamed, as the caching methods take their
+     * place, while default and concrete methods of the mapper are invoked via {@code super}.
+     */
+    private List<MemoizedMethod> getMemoizedMethods(TypeElement element, List<SourceMethod> methods,
+                                                    Map<SourceMethod, MappingMethod> implementations,
+                                                    List<Field> fields, NameScope methodNames) {
+        List<MemoizedMethod> memoizedMethods = new ArrayList<>();
+        Map<String, SourceMethod> methodsByCacheName = new HashMap<>();
+        NameScope fieldNames = new NameScope();
+        for ( Field field : fields ) {
+            fieldNames.add( field.getVariableName() );
+        }
+
+        Set<ExecutableElement> mapperMethods = new HashSet<>();
+        for ( SourceMethod method : methods ) {
+            MemoizedGem memoized = null;
+            if ( method.getDeclaringMapper() == null ) {
+                mapperMethods.add( method.getExecutable() );
+                memoized = MemoizedGem.instanceOn( method.getExecutable() );
+            }
+            if ( memoized == null || !isMemoizable( method, memoized ) ) {
+                continue;
+            }
+
+            String cacheName = memoized.name().get().isEmpty() ? method.getName() : memoized.name().get();
+            if ( methodsByCacheName.putIfAbsent( cacheName, method ) != null ) {
+                messager.printMessage(
+                    method.getExecutable(),
+                    memoized.mirror(),
+                    Message.MEMOIZED_DUPLICATE_NAME,
+                    cacheName
+                );
+                continue;
+            }
+
+            String implementationName = null;
+            if ( method.overridesMethod() ) {
+                MappingMethod implementation = implementations.get( method );
+                if ( implementation == null ) {
+                    // the mapping method could not be created, which has been reported already
+                    continue;
+                }
+                implementationName = methodNames.allocate( method.getName() + "Uncached" );
+                implementation.hideBehindWrappingMethod( implementationName );
+            }
+
+            Type returnType = method.getReturnType();
+            MemoizationCacheField cacheField = new MemoizationCacheField(
+                typeFactory.getType( "org.mapstruct.MemoizationCache" ),
+                returnType.isPrimitive() ? returnType.getBoxedEquivalent() : returnType,
+                typeFactory.getType( "org.mapstruct.EvictionPolicy" ),
+                memoized.maxSize().get(),
+                memoized.eviction().get(),
+                fieldNames.allocate( cacheName + "Cache" )
+            );
+            fields.add( cacheField );
+
+            memoizedMethods.add( new MemoizedMethod(
+                method,
+                cacheName,
+                cacheField,
+                implementationName,
+                implementationName == null && element.getKind() == ElementKind.INTERFACE ?
+                    typeFactory.getType( element ) : null,
+                method.getParameters().size() > 1 ? typeFactory.getType( Arrays.class ) : null
+            ) );
+        }
+
+        // methods which are no mapping methods, e.g. default methods with several parameters, aren't memoized
+        for ( ExecutableElement executable : elementUtils.getAllEnclosedExecutableElements( element ) ) {
+            MemoizedGem memoized = MemoizedGem.instanceOn( executable );
+            if ( memoized != null && !mapperMethods.contains( executable ) ) {
+                messager.printMessage( executable, memoized.mirror(), Message.MEMOIZED_METHOD_NOT_SUPPORTED );
+            }
+        }
+
+        return memoizedMethods;
+    }
+
+    /**
+     * Creates the methods notifying the {@code MappingListener} about the invocations of the generated mapping methods
+     * when the processor option {@code mapstruct.instrumentation} is set. The generated mapping methods are renamed,
+     * as the instrumented methods take their place.
+     */
+    private List<InstrumentedMethod> getInstrumentedMethods(TypeElement element, List<SourceMethod> methods,
+                                                            Map<SourceMethod, MappingMethod> implementations,
+                                                            NameScope methodNames) {
+        List<InstrumentedMethod> instrumentedMethods = new ArrayList<>();
+        Type listenerType = typeFactory.getType( "org.mapstruct.instrumentation.MappingListener" );
+        Type listenersType = typeFactory.getType( "org.mapstruct.instrumentation.MappingListeners" );
+        for ( SourceMethod method : methods ) {
+            MappingMethod implementation = implementations.get( method );
+            // the implementation of a memoized method is only invoked on cache misses, so it isn't instrumented
+            if ( implementation == null || implementation.isHiddenBehindWrappingMethod() ) {
+                continue;
+            }
+
+            String implementationName = methodNames.allocate( method.getName() + "Uninstrumented" );
+            implementation.hideBehindWrappingMethod( implementationName );
+
+            String methodId = element.getQualifiedName() + "#" + method.getName() +
+                method.getParameters().stream()
+                    .map( parameter -> parameter.getType().getName() )
+                    .collect( Collectors.joining( ", ", "(", ")" ) );
+
+            instrumentedMethods.add( new InstrumentedMethod(
+                method,
+                methodId,
+                implementationName,
+                listenerType,
+                listenersType
+            ) );
+        }
+        return instrumentedMethods;
+    }
+
+    private boolean isMemoizable(SourceMethod method, MemoizedGem memoized) {
+        ExecutableElement executable = method.getExecutable();
+        Message error = null;
+        if ( method.getMappingTargetParameter() != null ) {
+            error = Message.MEMOIZED_UPDATE_METHOD;
+        }
+        else if ( !method.getContextParameters().isEmpty() ) {
+            error = Message.MEMOIZED_CONTEXT_PARAMETER;
+        }
+        else if ( method.isStatic() || executable.getModifiers().contains( Modifier.FINAL )
+            || executable.getModifiers().contains( Modifier.PRIVATE ) || !executable.getTypeParameters().isEmpty()
+            || method.getParameters().isEmpty() || method.getReturnType().isVoid() ) {
+            error = Message.MEMOIZED_METHOD_NOT_SUPPORTED;
+        }
+
+        if ( error != null ) {
+            messager.printMessage( executable, memoized.mirror(), error );
+            return false;
+        }
+
+        if ( memoized.maxSize().get() < 1 ) {
+            messager.printMessage(
+                executable,
+                memoized.mirror(),
+                memoized.maxSize().getAnnotationValue(),
+                Message.MEMOIZED_INVALID_MAX_SIZE,
+                memoized.maxSize().get()
+            );
+            return false;
+        }
+
+        if ( !memoized.allowMutableResult().get() && !isImmutable( method.getReturnType() ) ) {
+            messager.printMessage(
+                executable,
+                memoized.mirror(),
+                Message.MEMOIZED_MUTABLE_RESULT,
+                method.getReturnType().describe()
+            );
+            return false;
+        }
+
+        return true;
+    }
+
+    private boolean isImmutable(Type type) {
+        return type.isPrimitive()
+            || ( type.getTypeElement() != null && immutableTypeProvider.isImmutable( type.getTypeElement() ) );
+    }
+
     private void mergeInheritedOptions(SourceMethod method, MapperOptions mapperConfig,
-                                       List<SourceMethod> availableMethods, List<SourceMethod> initializingMethods) {
+                                       InheritanceCandidateIndex availableMethods,
+                                       List<SourceMethod> inheritedPrototypeMethods,
+                                       List<SourceMethod> initializingMethods) {
         if ( initializingMethods.contains( method ) ) {
             // cycle detected
 
@@ -479,20 +819,23 @@ private void mergeInheritedOptions(SourceMethod method, MapperOptions mapperConf
         MappingMethodOptions mappingOptions = method.getOptions();
         List<SourceMethod> applicableReversePrototypeMethods = method.getApplicableReversePrototypeMethods();
 
-        SourceMethod inverseTemplateMethod =
-            getInverseTemplateMethod( join( availableMethods, applicableReversePrototypeMethods ),
-                method,
-                initializingMethods,
-                mapperConfig );
+        SourceMethod inverseTemplateMethod = getInverseTemplateMethod(
+            availableMethods,
+            join( inheritedPrototypeMethods, applicableReversePrototypeMethods ),
+            method,
+            initializingMethods,
+            mapperConfig
+        );
 
         List<SourceMethod> applicablePrototypeMethods = method.getApplicablePrototypeMethods();
 
-        SourceMethod forwardTemplateMethod =
-            getForwardTemplateMethod(
-                join( availableMethods, applicablePrototypeMethods ),
-                method,
-                initializingMethods,
-                mapperConfig );
+        SourceMethod forwardTemplateMethod = getForwardTemplateMethod(
+            availableMethods,
+            join( inheritedPrototypeMethods, applicablePrototypeMethods ),
+            method,
+            initializingMethods,
+            mapperConfig
+        );
 
         // apply defined (@InheritConfiguration, @InheritInverseConfiguration) mappings
         if ( forwardTemplateMethod != null ) {
@@ -554,20 +897,25 @@ private void reportErrorIfNoImplementationTypeIsRegisteredForInterfaceReturnType
      * {@code @InheritInverseConfiguration} and exactly one such configuring method can unambiguously be selected (as
      * per the source/target type and optionally the name given via {@code @InheritInverseConfiguration}).
      */
-    private SourceMethod getInverseTemplateMethod(List<SourceMethod> rawMethods, SourceMethod method,
+    private SourceMethod getInverseTemplateMethod(InheritanceCandidateIndex availableMethods,
+                                                  List<SourceMethod> prototypeMethods, SourceMethod method,
                                                   List<SourceMethod> initializingMethods,
                                                   MapperOptions mapperConfig) {
         SourceMethod resultMethod = null;
         InheritInverseConfigurationGem inverseConfiguration =
-            InheritInverseConfigurationGem.instanceOn( method.getExecutable() );
+            roundContext.getGem(
+                method.getExecutable(),
+                InheritInverseConfigurationGem.class,
+                InheritInverseConfigurationGem::instanceOn
+            );
 
         if ( inverseConfiguration != null ) {
 
             // method is configured as being inverse method, collect candidates
-            List<SourceMethod> candidates = new ArrayList<>();
-            for ( SourceMethod oneMethod : rawMethods ) {
-                if ( method.inverses( oneMethod ) ) {
-                    candidates.add( oneMethod );
+            List<SourceMethod> candidates = new ArrayList<>( availableMethods.getInverseCandidates( method ) );
+            for ( SourceMethod prototypeMethod : prototypeMethods ) {
+                if ( method.inverses( prototypeMethod ) && !candidates.contains( prototypeMethod ) ) {
+                    candidates.add( prototypeMethod );
                 }
             }
 
@@ -606,16 +954,29 @@ else if ( nameFilteredcandidates.size() > 1 ) {
             }
         }
 
-        return extractInitializedOptions( resultMethod, rawMethods, mapperConfig, initializingMethods );
+        return extractInitializedOptions(
+            resultMethod,
+            availableMethods,
+            prototypeMethods,
+            mapperConfig,
+            initializingMethods
+        );
     }
 
     private SourceMethod extractInitializedOptions(SourceMethod resultMethod,
-                                                     List<SourceMethod> rawMethods,
+                                                     InheritanceCandidateIndex availableMethods,
+                                                     List<SourceMethod> prototypeMethods,
                                                      MapperOptions mapperConfig,
                                                      List<SourceMethod> initializingMethods) {
         if ( resultMethod != null ) {
             if ( !resultMethod.getOptions().isFullyInitialized() ) {
-                mergeInheritedOptions( resultMethod, mapperConfig, rawMethods, initializingMethods );
+                mergeInheritedOptions(
+                    resultMethod,
+                    mapperConfig,
+                    availableMethods,
+                    prototypeMethods,
+                    initializingMethods
+                );
             }
 
             return resultMethod;
@@ -630,22 +991,33 @@ private SourceMethod extractInitializedOptions(SourceMethod resultMethod,
      * source/target type and optionally the name given via {@code @InheritConfiguration}). The method cannot be marked
      * forward mapping itself (hence 'other'). And neither can it contain an {@code @InheritReverseConfiguration}
      */
-    private SourceMethod getForwardTemplateMethod(List<SourceMethod> rawMethods, SourceMethod method,
+    private SourceMethod getForwardTemplateMethod(InheritanceCandidateIndex availableMethods,
+                                                  List<SourceMethod> prototypeMethods, SourceMethod method,
                                                   List<SourceMethod> initializingMethods,
                                                   MapperOptions mapperConfig) {
         SourceMethod resultMethod = null;
         InheritConfigurationGem inheritConfiguration =
-            InheritConfigurationGem.instanceOn( method.getExecutable() );
+            roundContext.getGem(
+                method.getExecutable(),
+                InheritConfigurationGem.class,
+                InheritConfigurationGem::instanceOn
+            );
 
         if ( inheritConfiguration != null ) {
 
             List<SourceMethod> candidates = new ArrayList<>();
-            for ( SourceMethod oneMethod : rawMethods ) {
+            for ( SourceMethod oneMethod : availableMethods.getForwardCandidates( method ) ) {
                 // method must be similar but not equal
-                if ( method.canInheritFrom( oneMethod ) && !( oneMethod.equals( method ) ) ) {
+                if ( !( oneMethod.equals( method ) ) ) {
                     candidates.add( oneMethod );
                 }
             }
+            for ( SourceMethod prototypeMethod : prototypeMethods ) {
+                if ( method.canInheritFrom( prototypeMethod ) && !prototypeMethod.equals( method )
+                    && !candidates.contains( prototypeMethod ) ) {
+                    candidates.add( prototypeMethod );
+                }
+            }
 
             String name = inheritConfiguration.name().get();
             if ( candidates.size() == 1 ) {
@@ -683,7 +1055,13 @@ else if ( nameFilteredcandidates.size() > 1 ) {
             }
         }
 
-        return extractInitializedOptions( resultMethod, rawMethods, mapperConfig, initializingMethods );
+        return extractInitializedOptions(
+            resultMethod,
+            availableMethods,
+            prototypeMethods,
+            mapperConfig,
+            initializingMethods
+        );
     }
 
     private void reportErrorWhenAmbigousReverseMapping(List<SourceMethod> candidates, SourceMethod method,
@@ -0,0 +1,289 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.mapstruct.ap.internal.model.GeneratedAnnotation;
+import org.mapstruct.ap.internal.model.MapperRegistry;
+import org.mapstruct.ap.internal.model.MapperRegistryServicesEntry;
+import org.mapstruct.ap.internal.model.NativeImageReflectConfig;
+import org.mapstruct.ap.internal.model.SpringConfiguration;
+import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.version.VersionInformation;
+import org.mapstruct.ap.internal.writer.ModelWriter;
+import org.mapstruct.ap.internal.writer.Writable;
+
+/**
+ * Collects the generated mapper implementations with the default component model across all processing rounds, in
+ * order to create the {@link MapperRegistry mapper registries} and the native image configuration for them.
+ * <p>
+ * A registry is written per package of the mapper implementations generated in a round. If later rounds generate
+ * further implementations in the same package, e.g. for deferred mappers, another registry is written for them. The
+ * files referencing all registries and implementations are written once the processing is over.
+ * <p>
+ * The beans of mappers with the Spring component model are collected likewise, in order to create a Spring
+ * configuration per package declaring them.
+ */
+public class MapperRegistrations {
+
+    private static final String REGISTRY_NAME = "MapStructMapperRegistry";
+    private static final String SPRING_CONFIGURATION_NAME = "MapStructSpringConfiguration";
+    private static final String SPRING_CONFIGURATION_ANNOTATION =
+        "org.springframework.context.annotation.Configuration";
+
+    private final Map<String, List<Registration>> pendingRegistrationsByPackage = new TreeMap<>();
+    private final Map<String, Integer> registryCountByPackage = new HashMap<>();
+    private final Map<String, List<SpringBeans>> pendingSpringBeansByPackage = new TreeMap<>();
+    private final Map<String, Integer> springConfigurationCountByPackage = new HashMap<>();
+    private final List<String> registryNames = new ArrayList<>();
+    private final List<String> implementationNames = new ArrayList<>();
+
+    /**
+     * Registers a generated mapper implementation.
+     *
+     * @param mapperElement the mapper type
+     * @param implementationPackage the package of the implementation type
+     * @param implementationName the simple name of the implementation type
+     */
+    public void register(TypeElement mapperElement, String implementationPackage, String implementationName) {
+        String qualifiedImplementationName = implementationPackage.isEmpty() ?
+            implementationName :
+            implementationPackage + "." + implementationName;
+
+        pendingRegistrationsByPackage.computeIfAbsent( implementationPackage, p -> new ArrayList<>() )
+            .add( new Registration( mapperElement, qualifiedImplementationName ) );
+        implementationNames.add( qualifiedImplementationName );
+    }
+
+    /**
+     * Registers the beans of a generated Spring mapper, i.e. of its implementation and, if present, its decorator.
+     *
+     * @param mapperElement the mapper type
+     * @param implementationPackage the package of the implementation types
+     * @param beans the beans to be declared
+     */
+    public void registerSpringBeans(TypeElement mapperElement, String implementationPackage,
+                                    List<SpringConfiguration.Bean> beans) {
+        pendingSpringBeansByPackage.computeIfAbsent( implementationPackage, p -> new ArrayList<>() )
+            .add( new SpringBeans( mapperElement, beans ) );
+    }
+
+    /**
+     * Writes the registries, if enabled, and the Spring configurations for the mappers registered in the current
+     * round.
+     *
+     * @param processingEnv the processing environment, for writing the files and checking the available types
+     * @param options the processor options
+     */
+    public void writeRegistries(ProcessingEnvironment processingEnv, Options options) {
+        Filer filer = processingEnv.getFiler();
+        ModelWriter modelWriter = new ModelWriter( options.getEmissionBackend() );
+        boolean pendingRegistries = options.isGenerateMapperRegistry() && !pendingRegistrationsByPackage.isEmpty();
+        GeneratedAnnotation generated = pendingRegistries || !pendingSpringBeansByPackage.isEmpty() ?
+            getGeneratedAnnotation( processingEnv, options ) :
+            null;
+
+        if ( pendingRegistries ) {
+            for ( Map.Entry<String, List<Registration>> registrations : pendingRegistrationsByPackage.entrySet() ) {
+                writeRegistry( filer, modelWriter, registrations.getKey(), generated, registrations.getValue() );
+            }
+        }
+        pendingRegistrationsByPackage.clear();
+
+        if ( !pendingSpringBeansByPackage.isEmpty() ) {
+            boolean proxyBeanMethodsSupported = isProxyBeanMethodsSupported( processingEnv.getElementUtils() );
+            for ( Map.Entry<String, List<SpringBeans>> springBeans : pendingSpringBeansByPackage.entrySet() ) {
+                writeSpringConfiguration(
+                    filer,
+                    modelWriter,
+                    springBeans.getKey(),
+                    generated,
+                    springBeans.getValue(),
+                    proxyBeanMethodsSupported
+                );
+            }
+        }
+        pendingSpringBeansByPackage.clear();
+    }
+
+    /**
+     * Writes the service file referencing all registries and the native image configuration, if enabled. To be
+     * invoked once the processing is over.
+     */
+    public void writeConfiguration(Filer filer, Options options) {
+        ModelWriter modelWriter = new ModelWriter( options.getEmissionBackend() );
+        if ( !registryNames.isEmpty() ) {
+            writeResource(
+                filer,
+                modelWriter,
+                "META-INF/services/org.mapstruct.factory.MapperRegistry",
+                new MapperRegistryServicesEntry( registryNames )
+            );
+        }
+
+        if ( options.isGenerateNativeImageConfig() && !implementationNames.isEmpty() ) {
+            // the mappers are processed in no particular order, sorting keeps the configuration the same across builds
+            Collections.sort( implementationNames );
+            // the package of the first implementation distinguishes the configuration from the ones of other modules
+            String firstImplementationName = implementationNames.get( 0 );
+            int packageEnd = firstImplementationName.lastIndexOf( '.' );
+            String directory = packageEnd < 0 ? "default" : firstImplementationName.substring( 0, packageEnd );
+            writeResource(
+                filer,
+                modelWriter,
+                "META-INF/native-image/mapstruct/" + directory + "/reflect-config.json",
+                new NativeImageReflectConfig( implementationNames )
+            );
+        }
+    }
+
+    private void writeRegistry(Filer filer, ModelWriter modelWriter, String packageName,
+                               GeneratedAnnotation generated, List<Registration> registrations) {
+        int registryCount = registryCountByPackage.merge( packageName, 1, Integer::sum );
+        String registryName = registryCount == 1 ? REGISTRY_NAME : REGISTRY_NAME + registryCount;
+
+        // the mappers are processed in no particular order, sorting keeps the registry the same across builds
+        registrations.sort( Comparator.comparing( registration -> registration.implementationName ) );
+        List<MapperRegistry.Entry> entries = new ArrayList<>( registrations.size() );
+        Element[] originatingElements = new Element[registrations.size()];
+        for ( int i = 0; i < registrations.size(); i++ ) {
+            Registration registration = registrations.get( i );
+            entries.add( new MapperRegistry.Entry(
+                registration.mapperElement.getQualifiedName().toString(),
+                registration.implementationName
+            ) );
+            originatingElements[i] = registration.mapperElement;
+        }
+
+        MapperRegistry registry = new MapperRegistry( packageName, registryName, generated, entries );
+        try {
+            modelWriter.writeModel(
+                filer.createSourceFile( registry.getQualifiedName(), originatingElements ),
+                registry
+            );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+        registryNames.add( registry.getQualifiedName() );
+    }
+
+    /**
+     * Returns the {@code @Generated} annotation of the registries and configurations. As for the mapper
+     * implementations, {@code javax.annotation.processing.Generated} is preferred if the sources are compiled for Java
+     * 9 or later.
+     */
+    private static GeneratedAnnotation getGeneratedAnnotation(ProcessingEnvironment processingEnv, Options options) {
+        VersionInformation versionInformation = DefaultVersionInformation.fromProcessingEnvironment( processingEnv );
+        Elements elementUtils = processingEnv.getElementUtils();
+
+        String typeName = null;
+        if ( versionInformation.isSourceVersionAtLeast9() &&
+            elementUtils.getTypeElement( "javax.annotation.processing.Generated" ) != null ) {
+            typeName = "javax.annotation.processing.Generated";
+        }
+        else if ( elementUtils.getTypeElement( "javax.annotation.Generated" ) != null ) {
+            typeName = "javax.annotation.Generated";
+        }
+
+        return new GeneratedAnnotation( typeName, options, versionInformation );
+    }
+
+    /**
+     * {@code @Configuration#proxyBeanMethods()} was added in Spring Framework 5.2.
+     */
+    private static boolean isProxyBeanMethodsSupported(Elements elementUtils) {
+        TypeElement configuration = elementUtils.getTypeElement( SPRING_CONFIGURATION_ANNOTATION );
+        return configuration != null && ElementFilter.methodsIn( configuration.getEnclosedElements() )
+            .stream()
+            .anyMatch( method -> method.getSimpleName().contentEquals( "proxyBeanMethods" ) );
+    }
+
+    private void writeSpringConfiguration(Filer filer, ModelWriter modelWriter, String packageName,
+                                          GeneratedAnnotation generated, List<SpringBeans> springBeans,
+                                          boolean proxyBeanMethodsSupported) {
+        int configurationCount = springConfigurationCountByPackage.merge( packageName, 1, Integer::sum );
+        String configurationName = configurationCount == 1 ?
+            SPRING_CONFIGURATION_NAME :
+            SPRING_CONFIGURATION_NAME + configurationCount;
+
+        // the mappers are processed in no particular order, sorting keeps the configuration the same across builds
+        springBeans.sort( Comparator.comparing( mapper -> mapper.mapperElement.getQualifiedName().toString() ) );
+        List<SpringConfiguration.Bean> beans = new ArrayList<>();
+        Element[] originatingElements = new Element[springBeans.size()];
+        for ( int i = 0; i < springBeans.size(); i++ ) {
+            beans.addAll( springBeans.get( i ).beans );
+            originatingElements[i] = springBeans.get( i ).mapperElement;
+        }
+
+        SpringConfiguration configuration = new SpringConfiguration(
+            packageName,
+            configurationName,
+            generated,
+            beans,
+            proxyBeanMethodsSupported
+        );
+        try {
+            modelWriter.writeModel(
+                filer.createSourceFile( configuration.getQualifiedName(), originatingElements ),
+                configuration
+            );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    private void writeResource(Filer filer, ModelWriter modelWriter, String fileName, Writable model) {
+        FileObject resource;
+        try {
+            resource = filer.createResource( StandardLocation.CLASS_OUTPUT, "", fileName );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+
+        modelWriter.writeModel( resource, model );
+    }
+
+    private static class Registration {
+
+        private final TypeElement mapperElement;
+        private final String implementationName;
+
+        private Registration(TypeElement mapperElement, String implementationName) {
+            this.mapperElement = mapperElement;
+            this.implementationName = implementationName;
+        }
+    }
+
+    private static class SpringBeans {
+
+        private final TypeElement mapperElement;
+        private final List<SpringConfiguration.Bean> beans;
+
+        private SpringBeans(TypeElement mapperElement, List<SpringConfiguration.Bean> beans) {
+            this.mapperElement = mapperElement;
+            this.beans = beans;
+        }
+    }
+}
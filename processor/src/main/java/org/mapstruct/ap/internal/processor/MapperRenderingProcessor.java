@@ -13,6 +13,7 @@
 
 import org.mapstruct.ap.internal.model.GeneratedType;
 import org.mapstruct.ap.internal.model.Mapper;
+import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.writer.ModelWriter;
 
 /**
@@ -26,15 +27,15 @@ public class MapperRenderingProcessor implements ModelElementProcessor<Mapper, M
     @Override
     public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
         if ( !context.isErroneous() ) {
-            writeToSourceFile( context.getFiler(), mapper, mapperTypeElement );
+            writeToSourceFile( context.getFiler(), context.getOptions(), mapper, mapperTypeElement );
             return mapper;
         }
 
         return null;
     }
 
-    private void writeToSourceFile(Filer filer, Mapper model, TypeElement originatingElement) {
-        ModelWriter modelWriter = new ModelWriter();
+    private void writeToSourceFile(Filer filer, Options options, Mapper model, TypeElement originatingElement) {
+        ModelWriter modelWriter = new ModelWriter( options.getEmissionBackend() );
 
         createSourceFile( model, modelWriter, filer, originatingElement );
 
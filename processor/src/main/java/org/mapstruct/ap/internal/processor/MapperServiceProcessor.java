@@ -18,6 +18,7 @@
 import org.mapstruct.ap.internal.model.ServicesEntry;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.MapperOptions;
+import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.writer.ModelWriter;
 
 /**
@@ -26,26 +27,29 @@
  *
  * Service files will only be generated for mappers with the default component model
  * unless force using the {@code mapstruct.alwaysGenerateServicesFile} option.
+ * <p>
+ * Mappers with the default component model are furthermore registered with the {@link MapperRegistrations} if the
+ * {@code mapstruct.generateMapperRegistry} or {@code mapstruct.generateNativeImageConfig} option is enabled.
  *
  * @author Christophe Labouisse on 12/07/2015.
  */
 public class MapperServiceProcessor  implements ModelElementProcessor<Mapper, Void> {
     @Override
     public Void process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
-        boolean spiGenerationNeeded;
+        String componentModel = MapperOptions.getInstanceOn(
+            mapperTypeElement,
+            context.getOptions(),
+            context.getRoundContext()
+        ).componentModel();
+        boolean defaultComponentModel = MappingConstantsGem.ComponentModelGem.DEFAULT.equals( componentModel );
+        boolean spiGenerationNeeded = defaultComponentModel || context.getOptions().isAlwaysGenerateSpi();
 
-        if ( context.getOptions().isAlwaysGenerateSpi() ) {
-            spiGenerationNeeded = true;
-        }
-        else {
-            String componentModel =
-                MapperOptions.getInstanceOn( mapperTypeElement, context.getOptions() ).componentModel( );
-
-            spiGenerationNeeded = MappingConstantsGem.ComponentModelGem.DEFAULT.equals( componentModel );
+        if ( !context.isErroneous() && spiGenerationNeeded && mapper.hasCustomImplementation() ) {
+            writeToSourceFile( context.getFiler(), context.getOptions(), mapper );
         }
 
-        if ( !context.isErroneous() && spiGenerationNeeded && mapper.hasCustomImplementation() ) {
-            writeToSourceFile( context.getFiler(), mapper );
+        if ( !context.isErroneous() && defaultComponentModel && isRegistrationNeeded( context ) ) {
+            register( context.getMapperRegistrations(), mapperTypeElement, mapper );
         }
         return null;
     }
@@ -55,8 +59,17 @@ public int getPriority() {
         return 10000;
     }
 
-    private void writeToSourceFile(Filer filer, Mapper model) {
-        ModelWriter modelWriter = new ModelWriter();
+    private boolean isRegistrationNeeded(ProcessorContext context) {
+        return context.getOptions().isGenerateMapperRegistry() || context.getOptions().isGenerateNativeImageConfig();
+    }
+
+    private void register(MapperRegistrations registrations, TypeElement mapperTypeElement, Mapper mapper) {
+        GeneratedType implementation = mapper.getDecorator() != null ? mapper.getDecorator() : mapper;
+        registrations.register( mapperTypeElement, implementation.getPackageName(), implementation.getName() );
+    }
+
+    private void writeToSourceFile(Filer filer, Options options, Mapper model) {
+        ModelWriter modelWriter = new ModelWriter( options.getEmissionBackend() );
         ServicesEntry servicesEntry = getServicesEntry( model );
 
         createSourceFile( servicesEntry, modelWriter, filer );
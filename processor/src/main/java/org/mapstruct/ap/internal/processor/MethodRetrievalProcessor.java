@@ -36,6 +36,7 @@
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.model.source.BeanMappingOptions;
 import org.mapstruct.ap.internal.model.source.EnumMappingOptions;
+import org.mapstruct.ap.internal.model.source.InheritanceCandidateIndex;
 import org.mapstruct.ap.internal.model.source.IterableMappingOptions;
 import org.mapstruct.ap.internal.model.source.MapMappingOptions;
 import org.mapstruct.ap.internal.model.source.MapperOptions;
@@ -50,6 +51,7 @@
 import org.mapstruct.ap.internal.util.Executables;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.RoundContext;
 import org.mapstruct.ap.internal.util.TypeUtils;
 import org.mapstruct.ap.spi.EnumTransformationStrategy;
 
@@ -75,6 +77,7 @@ public class MethodRetrievalProcessor implements ModelElementProcessor<Void, Lis
     private TypeUtils typeUtils;
     private ElementUtils elementUtils;
     private Options options;
+    private RoundContext roundContext;
 
     @Override
     public List<SourceMethod> process(ProcessorContext context, TypeElement mapperTypeElement, Void sourceModel) {
@@ -85,10 +88,15 @@ public List<SourceMethod> process(ProcessorContext context, TypeElement mapperTy
         this.elementUtils = context.getElementUtils();
         this.enumTransformationStrategies = context.getEnumTransformationStrategies();
         this.options = context.getOptions();
+        this.roundContext = context.getRoundContext();
 
         this.messager.note( 0, Message.PROCESSING_NOTE, mapperTypeElement );
 
-        MapperOptions mapperOptions = MapperOptions.getInstanceOn( mapperTypeElement, context.getOptions() );
+        MapperOptions mapperOptions = MapperOptions.getInstanceOn(
+            mapperTypeElement,
+            context.getOptions(),
+            context.getRoundContext()
+        );
 
         if ( mapperOptions.hasMapperConfig() ) {
             this.messager.note( 0, Message.CONFIG_NOTE, mapperOptions.mapperConfigType().asElement().getSimpleName() );
@@ -101,7 +109,9 @@ public List<SourceMethod> process(ProcessorContext context, TypeElement mapperTy
                 mapperOptions.getAnnotationMirror() );
         }
 
-        List<SourceMethod> prototypeMethods = retrievePrototypeMethods( mapperTypeElement, mapperOptions );
+        InheritanceCandidateIndex prototypeMethods = new InheritanceCandidateIndex(
+            retrievePrototypeMethods( mapperTypeElement, mapperOptions )
+        );
         return retrieveMethods( mapperTypeElement, mapperTypeElement, mapperOptions, prototypeMethods );
     }
 
@@ -125,7 +135,7 @@ private List<SourceMethod> retrievePrototypeMethods(TypeElement mapperTypeElemen
             boolean containsTargetTypeParameter = SourceMethod.containsTargetTypeParameter( parameters );
 
             // prototype methods don't have prototypes themselves
-            List<SourceMethod> prototypeMethods = Collections.emptyList();
+            InheritanceCandidateIndex prototypeMethods = InheritanceCandidateIndex.empty();
 
             SourceMethod method =
                 getMethodRequiringImplementation(
@@ -152,11 +162,12 @@ private List<SourceMethod> retrievePrototypeMethods(TypeElement mapperTypeElemen
      * @param usedMapper The type of interest (either the mapper to implement or a used mapper via @uses annotation)
      * @param mapperToImplement the top level type (mapper) that requires implementation
      * @param mapperOptions the mapper config
-     * @param prototypeMethods prototype methods defined in mapper config type
+     * @param prototypeMethods index over the prototype methods defined in mapper config type
      * @return All mapping methods declared by the given type
      */
     private List<SourceMethod> retrieveMethods(TypeElement usedMapper, TypeElement mapperToImplement,
-                                               MapperOptions mapperOptions, List<SourceMethod> prototypeMethods) {
+                                               MapperOptions mapperOptions,
+                                               InheritanceCandidateIndex prototypeMethods) {
         List<SourceMethod> methods = new ArrayList<>();
 
         for ( ExecutableElement executable : elementUtils.getAllEnclosedExecutableElements( usedMapper ) ) {
@@ -205,7 +216,7 @@ private SourceMethod getMethod(TypeElement usedMapper,
                                    ExecutableElement method,
                                    TypeElement mapperToImplement,
                                    MapperOptions mapperOptions,
-                                   List<SourceMethod> prototypeMethods) {
+                                   InheritanceCandidateIndex prototypeMethods) {
 
         ExecutableType methodType = typeFactory.getMethodType( (DeclaredType) usedMapper.asType(), method );
         List<Parameter> parameters = typeFactory.getParameters( methodType, method );
@@ -239,7 +250,7 @@ private SourceMethod getMethodRequiringImplementation(ExecutableType methodType,
             List<Parameter> parameters,
             boolean containsTargetTypeParameter,
             MapperOptions mapperOptions,
-            List<SourceMethod> prototypeMethods,
+            InheritanceCandidateIndex prototypeMethods,
             TypeElement mapperToImplement) {
         Type returnType = typeFactory.getReturnType( methodType );
         List<Type> exceptionTypes = typeFactory.getThrownTypes( methodType );
@@ -266,7 +277,7 @@ private SourceMethod getMethodRequiringImplementation(ExecutableType methodType,
             retrieveContextProvidedMethods( contextParameters, mapperToImplement, mapperOptions );
 
         BeanMappingOptions beanMappingOptions = BeanMappingOptions.getInstanceOn(
-            BeanMappingGem.instanceOn( method ),
+            roundContext.getGem( method, BeanMappingGem.class, BeanMappingGem::instanceOn ),
             mapperOptions,
             method,
             messager,
@@ -277,7 +288,7 @@ private SourceMethod getMethodRequiringImplementation(ExecutableType methodType,
             getMappings( method, method, beanMappingOptions, new LinkedHashSet<>(), new HashSet<>() );
 
         IterableMappingOptions iterableMappingOptions = IterableMappingOptions.fromGem(
-            IterableMappingGem.instanceOn( method ),
+            roundContext.getGem( method, IterableMappingGem.class, IterableMappingGem::instanceOn ),
             mapperOptions,
             method,
             messager,
@@ -285,7 +296,7 @@ private SourceMethod getMethodRequiringImplementation(ExecutableType methodType,
         );
 
         MapMappingOptions mapMappingOptions = MapMappingOptions.fromGem(
-            MapMappingGem.instanceOn( method ),
+            roundContext.getGem( method, MapMappingGem.class, MapMappingGem::instanceOn ),
             mapperOptions,
             method,
             messager,
@@ -331,7 +342,7 @@ private ParameterProvidedMethods retrieveContextProvidedMethods(
                 contextParam.getType().getTypeElement(),
                 mapperToImplement,
                 mapperConfig,
-                Collections.emptyList() );
+                InheritanceCandidateIndex.empty() );
 
             List<SourceMethod> contextProvidedMethods = new ArrayList<>( contextParamMethods.size() );
             for ( SourceMethod sourceMethod : contextParamMethods ) {
@@ -498,7 +509,7 @@ private boolean checkParameterAndReturnType(ExecutableElement method, List<Param
 
         Type parameterType = sourceParameters.get( 0 ).getType();
 
-        if ( isStreamTypeOrIterableFromJavaStdLib( parameterType ) && !resultType.isIterableOrStreamType() ) {
+        if ( isStreamTypeOrIterableFromJavaStdLib( parameterType ) && !isSequenceType( resultType ) ) {
             messager.printMessage( method, Message.RETRIEVAL_ITERABLE_TO_NON_ITERABLE );
             return false;
         }
@@ -508,7 +519,7 @@ private boolean checkParameterAndReturnType(ExecutableElement method, List<Param
             return false;
         }
 
-        if ( !parameterType.isIterableOrStreamType() && isStreamTypeOrIterableFromJavaStdLib( resultType ) ) {
+        if ( !isSequenceType( parameterType ) && isStreamTypeOrIterableFromJavaStdLib( resultType ) ) {
             messager.printMessage( method, Message.RETRIEVAL_NON_ITERABLE_TO_ITERABLE );
             return false;
         }
@@ -550,7 +561,11 @@ private boolean checkParameterAndReturnType(ExecutableElement method, List<Param
     }
 
     private boolean isStreamTypeOrIterableFromJavaStdLib(Type type) {
-        return type.isStreamType() || ( type.isIterableType() && type.isJavaLangType() );
+        return type.isStreamOrIteratorType() || ( type.isIterableType() && type.isJavaLangType() );
+    }
+
+    private boolean isSequenceType(Type type) {
+        return type.isIterableOrStreamType() || type.isStreamOrIteratorType();
     }
 
     /**
@@ -572,12 +587,12 @@ private Set<MappingOptions> getMappings(ExecutableElement method, Element elemen
             Element lElement = annotationMirror.getAnnotationType().asElement();
             if ( isAnnotation( lElement, MAPPING_FQN ) ) {
                 // although getInstanceOn does a search on annotation mirrors, the order is preserved
-                MappingGem mapping = MappingGem.instanceOn( element );
+                MappingGem mapping = roundContext.getGem( element, MappingGem.class, MappingGem::instanceOn );
                 MappingOptions.addInstance( mapping, method, beanMapping, messager, typeUtils, mappingOptions );
             }
             else if ( isAnnotation( lElement, MAPPINGS_FQN ) ) {
                 // although getInstanceOn does a search on annotation mirrors, the order is preserved
-                MappingsGem mappings = MappingsGem.instanceOn( element );
+                MappingsGem mappings = roundContext.getGem( element, MappingsGem.class, MappingsGem::instanceOn );
                 MappingOptions.addInstances( mappings, method, beanMapping, messager, typeUtils, mappingOptions );
             }
             else if ( !isAnnotationInPackage( lElement, JAVA_LANG_ANNOTATION_PGK )
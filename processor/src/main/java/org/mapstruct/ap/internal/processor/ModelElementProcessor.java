@@ -16,9 +16,11 @@
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
 import org.mapstruct.ap.internal.util.FormattingMessager;
+import org.mapstruct.ap.internal.util.RoundContext;
 import org.mapstruct.ap.internal.version.VersionInformation;
 import org.mapstruct.ap.spi.EnumMappingStrategy;
 import org.mapstruct.ap.spi.EnumTransformationStrategy;
+import org.mapstruct.ap.spi.ImmutableTypeProvider;
 
 /**
  * A processor which performs one task of the mapper generation, e.g. retrieving
@@ -58,10 +60,20 @@ public interface ProcessorContext {
 
         EnumMappingStrategy getEnumMappingStrategy();
 
+        ImmutableTypeProvider getImmutableTypeProvider();
+
         Options getOptions();
 
         VersionInformation getVersionInformation();
 
+        RoundContext getRoundContext();
+
+        /**
+         * @return the mapper implementations to be registered with mapper registries and the native image
+         * configuration, collected across all rounds
+         */
+        MapperRegistrations getMapperRegistrations();
+
         /**
          * Whether the currently processed mapper type is erroneous which is the
          * case if at least one diagnostic with {@link Kind#ERROR} is reported
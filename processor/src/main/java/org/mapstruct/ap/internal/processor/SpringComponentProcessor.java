@@ -9,15 +9,26 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import javax.lang.model.element.TypeElement;
 
 import org.mapstruct.ap.internal.gem.MappingConstantsGem;
+import org.mapstruct.ap.internal.model.AnnotatedConstructor;
 import org.mapstruct.ap.internal.model.Annotation;
+import org.mapstruct.ap.internal.model.AnnotationMapperReference;
+import org.mapstruct.ap.internal.model.Constructor;
+import org.mapstruct.ap.internal.model.GeneratedType;
 import org.mapstruct.ap.internal.model.Mapper;
+import org.mapstruct.ap.internal.model.SpringConfiguration;
 
 /**
  * A {@link ModelElementProcessor} which converts the given {@link Mapper}
  * object into a Spring bean in case Spring is configured as the
  * target component model for this mapper.
+ * <p>
+ * If the {@code mapstruct.generateSpringConfiguration} option is enabled, the generated types aren't annotated with
+ * {@code @Component}. Instead, they are declared by {@code @Bean} methods of a generated {@code @Configuration} class
+ * per package, which invoke their constructors directly.
  *
  * @author Gunnar Morling
  * @author Andreas Gudian
@@ -31,7 +42,9 @@ protected String getComponentModelIdentifier() {
     @Override
     protected List<Annotation> getTypeAnnotations(Mapper mapper) {
         List<Annotation> typeAnnotations = new ArrayList<>();
-        typeAnnotations.add( component() );
+        if ( !getOptions().isGenerateSpringConfiguration() ) {
+            typeAnnotations.add( component() );
+        }
 
         if ( mapper.getDecorator() != null ) {
             typeAnnotations.add( qualifierDelegate() );
@@ -42,6 +55,10 @@ protected List<Annotation> getTypeAnnotations(Mapper mapper) {
 
     @Override
     protected List<Annotation> getDecoratorAnnotations() {
+        if ( getOptions().isGenerateSpringConfiguration() ) {
+            return Collections.singletonList( primary() );
+        }
+
         return Arrays.asList(
             component(),
             primary()
@@ -68,6 +85,82 @@ protected boolean requiresGenerationOfDecoratorClass() {
         return true;
     }
 
+    @Override
+    protected void componentModelApplied(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
+        if ( !getOptions().isGenerateSpringConfiguration() || context.isErroneous() ) {
+            return;
+        }
+
+        List<SpringConfiguration.Bean> beans = new ArrayList<>();
+        if ( mapper.getDecorator() != null ) {
+            beans.add( getBean( mapper.getDecorator(), primary() ) );
+            beans.add( getBean( mapper, qualifierDelegate() ) );
+        }
+        else {
+            beans.add( getBean( mapper, null ) );
+        }
+
+        context.getMapperRegistrations().registerSpringBeans( mapperTypeElement, mapper.getPackageName(), beans );
+    }
+
+    private SpringConfiguration.Bean getBean(GeneratedType generatedType, Annotation beanAnnotation) {
+        String implementationName = generatedType.getPackageName().isEmpty() ?
+            generatedType.getName() :
+            generatedType.getPackageName() + "." + generatedType.getName();
+
+        List<SpringConfiguration.BeanParameter> parameters = new ArrayList<>();
+        Constructor constructor = generatedType.getConstructor();
+        if ( constructor instanceof AnnotatedConstructor ) {
+            for ( AnnotationMapperReference reference : ( (AnnotatedConstructor) constructor ).getMapperReferences() ) {
+                parameters.add( new SpringConfiguration.BeanParameter(
+                    reference.getType().getFullyQualifiedName(),
+                    reference.getVariableName(),
+                    toSource( reference.getAnnotations() )
+                ) );
+            }
+        }
+
+        return new SpringConfiguration.Bean(
+            getBeanName( generatedType.getName() ),
+            decapitalize( generatedType.getName() ),
+            implementationName,
+            beanAnnotation != null ? toSource( Collections.singletonList( beanAnnotation ) ) : Collections.emptyList(),
+            parameters
+        );
+    }
+
+    /**
+     * Returns the name Spring's {@code AnnotationBeanNameGenerator} would derive for a component of the given type, so
+     * that the beans keep their names. Like {@code ClassUtils#getShortName()}, it separates the names of nested types
+     * with a dot, e.g. {@code outer.InnerImpl} for the implementation of a nested mapper.
+     */
+    private String getBeanName(String simpleName) {
+        return decapitalize( simpleName.replace( '$', '.' ) );
+    }
+
+    /**
+     * Decapitalizes the given name like {@code Introspector#decapitalize()}.
+     */
+    private String decapitalize(String name) {
+        if ( name.length() > 1 && Character.isUpperCase( name.charAt( 0 ) )
+            && Character.isUpperCase( name.charAt( 1 ) ) ) {
+            return name;
+        }
+        return name.substring( 0, 1 ).toLowerCase( Locale.ROOT ) + name.substring( 1 );
+    }
+
+    private List<String> toSource(List<Annotation> annotations) {
+        List<String> sources = new ArrayList<>( annotations.size() );
+        for ( Annotation annotation : annotations ) {
+            String source = "@" + annotation.getType().getFullyQualifiedName();
+            if ( !annotation.getProperties().isEmpty() ) {
+                source += "(" + String.join( ", ", annotation.getProperties() ) + ")";
+            }
+            sources.add( source );
+        }
+        return sources;
+    }
+
     private Annotation autowired() {
         return new Annotation( getTypeFactory().getType( "org.springframework.beans.factory.annotation.Autowired" ) );
     }
@@ -66,6 +66,7 @@
 import org.mapstruct.ap.internal.util.NativeTypes;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.internal.util.TypeUtils;
+import org.mapstruct.ap.spi.ImmutableTypeProvider;
 
 /**
  * The one and only implementation of {@link MappingResolver}. The class has been split into an interface an
@@ -88,6 +89,7 @@ public class MappingResolverImpl implements MappingResolver {
     private final Conversions conversions;
     private final BuiltInMappingMethods builtInMethods;
     private final MethodSelectors methodSelectors;
+    private final ImmutableTypeProvider immutableTypeProvider;
 
     private final boolean verboseLogging;
 
@@ -106,7 +108,8 @@ public class MappingResolverImpl implements MappingResolver {
 
     public MappingResolverImpl(FormattingMessager messager, ElementUtils elementUtils, TypeUtils typeUtils,
                                TypeFactory typeFactory, List<Method> sourceModel,
-                               List<MapperReference> mapperReferences, boolean verboseLogging) {
+                               List<MapperReference> mapperReferences, ImmutableTypeProvider immutableTypeProvider,
+                               boolean verboseLogging) {
         this.messager = messager;
         this.typeUtils = typeUtils;
         this.typeFactory = typeFactory;
@@ -117,6 +120,7 @@ public MappingResolverImpl(FormattingMessager messager, ElementUtils elementUtil
         this.conversions = new Conversions( typeFactory );
         this.builtInMethods = new BuiltInMappingMethods( typeFactory );
         this.methodSelectors = new MethodSelectors( typeUtils, elementUtils, typeFactory, messager );
+        this.immutableTypeProvider = immutableTypeProvider;
 
         this.verboseLogging = verboseLogging;
     }
@@ -375,16 +379,19 @@ private boolean allowDirect( Type sourceType, Type targetType ) {
                 return true;
             }
 
-            return allowDirect( sourceType ) || allowDirect( targetType );
+            // only immutable source values can be shared, as the target type says nothing about the assigned value
+            return allowDirect( sourceType, true ) || allowDirect( targetType, false );
         }
 
-        private boolean allowDirect(Type type) {
+        private boolean allowDirect(Type type, boolean shareImmutable) {
             if ( type.isPrimitive() ) {
                 return true;
             }
 
             if ( type.isArrayType() ) {
-                return type.isJavaLangType() || type.getComponentType().isPrimitive();
+                // the array itself is copied, so its elements may be shared if they are immutable
+                return type.isJavaLangType() || type.getComponentType().isPrimitive()
+                    || ( shareImmutable && isImmutable( type.getComponentType() ) );
             }
 
             if ( type.isIterableOrStreamType() ) {
@@ -392,7 +399,7 @@ private boolean allowDirect(Type type) {
                 // For iterable or stream direct mapping is enabled when:
                 // - The type is raw (no type parameters)
                 // - The type parameter is allowed
-                return typeParameters.isEmpty() || allowDirect( Collections.first( typeParameters ) );
+                return typeParameters.isEmpty() || allowDirect( Collections.first( typeParameters ), shareImmutable );
             }
 
             if ( type.isMapType() ) {
@@ -401,10 +408,18 @@ private boolean allowDirect(Type type) {
                 // - The type os raw (no type parameters
                 // - The key and value are direct assignable
                 return typeParameters.isEmpty() ||
-                    ( allowDirect( typeParameters.get( 0 ) ) && allowDirect( typeParameters.get( 1 ) ) );
+                    ( allowDirect( typeParameters.get( 0 ), shareImmutable )
+                        && allowDirect( typeParameters.get( 1 ), shareImmutable ) );
             }
 
-            return type.isJavaLangType();
+            return type.isJavaLangType() || ( shareImmutable && isImmutable( type ) );
+        }
+
+        /**
+         * Immutable values can be shared between source and target, e.g. instead of forging a method cloning them.
+         */
+        private boolean isImmutable(Type type) {
+            return type.getTypeElement() != null && immutableTypeProvider.isImmutable( type.getTypeElement() );
         }
 
         private boolean allowConversion() {
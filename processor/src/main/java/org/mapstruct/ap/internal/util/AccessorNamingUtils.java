@@ -5,6 +5,8 @@
  */
 package org.mapstruct.ap.internal.util;
 
+import java.util.HashMap;
+import java.util.Map;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
@@ -22,21 +24,35 @@
 
 /**
  * Utils for working with the {@link AccessorNamingStrategy}.
+ * <p>
+ * Unless the strategy is not {@link AccessorNamingStrategy#isCacheable() cacheable}, the method types and property
+ * names it determines are memoized per method. An instance should therefore not outlive an annotation processing
+ * round.
  *
  * @author Filip Hrisafov
  */
 public final class AccessorNamingUtils {
 
     private final AccessorNamingStrategy accessorNamingStrategy;
+    private final Map<ExecutableElement, MethodType> methodTypes;
+    private final Map<ExecutableElement, String> propertyNames;
 
     public AccessorNamingUtils(AccessorNamingStrategy accessorNamingStrategy) {
         this.accessorNamingStrategy = accessorNamingStrategy;
+        if ( accessorNamingStrategy.isCacheable() ) {
+            this.methodTypes = new HashMap<>();
+            this.propertyNames = new HashMap<>();
+        }
+        else {
+            this.methodTypes = null;
+            this.propertyNames = null;
+        }
     }
 
     public boolean isGetterMethod(ExecutableElement executable) {
         return executable != null && isPublicNotStatic( executable ) &&
             executable.getParameters().isEmpty() &&
-            accessorNamingStrategy.getMethodType( executable ) == MethodType.GETTER;
+            getMethodType( executable ) == MethodType.GETTER;
     }
 
     public boolean isPresenceCheckMethod(ExecutableElement executable) {
@@ -46,25 +62,28 @@ && isPublicNotStatic( executable )
             && executable.getParameters().isEmpty()
             && ( executable.getReturnType().getKind() == TypeKind.BOOLEAN ||
             "java.lang.Boolean".equals( getQualifiedName( executable.getReturnType() ) ) )
-            && accessorNamingStrategy.getMethodType( executable ) == MethodType.PRESENCE_CHECKER;
+            && getMethodType( executable ) == MethodType.PRESENCE_CHECKER;
     }
 
     public boolean isSetterMethod(ExecutableElement executable) {
         return executable != null
             && isPublicNotStatic( executable )
             && executable.getParameters().size() == 1
-            && accessorNamingStrategy.getMethodType( executable ) == MethodType.SETTER;
+            && getMethodType( executable ) == MethodType.SETTER;
     }
 
     public boolean isAdderMethod(ExecutableElement executable) {
         return executable != null
             && isPublicNotStatic( executable )
             && executable.getParameters().size() == 1
-            && accessorNamingStrategy.getMethodType( executable ) == MethodType.ADDER;
+            && getMethodType( executable ) == MethodType.ADDER;
     }
 
     public String getPropertyName(ExecutableElement executable) {
-        return accessorNamingStrategy.getPropertyName( executable );
+        if ( propertyNames == null ) {
+            return accessorNamingStrategy.getPropertyName( executable );
+        }
+        return propertyNames.computeIfAbsent( executable, accessorNamingStrategy::getPropertyName );
     }
 
     /**
@@ -82,6 +101,13 @@ public String getElementNameForAdder(Accessor adderMethod) {
         }
     }
 
+    private MethodType getMethodType(ExecutableElement executable) {
+        if ( methodTypes == null ) {
+            return accessorNamingStrategy.getMethodType( executable );
+        }
+        return methodTypes.computeIfAbsent( executable, accessorNamingStrategy::getMethodType );
+    }
+
     private static String getQualifiedName(TypeMirror type) {
         DeclaredType declaredType = type.accept(
             new SimpleTypeVisitor6<DeclaredType, Void>() {
@@ -25,9 +25,11 @@
 import org.mapstruct.ap.spi.DefaultAccessorNamingStrategy;
 import org.mapstruct.ap.spi.DefaultBuilderProvider;
 import org.mapstruct.ap.spi.DefaultEnumMappingStrategy;
+import org.mapstruct.ap.spi.DefaultImmutableTypeProvider;
 import org.mapstruct.ap.spi.EnumMappingStrategy;
 import org.mapstruct.ap.spi.EnumTransformationStrategy;
 import org.mapstruct.ap.spi.FreeBuilderAccessorNamingStrategy;
+import org.mapstruct.ap.spi.ImmutableTypeProvider;
 import org.mapstruct.ap.spi.ImmutablesAccessorNamingStrategy;
 import org.mapstruct.ap.spi.ImmutablesBuilderProvider;
 import org.mapstruct.ap.spi.MapStructProcessingEnvironment;
@@ -44,10 +46,10 @@ public class AnnotationProcessorContext implements MapStructProcessingEnvironmen
     private BuilderProvider builderProvider;
     private AccessorNamingStrategy accessorNamingStrategy;
     private EnumMappingStrategy enumMappingStrategy;
+    private ImmutableTypeProvider immutableTypeProvider;
     private boolean initialized;
     private Map<String, EnumTransformationStrategy> enumTransformationStrategies;
 
-    private AccessorNamingUtils accessorNaming;
     private Elements elementUtils;
     private Types typeUtils;
     private Messager messager;
@@ -111,8 +113,6 @@ else if ( elementUtils.getTypeElement( FreeBuilderConstants.FREE_BUILDER_FQN ) !
                 "MapStruct: Using builder provider: " + this.builderProvider.getClass().getCanonicalName()
             );
         }
-        this.accessorNaming = new AccessorNamingUtils( this.accessorNamingStrategy );
-
         this.enumMappingStrategy = Services.get( EnumMappingStrategy.class, new DefaultEnumMappingStrategy() );
         this.enumMappingStrategy.init( this );
         if ( verbose ) {
@@ -123,6 +123,15 @@ else if ( elementUtils.getTypeElement( FreeBuilderConstants.FREE_BUILDER_FQN ) !
             );
         }
 
+        this.immutableTypeProvider = Services.get( ImmutableTypeProvider.class, new DefaultImmutableTypeProvider() );
+        if ( verbose ) {
+            messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                "MapStruct: Using immutable type provider: "
+                    + this.immutableTypeProvider.getClass().getCanonicalName()
+            );
+        }
+
         this.enumTransformationStrategies = new LinkedHashMap<>();
         ServiceLoader<EnumTransformationStrategy> transformationStrategiesLoader = ServiceLoader.load(
             EnumTransformationStrategy.class,
@@ -240,11 +249,6 @@ public List<AstModifyingAnnotationProcessor> getAstModifyingAnnotationProcessors
         return astModifyingAnnotationProcessors;
     }
 
-    public AccessorNamingUtils getAccessorNaming() {
-        initialize();
-        return accessorNaming;
-    }
-
     public AccessorNamingStrategy getAccessorNamingStrategy() {
         initialize();
         return accessorNamingStrategy;
@@ -255,6 +259,11 @@ public EnumMappingStrategy getEnumMappingStrategy() {
         return enumMappingStrategy;
     }
 
+    public ImmutableTypeProvider getImmutableTypeProvider() {
+        initialize();
+        return immutableTypeProvider;
+    }
+
     public BuilderProvider getBuilderProvider() {
         initialize();
         return builderProvider;
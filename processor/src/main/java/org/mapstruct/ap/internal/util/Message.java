@@ -95,12 +95,28 @@ public enum Message {
     MAPMAPPING_SELECT_VALUE_NOTE( "selecting value mapping: %s.", Diagnostic.Kind.NOTE ),
     MAPMAPPING_CREATE_KEY_NOTE( "creating key mapping: %s.", Diagnostic.Kind.NOTE ),
     MAPMAPPING_CREATE_VALUE_NOTE( "creating value mapping: %s.", Diagnostic.Kind.NOTE ),
+    MAPMAPPING_PARALLEL_WITH_CONTEXT( "Can't map the entries in parallel with context parameter \"%s\", which might not be thread-safe. Only a java.util.concurrent.Executor can be passed as context of a parallel mapping." ),
+    MAPMAPPING_PARALLEL_WITH_LIFECYCLE_METHOD( "Can't map the entries in parallel, as lifecycle method %s could be invoked concurrently." ),
+    MAPMAPPING_PARALLEL_WITH_CHECKED_EXCEPTION( "Can't map the entries in parallel, as the key or value mapping throws checked exception %s." ),
 
     STREAMMAPPING_CREATE_NOTE( "creating stream mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
     ITERABLEMAPPING_CREATE_NOTE( "creating iterable mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
     ITERABLEMAPPING_SELECT_ELEMENT_NOTE( "selecting element mapping: %s.", Diagnostic.Kind.NOTE ),
     ITERABLEMAPPING_CREATE_ELEMENT_NOTE( "creating element mapping: %s.", Diagnostic.Kind.NOTE ),
     ITERABLEMAPPING_MAPPING_NOT_FOUND( "No implementation can be generated for this method. Found no method nor implicit conversion for mapping source element type into target element type." ),
+    ITERABLEMAPPING_BATCH_FACTORY_WITHOUT_UPDATE_METHOD( "Can't use batch factory method %s: found no update method for mapping the source element type \"%s\" onto the target element type \"%s\"." ),
+    ITERABLEMAPPING_AMBIGUOUS_BATCH_UPDATE_METHOD( "Ambiguous update methods found for mapping the source element type \"%s\" onto the target element type \"%s\" created by batch factory method %s: %s." ),
+    ITERABLEMAPPING_PARALLEL_NOT_SUPPORTED( "Can't map the elements of \"%s\" to \"%s\" in parallel. Parallel mapping is supported for collection and array sources with non-primitive elements, which are not created by a batch factory method and not written into an existing array." ),
+    ITERABLEMAPPING_PARALLEL_WITH_CONTEXT( "Can't map the elements in parallel with context parameter \"%s\", which might not be thread-safe. Only a java.util.concurrent.Executor can be passed as context of a parallel mapping, except for mappings to a Stream." ),
+    ITERABLEMAPPING_PARALLEL_WITH_LIFECYCLE_METHOD( "Can't map the elements in parallel, as lifecycle method %s could be invoked concurrently." ),
+    ITERABLEMAPPING_PARALLEL_WITH_BEFORE_MAPPING_TARGET( "Can't map the elements into a new array in parallel, as lifecycle method %s would be invoked with the array before it is created." ),
+    ITERABLEMAPPING_PARALLEL_WITH_CHECKED_EXCEPTION( "Can't map the elements in parallel, as the element mapping throws checked exception %s." ),
+    ITERABLEMAPPING_LAZY_NOT_SUPPORTED( "Can't map the elements of \"%s\" lazily to \"%s\". Lazy mapping is supported for mapping a List or an array to a new List, Collection or Iterable." ),
+    ITERABLEMAPPING_LAZY_WITH_CHECKED_EXCEPTION( "Can't map the elements lazily, as the element mapping throws checked exception %s." ),
+    ITERABLEMAPPING_MERGE_NOT_SUPPORTED( "Can't merge the elements of \"%s\" into \"%s\" by key. Merging is supported for update methods with a Collection target." ),
+    ITERABLEMAPPING_UNKNOWN_MERGE_KEY( "Unknown merge key property \"%s\" in element type %s." ),
+    ITERABLEMAPPING_MERGE_KEY_TYPE_MISMATCH( "Merge key property \"%s\" of type %s in source element type %s is not assignable to its type %s in target element type %s." ),
+    ITERABLEMAPPING_MERGE_WITHOUT_UPDATE_METHOD( "Can't merge by key: found no update method for mapping the source element type \"%s\" onto the target element type \"%s\"." ),
     ITERABLEMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are undefined in @IterableMapping, define at least one of them." ),
 
     ENUMMAPPING_MULTIPLE_SOURCES( "One enum constant must not be mapped to more than one target constant, but constant %s is mapped to %s." ),
@@ -116,6 +132,13 @@ public enum Message {
 
     LIFECYCLEMETHOD_AMBIGUOUS_PARAMETERS( "Lifecycle method has multiple matching parameters (e. g. same type), in this case please ensure to name the parameters in the lifecycle and mapping method identical. This lifecycle method will not be used for the mapping method '%s'.", Diagnostic.Kind.WARNING),
 
+    MEMOIZED_UPDATE_METHOD( "@Memoized can't be applied to update methods, as they modify their @MappingTarget parameter instead of returning a result." ),
+    MEMOIZED_CONTEXT_PARAMETER( "@Memoized can't be applied to methods with @Context parameters, as the context isn't part of the cache key." ),
+    MEMOIZED_MUTABLE_RESULT( "@Memoized can't be applied to a method returning the mutable type %s, as all callers would share the cached result. Set @Memoized#allowMutableResult to memoize it nevertheless." ),
+    MEMOIZED_METHOD_NOT_SUPPORTED( "@Memoized can only be applied to non-static, non-final and non-generic mapping methods of the mapper returning a result." ),
+    MEMOIZED_INVALID_MAX_SIZE( "The maximum size of a memoization cache must be positive, but was %s." ),
+    MEMOIZED_DUPLICATE_NAME( "The memoization cache name \"%s\" is used by several methods. Specify distinct names with @Memoized#name." ),
+
     DECORATOR_NO_SUBTYPE( "Specified decorator type is no subtype of the annotated mapper type." ),
     DECORATOR_CONSTRUCTOR( "Specified decorator type has no default constructor nor a constructor with a single parameter accepting the decorated mapper type." ),
 
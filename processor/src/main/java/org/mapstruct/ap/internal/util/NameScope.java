@@ -0,0 +1,151 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The names declared within one scope of the generated code, e.g. the fields of a mapper (class scope), the variables
+ * of a mapping method (method scope) or the variables of a loop within such a method (loop scope). The names of the
+ * enclosing scopes are visible within a nested scope, but names declared in a nested scope don't leak into the
+ * enclosing one.
+ * <p>
+ * {@link #allocate(String)} returns the same names as {@link Strings#getSafeVariableName(String, Collection)} would.
+ * As names are never removed from a scope, the suffix last handed out for a base name is remembered, so that
+ * allocating many names with the same base name doesn't probe the same suffixes over and over again.
+ */
+public class NameScope extends AbstractSet<String> {
+
+    private final NameScope parent;
+    private final Set<String> names;
+    private final Map<String, Integer> nextSuffixes = new HashMap<>();
+
+    public NameScope() {
+        this( null, Collections.emptyList() );
+    }
+
+    public NameScope(Collection<String> names) {
+        this( null, names );
+    }
+
+    private NameScope(NameScope parent, Collection<String> names) {
+        this.parent = parent;
+        this.names = new HashSet<>( names );
+    }
+
+    /**
+     * @param names the names declared in a scope
+     *
+     * @return the given names if they are a scope already, a new scope declaring the given names otherwise
+     */
+    public static NameScope of(Collection<String> names) {
+        return names instanceof NameScope ? (NameScope) names : new NameScope( names );
+    }
+
+    /**
+     * @return a new scope nested within this scope, e.g. for the body of a loop
+     */
+    public NameScope newNestedScope() {
+        return new NameScope( this, Collections.emptyList() );
+    }
+
+    /**
+     * Declares a new name in this scope.
+     *
+     * @param name the name to get a safe version for
+     *
+     * @return the declared name, based on the given name and not conflicting with any name visible in this scope or
+     * any Java keyword
+     */
+    public String allocate(String name) {
+        String safeName = getSafeName( name );
+        names.add( safeName );
+        return safeName;
+    }
+
+    /**
+     * Declares a new type name in this scope, e.g. of a nested class. Unlike {@link #allocate(String)}, the given name
+     * is kept as is, apart from a numeric suffix if it is taken already.
+     *
+     * @param name the type name to get a safe version for
+     *
+     * @return the declared type name, based on the given name and not conflicting with any name visible in this scope
+     */
+    public String allocateTypeName(String name) {
+        String safeName = name;
+        int suffix = 1;
+        while ( contains( safeName ) ) {
+            safeName = name + suffix++;
+        }
+        names.add( safeName );
+        return safeName;
+    }
+
+    /**
+     * Returns a name which can be declared in this scope, without declaring it.
+     *
+     * @param name the name to get a safe version for
+     *
+     * @return a name based on the given name, not conflicting with any name visible in this scope or any Java keyword
+     */
+    public String getSafeName(String name) {
+        String baseName = Strings.toVariableName( name );
+        if ( !isTaken( baseName ) ) {
+            return baseName;
+        }
+
+        String separator = Character.isDigit( baseName.charAt( baseName.length() - 1 ) ) ? "_" : "";
+        String prefix = baseName + separator;
+        int suffix = nextSuffixes.getOrDefault( prefix, 1 );
+        while ( isTaken( prefix + suffix ) ) {
+            suffix++;
+        }
+        nextSuffixes.put( prefix, suffix );
+
+        return prefix + suffix;
+    }
+
+    private boolean isTaken(String name) {
+        return Strings.isKeyword( name ) || contains( name );
+    }
+
+    @Override
+    public boolean contains(Object name) {
+        return names.contains( name ) || ( parent != null && parent.contains( name ) );
+    }
+
+    @Override
+    public boolean add(String name) {
+        return !contains( name ) && names.add( name );
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        if ( parent == null ) {
+            return Collections.unmodifiableSet( names ).iterator();
+        }
+        return Stream.concat( parent.stream(), names.stream().filter( name -> !parent.contains( name ) ) )
+            .collect( Collectors.toList() )
+            .iterator();
+    }
+
+    @Override
+    public int size() {
+        if ( parent == null ) {
+            return names.size();
+        }
+        return parent.size() + (int) names.stream().filter( name -> !parent.contains( name ) ).count();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Provides functionality around nullability annotations.
+ * <p>
+ * Like most null checkers, annotations are recognized by their simple name, so that the annotations of all common
+ * libraries (JSpecify, JSR-305, Checker Framework, Eclipse JDT, AndroidX, Spring, Lombok) as well as project specific
+ * ones are supported: {@code @NonNull} and {@code @Nonnull} declare a value to be non-null, {@code @Nullable} and
+ * {@code @CheckForNull} declare it to be nullable, and {@code @NullMarked}, {@code @NonNullApi} and
+ * {@code @NonNullByDefault} declare all values within a class or a package to be non-null unless annotated otherwise.
+ * The JetBrains {@code @NotNull} annotation is recognized by its qualified name only, as Bean Validation's
+ * {@code @NotNull} is a constraint to be validated rather than a guarantee.
+ */
+public class Nullability {
+
+    private static final Set<String> NON_NULL_ANNOTATIONS = new HashSet<>( Arrays.asList(
+        "NonNull",
+        "Nonnull"
+    ) );
+
+    private static final String JETBRAINS_NOT_NULL_ANNOTATION = "org.jetbrains.annotations.NotNull";
+
+    private static final Set<String> NULLABLE_ANNOTATIONS = new HashSet<>( Arrays.asList(
+        "Nullable",
+        "CheckForNull"
+    ) );
+
+    private static final Set<String> NON_NULL_BY_DEFAULT_ANNOTATIONS = new HashSet<>( Arrays.asList(
+        "NullMarked",
+        "NonNullApi",
+        "NonNullByDefault"
+    ) );
+
+    private static final Set<String> NULL_UNMARKED_ANNOTATIONS = Collections.singleton( "NullUnmarked" );
+
+    private Nullability() {
+    }
+
+    /**
+     * Checks whether the value of the given element is declared to be non-null. For a method this is the value it
+     * returns, for a field or a parameter the value it holds.
+     *
+     * @param element the method, field or parameter
+     *
+     * @return {@code true} if the value of the element is declared to be non-null, {@code false} otherwise
+     */
+    public static boolean isNonNull(Element element) {
+        if ( element == null ) {
+            return false;
+        }
+
+        TypeMirror type = element.getKind() == ElementKind.METHOD || element.getKind() == ElementKind.CONSTRUCTOR ?
+            ( (ExecutableElement) element ).getReturnType() :
+            element.asType();
+
+        if ( type.getKind().isPrimitive() ) {
+            return true;
+        }
+
+        if ( hasAnnotation( type.getAnnotationMirrors(), NULLABLE_ANNOTATIONS )
+            || hasAnnotation( element.getAnnotationMirrors(), NULLABLE_ANNOTATIONS ) ) {
+            return false;
+        }
+
+        if ( isNonNullAnnotated( type.getAnnotationMirrors() )
+            || isNonNullAnnotated( element.getAnnotationMirrors() ) ) {
+            return true;
+        }
+
+        // the nullness of type variables depends on their use, so only concrete types are non-null by default
+        return type.getKind() != TypeKind.TYPEVAR && isInNonNullByDefaultScope( element );
+    }
+
+    private static boolean isInNonNullByDefaultScope(Element element) {
+        for ( Element scope = element; scope != null; scope = scope.getEnclosingElement() ) {
+            if ( hasAnnotation( scope.getAnnotationMirrors(), NULL_UNMARKED_ANNOTATIONS ) ) {
+                return false;
+            }
+            if ( hasAnnotation( scope.getAnnotationMirrors(), NON_NULL_BY_DEFAULT_ANNOTATIONS ) ) {
+                return true;
+            }
+            if ( scope.getKind() == ElementKind.PACKAGE ) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNonNullAnnotated(List<? extends AnnotationMirror> annotations) {
+        for ( AnnotationMirror annotation : annotations ) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if ( NON_NULL_ANNOTATIONS.contains( annotationType.getSimpleName().toString() )
+                || JETBRAINS_NOT_NULL_ANNOTATION.equals( annotationType.getQualifiedName().toString() ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAnnotation(List<? extends AnnotationMirror> annotations, Set<String> simpleNames) {
+        for ( AnnotationMirror annotation : annotations ) {
+            if ( simpleNames.contains( annotation.getAnnotationType().asElement().getSimpleName().toString() ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
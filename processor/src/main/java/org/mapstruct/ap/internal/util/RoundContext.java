@@ -5,12 +5,22 @@
  */
 package org.mapstruct.ap.internal.util;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-
+import java.util.function.Function;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 
 import org.mapstruct.ap.spi.AstModifyingAnnotationProcessor;
+import org.mapstruct.ap.spi.BuilderInfo;
+import org.mapstruct.ap.spi.BuilderProvider;
+import org.mapstruct.ap.spi.MoreThanOneBuilderCreationMethodException;
 
 /**
  * Keeps contextual data in the scope of one annotation processing round.
@@ -19,18 +29,123 @@
  */
 public class RoundContext {
 
+    /**
+     * Marker for elements on which a gem has been looked up, but was not present.
+     */
+    private static final Object ABSENT_GEM = new Object();
+
+    /**
+     * Marker for type elements for which the builder provider did not find a builder.
+     */
+    private static final Object NO_BUILDER = new Object();
+
     private final AnnotationProcessorContext annotationProcessorContext;
     private final Set<TypeMirror> clearedTypes;
+    private final Map<Class<?>, Map<Element, Object>> gems;
+    private final Map<TypeElement, Object> builderInfos;
+    private final Set<TypeElement> mapperElements;
+    private AccessorNamingUtils accessorNaming;
 
     public RoundContext(AnnotationProcessorContext annotationProcessorContext) {
         this.annotationProcessorContext = annotationProcessorContext;
         this.clearedTypes = new HashSet<>();
+        this.gems = new HashMap<>();
+        this.builderInfos = new HashMap<>();
+        this.mapperElements = new HashSet<>();
     }
 
     public AnnotationProcessorContext getAnnotationProcessorContext() {
         return annotationProcessorContext;
     }
 
+    /**
+     * @return the accessor naming utils for this round, memoizing the results of the accessor naming strategy
+     */
+    public AccessorNamingUtils getAccessorNaming() {
+        if ( accessorNaming == null ) {
+            accessorNaming = new AccessorNamingUtils( annotationProcessorContext.getAccessorNamingStrategy() );
+        }
+        return accessorNaming;
+    }
+
+    /**
+     * Returns the gem of the given type on the given element. The gem is read only once per element within this
+     * round, which is worthwhile for elements that are visited for many mappers, such as {@code MapperConfig}s and
+     * their prototype methods.
+     *
+     * @param element the element to read the gem from
+     * @param gemType the type of the gem
+     * @param instanceOn the gem reader, e.g. {@code MappingGem::instanceOn}
+     * @param <G> the type of the gem
+     *
+     * @return the gem, or {@code null} if the element is not annotated with the gem's annotation
+     */
+    public <G> G getGem(Element element, Class<G> gemType, Function<Element, G> instanceOn) {
+        Map<Element, Object> gemsOfType = gems.computeIfAbsent( gemType, type -> new HashMap<>() );
+        Object gem = gemsOfType.get( element );
+        if ( gem == null ) {
+            gem = instanceOn.apply( element );
+            gemsOfType.put( element, gem == null ? ABSENT_GEM : gem );
+        }
+        return gem == ABSENT_GEM ? null : gemType.cast( gem );
+    }
+
+    /**
+     * Finds the builder info for the given type using the configured {@link BuilderProvider}. For declared types the
+     * outcome is determined only once per type element within this round. This includes types without a builder and
+     * types with more than one builder creation method.
+     *
+     * @param type the type for which a builder should be found
+     *
+     * @return the builder info for the {@code type} if it exists, or {@code null} if there is no builder
+     *
+     * @throws MoreThanOneBuilderCreationMethodException if {@code type} has more than one method that can create the
+     * builder
+     */
+    public BuilderInfo findBuilderInfo(TypeMirror type) {
+        BuilderProvider builderProvider = annotationProcessorContext.getBuilderProvider();
+        if ( type.getKind() != TypeKind.DECLARED ) {
+            return builderProvider.findBuilderInfo( type );
+        }
+
+        TypeElement typeElement = (TypeElement) ( (DeclaredType) type ).asElement();
+        Object builderInfo = builderInfos.get( typeElement );
+        if ( builderInfo == null ) {
+            try {
+                builderInfo = builderProvider.findBuilderInfo( type );
+            }
+            catch ( MoreThanOneBuilderCreationMethodException ex ) {
+                builderInfo = ex;
+            }
+            builderInfos.put( typeElement, builderInfo == null ? NO_BUILDER : builderInfo );
+        }
+
+        if ( builderInfo instanceof MoreThanOneBuilderCreationMethodException ) {
+            throw (MoreThanOneBuilderCreationMethodException) builderInfo;
+        }
+        return builderInfo == NO_BUILDER ? null : (BuilderInfo) builderInfo;
+    }
+
+    /**
+     * Registers the given mappers as being processed in this round.
+     *
+     * @param mappers the mappers processed in this round
+     */
+    public void addMapperElements(Collection<TypeElement> mappers) {
+        mapperElements.addAll( mappers );
+    }
+
+    /**
+     * Whether the given mapper is processed in this round, i.e. its implementation is generated with the same
+     * processor options as the implementations of the other mappers of this round.
+     *
+     * @param mapper the mapper to check
+     * @return true when the given mapper is processed in this round
+     */
+    public boolean isMapperOfRound(TypeElement mapper) {
+        return mapperElements.contains( mapper );
+    }
+
     /**
      * Marks the given type as being ready for further processing.
      * @param type the type that is ready for further processing by MapStruct
@@ -9,7 +9,6 @@
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
 
@@ -148,23 +147,22 @@ public static String getSafeVariableName(String name, String... existingVariable
      * any Java keyword; starting with a lower-case letter
      */
     public static String getSafeVariableName(String name, Collection<String> existingVariableNames) {
-        name = decapitalize( sanitizeIdentifierName( name ) );
-        name = joinAndCamelize( extractParts( name ) );
-
-        Set<String> conflictingNames = new HashSet<>( KEYWORDS );
-        conflictingNames.addAll( existingVariableNames );
-
-        if ( !conflictingNames.contains( name ) ) {
-            return name;
-        }
+        return NameScope.of( existingVariableNames ).getSafeName( name );
+    }
 
-        int c = 1;
-        String separator = Character.isDigit( name.charAt( name.length() - 1 ) ) ? "_" : "";
-        while ( conflictingNames.contains( name + separator + c ) ) {
-            c++;
-        }
+    /**
+     * @param name the name to convert
+     *
+     * @return the given name without characters not allowed in a Java identifier, camelized at dots and starting with
+     * a lower-case letter
+     */
+    static String toVariableName(String name) {
+        name = decapitalize( sanitizeIdentifierName( name ) );
+        return joinAndCamelize( extractParts( name ) );
+    }
 
-        return name + separator + c;
+    static boolean isKeyword(String name) {
+        return KEYWORDS.contains( name );
     }
 
     /**
@@ -13,6 +13,7 @@ public enum AccessorType {
     SETTER,
     ADDER,
     MAP_GET,
+    MAP_PUT,
     MAP_CONTAINS,
     PRESENCE_CHECKER;
 
@@ -10,6 +10,7 @@
 
 import org.mapstruct.ap.internal.writer.Writable.Context;
 
+import freemarker.core.Environment;
 import freemarker.ext.beans.BeanModel;
 import freemarker.ext.beans.BeansWrapper;
 import freemarker.ext.beans.SimpleMapModel;
@@ -29,16 +30,32 @@
  */
 public class FreeMarkerModelElementWriter {
 
+    private static final String CONTEXT_ATTRIBUTE = Context.class.getName();
+
     public void write(FreeMarkerWritable writable, Context context, Writer writer) throws Exception {
         Configuration configuration = context.get( Configuration.class );
         Template template = configuration.getTemplate( writable.getTemplateName() );
-        template.process(
+        Environment environment = template.createProcessingEnvironment(
             new ExternalParamsTemplateModel(
                 new BeanModel( writable, BeansWrapper.getDefaultInstance() ),
                 new SimpleMapModel( context.get( Map.class ), BeansWrapper.getDefaultInstance() )
             ),
             writer
         );
+        environment.setCustomAttribute( CONTEXT_ATTRIBUTE, context );
+        environment.process();
+    }
+
+    /**
+     * Returns the context of the element written in the given environment, so that the elements included by its
+     * template are written with the same context.
+     *
+     * @param environment the environment of the template of a written element
+     *
+     * @return the context of the written element, or {@code null} if the template is not processed by this writer
+     */
+    static Context getContext(Environment environment) {
+        return (Context) environment.getCustomAttribute( CONTEXT_ATTRIBUTE );
     }
 
     private static class ExternalParamsTemplateModel implements TemplateHashModel {
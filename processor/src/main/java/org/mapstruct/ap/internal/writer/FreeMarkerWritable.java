@@ -7,16 +7,39 @@
 
 import java.io.Writer;
 
+import org.mapstruct.ap.internal.option.EmissionBackend;
+
 /**
- * A {@link Writable} which uses the FreeMarker template engine to generate the output.
+ * A {@link Writable} which uses the FreeMarker template engine to generate the output, unless it provides a
+ * {@link JavaEmitter}.
  *
  * @author Gunnar Morling
  */
 public abstract class FreeMarkerWritable implements Writable {
 
     @Override
+    @SuppressWarnings("unchecked")
     public void write(Context context, Writer writer) throws Exception {
-        new FreeMarkerModelElementWriter().write( this, context, writer );
+        JavaEmitter<FreeMarkerWritable> emitter = (JavaEmitter<FreeMarkerWritable>) getJavaEmitter();
+
+        if ( emitter != null && context.get( EmissionBackend.class ) != EmissionBackend.FREEMARKER ) {
+            emitter.emit( this, context, writer );
+        }
+        else {
+            new FreeMarkerModelElementWriter().write( this, context, writer );
+        }
+    }
+
+    /**
+     * Returns the emitter writing this element with plain Java code instead of its template. By default there is none,
+     * so the template is used. Elements written very often can return an emitter writing exactly what their template
+     * writes, saving the template engine's reflective property lookups. The emitter is not used if
+     * {@link EmissionBackend#FREEMARKER} is selected.
+     *
+     * @return the emitter for this element, or {@code null} if the template is to be used
+     */
+    protected JavaEmitter<?> getJavaEmitter() {
+        return null;
     }
 
     /**
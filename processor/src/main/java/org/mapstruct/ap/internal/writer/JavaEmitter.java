@@ -0,0 +1,242 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.writer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.writer.ModelWriter.IncludedModelElementWriterContext;
+import org.mapstruct.ap.internal.writer.Writable.Context;
+
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.utility.DeepUnwrap;
+
+/**
+ * Writes a {@link FreeMarkerWritable} with plain Java code instead of its FreeMarker template. Emitters are given for
+ * the model elements written most often (see {@link FreeMarkerWritable#getJavaEmitter()}), as each property access
+ * from a template is a reflective lookup. An emitter must write exactly what the template of its element writes, except
+ * for the indentation of the lines, which is corrected when writing the generated sources (see
+ * {@link IndentationCorrectingWriter}).
+ *
+ * @param <T> the type of the written element
+ */
+public abstract class JavaEmitter<T extends FreeMarkerWritable> {
+
+    /**
+     * Writes the given element to the given writer.
+     *
+     * @param writable the element to write
+     * @param context the context of the element, as passed to {@link Writable#write(Context, Writer)}
+     * @param writer the writer to write the element to
+     *
+     * @throws IOException in case of an error
+     */
+    public abstract void emit(T writable, Context context, Writer writer) throws IOException;
+
+    /**
+     * Writes the given element like {@code <@includeModel object=writable .../>} does from a template.
+     *
+     * @param object the element to write, may be {@code null}
+     * @param context the context of the including element
+     * @param writer the writer to write the element to
+     * @param parameters the additional parameters passed to the included element
+     *
+     * @throws IOException in case of an error
+     */
+    protected void include(Object object, Context context, Writer writer, Map<String, Object> parameters)
+        throws IOException {
+        if ( object == null ) {
+            return;
+        }
+        if ( !( object instanceof Writable ) ) {
+            throw new IllegalArgumentException( "Given object isn't a Writable:" + object );
+        }
+
+        try {
+            ( (Writable) object ).write( new IncludedModelElementWriterContext( context, parameters ), writer );
+        }
+        catch ( IOException | RuntimeException e ) {
+            throw e;
+        }
+        catch ( Exception e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    /**
+     * Writes the given content like {@code <#compress>} does in a template: each sequence of white-space is replaced by
+     * a single line break if it contains one, by a single space otherwise, and the leading and trailing white-space is
+     * removed.
+     *
+     * @param writer the writer to write the compressed content to
+     * @param singleLine whether line breaks are replaced by spaces as well, like {@code <@compress single_line=true>}
+     * @param content the content to compress
+     *
+     * @throws IOException in case of an error
+     */
+    protected void compress(Writer writer, boolean singleLine, Content content) throws IOException {
+        StringWriter buffer = new StringWriter();
+        content.write( buffer );
+        CharSequence text = buffer.getBuffer();
+
+        int start = 0;
+        while ( start < text.length() && Character.isWhitespace( text.charAt( start ) ) ) {
+            start++;
+        }
+        int end = text.length();
+        while ( end > start && Character.isWhitespace( text.charAt( end - 1 ) ) ) {
+            end--;
+        }
+
+        int i = start;
+        while ( i < end ) {
+            char c = text.charAt( i );
+            if ( !Character.isWhitespace( c ) ) {
+                writer.write( c );
+                i++;
+                continue;
+            }
+
+            String lineBreak = null;
+            while ( Character.isWhitespace( text.charAt( i ) ) ) {
+                c = text.charAt( i );
+                if ( lineBreak == null && ( c == '\n' || c == '\r' ) ) {
+                    lineBreak = c == '\r' && text.charAt( i + 1 ) == '\n' ? "\r\n" : String.valueOf( c );
+                }
+                i++;
+            }
+            writer.write( lineBreak == null || singleLine ? " " : lineBreak );
+        }
+    }
+
+    /**
+     * Returns the parameter with the given name passed to the element, corresponding to {@code ext.name} in a
+     * template. Parameters passed from a template are unwrapped.
+     *
+     * @param context the context of the element
+     * @param name the name of the parameter
+     *
+     * @return the value of the parameter, or {@code null} if it wasn't passed
+     */
+    protected Object getParameter(Context context, String name) {
+        Map<?, ?> parameters = context.get( Map.class );
+        Object value = parameters != null ? parameters.get( name ) : null;
+
+        if ( value instanceof TemplateModel ) {
+            try {
+                return DeepUnwrap.unwrap( (TemplateModel) value );
+            }
+            catch ( TemplateModelException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the parameters passed to the element with the given names, to be passed on to an included element, like
+     * {@code name=ext.name} does in a template. The returned map is a view, so the parameters are not copied.
+     *
+     * @param context the context of the element
+     * @param names the names of the parameters to pass on
+     *
+     * @return the parameters with the given names
+     */
+    protected Map<String, Object> getParameters(Context context, Set<String> names) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> parameters = context.get( Map.class );
+        return new SelectedParameters( parameters != null ? parameters : Collections.emptyMap(), names );
+    }
+
+    /**
+     * Whether the given parameter was passed to the element, corresponding to {@code ext.name??} in a template.
+     *
+     * @param context the context of the element
+     * @param name the name of the parameter
+     *
+     * @return {@code true} if the parameter was passed with a non-null value, {@code false} otherwise
+     */
+    protected boolean hasParameter(Context context, String name) {
+        Map<?, ?> parameters = context.get( Map.class );
+        return parameters != null && parameters.get( name ) != null;
+    }
+
+    /**
+     * Returns the given boolean parameter passed to the element, corresponding to {@code ext.name!false} in a template.
+     *
+     * @param context the context of the element
+     * @param name the name of the parameter
+     *
+     * @return the value of the parameter, or {@code false} if it wasn't passed
+     */
+    protected boolean getBooleanParameter(Context context, String name) {
+        return Boolean.TRUE.equals( getParameter( context, name ) );
+    }
+
+    /**
+     * Whether the given string parameter was passed to the element with a non-empty value, corresponding to
+     * {@code ext.name?has_content} in a template.
+     *
+     * @param context the context of the element
+     * @param name the name of the parameter
+     *
+     * @return {@code true} if the parameter was passed with a non-empty value, {@code false} otherwise
+     */
+    protected boolean hasContent(Context context, String name) {
+        Object value = getParameter( context, name );
+        return value != null && !value.toString().isEmpty();
+    }
+
+    /**
+     * Content written by an emitter, like the body of a macro in a template.
+     */
+    protected interface Content {
+
+        void write(Writer writer) throws IOException;
+    }
+
+    /**
+     * A view of the parameters with the given names.
+     */
+    private static class SelectedParameters extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> parameters;
+        private final Set<String> names;
+
+        SelectedParameters(Map<String, Object> parameters, Set<String> names) {
+            this.parameters = parameters;
+            this.names = names;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return names.contains( key ) ? parameters.get( key ) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return names.contains( key ) && parameters.containsKey( key );
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            Set<Entry<String, Object>> entries = new HashSet<>();
+            for ( Entry<String, Object> entry : parameters.entrySet() ) {
+                if ( names.contains( entry.getKey() ) ) {
+                    entries.add( entry );
+                }
+            }
+            return entries;
+        }
+    }
+}
@@ -10,6 +10,8 @@
 import java.util.Map;
 
 import org.mapstruct.ap.internal.writer.ModelWriter.DefaultModelElementWriterContext;
+import org.mapstruct.ap.internal.writer.ModelWriter.IncludedModelElementWriterContext;
+import org.mapstruct.ap.internal.writer.Writable.Context;
 
 import freemarker.core.Environment;
 import freemarker.ext.beans.BeanModel;
@@ -41,7 +43,7 @@ public void execute(Environment env, @SuppressWarnings("rawtypes") Map params, T
         throws TemplateException, IOException {
 
         Writable modelElement = getModelElement( params );
-        DefaultModelElementWriterContext context = createContext( params );
+        Context context = createContext( FreeMarkerModelElementWriter.getContext( env ), params );
 
         try {
             if ( modelElement != null ) {
@@ -80,17 +82,22 @@ private Writable getModelElement(Map params) {
     /**
      * Creates a writer context providing access to the FreeMarker
      * {@link Configuration} and a map with any additional parameters passed to
-     * the directive.
+     * the directive. Anything else is taken from the context of the including element.
      *
+     * @param parentContext The context of the including element, may be {@code null}.
      * @param params The parameter map passed to this directive.
      *
      * @return A writer context.
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private DefaultModelElementWriterContext createContext(Map params) {
+    private Context createContext(Context parentContext, Map params) {
         Map<String, Object> ext = new HashMap<String, Object>( params );
         ext.remove( "object" );
 
+        if ( parentContext != null ) {
+            return new IncludedModelElementWriterContext( parentContext, ext );
+        }
+
         Map<Class<?>, Object> values = new HashMap<>();
         values.put( Configuration.class, configuration );
         values.put( Map.class, ext );
@@ -18,6 +18,7 @@
 
 import javax.tools.FileObject;
 
+import org.mapstruct.ap.internal.option.EmissionBackend;
 import org.mapstruct.ap.internal.writer.Writable.Context;
 
 import freemarker.cache.StrongCacheStorage;
@@ -61,10 +62,17 @@ public class ModelWriter {
         CONFIGURATION.setLocalizedLookup( false );
     }
 
+    private final EmissionBackend emissionBackend;
+
+    public ModelWriter(EmissionBackend emissionBackend) {
+        this.emissionBackend = emissionBackend;
+    }
+
     public void writeModel(FileObject sourceFile, Writable model) {
         try ( BufferedWriter writer = new BufferedWriter( new IndentationCorrectingWriter( sourceFile.openWriter() ))) {
                 Map<Class<?>, Object> values = new HashMap<>();
                 values.put( Configuration.class, CONFIGURATION );
+                values.put( EmissionBackend.class, emissionBackend );
 
                 model.write( new DefaultModelElementWriterContext( values ), writer );
 
@@ -134,4 +142,30 @@ public <T> T get(Class<T> type) {
             return (T) values.get( type );
         }
     }
+
+    /**
+     * {@link Context} of an element included by another element, providing the parameters passed to the included
+     * element. Everything else is looked up in the context the model was written with, without copying it.
+     */
+    static class IncludedModelElementWriterContext implements Context {
+
+        private final Context rootContext;
+        private final Map<String, Object> parameters;
+
+        IncludedModelElementWriterContext(Context parentContext, Map<String, Object> parameters) {
+            this.rootContext = parentContext instanceof IncludedModelElementWriterContext ?
+                ( (IncludedModelElementWriterContext) parentContext ).rootContext :
+                parentContext;
+            this.parameters = parameters;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Class<T> type) {
+            if ( type == Map.class ) {
+                return (T) parameters;
+            }
+            return rootContext.get( type );
+        }
+    }
 }
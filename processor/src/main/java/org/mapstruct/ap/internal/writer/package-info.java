@@ -5,7 +5,8 @@
  */
 /**
  * <p>
- * Infrastructure for dealing with the FreeMarker template engine.
+ * Infrastructure for dealing with the FreeMarker template engine and the Java emitters used instead of it for the
+ * model elements written most often.
  * </p>
  */
 package org.mapstruct.ap.internal.writer;
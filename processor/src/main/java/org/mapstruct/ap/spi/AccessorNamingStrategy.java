@@ -74,4 +74,20 @@ default void init(MapStructProcessingEnvironment processingEnvironment) {
      */
     @Deprecated
     String getCollectionGetterName(String property);
+
+    /**
+     * Whether the results of {@link #getMethodType(ExecutableElement)} and
+     * {@link #getPropertyName(ExecutableElement)} depend on nothing but the given method. If that is the case MapStruct
+     * will compute them only once per method within an annotation processing round.
+     * <p>
+     * Strategies that keep mutable state or otherwise return different results for the same method on subsequent
+     * invocations should return {@code false}.
+     *
+     * @return {@code true} if the results of this strategy may be cached, {@code false} otherwise
+     *
+     * @since 1.5
+     */
+    default boolean isCacheable() {
+        return true;
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.spi;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * The default implementation of the {@link ImmutableTypeProvider} service provider interface.
+ * <p>
+ * Considers enums, the immutable value types of the JDK, records with only immutable components and types annotated
+ * with {@code @Value.Immutable} of Immutables or {@code @AutoValue} of AutoValue as immutable. Custom implementations
+ * can extend this class in order to declare additional immutable types.
+ *
+ * @since 1.5
+ */
+public class DefaultImmutableTypeProvider implements ImmutableTypeProvider {
+
+    private static final Set<String> IMMUTABLE_JDK_TYPES = new HashSet<>( Arrays.asList(
+        String.class.getName(),
+        Boolean.class.getName(),
+        Byte.class.getName(),
+        Character.class.getName(),
+        Short.class.getName(),
+        Integer.class.getName(),
+        Long.class.getName(),
+        Float.class.getName(),
+        Double.class.getName(),
+        Class.class.getName(),
+        BigDecimal.class.getName(),
+        BigInteger.class.getName(),
+        UUID.class.getName(),
+        Locale.class.getName(),
+        Currency.class.getName(),
+        Pattern.class.getName(),
+        URI.class.getName()
+    ) );
+
+    private static final String JAVA_TIME_PACKAGE_PREFIX = "java.time.";
+
+    private static final Set<String> IMMUTABLE_ANNOTATIONS = new HashSet<>( Arrays.asList(
+        "org.immutables.value.Value.Immutable",
+        "com.google.auto.value.AutoValue"
+    ) );
+
+    private final Set<TypeElement> recordsInProgress = new HashSet<>();
+
+    @Override
+    public boolean isImmutable(TypeElement typeElement) {
+        if ( typeElement.getKind() == ElementKind.ENUM ) {
+            return true;
+        }
+
+        String qualifiedName = typeElement.getQualifiedName().toString();
+        if ( IMMUTABLE_JDK_TYPES.contains( qualifiedName ) || qualifiedName.startsWith( JAVA_TIME_PACKAGE_PREFIX ) ) {
+            return true;
+        }
+
+        for ( AnnotationMirror annotation : typeElement.getAnnotationMirrors() ) {
+            Element annotationType = annotation.getAnnotationType().asElement();
+            if ( IMMUTABLE_ANNOTATIONS.contains( ( (TypeElement) annotationType ).getQualifiedName().toString() ) ) {
+                return true;
+            }
+        }
+
+        return isImmutableRecord( typeElement );
+    }
+
+    /**
+     * Checks whether the given type is a record with only immutable components. The fields of a record are the
+     * components of the record.
+     */
+    private boolean isImmutableRecord(TypeElement typeElement) {
+        if ( !typeElement.getKind().name().equals( "RECORD" ) ) {
+            return false;
+        }
+
+        // a record referring to itself is immutable if its other components are
+        if ( !recordsInProgress.add( typeElement ) ) {
+            return true;
+        }
+
+        try {
+            for ( VariableElement field : ElementFilter.fieldsIn( typeElement.getEnclosedElements() ) ) {
+                if ( !field.getModifiers().contains( Modifier.STATIC ) && !isImmutable( field.asType() ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        finally {
+            recordsInProgress.remove( typeElement );
+        }
+    }
+
+    private boolean isImmutable(TypeMirror type) {
+        if ( type.getKind().isPrimitive() ) {
+            return true;
+        }
+
+        if ( type instanceof DeclaredType && ( (DeclaredType) type ).getTypeArguments().isEmpty() ) {
+            return isImmutable( (TypeElement) ( (DeclaredType) type ).asElement() );
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.spi;
+
+import javax.lang.model.element.TypeElement;
+
+import org.mapstruct.util.Experimental;
+
+/**
+ * A service provider interface that is used to determine whether instances of a given {@link TypeElement} are
+ * immutable.
+ * <p>
+ * When the mapping control of a mapping (e.g. {@code org.mapstruct.control.DeepClone}) does not allow to directly
+ * assign a source value to the target, MapStruct will generate sub-mapping methods copying the source value instead.
+ * Values of immutable types can safely be shared between the source and the target though, so they are assigned
+ * directly, which avoids generating and invoking a copy method for them.
+ * <p>
+ * By default enums, the immutable types of the JDK (e.g. {@code String}, the boxed primitives, {@code BigDecimal},
+ * {@code UUID} and the {@code java.time} types), records with only immutable components and types annotated with
+ * {@code @Value.Immutable} of Immutables or {@code @AutoValue} of AutoValue are considered immutable.
+ *
+ * @since 1.5
+ */
+@Experimental("This SPI can have it's signature changed in subsequent releases")
+public interface ImmutableTypeProvider {
+
+    /**
+     * Checks whether the instances of the provided {@link TypeElement} are immutable, i.e. whether they can be shared
+     * between the source and the target of a deep clone instead of being copied.
+     *
+     * @param typeElement that needs to be checked
+     *
+     * @return {@code true} if the instances of the provided {@link TypeElement} are immutable
+     */
+    boolean isImmutable(TypeElement typeElement);
+}
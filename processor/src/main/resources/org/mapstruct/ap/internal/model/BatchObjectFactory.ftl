@@ -0,0 +1,19 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.BatchObjectFactory" -->
+<@includeModel object=targetsType/> ${targetsName} = <@includeModel object=factoryMethod targetType=targetsType/>;
+for ( <@includeModel object=ext.sourceElementType/> ${ext.loopVariableName} : ${ext.sourceName} ) {
+    <@includeModel object=targetElementType/> ${targetName} = ${targetsName}.get( ${ext.loopVariableName} );
+    if ( ${targetName} != null ) {
+        <@includeModel object=updateMethod targetBeanName=targetName targetType=targetElementType/>;
+        ${ext.resultName}.add( ${targetName} );
+    }
+    else {
+        <@includeModel object=ext.elementAssignment targetBeanName=ext.resultName targetWriteAccessorName="add" targetType=ext.resultElementType/>
+    }
+}
@@ -18,11 +18,24 @@
 
     	</#if>
     </#list>
-    <#if !mapNullToDefault>
+    <#if nonNullSourceParameters?has_content>
+        <#if assertNonNullSourceParameters>
+            <#list nonNullSourceParameters as sourceParam>
+    assert ${sourceParam.name} != null;
+            </#list>
+        </#if>
+    <#elseif !mapNullToDefault>
     if ( <#list sourceParametersExcludingPrimitives as sourceParam>${sourceParam.name} == null<#if sourceParam_has_next> && </#if></#list> ) {
         return<#if returnType.name != "void"> null</#if>;
     }
     </#if>
+    <#if identityMappingContext??>
+
+    <@includeModel object=resultType/> ${mappedInstanceName} = ${identityMappingContext.name}.getMappedInstance( ${sourceParameters[0].name}, <@includeModel object=resultType raw=true/>.class );
+    if ( ${mappedInstanceName} != null ) {
+        return ${mappedInstanceName};
+    }
+    </#if>
 
     <#if !existingInstanceMapping>
         <#if hasConstructorMappings()>
@@ -69,7 +82,10 @@
 
             <@includeModel object=returnTypeToConstruct/> ${resultName} = <@includeModel object=factoryMethod targetType=returnTypeToConstruct/>;
         <#else >
-            <@includeModel object=returnTypeToConstruct/> ${resultName} = <#if factoryMethod??><@includeModel object=factoryMethod targetType=returnTypeToConstruct/><#else>new <@includeModel object=returnTypeToConstruct/>()</#if>;
+            <@includeModel object=returnTypeToConstruct/> ${resultName} = <#if factoryMethod??><@includeModel object=factoryMethod targetType=returnTypeToConstruct/><#else>new <@includeModel object=returnTypeToConstruct/>(<#if mapTargetCapacity??> ${mapTargetCapacity?c} </#if>)</#if>;
+        </#if>
+        <#if identityMappingContext?? && !finalizerMethod??>
+            ${identityMappingContext.name}.storeMappedInstance( ${sourceParameters[0].name}, <@includeModel object=resultType raw=true/>.class, ${resultName} );
         </#if>
 
     </#if>
@@ -114,7 +130,9 @@
     </#list>
     <#if returnType.name != "void">
 
-    <#if finalizerMethod??>
+    <#if finalizerMethod?? && identityMappingContext??>
+        return ${identityMappingContext.name}.storeMappedInstance( ${sourceParameters[0].name}, <@includeModel object=resultType raw=true/>.class, ${resultName}.<@includeModel object=finalizerMethod /> );
+    <#elseif finalizerMethod??>
         return ${resultName}.<@includeModel object=finalizerMethod />;
     <#else>
         return ${resultName};
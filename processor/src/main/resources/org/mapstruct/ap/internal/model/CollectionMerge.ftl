@@ -0,0 +1,32 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.CollectionMerge" -->
+<@includeModel object=setType raw=true/><<@includeModel object=keyType/>> ${keysName} = new <@includeModel object=hashSetType raw=true/><>();
+for ( <@includeModel object=ext.sourceElementType/> ${ext.loopVariableName} : ${ext.sourceName} ) {
+    if ( ${ext.loopVariableName} != null ) {
+        ${keysName}.add( ${ext.loopVariableName}.${sourceKeyReadAccessorName} );
+    }
+}
+<@includeModel object=mapType raw=true/><<@includeModel object=keyType/>, <@includeModel object=targetElementType/>> ${targetsByKeyName} = new <@includeModel object=hashMapType raw=true/><>();
+<@includeModel object=iteratorType raw=true/><<@includeModel object=targetElementType/>> ${iteratorName} = ${ext.resultName}.iterator();
+while ( ${iteratorName}.hasNext() ) {
+    <@includeModel object=targetElementType/> ${targetName} = ${iteratorName}.next();
+    <@includeModel object=keyType/> ${keyName} = ${targetName} != null ? ${targetName}.${targetKeyReadAccessorName} : null;
+    if ( ${keyName} == null || !${keysName}.contains( ${keyName} ) || ${targetsByKeyName}.putIfAbsent( ${keyName}, ${targetName} ) != null ) {
+        ${iteratorName}.remove();
+    }
+}
+for ( <@includeModel object=ext.sourceElementType/> ${ext.loopVariableName} : ${ext.sourceName} ) {
+    <@includeModel object=targetElementType/> ${targetName} = ${ext.loopVariableName} != null ? ${targetsByKeyName}.remove( ${ext.loopVariableName}.${sourceKeyReadAccessorName} ) : null;
+    if ( ${targetName} != null ) {
+        <@includeModel object=updateAssignment targetBeanName=targetName targetType=targetElementType/>;
+    }
+    else {
+        <@includeModel object=ext.elementAssignment targetBeanName=ext.resultName targetWriteAccessorName="add" targetType=ext.resultElementType/>
+    }
+}
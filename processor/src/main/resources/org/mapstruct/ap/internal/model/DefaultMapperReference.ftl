@@ -6,4 +6,16 @@
 
 -->
 <#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.DefaultMapperReference" -->
-private final <@includeModel object=type/> ${variableName} = <#if singleton><@includeModel object=type/>.INSTANCE;<#else><#if annotatedMapper>Mappers.getMapper( <@includeModel object=type/>.class );<#else>new <@includeModel object=type/>();</#if></#if>
\ No newline at end of file
+<#macro referenceType><#if implementationName??>${implementationName}<#else><@includeModel object=type/></#if></#macro>
+<#macro initializer><@compress single_line=true>
+    <#if implementationName??>new ${implementationName}()
+    <#elseif singleton><@includeModel object=type/>.INSTANCE
+    <#elseif annotatedMapper>Mappers.getMapper( <@includeModel object=type/>.class )
+    <#else>new <@includeModel object=type/>()
+    </#if>
+</@compress></#macro>
+<#if holderName??>
+private static class ${holderName} {
+    private static final <@referenceType/> INSTANCE = <@initializer/>;
+}
+<#else>private final <@referenceType/> ${variableName} = <@initializer/>;</#if>
\ No newline at end of file
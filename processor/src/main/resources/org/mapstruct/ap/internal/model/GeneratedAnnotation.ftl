@@ -0,0 +1,15 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.GeneratedAnnotation" -->
+<#if !typeName??>/*</#if>
+@${typeName!"Generated"}(
+    value = "org.mapstruct.ap.MappingProcessor"<#if suppressGeneratorTimestamp == false>,
+    date = "${.now?string("yyyy-MM-dd'T'HH:mm:ssZ")}"</#if><#if suppressGeneratorVersionComment == false>,
+    comments = "version: ${versionInformation.mapStructVersion}, compiler: ${versionInformation.compiler}, environment: Java ${versionInformation.runtimeVersion} (${versionInformation.runtimeVendor})"</#if>
+)<#if !typeName??>
+*/</#if>
@@ -24,7 +24,7 @@ import ${importedType};
 <#list annotations as annotation>
 <#nt><@includeModel object=annotation/>
 </#list>
-<#lt>${accessibility.keyword} class ${name} <#if mapperDefinitionType.interface>implements<#else>extends</#if> <@includeModel object=mapperDefinitionType/> {
+<#lt>${accessibility.keyword} <#if finalType>final </#if>class ${name} <#if mapperDefinitionType.interface>implements<#else>extends</#if> <@includeModel object=mapperDefinitionType/><#if memoizationCaches??><#if mapperDefinitionType.interface>,<#else> implements</#if> <@includeModel object=memoizationCaches.memoizingMapperType/></#if> {
 
 <#list fields as field><#if field.used><#nt>    <@includeModel object=field/>
 </#if></#list>
@@ -34,4 +34,8 @@ import ${importedType};
 <#list methods as method>
 <#nt>    <@includeModel object=method/>
 </#list>
+<#if memoizationCaches??>
+
+<#nt>    <@includeModel object=memoizationCaches/>
+</#if>
 }
@@ -0,0 +1,45 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.InstrumentedMethod" -->
+@Override
+<#lt>${accessibility.keyword} <@includeModel object=returnType/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+    <@includeModel object=listenerType/> ${listenerName} = <@includeModel object=listenersType/>.getListener();
+    long ${startName} = System.nanoTime();
+    <#if resultVariableName??>
+    <@includeModel object=returnType/> ${resultVariableName};
+    </#if>
+    try {
+        <#if resultVariableName??>${resultVariableName} = </#if>${implementationName}( <#list parameters as param>${param.name}<#if param_has_next>, </#if></#list> );
+    }
+    catch ( Throwable ${failureName} ) {
+        ${listenerName}.mappingFailed( "${methodId?j_string}", System.nanoTime() - ${startName}, ${failureName} );
+        throw ${failureName};
+    }
+    ${listenerName}.mappingCompleted( "${methodId?j_string}", System.nanoTime() - ${startName}, <@elementCount/> );
+    <#if resultVariableName??>
+
+    return ${resultVariableName};
+    </#if>
+}
+<#macro elementCount>
+    <@compress single_line=true>
+        <#if elementCountVariableName??>
+            ${elementCountVariableName} == null ? 0 : ${elementCountVariableName}.<#if arrayResult>length<#else>size()</#if>
+        <#else>
+            <@includeModel object=listenerType/>.UNKNOWN_ELEMENT_COUNT
+        </#if>
+    </@compress>
+</#macro>
+<#macro throws>
+    <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
+        <#list thrownTypes as exceptionType>
+            <@includeModel object=exceptionType/>
+            <#if exceptionType_has_next>, </#if><#t>
+        </#list>
+    </@compress>
+</#macro>
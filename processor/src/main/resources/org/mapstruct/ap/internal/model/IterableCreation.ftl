@@ -11,6 +11,8 @@
         <@includeModel object=factoryMethod targetType=resultType/>
     <#elseif enumSet>
         EnumSet.noneOf( <@includeModel object=enumSetElementType raw=true/>.class )
+    <#elseif enumMapType??>
+        new <@includeModel object=enumMapType/>( <@includeModel object=enumMapKeyType raw=true/>.class )
     <#else>
     new
         <#if resultType.implementationType??>
@@ -43,14 +43,26 @@
     <#if resultType.arrayType>
         <#if !existingInstanceMapping>
             <#assign elementTypeString><@includeModel object=resultElementType/></#assign>
-            ${elementTypeString}[] ${resultName} = new ${elementTypeString?keep_before('[]')}[<@iterableSize/>]${elementTypeString?replace('[^\\[\\]]+', '', 'r')};
+            <#if parallelMapping??>
+            ${elementTypeString}[] ${resultName};
+            <#else>
+            ${elementTypeString}[] ${resultName} = <@newArray/>;
+            </#if>
         </#if>
+    <#elseif lazyListView??>
+        <@includeModel object=resultType/> ${resultName} = <@includeModel object=lazyListView/>;
     <#else>
         <#if existingInstanceMapping>
+            <#if !collectionMerge??>
             ${resultName}.clear();
+            </#if>
         <#else>
+            <#if collectingParallelResult>
+            <@iterableLocalVarDef/> ${resultName};
+            <#else>
             <#-- Use the interface type on the left side, except it is java.lang.Iterable; use the implementation type - if present - on the right side -->
             <@iterableLocalVarDef/> ${resultName} = <@includeModel object=iterableCreation useSizeIfPossible=true/>;
+            </#if>
         </#if>
     </#if>
     <#list beforeMappingReferencesWithMappingTarget as callback>
@@ -59,21 +71,34 @@
 
     	</#if>
     </#list>
-    <#if resultType.arrayType>
-        int ${index1Name} = 0;
-        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
-            <#if existingInstanceMapping>
-            if ( ( ${index1Name} >= ${resultName}.length ) || ( ${index1Name} >= <@iterableSize/> ) ) {
-                break;
-            }
+    <#if lazyListView??>
+    <#-- the elements are mapped by the view -->
+    <#elseif parallelMapping??>
+    if ( <@iterableSize/> >= ${parallelMapping.threshold} ) {
+        <#if parallelMapping.executor??>
+            <#if resultType.arrayType>
+        ${resultName} = <@mapInChunks/>.toArray( <@newArray/> );
+            <#else>
+        ${resultName}.addAll( <@mapInChunks/> );
             </#if>
-            <@includeModel object=elementAssignment targetWriteAccessorName=resultName+"[${index1Name}]" targetType=resultElementType isTargetDefined=true/>
-            ${index1Name}++;
-        }
+        <#elseif resultType.arrayType>
+        ${resultName} = <@parallelMap>.toArray( ${elementTypeString}[]::new )</@parallelMap>;
+        <#elseif collectingParallelResult>
+        ${resultName} = <@parallelMap>.collect( Collectors.toCollection( <@collectionConstructor/>::new ) )</@parallelMap>;
+        <#else>
+        ${resultName}.addAll( <@parallelMap>.collect( Collectors.toList() )</@parallelMap> );
+        </#if>
+    }
+    else {
+        <#if resultType.arrayType>
+        ${resultName} = <@newArray/>;
+        <#elseif collectingParallelResult>
+        ${resultName} = <@includeModel object=iterableCreation useSizeIfPossible=true/>;
+        </#if>
+        <@sequentialMapping/>
+    }
     <#else>
-        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
-            <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="add" targetType=resultElementType/>
-        }
+    <@sequentialMapping/>
     </#if>
     <#list afterMappingReferences as callback>
     	<#if callback_index = 0>
@@ -103,6 +128,15 @@
         </#if>
     </@compress>
 </#macro>
+<#macro collectionConstructor>
+    <@compress single_line=true>
+        <#if resultType.implementationType??>
+            <@includeModel object=resultType.implementationType/>
+        <#else>
+            <@includeModel object=resultType/>
+        </#if>
+    </@compress>
+</#macro>
 <#macro iterableLocalVarDef>
     <@compress single_line=true>
         <#if resultType.fullyQualifiedName == "java.lang.Iterable">
@@ -111,4 +145,63 @@
             <@includeModel object=resultType/>
         </#if>
     </@compress>
-</#macro>
\ No newline at end of file
+</#macro>
+<#macro sequentialMapping>
+<#if resultType.arrayType>
+    int ${index1Name} = 0;
+    for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <#if existingInstanceMapping>
+        if ( ( ${index1Name} >= ${resultName}.length ) || ( ${index1Name} >= <@iterableSize/> ) ) {
+            break;
+        }
+        </#if>
+        <@includeModel object=elementAssignment targetWriteAccessorName=resultName+"[${index1Name}]" targetType=resultElementType isTargetDefined=true/>
+        ${index1Name}++;
+    }
+<#elseif collectionMerge??>
+    <@includeModel object=collectionMerge sourceElementType=sourceElementType loopVariableName=loopVariableName sourceName=sourceParameter.name resultName=resultName resultElementType=resultElementType elementAssignment=elementAssignment/>
+<#elseif batchObjectFactory??>
+    <@includeModel object=batchObjectFactory sourceElementType=sourceElementType loopVariableName=loopVariableName sourceName=sourceParameter.name resultName=resultName resultElementType=resultElementType elementAssignment=elementAssignment/>
+<#else>
+    for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="add" targetType=resultElementType/>
+    }
+</#if>
+</#macro>
+<#macro newArray>
+    <@compress single_line=true>
+        new ${elementTypeString?keep_before('[]')}[<@iterableSize/>]${elementTypeString?replace('[^\\[\\]]+', '', 'r')}
+    </@compress>
+</#macro>
+<#--
+    The elements mapped by a parallel stream, which is run on the given fork join pool, if any. The nested content is
+    the terminal operation of the stream.
+-->
+<#macro parallelMap>
+    <#if parallelMapping.forkJoinPool??>${parallelMapping.forkJoinPool.name}.submit( () -> </#if><#t>
+    <#if sourceParameter.type.arrayType>
+        Arrays.stream( ${sourceParameter.name} ).parallel()<#t>
+    <#else>
+        ${sourceParameter.name}.parallelStream()<#t>
+    </#if>
+    <#if !parallelMapping.elementFunction.directAssignment>
+        .map( <@includeModel object=parallelMapping.elementFunction targetBeanName=resultName targetType=resultElementType/> )<#t>
+    </#if>
+    <#nested><#t>
+    <#if parallelMapping.forkJoinPool??> ).join()</#if><#t>
+</#macro>
+<#--
+    The elements mapped in chunks on the given executor.
+-->
+<#macro mapInChunks>
+    <@compress single_line=true>
+        ${parallelMapping.chunkMappingMethodName}(
+        <#if sourceParameter.type.arrayType>
+            Arrays.asList( ${sourceParameter.name} ),
+        <#else>
+            ${sourceParameter.name},
+        </#if>
+        <@includeModel object=parallelMapping.elementFunction targetBeanName=resultName targetType=resultElementType/>,
+        ${parallelMapping.executor.name} )
+    </@compress>
+</#macro>
@@ -0,0 +1,46 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.LazyListView" -->
+new <@includeModel object=abstractListType raw=true/><<@includeModel object=targetElementType/>>() {
+    <#if memoized>
+
+    private final Object[] ${mappedElementsName} = new Object[<@sourceSize/>];
+    private final boolean[] ${mappedName} = new boolean[<@sourceSize/>];
+    </#if>
+
+    @Override
+    public <@includeModel object=targetElementType/> get(int ${indexName}) {
+        <#if memoized>
+        if ( ${mappedName}[${indexName}] ) {
+            return (<@includeModel object=targetElementType/>) ${mappedElementsName}[${indexName}];
+        }
+
+        </#if>
+        <@includeModel object=sourceElementType/> ${sourceElementName} = <#if sourceParameter.type.arrayType>${sourceParameter.name}[${indexName}]<#else>${sourceParameter.name}.get( ${indexName} )</#if>;
+        <@includeModel object=elementAssignment targetWriteAccessorName=targetElementName targetType=targetElementType/>
+        <#if memoized>
+        ${mappedElementsName}[${indexName}] = ${targetElementName};
+        ${mappedName}[${indexName}] = true;
+        </#if>
+        return ${targetElementName};
+    }
+
+    @Override
+    public int size() {
+        return <@sourceSize/>;
+    }
+}<#rt>
+<#macro sourceSize>
+    <@compress single_line=true>
+        <#if sourceParameter.type.arrayType>
+            ${sourceParameter.name}.length
+        <#else>
+            ${sourceParameter.name}.size()
+        </#if>
+    </@compress>
+</#macro>
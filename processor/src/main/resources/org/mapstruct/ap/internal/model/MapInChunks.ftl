@@ -0,0 +1,48 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+private <S, T> <@includeModel object=findType("List") raw=true/><T> ${name}(<@includeModel object=findType("Collection") raw=true/><? extends S> sources, <@includeModel object=findType("Function") raw=true/><? super S, ? extends T> mapping, <@includeModel object=findType("Executor")/> executor) {
+    <@includeModel object=findType("List") raw=true/><? extends S> sourceList;
+    if ( sources instanceof <@includeModel object=findType("List") raw=true/> && sources instanceof <@includeModel object=findType("RandomAccess")/> ) {
+        sourceList = (<@includeModel object=findType("List") raw=true/><? extends S>) sources;
+    }
+    else {
+        sourceList = new <@includeModel object=findType("ArrayList") raw=true/><S>( sources );
+    }
+
+    int size = sourceList.size();
+    Object[] targets = new Object[size];
+    int chunkCount = Math.min( size, Runtime.getRuntime().availableProcessors() );
+    <@includeModel object=findType("CompletableFuture") raw=true/><?>[] chunks = new <@includeModel object=findType("CompletableFuture") raw=true/><?>[chunkCount];
+    for ( int chunk = 0; chunk < chunkCount; chunk++ ) {
+        int start = (int) ( (long) size * chunk / chunkCount );
+        int end = (int) ( (long) size * ( chunk + 1 ) / chunkCount );
+        chunks[chunk] = <@includeModel object=findType("CompletableFuture") raw=true/>.runAsync( () -> {
+            for ( int i = start; i < end; i++ ) {
+                targets[i] = mapping.apply( sourceList.get( i ) );
+            }
+        }, executor );
+    }
+
+    try {
+        <@includeModel object=findType("CompletableFuture") raw=true/>.allOf( chunks ).join();
+    }
+    catch ( <@includeModel object=findType("CompletionException")/> e ) {
+        if ( e.getCause() instanceof RuntimeException ) {
+            throw (RuntimeException) e.getCause();
+        }
+        if ( e.getCause() instanceof Error ) {
+            throw (Error) e.getCause();
+        }
+        throw e;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    <@includeModel object=findType("List") raw=true/><T> result = (<@includeModel object=findType("List") raw=true/><T>) (<@includeModel object=findType("List") raw=true/><?>) <@includeModel object=findType("Arrays")/>.asList( targets );
+    return result;
+}
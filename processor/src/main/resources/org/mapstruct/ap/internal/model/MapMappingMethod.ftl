@@ -39,18 +39,23 @@
 
         </#if>
     </#list>
-    <#-- Once #148 has been addressed, the simple name of Map.Entry can be used -->
-    for ( java.util.Map.Entry<<#list sourceElementTypes as typeParameter><@includeModel object=typeParameter /><#if typeParameter_has_next>, </#if></#list>> ${entryVariableName} : ${sourceParameter.name}.entrySet() ) {
-    <#-- key -->
-        <@includeModel object=keyAssignment
-                   targetWriteAccessorName=keyVariableName
-                   targetType=resultElementTypes[0].typeBound/>
-    <#-- value -->
-        <@includeModel object=valueAssignment
-                   targetWriteAccessorName=valueVariableName
-                   targetType=resultElementTypes[1].typeBound/>
-        ${resultName}.put( ${keyVariableName}, ${valueVariableName} );
+    <#if parallelMapping??>
+    if ( ${sourceParameter.name}.size() >= ${parallelMapping.threshold} ) {
+        <#if parallelMapping.executor??>
+        for ( java.util.Map.Entry<<@resultEntryTypeArguments/>> ${mappedEntryVariableName} : ${parallelMapping.chunkMappingMethodName}( ${sourceParameter.name}.entrySet(), <@entryFunction/>, ${parallelMapping.executor.name} ) ) {
+            ${resultName}.put( ${mappedEntryVariableName}.getKey(), ${mappedEntryVariableName}.getValue() );
+        }
+        <#else>
+        <#if parallelMapping.forkJoinPool??>${parallelMapping.forkJoinPool.name}.submit( () -> </#if>${sourceParameter.name}.entrySet().parallelStream().map( <@entryFunction/> )
+            .forEachOrdered( ${mappedEntryVariableName} -> ${resultName}.put( ${mappedEntryVariableName}.getKey(), ${mappedEntryVariableName}.getValue() ) )<#if parallelMapping.forkJoinPool??> ).join()</#if>;
+        </#if>
+    }
+    else {
+        <@sequentialMapping/>
     }
+    <#else>
+    <@sequentialMapping/>
+    </#if>
     <#list afterMappingReferences as callback>
     	<#if callback_index = 0>
 
@@ -69,4 +74,33 @@
             <#if exceptionType_has_next>, </#if><#t>
         </#list>
     </@compress>
-</#macro>
\ No newline at end of file
+</#macro>
+<#macro sequentialMapping>
+    <#-- Once #148 has been addressed, the simple name of Map.Entry can be used -->
+    for ( java.util.Map.Entry<<#list sourceElementTypes as typeParameter><@includeModel object=typeParameter /><#if typeParameter_has_next>, </#if></#list>> ${entryVariableName} : ${sourceParameter.name}.entrySet() ) {
+        <@entryAssignments/>
+        ${resultName}.put( ${keyVariableName}, ${valueVariableName} );
+    }
+</#macro>
+<#macro entryAssignments>
+    <#-- key -->
+        <@includeModel object=keyAssignment
+                   targetWriteAccessorName=keyVariableName
+                   targetType=resultElementTypes[0].typeBound/>
+    <#-- value -->
+        <@includeModel object=valueAssignment
+                   targetWriteAccessorName=valueVariableName
+                   targetType=resultElementTypes[1].typeBound/>
+</#macro>
+<#--
+    The function mapping a source entry to an entry of the result, which is collected in the order of the source.
+-->
+<#macro entryFunction>
+${entryVariableName} -> {
+        <@entryAssignments/>
+        return new java.util.AbstractMap.SimpleEntry<<@resultEntryTypeArguments/>>( ${keyVariableName}, ${valueVariableName} );
+    }<#t>
+</#macro>
+<#macro resultEntryTypeArguments>
+    <#list resultElementTypes as typeParameter><@includeModel object=typeParameter.typeBound /><#if typeParameter_has_next>, </#if></#list><#t>
+</#macro>
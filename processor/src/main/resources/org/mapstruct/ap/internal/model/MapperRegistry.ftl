@@ -0,0 +1,26 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.MapperRegistry" -->
+<#if packageName?has_content>
+package ${packageName};
+
+</#if>
+<@includeModel object=generated/>
+public class ${name} implements org.mapstruct.factory.MapperRegistry {
+
+    @Override
+    public Object getMapper(Class<?> mapperType) {
+        <#list entries as entry>
+        if ( mapperType == ${entry.mapperName}.class ) {
+            return new ${entry.implementationName}();
+        }
+        </#list>
+
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.MapperRegistryServicesEntry" -->
+<#list registryNames as registryName>
+${registryName}
+</#list>
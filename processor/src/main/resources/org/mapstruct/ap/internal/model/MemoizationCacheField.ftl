@@ -0,0 +1,9 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.MemoizationCacheField" -->
+private final <@includeModel object=type raw=true/><Object, <@includeModel object=valueType/>> ${variableName} = <@includeModel object=type raw=true/>.create( ${maxSize?c}, <@includeModel object=evictionPolicyType/>.${eviction} );
\ No newline at end of file
@@ -0,0 +1,17 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.MemoizationCaches" -->
+@Override
+public <@includeModel object=mapType raw=true/><String, <@includeModel object=cacheType raw=true/><?, ?>> getMemoizationCaches() {
+    <@includeModel object=mapType raw=true/><String, <@includeModel object=cacheType raw=true/><?, ?>> caches = new <@includeModel object=linkedHashMapType raw=true/><>();
+    <#list memoizedMethods as memoizedMethod>
+    caches.put( "${memoizedMethod.cacheName}", ${memoizedMethod.cacheField.variableName} );
+    </#list>
+
+    return caches;
+}
@@ -0,0 +1,30 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.MemoizedMethod" -->
+@Override
+<#lt>${accessibility.keyword} <@includeModel object=returnType/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+    <#if arraysType??>
+    Object ${keyName} = <@includeModel object=arraysType/>.asList( <@arguments/> );
+    </#if>
+    <@includeModel object=cacheField.valueType/> ${valueName} = ${cacheField.variableName}.get( ${keyName} );
+    if ( ${valueName} == null ) {
+        ${valueName} = <#if implementationName??>${implementationName}<#elseif superInterface??><@includeModel object=superInterface raw=true/>.super.${name}<#else>super.${name}</#if>( <@arguments/> );
+        ${cacheField.variableName}.put( ${keyName}, ${valueName} );
+    }
+
+    return ${valueName};
+}
+<#macro arguments><#list parameters as param>${param.name}<#if param_has_next>, </#if></#list></#macro>
+<#macro throws>
+    <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
+        <#list thrownTypes as exceptionType>
+            <@includeModel object=exceptionType/>
+            <#if exceptionType_has_next>, </#if><#t>
+        </#list>
+    </@compress>
+</#macro>
@@ -0,0 +1,13 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.NativeImageReflectConfig" -->
+[
+<#list implementationNames as implementationName>
+{ "name": "${implementationName?json_string}", "methods": [ { "name": "<init>", "parameterTypes": [] } ] }<#if implementationName_has_next>,</#if>
+</#list>
+]
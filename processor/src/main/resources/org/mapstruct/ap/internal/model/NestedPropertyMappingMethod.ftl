@@ -17,11 +17,13 @@
     }
     </#if>
     <@includeModel object=entry.type.typeBound/> ${entry.name} = ${entry.previousPropertyName}.${entry.accessorName};
-    <#if !entry.presenceChecker?? >
-    <#if !entry.type.primitive>
+    <#if !entry.presenceChecker?? && !entry.type.primitive>
+    <#if !entry.nonNull>
     if ( ${entry.name} == null ) {
         return ${returnType.null};
     }
+    <#elseif assertNonNullEntries>
+    assert ${entry.name} != null;
     </#if>
     </#if>
     <#if !entry_has_next>
@@ -6,10 +6,14 @@
 
 -->
 <#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.PropertyMapping" -->
+<#if assertedNonNullSourceReference??>
+assert ${assertedNonNullSourceReference} != null;
+</#if>
 <@includeModel object=assignment
                targetBeanName=ext.targetBeanName
                existingInstanceMapping=ext.existingInstanceMapping
                targetReadAccessorName=targetReadAccessorName
                targetWriteAccessorName=targetWriteAccessorName
+               targetWriteAccessorKey=targetWriteAccessorKey
                targetType=targetType
                defaultValueAssignment=defaultValueAssignment />
\ No newline at end of file
@@ -0,0 +1,26 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SpringConfiguration" -->
+<#if packageName?has_content>
+package ${packageName};
+
+</#if>
+<@includeModel object=generated/>
+@org.springframework.context.annotation.Configuration<#if proxyBeanMethodsSupported>(proxyBeanMethods = false)</#if>
+public class ${name} {
+<#list beans as bean>
+
+    @org.springframework.context.annotation.Bean("${bean.name}")
+    <#list bean.annotations as annotation>
+    ${annotation}
+    </#list>
+    public ${bean.implementationName} ${bean.methodName}(<#list bean.parameters as parameter><#list parameter.annotations as annotation>${annotation} </#list>${parameter.typeName} ${parameter.name}<#if parameter_has_next>, </#if></#list>) {
+        return new ${bean.implementationName}(<#if bean.parameters?has_content> <#list bean.parameters as parameter>${parameter.name}<#if parameter_has_next>, </#if></#list> </#if>);
+    }
+</#list>
+}
@@ -42,7 +42,7 @@
                     <#-- We cannot update an existing stream so we just return the old one -->
                     return<#if returnType.name != "void"> ${resultName}</#if>;
                 <#else>
-                    return Stream.empty();
+                    return <@emptyResult />;
                 </#if>
             </#if>
         </#if>
@@ -69,7 +69,7 @@
         <#-- Streams are immutable so we can't update them -->
         <#if needVarDefine>
             <#assign needVarDefine = false />
-            <@iterableLocalVarDef/> ${resultName} = Stream.empty();
+            <@iterableLocalVarDef/> ${resultName} = <@emptyResult />;
         </#if>
     </#if>
 
@@ -87,24 +87,24 @@
     <#if resultType.arrayType>
         <#if existingInstanceMapping>
         int ${index1Name} = 0;
-        for ( <@includeModel object=resultElementType/> ${loopVariableName} : ${sourceParameter.name}.limit( ${resultName}.length )<@streamMapSupplier />.toArray( ${resultElementType}[]::new ) ) {
+        for ( <@includeModel object=resultElementType/> ${loopVariableName} : <@sourceStream />.limit( ${resultName}.length )<@streamMapSupplier /><@toArray /> ) {
             if ( ( ${index1Name} >= ${resultName}.length ) ) {
                 break;
             }
             ${resultName}[${index1Name}++] = ${loopVariableName};
         }
         <#else>
-            <#if canReturnImmediatelly><#if returnType.name != "void">return </#if><#else> <#if needVarDefine>${resultElementType}[] <#else>${resultName} = </#if></#if>${sourceParameter.name}<@streamMapSupplier />
-                        .toArray( <@includeModel object=resultElementType/>[]::new );
+            <#if canReturnImmediatelly><#if returnType.name != "void">return </#if><#else> <#if needVarDefine>${resultElementType}[] <#else>${resultName} = </#if></#if><@sourceStream /><@streamMapSupplier />
+                        <@toArray />;
         </#if>
     <#elseif resultType.iterableType>
         <#if existingInstanceMapping || !canReturnImmediatelly>
-            ${resultName}.addAll( ${sourceParameter.name}<@streamMapSupplier />
+            ${resultName}.addAll( <@sourceStream /><@streamMapSupplier />
                                     .collect( Collectors.toCollection( <@iterableCollectionSupplier /> ) )
                                 );
         <#else>
             <@returnLocalVarDefOrUpdate>
-                <#lt>${sourceParameter.name}<@streamMapSupplier />
+                <#lt><@sourceStream /><@streamMapSupplier />
                     .collect( Collectors.toCollection( <@iterableCollectionSupplier /> ) );
             </@returnLocalVarDefOrUpdate>
 
@@ -114,14 +114,14 @@
         <#if !existingInstanceMapping>
             <#--TODO fhr: after the the result is no longer the same instance, how does it affect the
                 Before mapping methods. Does it even make sense to have before mapping on a stream? -->
-            <#if sourceParameter.type.arrayType>
-                <@returnLocalVarDefOrUpdate>Stream.of( ${sourceParameter.name} )<@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
-            <#elseif sourceParameter.type.collectionType>
-                <@returnLocalVarDefOrUpdate>${sourceParameter.name}.stream()<@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
-            <#elseif sourceParameter.type.iterableType>
-                <@returnLocalVarDefOrUpdate>StreamSupport.stream( ${sourceParameter.name}.spliterator(), false )<@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
+            <#if parallelMapping??>
+                <@returnLocalVarDefOrUpdate><@parallelSourceStream /><@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
+            <#elseif resultType.iteratorType>
+                <@returnLocalVarDefOrUpdate><@sourceStream /><@streamMapSupplier />.iterator();</@returnLocalVarDefOrUpdate>
+            <#elseif resultType.spliteratorType>
+                <@returnLocalVarDefOrUpdate><@sourceStream /><@streamMapSupplier />.spliterator();</@returnLocalVarDefOrUpdate>
             <#else>
-                <@returnLocalVarDefOrUpdate>${sourceParameter.name}<@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
+                <@returnLocalVarDefOrUpdate><@sourceStream /><@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
             </#if>
         </#if>
 
@@ -166,19 +166,86 @@
 </#macro>
 <#macro iterableCollectionSupplier>
     <@compress single_line=true>
-        <#if resultType.implementationType??>
-            <@includeModel object=resultType.implementationType/>
+        <#if iterableCreation.enumSet>
+            () -> <@includeModel object=iterableCreation useSizeIfPossible=false/>
+        <#elseif resultType.implementationType??>
+            <@includeModel object=resultType.implementationType/>::new
         <#else>
-            <@includeModel object=resultType/></#if>::new
+            <@includeModel object=resultType/>::new
+        </#if>
     </@compress>
 </#macro>
+<#--
+    The mapping of the elements. Primitive streams are boxed, unboxed or widened without a function if the elements
+    are assigned directly.
+-->
 <#macro streamMapSupplier>
     <@compress>
-        <#if !elementAssignment.directAssignment?? || !elementAssignment.directAssignment>
-            .map( <@includeModel object=elementAssignment targetBeanName=resultName targetType=resultElementType/> )
+        <#if elementMappingMethod??>
+            <#if elementMappingMethod == "boxed" || elementMappingMethod?starts_with("as")>
+                .${elementMappingMethod}()
+            <#elseif elementAssignment.directAssignment?? && elementAssignment.directAssignment>
+                .${elementMappingMethod}( ${loopVariableName} -> ${loopVariableName} )
+            <#else>
+                .${elementMappingMethod}( <@includeModel object=elementAssignment targetBeanName=resultName targetType=resultElementType/> )
+            </#if>
+        </#if>
+    </@compress>
+</#macro>
+<#macro toArray>
+    <@compress single_line=true>
+        <#if primitiveResultStream>
+            .toArray()
+        <#else>
+            .toArray( <@includeModel object=resultElementType/>[]::new )
         </#if>
     </@compress>
 </#macro>
 <#macro returnLocalVarDefOrUpdate>
     <#if canReturnImmediatelly><#if returnType.name != "void">return </#if><#elseif needVarDefine><@iterableLocalVarDef/> ${resultName} = <#else>${resultName} = </#if><#nested />
 </#macro>
+<#macro parallelSourceStream>
+    <@compress single_line=true>
+        <#if sourceParameter.type.arrayType>
+            ( ${sourceParameter.name}.length >= ${parallelMapping.threshold} ? Stream.of( ${sourceParameter.name} ).parallel() : Stream.of( ${sourceParameter.name} ) )
+        <#else>
+            ( ${sourceParameter.name}.size() >= ${parallelMapping.threshold} ? ${sourceParameter.name}.parallelStream() : ${sourceParameter.name}.stream() )
+        </#if>
+    </@compress>
+</#macro>
+<#--
+    The source as stream. Iterators and spliterators are wrapped, so that their elements are mapped one by one when
+    the stream is consumed.
+-->
+<#macro sourceStream>
+    <@compress single_line=true>
+        <#if sourceParameter.type.arrayType && primitiveSourceStream>
+            Arrays.stream( ${sourceParameter.name} )
+        <#elseif sourceParameter.type.arrayType>
+            Stream.of( ${sourceParameter.name} )
+        <#elseif sourceParameter.type.collectionType>
+            ${sourceParameter.name}.stream()
+        <#elseif sourceParameter.type.iterableType>
+            StreamSupport.stream( ${sourceParameter.name}.spliterator(), false )
+        <#elseif sourceParameter.type.iteratorType>
+            StreamSupport.stream( Spliterators.spliteratorUnknownSize( ${sourceParameter.name}, Spliterator.ORDERED ), false )
+        <#elseif sourceParameter.type.spliteratorType>
+            StreamSupport.stream( ${sourceParameter.name}, false )
+        <#else>
+            ${sourceParameter.name}
+        </#if>
+    </@compress>
+</#macro>
+<#macro emptyResult>
+    <@compress single_line=true>
+        <#if resultType.iteratorType>
+            Collections.emptyIterator()
+        <#elseif resultType.spliteratorType>
+            Spliterators.emptySpliterator()
+        <#elseif resultType.primitiveStreamType>
+            <@includeModel object=resultType/>.empty()
+        <#else>
+            Stream.empty()
+        </#if>
+    </@compress>
+</#macro>
@@ -10,6 +10,6 @@
 <@lib.handleExceptions>
     <@lib.sourceLocalVarAssignment/>
     <@lib.handleSourceReferenceNullCheck>
-        <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}<@lib.handleWrite>Arrays.copyOf( ${sourceLocalVarName}, ${sourceLocalVarName}.length )</@lib.handleWrite>;
+        <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}<@lib.handleWrite><#if cloneArray>${sourceLocalVarName}.clone()<#else>Arrays.copyOf( ${sourceLocalVarName}, ${sourceLocalVarName}.length )</#if></@lib.handleWrite>;
     </@lib.handleSourceReferenceNullCheck>
 </@lib.handleExceptions>
\ No newline at end of file
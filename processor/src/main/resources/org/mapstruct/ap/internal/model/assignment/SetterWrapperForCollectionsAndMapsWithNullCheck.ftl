@@ -15,17 +15,35 @@
   assigns the target via the regular target write accessor (usually the setter)
 -->
 <#macro callTargetWriteAccessor>
+  <#if includeSourceNullCheck>
   <@lib.handleLocalVarNullCheck needs_explicit_local_var=directAssignment>
-      <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}<@lib.handleWrite><#if directAssignment><@wrapLocalVarInCollectionInitializer/><#else><@lib.handleWithAssignmentOrNullCheckVar/></#if></@lib.handleWrite>;
+      <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}<@lib.handleWrite><#if directAssignment><@wrapInCollectionInitializer>${nullCheckLocalVarName}</@wrapInCollectionInitializer><#else><@lib.handleWithAssignmentOrNullCheckVar/></#if></@lib.handleWrite>;
   </@lib.handleLocalVarNullCheck>
+  <#else>
+      <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}<@lib.handleWrite><#if directAssignment><@wrapInCollectionInitializer><@lib.handleAssignment/></@wrapInCollectionInitializer><#else><@lib.handleAssignment/></#if></@lib.handleWrite>;
+  </#if>
 </#macro>
 <#--
-  wraps the local variable in a collection initializer (new collection, or EnumSet.copyOf)
+  wraps the nested source in a collection initializer (new collection, EnumSet.copyOf or EnumMap), an unmodifiable view or
+  copy (copyOf, or an unmodifiable view of a new collection before Java 10), or assigns it as it is, depending on the
+  collection copy strategy
 -->
-<#macro wrapLocalVarInCollectionInitializer><@compress single_line=true>
-    <#if enumSet>
-      EnumSet.copyOf( ${nullCheckLocalVarName} )
+<#macro wrapInCollectionInitializer><@compress single_line=true>
+    <#if sharedSource>
+      <#nested>
+    <#elseif unmodifiableViewMethod?? && immutableCopy>
+      Collections.${unmodifiableViewMethod}( new <@includeModel object=ext.targetType.implementationType/>( <#nested> ) )
+    <#elseif unmodifiableViewMethod??>
+      Collections.${unmodifiableViewMethod}( <#nested> )
+    <#elseif immutableCopy>
+      <@includeModel object=ext.targetType raw=true/>.copyOf( <#nested> )
+    <#elseif enumSet>
+      EnumSet.copyOf( <#nested> )
+    <#elseif enumCollectionType?? && enumCollectionType.collectionType>
+      <#nested>.isEmpty() ? <@includeModel object=enumCollectionType raw=true/>.noneOf( <@includeModel object=enumCollectionKeyType raw=true/>.class ) : <@includeModel object=enumCollectionType raw=true/>.copyOf( <#nested> )
+    <#elseif enumCollectionType??>
+      <#nested>.isEmpty() ? new <@includeModel object=enumCollectionType/>( <@includeModel object=enumCollectionKeyType raw=true/>.class ) : new <@includeModel object=enumCollectionType/>( <#nested> )
     <#else>
-      new <#if ext.targetType.implementationType??><@includeModel object=ext.targetType.implementationType/><#else><@includeModel object=ext.targetType/></#if>( ${nullCheckLocalVarName} )
+      new <#if ext.targetType.implementationType??><@includeModel object=ext.targetType.implementationType/><#else><@includeModel object=ext.targetType/></#if>( <#nested> )
     </#if>
 </@compress></#macro>
\ No newline at end of file
@@ -0,0 +1,53 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.assignment.SetterWrapperWithChangeCheck" -->
+<#import "../macro/CommonMacros.ftl" as lib>
+<@lib.handleExceptions>
+    <@lib.sourceLocalVarAssignment/>
+    <#if sourcePresenceCheckerReference??>
+        if ( <@includeModel object=sourcePresenceCheckerReference /> ) {
+            <@writeIfChanged><@lib.handleAssignment/></@writeIfChanged>
+        }
+        <@elseAssignment/>
+    <#elseif includeSourceNullCheck || ext.defaultValueAssignment??>
+        if ( <#if sourceLocalVarName??>${sourceLocalVarName}<#else>${sourceReference}</#if> != null ) {
+            <@writeIfChanged><@lib.handleAssignment/></@writeIfChanged>
+        }
+        <@elseAssignment/>
+    <#else>
+        <@writeIfChanged><@lib.handleAssignment/></@writeIfChanged>
+    </#if>
+</@lib.handleExceptions>
+<#--
+    stores the nested value in a local variable and only writes it when it differs from the current target value
+-->
+<#macro writeIfChanged>
+    <@includeModel object=targetType/> ${changedValueLocalVarName} = <#nested>;
+    if ( <#if primitiveComparison>${changedValueLocalVarName} != <@currentTargetValue/><#else>!<@includeModel object=objectsType/>.equals( ${changedValueLocalVarName}, <@currentTargetValue/> )</#if> ) {
+        <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}<@lib.handleWrite>${changedValueLocalVarName}</@lib.handleWrite>;
+    }
+</#macro>
+<#macro currentTargetValue><#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetReadAccessorName}</#macro>
+<#--
+    the default value takes precedence, an explicit null is only written when the target value is not null already
+-->
+<#macro elseAssignment>
+    <#if ext.defaultValueAssignment?? >
+    else {
+        <@lib.handeDefaultAssigment/>
+    }
+    <#elseif setExplicitlyToDefault>
+    else {
+        <@writeIfChanged><@lib.initTargetObject/></@writeIfChanged>
+    }
+    <#elseif setExplicitlyToNull>
+    else if ( <@currentTargetValue/> != null ) {
+        <#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}<@lib.handleWrite>null</@lib.handleWrite>;
+    }
+    </#if>
+</#macro>
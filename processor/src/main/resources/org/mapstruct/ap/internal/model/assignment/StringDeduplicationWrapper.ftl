@@ -0,0 +1,14 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.assignment.StringDeduplicationWrapper" -->
+${stringPoolName}.deduplicate( <@includeModel object=assignment
+        targetBeanName=ext.targetBeanName
+        existingInstanceMapping=ext.existingInstanceMapping
+        targetReadAccessorName=ext.targetReadAccessorName
+        targetWriteAccessorName=ext.targetWriteAccessorName
+        targetType=ext.targetType/> )
\ No newline at end of file
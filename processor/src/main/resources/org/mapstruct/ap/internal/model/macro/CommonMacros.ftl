@@ -112,6 +112,7 @@ Performs a standard assignment.
                existingInstanceMapping=ext.existingInstanceMapping
                targetReadAccessorName=ext.targetReadAccessorName
                targetWriteAccessorName=ext.targetWriteAccessorName
+               targetWriteAccessorKey=ext.targetWriteAccessorKey
                targetType=ext.targetType/>
 </#macro>
 <#--
@@ -123,15 +124,17 @@ Performs a default assignment with a default value.
                existingInstanceMapping=ext.existingInstanceMapping
                targetReadAccessorName=ext.targetReadAccessorName
                targetWriteAccessorName=ext.targetWriteAccessorName
+               targetWriteAccessorKey=ext.targetWriteAccessorKey
                targetType=ext.targetType
                defaultValue=ext.defaultValue/>
 </#macro>
 <#--
   macro: handleWrite
 
-  purpose: To handle the writing to a field or using a method. The line is not closed with ';'
+  purpose: To handle the writing to a field or using a method, which gets the key first when putting the value
+           into a map. The line is not closed with ';'
 -->
-<#macro handleWrite><#if fieldAssignment> = <#nested><#else>( <#nested> )</#if></#macro>
+<#macro handleWrite><#if fieldAssignment> = <#nested><#else>( <#if ext.targetWriteAccessorKey??>"${ext.targetWriteAccessorKey?j_string}", </#if><#nested> )</#if></#macro>
 
 <#--
   macro: handleWriteAccesing
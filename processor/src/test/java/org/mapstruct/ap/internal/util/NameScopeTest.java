@@ -0,0 +1,81 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NameScopeTest {
+
+    @Test
+    public void shouldAllocateSameNamesAsGetSafeVariableName() {
+        NameScope scope = new NameScope( Arrays.asList( "prop", "prop1" ) );
+
+        assertThat( scope.allocate( "prop" ) ).isEqualTo( "prop2" );
+        assertThat( scope.allocate( "Prop" ) ).isEqualTo( "prop3" );
+        assertThat( scope.allocate( "prop.font" ) ).isEqualTo( "propFont" );
+        assertThat( scope.allocate( "prop.font" ) ).isEqualTo( "propFont1" );
+        assertThat( scope.allocate( "class" ) ).isEqualTo( "class1" );
+        assertThat( scope.allocate( "prop1" ) ).isEqualTo( "prop1_1" );
+        assertThat( scope ).containsExactlyInAnyOrder(
+            "prop",
+            "prop1",
+            "prop2",
+            "prop3",
+            "propFont",
+            "propFont1",
+            "class1",
+            "prop1_1"
+        );
+    }
+
+    @Test
+    public void shouldTakeNamesAddedOutsideOfAllocationIntoAccount() {
+        NameScope scope = new NameScope();
+
+        assertThat( scope.allocate( "target" ) ).isEqualTo( "target" );
+        assertThat( scope.allocate( "target" ) ).isEqualTo( "target1" );
+        scope.add( "target2" );
+        scope.add( "target4" );
+        assertThat( scope.allocate( "target" ) ).isEqualTo( "target3" );
+        assertThat( scope.allocate( "target" ) ).isEqualTo( "target5" );
+    }
+
+    @Test
+    public void shouldNotDeclareNameWhenOnlyAskingForSafeName() {
+        NameScope scope = new NameScope( Arrays.asList( "source" ) );
+
+        assertThat( scope.getSafeName( "source" ) ).isEqualTo( "source1" );
+        assertThat( scope.getSafeName( "source" ) ).isEqualTo( "source1" );
+        assertThat( scope ).containsExactly( "source" );
+    }
+
+    @Test
+    public void shouldSeeNamesOfEnclosingScopeInNestedScope() {
+        NameScope methodScope = new NameScope( Arrays.asList( "source", "i" ) );
+        NameScope loopScope = methodScope.newNestedScope();
+
+        assertThat( loopScope.allocate( "i" ) ).isEqualTo( "i1" );
+        assertThat( loopScope.allocate( "source" ) ).isEqualTo( "source1" );
+        assertThat( loopScope ).containsExactlyInAnyOrder( "source", "i", "i1", "source1" );
+        assertThat( methodScope ).containsExactlyInAnyOrder( "source", "i" );
+
+        methodScope.add( "i2" );
+        assertThat( loopScope.allocate( "i" ) ).isEqualTo( "i3" );
+    }
+
+    @Test
+    public void shouldKeepCaseOfAllocatedTypeNames() {
+        NameScope scope = new NameScope( Arrays.asList( "EngineMapperHolder", "EngineMapperHolder1" ) );
+
+        assertThat( scope.allocateTypeName( "CarMapperHolder" ) ).isEqualTo( "CarMapperHolder" );
+        assertThat( scope.allocateTypeName( "EngineMapperHolder" ) ).isEqualTo( "EngineMapperHolder2" );
+        assertThat( scope.allocateTypeName( "EngineMapperHolder" ) ).isEqualTo( "EngineMapperHolder3" );
+    }
+}
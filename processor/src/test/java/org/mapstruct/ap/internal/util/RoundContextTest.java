@@ -0,0 +1,79 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.lang.model.element.Element;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the memoization done by {@link RoundContext}.
+ */
+public class RoundContextTest {
+
+    @Test
+    public void shouldReadGemOnlyOncePerElement() {
+        RoundContext roundContext = new RoundContext( null );
+        Element first = element();
+        Element second = element();
+        AtomicInteger reads = new AtomicInteger();
+
+        String gem = roundContext.getGem( first, String.class, e -> "gem" + reads.incrementAndGet() );
+        assertThat( gem ).isEqualTo( "gem1" );
+        assertThat( roundContext.getGem( first, String.class, e -> "gem" + reads.incrementAndGet() ) )
+            .isSameAs( gem );
+        assertThat( roundContext.getGem( second, String.class, e -> "gem" + reads.incrementAndGet() ) )
+            .isEqualTo( "gem2" );
+        assertThat( reads ).hasValue( 2 );
+    }
+
+    @Test
+    public void shouldMemoizeAbsentGems() {
+        RoundContext roundContext = new RoundContext( null );
+        Element element = element();
+        AtomicInteger reads = new AtomicInteger();
+
+        assertThat( roundContext.getGem( element, String.class, e -> {
+            reads.incrementAndGet();
+            return null;
+        } ) ).isNull();
+        assertThat( roundContext.getGem( element, String.class, e -> {
+            reads.incrementAndGet();
+            return null;
+        } ) ).isNull();
+        assertThat( reads ).hasValue( 1 );
+    }
+
+    @Test
+    public void shouldKeepGemsOfDifferentTypesApart() {
+        RoundContext roundContext = new RoundContext( null );
+        Element element = element();
+
+        assertThat( roundContext.getGem( element, String.class, e -> "gem" ) ).isEqualTo( "gem" );
+        assertThat( roundContext.getGem( element, Integer.class, e -> 42 ) ).isEqualTo( 42 );
+    }
+
+    private static Element element() {
+        return (Element) Proxy.newProxyInstance(
+            RoundContextTest.class.getClassLoader(),
+            new Class<?>[] { Element.class },
+            (proxy, method, args) -> {
+                switch ( method.getName() ) {
+                    case "hashCode":
+                        return System.identityHashCode( proxy );
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException( method.getName() );
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.writer;
+
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.option.EmissionBackend;
+import org.mapstruct.ap.internal.option.NullabilityAnnotationsPolicy;
+import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.processor.DefaultModelElementProcessorContext;
+import org.mapstruct.ap.internal.processor.MapperRegistrations;
+import org.mapstruct.ap.internal.util.AnnotationProcessorContext;
+import org.mapstruct.ap.internal.util.RoundContext;
+
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.DefaultObjectWrapper;
+import freemarker.template.TemplateBooleanModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes types and parameters with their {@link JavaEmitter}s and with their templates, and checks that both write the
+ * same. The templates are rendered with the {@link EmissionBackend#FREEMARKER} backend, so that the nested elements are
+ * rendered with their templates as well rather than with their emitters. The model elements are created from the
+ * method signatures of a fixture compiled with javac.
+ */
+public class JavaEmitterTest {
+
+    private static final String FIXTURE = "package fixture;\n" +
+        "import java.util.List;\n" +
+        "import java.util.Map;\n" +
+        "public abstract class Fixture {\n" +
+        "    abstract <T extends Comparable<? super T>> void types(Map<String, List<? extends Number>> map,\n" +
+        "        List<? super Integer> integers, List<?> unbounded, T comparable, int[] ints, String[]... values);\n" +
+        "    abstract void genericVarArgs(List<String>... lists);\n" +
+        "}\n";
+
+    private static final Configuration CONFIGURATION =
+        new Configuration( Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS );
+
+    @BeforeAll
+    public static void setUpConfiguration() {
+        CONFIGURATION.setTemplateLoader( new ClassTemplateLoader( JavaEmitterTest.class, "/" ) );
+        CONFIGURATION.setObjectWrapper( new DefaultObjectWrapper( Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS ) );
+        CONFIGURATION.setSharedVariable( "includeModel", new ModelIncludeDirective( CONFIGURATION ) );
+    }
+
+    @Test
+    public void shouldWriteTypesLikeTemplate() {
+        withParameters( parameters -> {
+            for ( Type type : getAllTypes( parameters ) ) {
+                assertSameOutput( type, Collections.emptyMap() );
+            }
+        } );
+    }
+
+    @Test
+    public void shouldWriteRawTypesLikeTemplate() {
+        withParameters( parameters -> {
+            for ( Type type : getAllTypes( parameters ) ) {
+                assertSameOutput( type, Collections.singletonMap( "raw", TemplateBooleanModel.TRUE ) );
+            }
+        } );
+    }
+
+    @Test
+    public void shouldWriteTypesPassedRawFalseLikeTemplate() {
+        // the template only checks whether "raw" is passed, not its value
+        Map<String, Object> rawFalse = Collections.singletonMap( "raw", TemplateBooleanModel.FALSE );
+        withParameters( parameters -> {
+            for ( Type type : getAllTypes( parameters ) ) {
+                assertSameOutput( type, rawFalse );
+            }
+            assertThat( write( getParameter( parameters, "map" ).getType(), rawFalse ) ).isEqualTo( "Map" );
+        } );
+    }
+
+    @Test
+    public void shouldWriteWildcardsLikeTemplate() {
+        withParameters( parameters -> {
+            Type map = getParameter( parameters, "map" ).getType();
+            Type extendsBound = map.getTypeParameters().get( 1 ).getTypeParameters().get( 0 );
+            Type superBound = getParameter( parameters, "integers" ).getType().getTypeParameters().get( 0 );
+            Type unbounded = getParameter( parameters, "unbounded" ).getType().getTypeParameters().get( 0 );
+
+            assertSameOutput( map, Collections.emptyMap() );
+            assertSameOutput( extendsBound, Collections.emptyMap() );
+            assertSameOutput( superBound, Collections.emptyMap() );
+            assertSameOutput( unbounded, Collections.emptyMap() );
+            assertThat( write( map, Collections.emptyMap() ) ).isEqualTo( "Map<String, List<? extends Number>>" );
+            assertThat( write( superBound, Collections.emptyMap() ) ).isEqualTo( "? super Integer" );
+        } );
+    }
+
+    @Test
+    public void shouldWriteVarArgsLikeTemplate() {
+        withParameters( parameters -> {
+            for ( Type type : getAllTypes( parameters ) ) {
+                assertSameOutput( type, Collections.singletonMap( "asVarArgs", TemplateBooleanModel.TRUE ) );
+                assertSameOutput( type, Collections.singletonMap( "asVarArgs", TemplateBooleanModel.FALSE ) );
+            }
+            assertThat( write( getParameter( parameters, "values" ), Collections.emptyMap() ) )
+                .isEqualTo( "String[]... values" );
+        } );
+    }
+
+    @Test
+    public void shouldWriteParametersLikeTemplate() {
+        withParameters( parameters -> {
+            for ( Parameter parameter : parameters ) {
+                String emitted = write( parameter, Collections.emptyMap() );
+                String rendered = render( parameter, Collections.emptyMap() );
+
+                assertThat( emitted ).as( parameter.getName() ).isEqualTo( rendered );
+            }
+        } );
+    }
+
+    /**
+     * Compiles the fixture and passes the parameters of its methods to the given check. The check is run while
+     * processing, as the types are backed by the compiler's elements.
+     */
+    private static void withParameters(ParametersCheck check) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        CompilationTask task = compiler.getTask(
+            null,
+            null,
+            null,
+            Arrays.asList( "-proc:only", "-Xlint:-unchecked" ),
+            null,
+            Collections.singletonList( new FixtureSource() )
+        );
+        FixtureProcessor processor = new FixtureProcessor( check );
+        task.setProcessors( Collections.singletonList( processor ) );
+
+        try {
+            assertThat( task.call() ).isTrue();
+        }
+        catch ( RuntimeException e ) {
+            if ( e.getCause() instanceof AssertionError ) {
+                throw (AssertionError) e.getCause();
+            }
+            throw e;
+        }
+        assertThat( processor.checked ).isTrue();
+    }
+
+    private static void assertSameOutput(Type type, Map<String, Object> parameters) throws Exception {
+        String emitted = write( type, parameters );
+        String rendered = render( type, parameters );
+
+        assertThat( emitted ).as( "%s with %s", rendered, parameters ).isEqualTo( rendered );
+    }
+
+    private static String write(FreeMarkerWritable writable, Map<String, Object> parameters) throws Exception {
+        StringWriter writer = new StringWriter();
+        writable.write( createContext( EmissionBackend.JAVA, parameters ), writer );
+        return writer.toString();
+    }
+
+    private static String render(FreeMarkerWritable writable, Map<String, Object> parameters) throws Exception {
+        StringWriter writer = new StringWriter();
+        new FreeMarkerModelElementWriter().write(
+            writable,
+            createContext( EmissionBackend.FREEMARKER, parameters ),
+            writer
+        );
+        return writer.toString();
+    }
+
+    private static Writable.Context createContext(EmissionBackend emissionBackend, Map<String, Object> parameters) {
+        Map<Class<?>, Object> values = new HashMap<>();
+        values.put( Configuration.class, CONFIGURATION );
+        values.put( EmissionBackend.class, emissionBackend );
+        values.put( Map.class, new HashMap<>( parameters ) );
+        return new ModelWriter.DefaultModelElementWriterContext( values );
+    }
+
+    private static Parameter getParameter(List<Parameter> parameters, String name) {
+        return parameters.stream()
+            .filter( parameter -> parameter.getName().equals( name ) )
+            .findFirst()
+            .orElseThrow( () -> new IllegalArgumentException( name ) );
+    }
+
+    private static List<Type> getAllTypes(List<Parameter> parameters) {
+        Map<String, Type> types = new LinkedHashMap<>();
+        for ( Parameter parameter : parameters ) {
+            collect( parameter.getType(), types );
+        }
+        return new ArrayList<>( types.values() );
+    }
+
+    private static void collect(Type type, Map<String, Type> types) {
+        if ( type == null || types.putIfAbsent( type.getTypeMirror().toString(), type ) != null ) {
+            return;
+        }
+        collect( type.getTypeBound(), types );
+        collect( type.getComponentType(), types );
+        for ( Type typeParameter : type.getTypeParameters() ) {
+            collect( typeParameter, types );
+        }
+    }
+
+    private interface ParametersCheck {
+
+        void check(List<Parameter> parameters) throws Exception;
+    }
+
+    private static class FixtureSource extends SimpleJavaFileObject {
+
+        FixtureSource() {
+            super( URI.create( "string:///fixture/Fixture.java" ), JavaFileObject.Kind.SOURCE );
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return FIXTURE;
+        }
+    }
+
+    /**
+     * Creates the parameters of the fixture's methods with the type factory of the processor and checks them.
+     */
+    private static class FixtureProcessor extends AbstractProcessor {
+
+        private final ParametersCheck check;
+        private boolean checked;
+
+        FixtureProcessor(ParametersCheck check) {
+            this.check = check;
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return Collections.singleton( "*" );
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            TypeElement fixture = processingEnv.getElementUtils().getTypeElement( "fixture.Fixture" );
+            if ( roundEnv.processingOver() || fixture == null || checked ) {
+                return false;
+            }
+
+            RoundContext roundContext = new RoundContext( new AnnotationProcessorContext(
+                processingEnv.getElementUtils(),
+                processingEnv.getTypeUtils(),
+                processingEnv.getMessager(),
+                false
+            ) );
+            Options options = new Options( false, false, null, null, null, false, false,
+                NullabilityAnnotationsPolicy.IGNORE, false, false, false, false, false, false,
+                EmissionBackend.JAVA );
+            TypeFactory typeFactory = new DefaultModelElementProcessorContext(
+                processingEnv,
+                options,
+                roundContext,
+                new HashMap<>(),
+                new MapperRegistrations()
+            ).getTypeFactory();
+
+            List<Parameter> parameters = new ArrayList<>();
+            for ( ExecutableElement method : ElementFilter.methodsIn( fixture.getEnclosedElements() ) ) {
+                parameters.addAll( typeFactory.getParameters( (DeclaredType) fixture.asType(), method ) );
+            }
+            assertThat( parameters ).hasSize( 7 );
+
+            try {
+                check.check( parameters );
+            }
+            catch ( Exception e ) {
+                throw new RuntimeException( e );
+            }
+            checked = true;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.builder.cache;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.mapstruct.ap.spi.BuilderProvider;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.WithServiceImplementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the builder provider is consulted only once per type within a processing round.
+ */
+@WithClasses({
+    AddressDto.class,
+    ImmutableAddress.class,
+    ImmutablePerson.class,
+    PersonDto.class,
+    PersonMapper.class
+})
+@WithServiceImplementation(provides = BuilderProvider.class, value = SingleLookupBuilderProvider.class)
+public class BuilderInfoCacheTest {
+
+    @ProcessorTest
+    public void shouldLookUpBuilderOncePerType() {
+        PersonDto dto = new PersonDto( "Bob", new AddressDto( "Plaza 1" ) );
+
+        ImmutablePerson person = PersonMapper.INSTANCE.toPerson( dto );
+
+        assertThat( person.getName() ).isEqualTo( "Bob" );
+        assertThat( person.getAddress().getStreet() ).isEqualTo( "Plaza 1" );
+
+        person = PersonMapper.INSTANCE.toPerson( "Alice", null );
+
+        assertThat( person.getName() ).isEqualTo( "Alice" );
+        assertThat( person.getAddress() ).isNull();
+
+        List<ImmutablePerson> persons = PersonMapper.INSTANCE.toPersons( Arrays.asList( dto, dto ) );
+
+        assertThat( persons ).extracting( ImmutablePerson::getName ).containsExactly( "Bob", "Bob" );
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.builder.cache;
+
+public class ImmutableAddress {
+
+    private final String street;
+
+    private ImmutableAddress(Builder builder) {
+        this.street = builder.street;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public static class Builder {
+
+        private String street;
+
+        private Builder() {
+        }
+
+        public Builder street(String street) {
+            this.street = street;
+            return this;
+        }
+
+        public ImmutableAddress build() {
+            return new ImmutableAddress( this );
+        }
+    }
+}
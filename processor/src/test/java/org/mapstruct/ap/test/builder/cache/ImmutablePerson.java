@@ -0,0 +1,52 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.builder.cache;
+
+public class ImmutablePerson {
+
+    private final String name;
+    private final ImmutableAddress address;
+
+    private ImmutablePerson(Builder builder) {
+        this.name = builder.name;
+        this.address = builder.address;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ImmutableAddress getAddress() {
+        return address;
+    }
+
+    public static class Builder {
+
+        private String name;
+        private ImmutableAddress address;
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder address(ImmutableAddress address) {
+            this.address = address;
+            return this;
+        }
+
+        public ImmutablePerson build() {
+            return new ImmutablePerson( this );
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.builder.cache;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface PersonMapper {
+
+    PersonMapper INSTANCE = Mappers.getMapper( PersonMapper.class );
+
+    ImmutablePerson toPerson(PersonDto dto);
+
+    ImmutablePerson toPerson(String name, AddressDto address);
+
+    List<ImmutablePerson> toPersons(List<PersonDto> dtos);
+
+    ImmutableAddress toAddress(AddressDto dto);
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.builder.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+
+import org.mapstruct.ap.spi.BuilderInfo;
+import org.mapstruct.ap.spi.BuilderProvider;
+import org.mapstruct.ap.spi.ImmutablesBuilderProvider;
+
+/**
+ * A {@link BuilderProvider} that fails when it is asked more than once for the builder of the same type.
+ */
+public class SingleLookupBuilderProvider extends ImmutablesBuilderProvider {
+
+    private final Set<String> inspectedTypes = new HashSet<>();
+
+    @Override
+    public BuilderInfo findBuilderInfo(TypeMirror type) {
+        TypeElement typeElement = getTypeElement( type );
+        if ( typeElement != null && !inspectedTypes.add( typeElement.getQualifiedName().toString() ) ) {
+            throw new IllegalStateException( "Builder info for " + typeElement + " has already been requested" );
+        }
+
+        return super.findBuilderInfo( type );
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@WithClasses({
+    Order.class,
+    OrderDto.class
+})
+public class CollectionCopyStrategyTest {
+
+    private Order order;
+
+    @BeforeEach
+    public void createOrder() {
+        order = new Order();
+        order.setTags( new ArrayList<>( Arrays.asList( "new", "express" ) ) );
+        order.setCodes( new HashSet<>( Arrays.asList( "A1", "B2" ) ) );
+        order.setCounts( new HashMap<>( Collections.singletonMap( "items", 3 ) ) );
+        order.setNotes( new ArrayList<>( Collections.singletonList( "fragile" ) ) );
+        order.setRatings( new int[] { 4, 5 } );
+    }
+
+    @ProcessorTest
+    @WithClasses(SharingOrderMapper.class)
+    public void shouldShareSource() {
+        OrderDto dto = SharingOrderMapper.INSTANCE.toDto( order );
+
+        assertThat( dto.getTags() ).isSameAs( order.getTags() );
+        assertThat( dto.getCodes() ).isSameAs( order.getCodes() );
+        assertThat( dto.getCounts() ).isSameAs( order.getCounts() );
+        assertThat( dto.getNotes() ).isSameAs( order.getNotes() );
+        assertThat( dto.getRatings() ).isSameAs( order.getRatings() );
+    }
+
+    @ProcessorTest
+    @WithClasses(UnmodifiableViewOrderMapper.class)
+    public void shouldAssignUnmodifiableView() {
+        OrderDto dto = UnmodifiableViewOrderMapper.INSTANCE.toDto( order );
+
+        List<String> tags = dto.getTags();
+        assertThatThrownBy( () -> tags.add( "gift" ) ).isInstanceOf( UnsupportedOperationException.class );
+        order.getTags().add( "gift" );
+        assertThat( tags ).containsExactly( "new", "express", "gift" );
+        assertThat( dto.getCounts() ).containsEntry( "items", 3 );
+        assertThatThrownBy( () -> dto.getCounts().clear() ).isInstanceOf( UnsupportedOperationException.class );
+
+        // overridden by @Mapping
+        assertThat( dto.getCodes() ).isNotSameAs( order.getCodes() ).containsExactlyInAnyOrder( "A1", "B2" );
+        dto.getCodes().add( "C3" );
+
+        // no unmodifiable view for ArrayList and arrays
+        assertThat( dto.getNotes() ).isNotSameAs( order.getNotes() ).containsExactly( "fragile" );
+        assertThat( dto.getRatings() ).isNotSameAs( order.getRatings() ).containsExactly( 4, 5 );
+    }
+
+    @ProcessorTest
+    @WithClasses(ImmutableCopyOrderMapper.class)
+    public void shouldAssignImmutableCopy() {
+        OrderDto dto = ImmutableCopyOrderMapper.INSTANCE.toDto( order );
+
+        List<String> tags = dto.getTags();
+        order.getTags().add( "gift" );
+        assertThat( tags ).containsExactly( "new", "express" );
+        assertThatThrownBy( () -> tags.add( "gift" ) ).isInstanceOf( UnsupportedOperationException.class );
+        assertThatThrownBy( () -> dto.getCodes().clear() ).isInstanceOf( UnsupportedOperationException.class );
+        assertThat( dto.getCounts() ).containsEntry( "items", 3 );
+
+        OrderDto copy = ImmutableCopyOrderMapper.INSTANCE.toDto( dtoAsOrder( dto ) );
+        assertThat( copy.getTags() ).isSameAs( dto.getTags() );
+    }
+
+    @ProcessorTest
+    @WithClasses(ImmutableCopyOrderMapper.class)
+    public void shouldRejectNullElementsWhenAssigningImmutableCopy() {
+        order.getTags().add( null );
+
+        assertThatThrownBy( () -> ImmutableCopyOrderMapper.INSTANCE.toDto( order ) )
+            .isInstanceOf( NullPointerException.class );
+    }
+
+    private static Order dtoAsOrder(OrderDto dto) {
+        Order order = new Order();
+        order.setTags( dto.getTags() );
+        return order;
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.CollectionCopyStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ImmutableCopyOrderMapper {
+
+    ImmutableCopyOrderMapper INSTANCE = Mappers.getMapper( ImmutableCopyOrderMapper.class );
+
+    @BeanMapping(collectionCopyStrategy = CollectionCopyStrategy.IMMUTABLE_COPY)
+    OrderDto toDto(Order order);
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class Order {
+
+    private List<String> tags;
+    private Set<String> codes;
+    private Map<String, Integer> counts;
+    private ArrayList<String> notes;
+    private int[] ratings;
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Set<String> getCodes() {
+        return codes;
+    }
+
+    public void setCodes(Set<String> codes) {
+        this.codes = codes;
+    }
+
+    public Map<String, Integer> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<String, Integer> counts) {
+        this.counts = counts;
+    }
+
+    public ArrayList<String> getNotes() {
+        return notes;
+    }
+
+    public void setNotes(ArrayList<String> notes) {
+        this.notes = notes;
+    }
+
+    public int[] getRatings() {
+        return ratings;
+    }
+
+    public void setRatings(int[] ratings) {
+        this.ratings = ratings;
+    }
+}
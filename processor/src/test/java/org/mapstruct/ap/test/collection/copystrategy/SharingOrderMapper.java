@@ -0,0 +1,18 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import org.mapstruct.CollectionCopyStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(collectionCopyStrategy = CollectionCopyStrategy.SHARE)
+public interface SharingOrderMapper {
+
+    SharingOrderMapper INSTANCE = Mappers.getMapper( SharingOrderMapper.class );
+
+    OrderDto toDto(Order order);
+}
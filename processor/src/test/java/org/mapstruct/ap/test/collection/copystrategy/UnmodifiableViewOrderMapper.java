@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import org.mapstruct.CollectionCopyStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(collectionCopyStrategy = CollectionCopyStrategy.UNMODIFIABLE_VIEW)
+public interface UnmodifiableViewOrderMapper {
+
+    UnmodifiableViewOrderMapper INSTANCE = Mappers.getMapper( UnmodifiableViewOrderMapper.class );
+
+    @Mapping(target = "codes", collectionCopyStrategy = CollectionCopyStrategy.COPY)
+    OrderDto toDto(Order order);
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.enumcollections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@WithClasses({
+    Permission.class,
+    User.class,
+    UserDto.class,
+    PermissionMapper.class
+})
+public class EnumCollectionsTest {
+
+    @ProcessorTest
+    public void shouldCreateEnumSetForIterableMappingMethod() {
+        Set<Permission> permissions = PermissionMapper.INSTANCE.toPermissions( Arrays.asList( "ADMIN", "READ" ) );
+
+        assertThat( permissions ).isInstanceOf( EnumSet.class ).containsExactly( Permission.READ, Permission.ADMIN );
+    }
+
+    @ProcessorTest
+    public void shouldCreateEnumSetForStreamMappingMethod() {
+        Set<Permission> permissions = PermissionMapper.INSTANCE.toPermissions( Stream.of( "WRITE", "READ" ) );
+
+        assertThat( permissions ).isInstanceOf( EnumSet.class ).containsExactly( Permission.READ, Permission.WRITE );
+    }
+
+    @ProcessorTest
+    public void shouldCreateEnumMapForMapMappingMethod() {
+        Map<String, String> levels = new LinkedHashMap<>();
+        levels.put( "WRITE", "2" );
+        levels.put( "READ", "1" );
+
+        Map<Permission, Integer> result = PermissionMapper.INSTANCE.toLevels( levels );
+
+        assertThat( result ).isInstanceOf( EnumMap.class )
+            .containsExactly( entry( Permission.READ, 1 ), entry( Permission.WRITE, 2 ) );
+    }
+
+    @ProcessorTest
+    public void shouldCopyPropertiesToEnumCollections() {
+        User user = new User();
+        user.setPermissions( new HashSet<>( Arrays.asList( Permission.WRITE, Permission.READ ) ) );
+        user.setGrantedBy( Collections.singletonMap( Permission.ADMIN, "root" ) );
+
+        UserDto dto = PermissionMapper.INSTANCE.toDto( user );
+
+        assertThat( dto.getPermissions() ).isInstanceOf( EnumSet.class )
+            .isNotSameAs( user.getPermissions() )
+            .containsExactly( Permission.READ, Permission.WRITE );
+        assertThat( dto.getGrantedBy() ).isInstanceOf( EnumMap.class )
+            .containsExactly( entry( Permission.ADMIN, "root" ) );
+    }
+
+    @ProcessorTest
+    public void shouldCopyEmptyPropertiesToEnumCollections() {
+        User user = new User();
+        user.setPermissions( Collections.emptySet() );
+        user.setGrantedBy( Collections.emptyMap() );
+
+        UserDto dto = PermissionMapper.INSTANCE.toDto( user );
+
+        assertThat( dto.getPermissions() ).isInstanceOf( EnumSet.class ).isEmpty();
+        assertThat( dto.getGrantedBy() ).isInstanceOf( EnumMap.class ).isEmpty();
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.enumcollections;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(useEnumCollections = true)
+public interface PermissionMapper {
+
+    PermissionMapper INSTANCE = Mappers.getMapper( PermissionMapper.class );
+
+    Set<Permission> toPermissions(List<String> names);
+
+    Set<Permission> toPermissions(Stream<String> names);
+
+    Map<Permission, Integer> toLevels(Map<String, String> levels);
+
+    UserDto toDto(User user);
+}
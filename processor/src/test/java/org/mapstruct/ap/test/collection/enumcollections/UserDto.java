@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.enumcollections;
+
+import java.util.Map;
+import java.util.Set;
+
+public class UserDto {
+
+    private Set<Permission> permissions;
+    private Map<Permission, String> grantedBy;
+
+    public Set<Permission> getPermissions() {
+        return permissions;
+    }
+
+    public void setPermissions(Set<Permission> permissions) {
+        this.permissions = permissions;
+    }
+
+    public Map<Permission, String> getGrantedBy() {
+        return grantedBy;
+    }
+
+    public void setGrantedBy(Map<Permission, String> grantedBy) {
+        this.grantedBy = grantedBy;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.lazy;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ElementMappingStrategy;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface ErroneousLazyCarMapper {
+
+    @IterableMapping(elementMappingStrategy = ElementMappingStrategy.LAZY)
+    Set<CarDto> toDtoSet(List<Car> cars);
+
+    @IterableMapping(elementMappingStrategy = ElementMappingStrategy.LAZY)
+    List<CarDto> toDtos(Iterable<Car> cars);
+
+    @IterableMapping(elementMappingStrategy = ElementMappingStrategy.LAZY)
+    void updateDtos(List<Car> cars, @MappingTarget List<CarDto> dtos);
+
+    @IterableMapping(elementMappingStrategy = ElementMappingStrategy.LAZY)
+    List<String> toNames(List<String> names) throws IOException;
+
+    default CarDto toDto(Car car) {
+        return new CarDto( car.getName() );
+    }
+
+    default String toName(String name) throws IOException {
+        return name;
+    }
+}
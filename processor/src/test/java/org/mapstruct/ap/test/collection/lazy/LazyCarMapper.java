@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.lazy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mapstruct.ElementMappingStrategy;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface LazyCarMapper {
+
+    LazyCarMapper INSTANCE = Mappers.getMapper( LazyCarMapper.class );
+
+    AtomicInteger MAPPED_CARS = new AtomicInteger();
+
+    @IterableMapping(elementMappingStrategy = ElementMappingStrategy.LAZY)
+    List<CarDto> toDtos(List<Car> cars);
+
+    @IterableMapping(elementMappingStrategy = ElementMappingStrategy.LAZY_MEMOIZED)
+    List<CarDto> toMemoizedDtos(List<Car> cars);
+
+    @IterableMapping(elementMappingStrategy = ElementMappingStrategy.LAZY)
+    Iterable<CarDto> toDtos(Car[] cars);
+
+    @IterableMapping(elementMappingStrategy = ElementMappingStrategy.LAZY_MEMOIZED)
+    List<String> toStrings(List<Integer> values);
+
+    default CarDto toDto(Car car) {
+        MAPPED_CARS.incrementAndGet();
+        return car == null ? null : new CarDto( car.getName() );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.lazy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Car.class,
+    CarDto.class
+})
+public class LazyIterableMappingTest {
+
+    @BeforeEach
+    public void resetCounter() {
+        LazyCarMapper.MAPPED_CARS.set( 0 );
+    }
+
+    @ProcessorTest
+    @WithClasses(LazyCarMapper.class)
+    public void shouldMapElementsWhenRetrieved() {
+        List<Car> cars = new ArrayList<>( Arrays.asList( new Car( "Morris" ), new Car( "Mini" ), null ) );
+
+        List<CarDto> dtos = LazyCarMapper.INSTANCE.toDtos( cars );
+
+        assertThat( LazyCarMapper.MAPPED_CARS.get() ).isZero();
+        assertThat( dtos ).hasSize( 3 );
+        assertThat( dtos.get( 1 ).getName() ).isEqualTo( "Mini" );
+        assertThat( dtos.get( 1 ).getName() ).isEqualTo( "Mini" );
+        assertThat( LazyCarMapper.MAPPED_CARS.get() ).isEqualTo( 2 );
+
+        cars.set( 0, new Car( "Beetle" ) );
+        assertThat( dtos ).extracting( dto -> dto == null ? null : dto.getName() )
+            .containsExactly( "Beetle", "Mini", null );
+    }
+
+    @ProcessorTest
+    @WithClasses(LazyCarMapper.class)
+    public void shouldMapElementsOnlyOnceWhenMemoized() {
+        List<CarDto> dtos = LazyCarMapper.INSTANCE.toMemoizedDtos( Arrays.asList(
+            new Car( "Morris" ),
+            new Car( "Mini" ),
+            null
+        ) );
+
+        assertThat( LazyCarMapper.MAPPED_CARS.get() ).isZero();
+        assertThat( dtos.get( 1 ) ).isSameAs( dtos.get( 1 ) );
+        assertThat( dtos.get( 2 ) ).isNull();
+        assertThat( dtos.get( 2 ) ).isNull();
+        assertThat( LazyCarMapper.MAPPED_CARS.get() ).isEqualTo( 2 );
+        assertThat( dtos.get( 0 ).getName() ).isEqualTo( "Morris" );
+        assertThat( LazyCarMapper.MAPPED_CARS.get() ).isEqualTo( 3 );
+
+        assertThat( LazyCarMapper.INSTANCE.toStrings( Arrays.asList( 1, 2 ) ) ).containsExactly( "1", "2" );
+    }
+
+    @ProcessorTest
+    @WithClasses(LazyCarMapper.class)
+    public void shouldMapArrayLazily() {
+        Iterable<CarDto> dtos = LazyCarMapper.INSTANCE.toDtos( new Car[] { new Car( "Morris" ), new Car( "Mini" ) } );
+
+        assertThat( LazyCarMapper.MAPPED_CARS.get() ).isZero();
+        assertThat( dtos ).extracting( CarDto::getName ).containsExactly( "Morris", "Mini" );
+        assertThat( LazyCarMapper.INSTANCE.toDtos( (Car[]) null ) ).isNull();
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousLazyCarMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousLazyCarMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 20,
+                message = "Can't map the elements of \"List<Car>\" lazily to \"Set<CarDto>\". Lazy mapping is " +
+                    "supported for mapping a List or an array to a new List, Collection or Iterable."),
+            @Diagnostic(type = ErroneousLazyCarMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 23,
+                message = "Can't map the elements of \"Iterable<Car>\" lazily to \"List<CarDto>\". Lazy mapping is " +
+                    "supported for mapping a List or an array to a new List, Collection or Iterable."),
+            @Diagnostic(type = ErroneousLazyCarMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 26,
+                message = "Can't map the elements of \"List<Car>\" lazily to \"List<CarDto>\". Lazy mapping is " +
+                    "supported for mapping a List or an array to a new List, Collection or Iterable."),
+            @Diagnostic(type = ErroneousLazyCarMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 29,
+                message = "Can't map the elements lazily, as the element mapping throws checked exception " +
+                    "IOException.")
+        }
+    )
+    public void shouldReportUnsupportedLazyMapping() {
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.merge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@WithClasses({
+    OrderLine.class,
+    OrderLineDto.class
+})
+public class CollectionMergeTest {
+
+    @ProcessorTest
+    @WithClasses({
+        Order.class,
+        OrderDto.class,
+        OrderMapper.class
+    })
+    public void shouldMergeElementsByKey() {
+        OrderLine keptLine = new OrderLine( 2L, "Nails", 2 );
+        Order order = new Order();
+        List<OrderLine> lines = new ArrayList<>( Arrays.asList( new OrderLine( 1L, "Hammer", 1 ), keptLine ) );
+        order.setLines( lines );
+
+        OrderDto dto = new OrderDto();
+        dto.setLines( Arrays.asList(
+            new OrderLineDto( 3L, "Saw", 1 ),
+            new OrderLineDto( 2L, "Nails", 5 ),
+            new OrderLineDto( null, "Screws", 10 )
+        ) );
+
+        OrderMapper.INSTANCE.update( dto, order );
+
+        assertThat( order.getLines() ).isSameAs( lines );
+        assertThat( order.getLines() ).hasSize( 3 );
+        assertThat( order.getLines().get( 0 ) ).isSameAs( keptLine );
+        assertThat( keptLine.getQuantity() ).isEqualTo( 5 );
+        assertThat( order.getLines() )
+            .extracting( OrderLine::getId, OrderLine::getProduct, OrderLine::getQuantity )
+            .containsExactly(
+                tuple( 2L, "Nails", 5 ),
+                tuple( 3L, "Saw", 1 ),
+                tuple( null, "Screws", 10 )
+            );
+    }
+
+    @ProcessorTest
+    @WithClasses({
+        Order.class,
+        OrderDto.class,
+        OrderMapper.class
+    })
+    public void shouldRemoveNullTargetElementsAndMapNullSourceElements() {
+        OrderLine keptLine = new OrderLine( 1L, "Hammer", 1 );
+        List<OrderLine> lines = new ArrayList<>( Arrays.asList( null, keptLine ) );
+
+        OrderMapper.INSTANCE.updateLines( Arrays.asList( null, new OrderLineDto( 1L, "Hammer", 3 ) ), lines );
+
+        assertThat( lines ).hasSize( 2 );
+        assertThat( lines.get( 0 ) ).isSameAs( keptLine );
+        assertThat( keptLine.getQuantity() ).isEqualTo( 3 );
+        assertThat( lines.get( 1 ) ).isNull();
+    }
+
+    @ProcessorTest
+    @WithClasses({
+        Order.class,
+        OrderDto.class,
+        OrderMapper.class
+    })
+    public void shouldMergeDuplicateKeysOnlyOnce() {
+        OrderLine firstLine = new OrderLine( 1L, "Hammer", 1 );
+        List<OrderLine> lines = new ArrayList<>( Arrays.asList( firstLine, new OrderLine( 1L, "Hammer", 2 ) ) );
+
+        OrderMapper.INSTANCE.updateLines(
+            Arrays.asList( new OrderLineDto( 1L, "Hammer", 5 ), new OrderLineDto( 1L, "Nails", 7 ) ),
+            lines
+        );
+
+        assertThat( lines.get( 0 ) ).isSameAs( firstLine );
+        assertThat( lines )
+            .extracting( OrderLine::getId, OrderLine::getProduct, OrderLine::getQuantity )
+            .containsExactly(
+                tuple( 1L, "Hammer", 5 ),
+                tuple( 1L, "Nails", 7 )
+            );
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousMergeWithoutMappingTargetMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousMergeWithoutMappingTargetMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 16,
+                message = "Can't merge the elements of \"List<OrderLineDto>\" into \"List<OrderLine>\" by key. " +
+                    "Merging is supported for update methods with a Collection target.")
+        }
+    )
+    public void shouldReportMergeWithoutMappingTarget() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousUnknownMergeKeyMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousUnknownMergeKeyMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 17,
+                message = "Unknown merge key property \"number\" in element type OrderLineDto.")
+        }
+    )
+    public void shouldReportUnknownMergeKey() {
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class CarDto {
+
+    private final String name;
+    private final ForkJoinPool pool;
+    private final Thread thread;
+
+    public CarDto(String name, ForkJoinPool pool) {
+        this.name = name;
+        this.pool = pool;
+        this.thread = Thread.currentThread();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public Thread getThread() {
+        return thread;
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousParallelCheckedExceptionMapper {
+
+    @IterableMapping(parallelThreshold = 100)
+    List<CarDto> toDtos(List<Car> cars) throws IOException;
+
+    default CarDto toDto(Car car) throws IOException {
+        return new CarDto( car.getName(), null );
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.List;
+
+import org.mapstruct.Context;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousParallelContextMapper {
+
+    @IterableMapping(parallelThreshold = 100)
+    List<CarDto> toDtos(List<Car> cars, @Context StringBuilder log);
+
+    default CarDto toDto(Car car, @Context StringBuilder log) {
+        log.append( car.getName() );
+        return new CarDto( car.getName(), null );
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.List;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface ErroneousParallelLifecycleMapper {
+
+    @IterableMapping(parallelThreshold = 100)
+    List<CarDto> toDtos(List<Car> cars);
+
+    default CarDto toDto(Car car) {
+        return new CarDto( car.getName(), null );
+    }
+
+    @AfterMapping
+    default void afterMapping(Car car, @MappingTarget CarDto dto) {
+    }
+}
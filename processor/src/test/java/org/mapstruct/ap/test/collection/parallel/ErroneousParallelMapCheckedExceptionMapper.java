@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.mapstruct.MapMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousParallelMapCheckedExceptionMapper {
+
+    @MapMapping(parallelThreshold = 100)
+    Map<String, CarDto> toDtoMap(Map<String, Car> cars) throws IOException;
+
+    default CarDto toDto(Car car) throws IOException {
+        return new CarDto( car.getName(), null );
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.Map;
+
+import org.mapstruct.Context;
+import org.mapstruct.MapMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousParallelMapContextMapper {
+
+    @MapMapping(parallelThreshold = 100)
+    Map<String, CarDto> toDtoMap(Map<String, Car> cars, @Context StringBuilder log);
+
+    default CarDto toDto(Car car, @Context StringBuilder log) {
+        log.append( car.getName() );
+        return new CarDto( car.getName(), null );
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.Map;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.MapMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface ErroneousParallelMapLifecycleMapper {
+
+    @MapMapping(parallelThreshold = 100)
+    Map<String, CarDto> toDtoMap(Map<String, Car> cars);
+
+    default CarDto toDto(Car car) {
+        return new CarDto( car.getName(), null );
+    }
+
+    @AfterMapping
+    default void afterMapping(Car car, @MappingTarget CarDto dto) {
+    }
+}
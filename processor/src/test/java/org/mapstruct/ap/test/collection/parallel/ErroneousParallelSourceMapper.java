@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousParallelSourceMapper {
+
+    @IterableMapping(parallelThreshold = 100)
+    List<CarDto> toDtos(Iterable<Car> cars);
+
+    @IterableMapping(parallelThreshold = 100)
+    List<String> toStrings(int[] values);
+
+    default CarDto toDto(Car car) {
+        return new CarDto( car.getName(), null );
+    }
+}
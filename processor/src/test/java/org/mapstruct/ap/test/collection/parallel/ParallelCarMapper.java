@@ -0,0 +1,63 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+import org.mapstruct.Context;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ParallelCarMapper {
+
+    ParallelCarMapper INSTANCE = Mappers.getMapper( ParallelCarMapper.class );
+
+    @IterableMapping(parallelThreshold = 100)
+    List<CarDto> toDtos(List<Car> cars);
+
+    @IterableMapping(parallelThreshold = 100)
+    Set<CarDto> toDtoSet(Collection<Car> cars);
+
+    @IterableMapping(parallelThreshold = 100)
+    CarDto[] toDtoArray(Car[] cars);
+
+    @IterableMapping(parallelThreshold = 100)
+    CarDto[] toDtoArray(List<Car> cars);
+
+    @IterableMapping(parallelThreshold = 100)
+    List<CarDto> toDtos(List<Car> cars, @Context ForkJoinPool pool);
+
+    @IterableMapping(parallelThreshold = 100)
+    List<CarDto> toDtosOnExecutor(List<Car> cars, @Context Executor executor);
+
+    @IterableMapping(parallelThreshold = 100)
+    Set<CarDto> toDtoSetOnExecutor(Collection<Car> cars, @Context Executor executor);
+
+    @IterableMapping(parallelThreshold = 100)
+    CarDto[] toDtoArrayOnExecutor(Car[] cars, @Context Executor executor);
+
+    @IterableMapping(parallelThreshold = 100)
+    void updateDtos(List<Car> cars, @MappingTarget List<CarDto> dtos);
+
+    @IterableMapping(parallelThreshold = 100)
+    Stream<CarDto> toDtoStream(Collection<Car> cars);
+
+    @IterableMapping(parallelThreshold = 100)
+    List<String> toNames(List<String> names);
+
+    default CarDto toDto(Car car) {
+        return new CarDto( car.getName(), ForkJoinTask.getPool() );
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Car.class,
+    CarDto.class
+})
+public class ParallelIterableMappingTest {
+
+    @RegisterExtension
+    GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @WithClasses(ParallelCarMapper.class)
+    public void shouldMapLargeListInParallelKeepingOrder() {
+        List<Car> cars = cars( 1000 );
+
+        List<CarDto> dtos = ParallelCarMapper.INSTANCE.toDtos( cars );
+
+        assertThat( dtos ).extracting( CarDto::getName ).containsExactlyElementsOf( names( cars ) );
+        generatedSource.forMapper( ParallelCarMapper.class )
+            .content()
+            .contains( "list = cars.parallelStream().map( car -> toDto( car ) )" +
+                ".collect( Collectors.toCollection( ArrayList<CarDto>::new ) );" );
+        assertThat( ParallelCarMapper.INSTANCE.toDtoArray( cars ) )
+            .extracting( CarDto::getName )
+            .containsExactlyElementsOf( names( cars ) );
+        assertThat( ParallelCarMapper.INSTANCE.toDtoArray( cars.toArray( new Car[0] ) ) )
+            .extracting( CarDto::getName )
+            .containsExactlyElementsOf( names( cars ) );
+        assertThat( ParallelCarMapper.INSTANCE.toDtoSet( cars ) ).hasSize( 1000 );
+        assertThat( ParallelCarMapper.INSTANCE.toDtoStream( cars ) )
+            .extracting( CarDto::getName )
+            .containsExactlyElementsOf( names( cars ) );
+        assertThat( ParallelCarMapper.INSTANCE.toNames( names( cars ) ) ).containsExactlyElementsOf( names( cars ) );
+
+        List<CarDto> existing = new ArrayList<>( Arrays.asList( new CarDto( "Existing", null ) ) );
+        ParallelCarMapper.INSTANCE.updateDtos( cars, existing );
+        assertThat( existing ).extracting( CarDto::getName ).containsExactlyElementsOf( names( cars ) );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelCarMapper.class)
+    public void shouldMapSmallListSequentially() {
+        List<Car> cars = cars( 10 );
+
+        List<CarDto> dtos = ParallelCarMapper.INSTANCE.toDtos( cars );
+
+        assertThat( dtos ).extracting( CarDto::getName ).containsExactlyElementsOf( names( cars ) );
+        assertThat( ParallelCarMapper.INSTANCE.toDtoArray( cars ) )
+            .extracting( CarDto::getName )
+            .containsExactlyElementsOf( names( cars ) );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelCarMapper.class)
+    public void shouldMapOnGivenForkJoinPool() {
+        List<Car> cars = cars( 1000 );
+        ForkJoinPool pool = new ForkJoinPool( 2 );
+
+        try {
+            List<CarDto> dtos = ParallelCarMapper.INSTANCE.toDtos( cars, pool );
+
+            assertThat( dtos ).extracting( CarDto::getName ).containsExactlyElementsOf( names( cars ) );
+            assertThat( dtos ).extracting( CarDto::getPool ).containsOnly( pool );
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelCarMapper.class)
+    public void shouldMapOnGivenExecutorFromThresholdKeepingOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool( 2, runnable -> new Thread( runnable, "executor" ) );
+
+        try {
+            List<Car> cars = cars( 100 );
+            List<CarDto> dtos = ParallelCarMapper.INSTANCE.toDtosOnExecutor( cars, executor );
+
+            assertThat( dtos ).extracting( CarDto::getName ).containsExactlyElementsOf( names( cars ) );
+            assertThat( dtos ).extracting( dto -> dto.getThread().getName() ).containsOnly( "executor" );
+            assertThat( ParallelCarMapper.INSTANCE.toDtoArrayOnExecutor( cars.toArray( new Car[0] ), executor ) )
+                .extracting( CarDto::getName )
+                .containsExactlyElementsOf( names( cars ) );
+            assertThat( ParallelCarMapper.INSTANCE.toDtoSetOnExecutor( cars, executor ) ).hasSize( 100 );
+            generatedSource.forMapper( ParallelCarMapper.class )
+                .content()
+                .contains( "list.addAll( mapInChunks( cars, car -> toDto( car ), executor ) );" );
+
+            List<Car> fewerCars = cars( 99 );
+            dtos = ParallelCarMapper.INSTANCE.toDtosOnExecutor( fewerCars, executor );
+
+            assertThat( dtos ).extracting( CarDto::getName ).containsExactlyElementsOf( names( fewerCars ) );
+            assertThat( dtos ).extracting( CarDto::getThread ).containsOnly( Thread.currentThread() );
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelContextMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousParallelContextMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 17,
+                message = "Can't map the elements in parallel with context parameter \"log\", which might not be " +
+                    "thread-safe. Only a java.util.concurrent.Executor can be passed as context of a parallel " +
+                    "mapping, except for mappings to a Stream.")
+        }
+    )
+    public void shouldReportContextParameter() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelLifecycleMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousParallelLifecycleMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 18,
+                message = "Can't map the elements in parallel, as lifecycle method CarDto " +
+                    "afterMapping(Car car, @MappingTarget CarDto dto) could be invoked concurrently.")
+        }
+    )
+    public void shouldReportLifecycleMethod() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelLifecycleCarMapper.class)
+    public void shouldInvokeLifecycleMethodsOfCollectionOnce() {
+        List<Car> cars = cars( 1000 );
+
+        List<CarDto> dtos = ParallelLifecycleCarMapper.INSTANCE.toDtos( cars );
+        Set<CarDto> dtoSet = ParallelLifecycleCarMapper.INSTANCE.toDtoSet( cars );
+
+        List<String> expectedNames = new ArrayList<>( names( cars ) );
+        expectedNames.add( "After" );
+        assertThat( dtos ).extracting( CarDto::getName ).containsExactlyElementsOf( expectedNames );
+        assertThat( dtoSet ).hasSize( 1001 );
+        assertThat( dtoSet ).extracting( CarDto::getName ).contains( "Before" );
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelArrayLifecycleMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousParallelArrayLifecycleMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 18,
+                message = "Can't map the elements into a new array in parallel, as lifecycle method beforeMapping " +
+                    "would be invoked with the array before it is created.")
+        }
+    )
+    public void shouldReportBeforeMappingMethodOfNewArray() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelCheckedExceptionMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousParallelCheckedExceptionMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 17,
+                message = "Can't map the elements in parallel, as the element mapping throws checked exception " +
+                    "IOException.")
+        }
+    )
+    public void shouldReportCheckedException() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelSourceMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousParallelSourceMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 16,
+                message = "Can't map the elements of \"Iterable<Car>\" to \"List<CarDto>\" in parallel. Parallel " +
+                    "mapping is supported for collection and array sources with non-primitive elements, which are " +
+                    "not created by a batch factory method and not written into an existing array."),
+            @Diagnostic(type = ErroneousParallelSourceMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 19,
+                message = "Can't map the elements of \"int[]\" to \"List<String>\" in parallel. Parallel " +
+                    "mapping is supported for collection and array sources with non-primitive elements, which are " +
+                    "not created by a batch factory method and not written into an existing array.")
+        }
+    )
+    public void shouldReportUnsupportedSource() {
+    }
+
+    private static List<Car> cars(int count) {
+        return IntStream.range( 0, count )
+            .mapToObj( i -> new Car( "Car " + i ) )
+            .collect( Collectors.toList() );
+    }
+
+    private static List<String> names(List<Car> cars) {
+        return cars.stream().map( Car::getName ).collect( Collectors.toList() );
+    }
+}
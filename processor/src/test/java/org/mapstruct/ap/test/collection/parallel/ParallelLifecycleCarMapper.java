@@ -0,0 +1,42 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ParallelLifecycleCarMapper {
+
+    ParallelLifecycleCarMapper INSTANCE = Mappers.getMapper( ParallelLifecycleCarMapper.class );
+
+    @IterableMapping(parallelThreshold = 100)
+    List<CarDto> toDtos(List<Car> cars);
+
+    @IterableMapping(parallelThreshold = 100)
+    Set<CarDto> toDtoSet(List<Car> cars);
+
+    default CarDto toDto(Car car) {
+        return new CarDto( car.getName(), null );
+    }
+
+    @BeforeMapping
+    default void beforeMapping(@MappingTarget Set<CarDto> dtos) {
+        dtos.add( new CarDto( "Before", null ) );
+    }
+
+    @AfterMapping
+    default void afterMapping(@MappingTarget List<CarDto> dtos) {
+        dtos.add( new CarDto( "After", null ) );
+    }
+}
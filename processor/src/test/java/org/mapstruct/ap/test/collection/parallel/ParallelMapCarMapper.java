@@ -0,0 +1,44 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.mapstruct.Context;
+import org.mapstruct.MapMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ParallelMapCarMapper {
+
+    ParallelMapCarMapper INSTANCE = Mappers.getMapper( ParallelMapCarMapper.class );
+
+    @MapMapping(parallelThreshold = 100)
+    LinkedHashMap<String, CarDto> toDtoMap(Map<Integer, Car> cars);
+
+    @MapMapping(parallelThreshold = 100)
+    Map<String, CarDto> toDtoMap(Map<Integer, Car> cars, @Context ForkJoinPool pool);
+
+    @MapMapping(parallelThreshold = 100)
+    LinkedHashMap<String, CarDto> toDtoMapOnExecutor(Map<Integer, Car> cars, @Context Executor executor);
+
+    @MapMapping(parallelThreshold = 100)
+    void updateDtoMap(Map<Integer, Car> cars, @MappingTarget Map<String, CarDto> dtos);
+
+    default String toKey(Integer key) {
+        return key == null ? null : "Key " + key;
+    }
+
+    default CarDto toDto(Car car) {
+        return car == null ? null : new CarDto( car.getName(), ForkJoinTask.getPool() );
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Car.class,
+    CarDto.class
+})
+public class ParallelMapMappingTest {
+
+    @RegisterExtension
+    GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @WithClasses(ParallelMapCarMapper.class)
+    public void shouldMapLargeMapInParallelKeepingOrder() {
+        Map<Integer, Car> cars = cars( 1000 );
+
+        LinkedHashMap<String, CarDto> dtos = ParallelMapCarMapper.INSTANCE.toDtoMap( cars );
+
+        assertThat( dtos.keySet() ).containsExactlyElementsOf( keys( cars ) );
+        assertThat( dtos.values() ).extracting( CarDto::getName ).containsExactlyElementsOf( names( cars ) );
+        generatedSource.forMapper( ParallelMapCarMapper.class )
+            .content()
+            .contains( "cars.entrySet().parallelStream().map( entry -> {" )
+            .contains( ".forEachOrdered( mappedEntry -> linkedHashMap.put( mappedEntry.getKey(), " +
+                "mappedEntry.getValue() ) );" );
+
+        Map<String, CarDto> existing = new HashMap<>();
+        existing.put( "Existing", new CarDto( "Existing", null ) );
+        ParallelMapCarMapper.INSTANCE.updateDtoMap( cars, existing );
+        assertThat( existing ).containsOnlyKeys( keys( cars ) );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelMapCarMapper.class)
+    public void shouldMapNullKeysAndValuesInParallel() {
+        Map<Integer, Car> cars = cars( 1000 );
+        cars.put( null, new Car( "Null key" ) );
+        cars.put( 1000, null );
+
+        LinkedHashMap<String, CarDto> dtos = ParallelMapCarMapper.INSTANCE.toDtoMap( cars );
+
+        assertThat( dtos ).hasSize( 1002 );
+        assertThat( dtos.get( null ) ).extracting( CarDto::getName ).isEqualTo( "Null key" );
+        assertThat( dtos ).containsEntry( "Key 1000", null );
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelMapCarMapper.class)
+    public void shouldMapOnGivenForkJoinPool() {
+        Map<Integer, Car> cars = cars( 1000 );
+        ForkJoinPool pool = new ForkJoinPool( 2 );
+
+        try {
+            Map<String, CarDto> dtos = ParallelMapCarMapper.INSTANCE.toDtoMap( cars, pool );
+
+            assertThat( dtos ).containsOnlyKeys( keys( cars ) );
+            assertThat( dtos.values() ).extracting( CarDto::getPool ).containsOnly( pool );
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @ProcessorTest
+    @WithClasses(ParallelMapCarMapper.class)
+    public void shouldMapOnGivenExecutorFromThreshold() {
+        ExecutorService executor = Executors.newFixedThreadPool( 2, runnable -> new Thread( runnable, "executor" ) );
+
+        try {
+            Map<Integer, Car> cars = cars( 100 );
+            LinkedHashMap<String, CarDto> dtos = ParallelMapCarMapper.INSTANCE.toDtoMapOnExecutor( cars, executor );
+
+            assertThat( dtos.keySet() ).containsExactlyElementsOf( keys( cars ) );
+            assertThat( dtos.values() ).extracting( CarDto::getName ).containsExactlyElementsOf( names( cars ) );
+            assertThat( dtos.values() ).extracting( dto -> dto.getThread().getName() ).containsOnly( "executor" );
+
+            cars.remove( 0 );
+            dtos = ParallelMapCarMapper.INSTANCE.toDtoMapOnExecutor( cars, executor );
+
+            assertThat( dtos.keySet() ).containsExactlyElementsOf( keys( cars ) );
+            assertThat( dtos.values() ).extracting( CarDto::getThread ).containsOnly( Thread.currentThread() );
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelMapContextMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousParallelMapContextMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 17,
+                message = "Can't map the entries in parallel with context parameter \"log\", which might not be " +
+                    "thread-safe. Only a java.util.concurrent.Executor can be passed as context of a parallel " +
+                    "mapping.")
+        }
+    )
+    public void shouldReportContextParameter() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelMapLifecycleMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousParallelMapLifecycleMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 18,
+                message = "Can't map the entries in parallel, as lifecycle method CarDto " +
+                    "afterMapping(Car car, @MappingTarget CarDto dto) could be invoked concurrently.")
+        }
+    )
+    public void shouldReportLifecycleMethod() {
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousParallelMapCheckedExceptionMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousParallelMapCheckedExceptionMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 17,
+                message = "Can't map the entries in parallel, as the key or value mapping throws checked exception " +
+                    "IOException.")
+        }
+    )
+    public void shouldReportCheckedException() {
+    }
+
+    /**
+     * @return the cars in descending order of their keys, which differs from the order of a hash map
+     */
+    private static Map<Integer, Car> cars(int count) {
+        Map<Integer, Car> cars = new LinkedHashMap<>();
+        for ( int i = count - 1; i >= 0; i-- ) {
+            cars.put( i, new Car( "Car " + i ) );
+        }
+        return cars;
+    }
+
+    private static List<String> keys(Map<Integer, Car> cars) {
+        List<String> keys = new ArrayList<>();
+        for ( Integer key : cars.keySet() ) {
+            keys.add( "Key " + key );
+        }
+        return keys;
+    }
+
+    private static List<String> names(Map<Integer, Car> cars) {
+        List<String> names = new ArrayList<>();
+        for ( Car car : cars.values() ) {
+            names.add( car.getName() );
+        }
+        return names;
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.identity;
+
+public class Badge {
+
+    private final String code;
+
+    public Badge(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.identity;
+
+public class BadgeDto {
+
+    private final String code;
+
+    private BadgeDto(Builder builder) {
+        this.code = builder.code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private String code;
+
+        public Builder code(String code) {
+            this.code = code;
+            return this;
+        }
+
+        public BadgeDto build() {
+            return new BadgeDto( this );
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.identity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DepartmentDto {
+
+    private String name;
+    private EmployeeDto head;
+    private List<EmployeeDto> employees = new ArrayList<>();
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public EmployeeDto getHead() {
+        return head;
+    }
+
+    public void setHead(EmployeeDto head) {
+        this.head = head;
+    }
+
+    public List<EmployeeDto> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(List<EmployeeDto> employees) {
+        this.employees = employees;
+    }
+}
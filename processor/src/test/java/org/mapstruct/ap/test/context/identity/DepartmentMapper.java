@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.identity;
+
+import java.util.List;
+
+import org.mapstruct.Context;
+import org.mapstruct.IdentityMappingContext;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface DepartmentMapper {
+
+    DepartmentMapper INSTANCE = Mappers.getMapper( DepartmentMapper.class );
+
+    DepartmentDto toDto(Department department, @Context IdentityMappingContext context);
+
+    EmployeeDto toDto(Employee employee, @Context IdentityMappingContext context);
+
+    List<BadgeDto> toDtos(List<Badge> badges, @Context IdentityMappingContext context);
+
+    BadgeDto toDto(Badge badge, @Context IdentityMappingContext context);
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.identity;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.mapstruct.IdentityMappingContext;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Badge.class,
+    BadgeDto.class,
+    Department.class,
+    DepartmentDto.class,
+    DepartmentMapper.class,
+    Employee.class,
+    EmployeeDto.class
+})
+public class IdentityMappingContextTest {
+
+    @ProcessorTest
+    public void shouldMapCyclicGraph() {
+        Department department = new Department();
+        department.setName( "R&D" );
+        Employee alice = new Employee();
+        alice.setName( "Alice" );
+        alice.setDepartment( department );
+        Employee bob = new Employee();
+        bob.setName( "Bob" );
+        bob.setDepartment( department );
+        department.setEmployees( Arrays.asList( alice, bob ) );
+        department.setHead( alice );
+
+        DepartmentDto dto = DepartmentMapper.INSTANCE.toDto( department, new IdentityMappingContext() );
+
+        assertThat( dto.getName() ).isEqualTo( "R&D" );
+        assertThat( dto.getEmployees() ).extracting( EmployeeDto::getName ).containsExactly( "Alice", "Bob" );
+        assertThat( dto.getEmployees() )
+            .allSatisfy( employee -> assertThat( employee.getDepartment() ).isSameAs( dto ) );
+        assertThat( dto.getHead() ).isSameAs( dto.getEmployees().get( 0 ) );
+    }
+
+    @ProcessorTest
+    public void shouldMapSharedSourcesToSharedTargetsCreatedByBuilder() {
+        Badge badge = new Badge( "A-1" );
+
+        List<BadgeDto> dtos = DepartmentMapper.INSTANCE.toDtos(
+            Arrays.asList( badge, new Badge( "B-2" ), badge ),
+            new IdentityMappingContext()
+        );
+
+        assertThat( dtos ).extracting( BadgeDto::getCode ).containsExactly( "A-1", "B-2", "A-1" );
+        assertThat( dtos.get( 2 ) ).isSameAs( dtos.get( 0 ) );
+    }
+
+    @ProcessorTest
+    public void shouldMapSourcesAgainWithNewContext() {
+        Badge badge = new Badge( "A-1" );
+
+        BadgeDto first = DepartmentMapper.INSTANCE.toDto( badge, new IdentityMappingContext() );
+        BadgeDto second = DepartmentMapper.INSTANCE.toDto( badge, new IdentityMappingContext() );
+
+        assertThat( first ).isNotSameAs( second );
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.deduplicatestrings;
+
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Person.class,
+    PersonDto.class
+})
+public class DeduplicateStringsTest {
+
+    @ProcessorTest
+    @WithClasses(PersonMapper.class)
+    public void shouldDeduplicateStringsOfMapper() {
+        PersonDto first = PersonMapper.INSTANCE.toDto(
+            new Person( new String( "Bob" ), new String( "Berlin" ), 10115 ) );
+        PersonDto second = PersonMapper.INSTANCE.toDto(
+            new Person( new String( "Bob" ), new String( "Berlin" ), 10115 ) );
+
+        assertThat( second.getCity() ).isEqualTo( "Berlin" ).isSameAs( first.getCity() );
+        assertThat( second.getZipCode() ).isEqualTo( "10115" ).isSameAs( first.getZipCode() );
+        assertThat( second.getName() ).isEqualTo( "Bob" ).isNotSameAs( first.getName() );
+    }
+
+    @ProcessorTest
+    @WithClasses(PersonMapper.class)
+    public void shouldKeepNullValues() {
+        PersonDto dto = PersonMapper.INSTANCE.toDto( new Person( null, null, 0 ) );
+
+        assertThat( dto.getCity() ).isNull();
+        assertThat( dto.getZipCode() ).isEqualTo( "0" );
+    }
+
+    @ProcessorTest
+    @WithClasses(PersonBeanMappingMapper.class)
+    public void shouldDeduplicateStringsOfBeanMapping() {
+        PersonDto first = PersonBeanMappingMapper.INSTANCE.toDto(
+            new Person( new String( "Bob" ), new String( "Berlin" ), 10115 ) );
+        PersonDto second = PersonBeanMappingMapper.INSTANCE.toDto(
+            new Person( new String( "Bob" ), new String( "Berlin" ), 10115 ) );
+
+        assertThat( second.getName() ).isSameAs( first.getName() );
+        assertThat( second.getCity() ).isSameAs( first.getCity() );
+
+        PersonDto third = PersonBeanMappingMapper.INSTANCE.toDtoWithoutDeduplication(
+            new Person( new String( "Bob" ), new String( "Berlin" ), 10115 ) );
+
+        assertThat( third.getCity() ).isEqualTo( "Berlin" ).isNotSameAs( first.getCity() );
+    }
+}
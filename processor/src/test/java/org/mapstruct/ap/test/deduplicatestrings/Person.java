@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.deduplicatestrings;
+
+public class Person {
+
+    private final String name;
+    private final String city;
+    private final int zipCode;
+
+    public Person(String name, String city, int zipCode) {
+        this.name = name;
+        this.city = city;
+        this.zipCode = zipCode;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public int getZipCode() {
+        return zipCode;
+    }
+}
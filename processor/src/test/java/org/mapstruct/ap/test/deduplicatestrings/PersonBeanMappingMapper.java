@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.deduplicatestrings;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface PersonBeanMappingMapper {
+
+    PersonBeanMappingMapper INSTANCE = Mappers.getMapper( PersonBeanMappingMapper.class );
+
+    @BeanMapping(deduplicateStrings = true)
+    PersonDto toDto(Person person);
+
+    PersonDto toDtoWithoutDeduplication(Person person);
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.factories.batch;
+
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(uses = CarEntityFactory.class)
+public interface BatchCarMapper {
+
+    BatchCarMapper INSTANCE = Mappers.getMapper( BatchCarMapper.class );
+
+    List<CarEntity> toEntities(List<CarDto> dtos);
+
+    Set<CarEntity> toEntitySet(List<CarDto> dtos);
+
+    void updateEntity(CarDto dto, @MappingTarget CarEntity entity);
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.factories.batch;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    CarDto.class,
+    CarEntity.class,
+    CarEntityFactory.class
+})
+public class BatchObjectFactoryTest {
+
+    @BeforeEach
+    public void resetFactory() {
+        CarEntityFactory.reset();
+    }
+
+    @ProcessorTest
+    @WithClasses(BatchCarMapper.class)
+    public void shouldResolveAllElementsWithOneFactoryCall() {
+        CarEntity existing = new CarEntity();
+        existing.setId( 1L );
+        CarEntityFactory.STORE.put( 1L, existing );
+
+        List<CarEntity> entities = BatchCarMapper.INSTANCE.toEntities( Arrays.asList(
+            new CarDto( 1L, "Morris" ),
+            new CarDto( 2L, "Mini" ),
+            null
+        ) );
+
+        assertThat( CarEntityFactory.getInvocations() ).isEqualTo( 1 );
+        assertThat( entities ).hasSize( 3 );
+        assertThat( entities.get( 0 ) ).isSameAs( existing );
+        assertThat( entities.get( 0 ).getName() ).isEqualTo( "Morris" );
+        assertThat( entities.get( 1 ) ).isSameAs( CarEntityFactory.STORE.get( 2L ) );
+        assertThat( entities.get( 1 ).getId() ).isEqualTo( 2L );
+        assertThat( entities.get( 1 ).getName() ).isEqualTo( "Mini" );
+        assertThat( entities.get( 2 ) ).isNull();
+    }
+
+    @ProcessorTest
+    @WithClasses(BatchCarMapper.class)
+    public void shouldResolveAllElementsOfSetWithOneFactoryCall() {
+        Set<CarEntity> entities = BatchCarMapper.INSTANCE.toEntitySet( Arrays.asList(
+            new CarDto( 1L, "Morris" ),
+            new CarDto( 2L, "Mini" )
+        ) );
+
+        assertThat( CarEntityFactory.getInvocations() ).isEqualTo( 1 );
+        assertThat( entities ).containsExactlyInAnyOrder(
+            CarEntityFactory.STORE.get( 1L ),
+            CarEntityFactory.STORE.get( 2L )
+        );
+    }
+
+    @ProcessorTest
+    @WithClasses({ StoredCarEntityFactory.class, StoredCarMapper.class })
+    public void shouldMapElementsWithoutTargetFromFactoryAsUsual() {
+        CarEntity existing = new CarEntity();
+        existing.setId( 1L );
+        CarEntityFactory.STORE.put( 1L, existing );
+
+        List<CarEntity> entities = StoredCarMapper.INSTANCE.toEntities( Arrays.asList(
+            new CarDto( 1L, "Morris" ),
+            new CarDto( 2L, "Mini" ),
+            null
+        ) );
+
+        assertThat( entities ).hasSize( 3 );
+        assertThat( entities.get( 0 ) ).isSameAs( existing );
+        assertThat( entities.get( 0 ).getName() ).isEqualTo( "Morris" );
+        assertThat( entities.get( 1 ) ).isNotNull();
+        assertThat( entities.get( 1 ).getId() ).isEqualTo( 2L );
+        assertThat( entities.get( 1 ).getName() ).isEqualTo( "Mini" );
+        assertThat( entities.get( 2 ) ).isNull();
+    }
+
+    @ProcessorTest
+    @WithClasses(QualifiedBatchCarMapper.class)
+    public void shouldNotUseBatchFactoryForQualifiedElementMapping() {
+        List<CarEntity> entities = QualifiedBatchCarMapper.INSTANCE.toTransientEntities( Arrays.asList(
+            new CarDto( 1L, "Morris" ),
+            new CarDto( 2L, "Mini" )
+        ) );
+
+        assertThat( CarEntityFactory.getInvocations() ).isZero();
+        assertThat( CarEntityFactory.STORE ).isEmpty();
+        assertThat( entities ).extracting( CarEntity::getName ).containsExactly( "Morris", "Mini" );
+        assertThat( entities ).extracting( CarEntity::getId ).containsOnlyNulls();
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousBatchCarMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousBatchCarMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 15,
+                message = "Can't use batch factory method Map<CarDto,CarEntity> " +
+                    "CarEntityFactory.resolve(Collection<CarDto> dtos): found no update method for mapping the " +
+                    "source element type \"CarDto\" onto the target element type \"CarEntity\".")
+        }
+    )
+    public void shouldReportMissingUpdateMethod() {
+    }
+}
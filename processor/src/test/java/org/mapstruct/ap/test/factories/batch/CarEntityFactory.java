@@ -0,0 +1,42 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.factories.batch;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mapstruct.ObjectFactory;
+
+/**
+ * Resolves all entities of a collection at once, e.g. with a single query.
+ */
+public class CarEntityFactory {
+
+    public static final Map<Long, CarEntity> STORE = new HashMap<>();
+    private static int invocations;
+
+    @ObjectFactory
+    public Map<CarDto, CarEntity> resolve(Collection<CarDto> dtos) {
+        invocations++;
+        Map<CarDto, CarEntity> entities = new HashMap<>();
+        for ( CarDto dto : dtos ) {
+            if ( dto != null ) {
+                entities.put( dto, STORE.computeIfAbsent( dto.getId(), id -> new CarEntity() ) );
+            }
+        }
+        return entities;
+    }
+
+    public static int getInvocations() {
+        return invocations;
+    }
+
+    public static void reset() {
+        invocations = 0;
+        STORE.clear();
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.factories.batch;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+
+@Mapper(uses = CarEntityFactory.class)
+public interface ErroneousBatchCarMapper {
+
+    List<CarEntity> toEntities(List<CarDto> dtos);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.factories.batch;
+
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(uses = CarEntityFactory.class)
+public interface QualifiedBatchCarMapper {
+
+    QualifiedBatchCarMapper INSTANCE = Mappers.getMapper( QualifiedBatchCarMapper.class );
+
+    @IterableMapping(qualifiedByName = "transient")
+    List<CarEntity> toTransientEntities(List<CarDto> dtos);
+
+    void updateEntity(CarDto dto, @MappingTarget CarEntity entity);
+
+    @Named("transient")
+    default CarEntity toTransientEntity(CarDto dto) {
+        CarEntity entity = new CarEntity();
+        entity.setName( dto.getName() );
+        return entity;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.factories.batch;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mapstruct.ObjectFactory;
+
+/**
+ * Resolves only the entities which are stored already.
+ */
+public class StoredCarEntityFactory {
+
+    @ObjectFactory
+    public Map<CarDto, CarEntity> resolve(Collection<CarDto> dtos) {
+        Map<CarDto, CarEntity> entities = new HashMap<>();
+        for ( CarDto dto : dtos ) {
+            CarEntity entity = dto != null ? CarEntityFactory.STORE.get( dto.getId() ) : null;
+            if ( entity != null ) {
+                entities.put( dto, entity );
+            }
+        }
+        return entities;
+    }
+}
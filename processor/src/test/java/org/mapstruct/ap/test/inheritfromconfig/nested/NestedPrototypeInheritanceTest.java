@@ -0,0 +1,53 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.inheritfromconfig.nested;
+
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the inheritance from a prototype method which itself inherits the configuration of another prototype method.
+ */
+@WithClasses({
+    IdentifiableEntity.class,
+    TruckDto.class,
+    TruckEntity.class,
+    TruckMapper.class,
+    VehicleConfig.class,
+    VehicleEntity.class
+})
+public class NestedPrototypeInheritanceTest {
+
+    @ProcessorTest
+    public void shouldInheritConfigurationOfPrototypeInheritingFromPrototype() {
+        TruckDto dto = new TruckDto();
+        dto.setId( 42L );
+        dto.setColour( "red" );
+        dto.setLicensePlate( "AB-12" );
+
+        TruckEntity entity = TruckMapper.INSTANCE.toTruckEntity( dto );
+
+        assertThat( entity.getPrimaryKey() ).isEqualTo( 42L );
+        assertThat( entity.getColor() ).isEqualTo( "red" );
+        assertThat( entity.getLicensePlate() ).isEqualTo( "AB-12" );
+    }
+
+    @ProcessorTest
+    public void shouldInheritInverseConfigurationOfMethodInheritingFromNestedPrototypes() {
+        TruckEntity entity = new TruckEntity();
+        entity.setPrimaryKey( 42L );
+        entity.setColor( "red" );
+        entity.setLicensePlate( "AB-12" );
+
+        TruckDto dto = TruckMapper.INSTANCE.toTruckDto( entity );
+
+        assertThat( dto.getId() ).isEqualTo( 42L );
+        assertThat( dto.getColour() ).isEqualTo( "red" );
+        assertThat( dto.getLicensePlate() ).isEqualTo( "AB-12" );
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.inheritfromconfig.nested;
+
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.InheritInverseConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(config = VehicleConfig.class)
+public interface TruckMapper {
+
+    TruckMapper INSTANCE = Mappers.getMapper( TruckMapper.class );
+
+    @InheritConfiguration(name = "toVehicleEntity")
+    TruckEntity toTruckEntity(TruckDto dto);
+
+    @InheritInverseConfiguration(name = "toTruckEntity")
+    TruckDto toTruckDto(TruckEntity entity);
+}
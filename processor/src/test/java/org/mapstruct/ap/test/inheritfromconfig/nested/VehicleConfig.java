@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.inheritfromconfig.nested;
+
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@MapperConfig(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface VehicleConfig {
+
+    @Mapping(target = "primaryKey", source = "id")
+    IdentifiableEntity toIdentifiableEntity(TruckDto dto);
+
+    @InheritConfiguration(name = "toIdentifiableEntity")
+    @Mapping(target = "color", source = "colour")
+    VehicleEntity toVehicleEntity(TruckDto dto);
+}
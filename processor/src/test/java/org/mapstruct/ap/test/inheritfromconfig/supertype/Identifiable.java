@@ -0,0 +1,13 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.inheritfromconfig.supertype;
+
+public interface Identifiable {
+
+    long getPrimaryKey();
+
+    void setPrimaryKey(long primaryKey);
+}
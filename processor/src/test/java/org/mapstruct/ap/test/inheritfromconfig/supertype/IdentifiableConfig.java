@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.inheritfromconfig.supertype;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingInheritanceStrategy;
+import org.mapstruct.ReportingPolicy;
+
+@MapperConfig(
+    mappingInheritanceStrategy = MappingInheritanceStrategy.AUTO_INHERIT_ALL_FROM_CONFIG,
+    unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface IdentifiableConfig {
+
+    @Mapping(target = "primaryKey", source = "id")
+    Identifiable toIdentifiable(TruckDto dto);
+}
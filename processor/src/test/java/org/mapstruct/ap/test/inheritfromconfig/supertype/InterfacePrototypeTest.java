@@ -0,0 +1,49 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.inheritfromconfig.supertype;
+
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the inheritance from prototype methods whose result type is an interface implemented by the result type of
+ * the inheriting method.
+ */
+@WithClasses({
+    Identifiable.class,
+    IdentifiableConfig.class,
+    TruckDto.class,
+    TruckEntity.class,
+    TruckMapper.class
+})
+public class InterfacePrototypeTest {
+
+    @ProcessorTest
+    public void shouldInheritForwardConfigurationFromInterfacePrototype() {
+        TruckDto dto = new TruckDto();
+        dto.setId( 42L );
+        dto.setColour( "red" );
+
+        TruckEntity entity = TruckMapper.INSTANCE.toTruckEntity( dto );
+
+        assertThat( entity.getPrimaryKey() ).isEqualTo( 42L );
+        assertThat( entity.getColor() ).isEqualTo( "red" );
+    }
+
+    @ProcessorTest
+    public void shouldInheritInverseConfigurationFromInterfacePrototype() {
+        TruckEntity entity = new TruckEntity();
+        entity.setPrimaryKey( 42L );
+        entity.setColor( "red" );
+
+        TruckDto dto = TruckMapper.INSTANCE.toTruckDto( entity );
+
+        assertThat( dto.getId() ).isEqualTo( 42L );
+        assertThat( dto.getColour() ).isEqualTo( "red" );
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.inheritfromconfig.supertype;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(config = IdentifiableConfig.class)
+public interface TruckMapper {
+
+    TruckMapper INSTANCE = Mappers.getMapper( TruckMapper.class );
+
+    @Mapping(target = "color", source = "colour")
+    TruckEntity toTruckEntity(TruckDto dto);
+
+    @Mapping(target = "colour", source = "color")
+    TruckDto toTruckDto(TruckEntity entity);
+}
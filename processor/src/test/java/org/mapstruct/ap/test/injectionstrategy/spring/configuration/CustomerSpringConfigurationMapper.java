@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.injectionstrategy.spring.configuration;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ap.test.injectionstrategy.shared.CustomerDto;
+import org.mapstruct.ap.test.injectionstrategy.shared.CustomerEntity;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING,
+    uses = GenderSpringConfigurationMapper.class,
+    injectionStrategy = InjectionStrategy.CONSTRUCTOR)
+public interface CustomerSpringConfigurationMapper {
+
+    CustomerDto asTarget(CustomerEntity customerEntity);
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.injectionstrategy.spring.configuration;
+
+import org.mapstruct.ap.test.injectionstrategy.shared.Gender;
+import org.mapstruct.ap.test.injectionstrategy.shared.GenderDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+public abstract class GenderSpringConfigurationMapperDecorator implements GenderSpringConfigurationMapper {
+
+    @Autowired
+    @Qualifier("delegate")
+    private GenderSpringConfigurationMapper delegate;
+
+    @Override
+    public GenderDto mapToDto(Gender gender) {
+        return gender == null ? GenderDto.F : delegate.mapToDto( gender );
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.injectionstrategy.spring.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.test.injectionstrategy.shared.CustomerDto;
+import org.mapstruct.ap.test.injectionstrategy.shared.CustomerEntity;
+import org.mapstruct.ap.test.injectionstrategy.shared.Gender;
+import org.mapstruct.ap.test.injectionstrategy.shared.GenderDto;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.stereotype.Component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for the Spring configuration generated with the option {@code mapstruct.generateSpringConfiguration}.
+ */
+@WithClasses({
+    CustomerDto.class,
+    CustomerEntity.class,
+    Gender.class,
+    GenderDto.class,
+    CustomerSpringConfigurationMapper.class,
+    GenderSpringConfigurationMapper.class,
+    GenderSpringConfigurationMapperDecorator.class
+})
+public class SpringConfigurationTest {
+
+    private static final String CONFIGURATION =
+        "org.mapstruct.ap.test.injectionstrategy.spring.configuration.MapStructSpringConfiguration";
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    private AnnotationConfigApplicationContext context;
+
+    @AfterEach
+    public void springDown() {
+        if ( context != null ) {
+            context.close();
+        }
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateSpringConfiguration", value = "true")
+    public void shouldDeclareMappersAsBeans() throws ClassNotFoundException {
+        context = new AnnotationConfigApplicationContext( loadConfiguration() );
+
+        assertThat( context.getBeanNamesForType( CustomerSpringConfigurationMapper.class ) )
+            .containsExactly( "customerSpringConfigurationMapperImpl" );
+        assertThat( context.getBeanNamesForType( GenderSpringConfigurationMapper.class ) )
+            .containsExactlyInAnyOrder( "genderSpringConfigurationMapperImpl", "genderSpringConfigurationMapperImpl_" );
+        assertThat( context.getBean( GenderSpringConfigurationMapper.class ) )
+            .isInstanceOf( GenderSpringConfigurationMapperDecorator.class );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateSpringConfiguration", value = "true")
+    public void shouldWireUsedMappers() throws ClassNotFoundException {
+        context = new AnnotationConfigApplicationContext( loadConfiguration() );
+        CustomerEntity customerEntity = new CustomerEntity();
+        customerEntity.setName( "Samuel" );
+        customerEntity.setGender( Gender.MALE );
+
+        CustomerDto customerDto = context.getBean( CustomerSpringConfigurationMapper.class ).asTarget( customerEntity );
+
+        assertThat( customerDto.getName() ).isEqualTo( "Samuel" );
+        assertThat( customerDto.getGender() ).isEqualTo( GenderDto.M );
+        assertThat( context.getBean( GenderSpringConfigurationMapper.class ).mapToDto( null ) )
+            .isEqualTo( GenderDto.F );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateSpringConfiguration", value = "true")
+    public void shouldNotDeclareMapperImplementationsAsComponents() {
+        generatedSource.forMapper( CustomerSpringConfigurationMapper.class ).containsNoImportFor( Component.class );
+        generatedSource.forMapper( GenderSpringConfigurationMapper.class ).containsNoImportFor( Component.class );
+        generatedSource.forDecoratedMapper( GenderSpringConfigurationMapper.class )
+            .containsNoImportFor( Component.class );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateSpringConfiguration", value = "true")
+    public void shouldNotProxyBeanMethods() {
+        generatedSource.forJavaFile( CONFIGURATION.replace( '.', '/' ) + ".java" )
+            .content()
+            .contains( "@org.springframework.context.annotation.Configuration(proxyBeanMethods = false)" );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateSpringConfiguration", value = "true")
+    public void shouldMarkConfigurationAsGenerated() {
+        generatedSource.forJavaFile( CONFIGURATION.replace( '.', '/' ) + ".java" )
+            .content()
+            .containsPattern( "@javax\\.annotation(\\.processing)?\\.Generated\\(" )
+            .contains( "value = \"org.mapstruct.ap.MappingProcessor\"" );
+    }
+
+    @ProcessorTest
+    public void shouldNotGenerateConfigurationByDefault() {
+        generatedSource.forJavaFile( CONFIGURATION.replace( '.', '/' ) + ".java" ).doesNotExist();
+        generatedSource.forMapper( CustomerSpringConfigurationMapper.class ).containsImportFor( Component.class );
+    }
+
+    private static Class<?> loadConfiguration() throws ClassNotFoundException {
+        return Class.forName( CONFIGURATION, true, Thread.currentThread().getContextClassLoader() );
+    }
+}
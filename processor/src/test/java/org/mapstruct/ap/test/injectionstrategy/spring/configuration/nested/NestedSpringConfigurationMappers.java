@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.injectionstrategy.spring.configuration.nested;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ap.test.injectionstrategy.shared.CustomerDto;
+import org.mapstruct.ap.test.injectionstrategy.shared.CustomerEntity;
+
+public interface NestedSpringConfigurationMappers {
+
+    @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+    interface NameMapper {
+
+        @Mapping(target = "gender", ignore = true)
+        CustomerDto asTarget(CustomerEntity customerEntity);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.injectionstrategy.spring.configuration.nested;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.test.injectionstrategy.shared.CustomerDto;
+import org.mapstruct.ap.test.injectionstrategy.shared.CustomerEntity;
+import org.mapstruct.ap.test.injectionstrategy.shared.Gender;
+import org.mapstruct.ap.test.injectionstrategy.shared.GenderDto;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import static java.lang.System.lineSeparator;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for the names of the beans of nested mappers in the generated Spring configuration.
+ */
+@WithClasses({
+    CustomerDto.class,
+    CustomerEntity.class,
+    Gender.class,
+    GenderDto.class,
+    NestedSpringConfigurationMappers.class
+})
+public class NestedSpringConfigurationTest {
+
+    private static final String CONFIGURATION =
+        "org.mapstruct.ap.test.injectionstrategy.spring.configuration.nested.MapStructSpringConfiguration";
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    private AnnotationConfigApplicationContext context;
+
+    @AfterEach
+    public void springDown() {
+        if ( context != null ) {
+            context.close();
+        }
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateSpringConfiguration", value = "true")
+    public void shouldNameBeansOfNestedMappersLikeSpring() throws ClassNotFoundException {
+        context = new AnnotationConfigApplicationContext(
+            Class.forName( CONFIGURATION, true, Thread.currentThread().getContextClassLoader() )
+        );
+
+        assertThat( context.getBeanNamesForType( NestedSpringConfigurationMappers.NameMapper.class ) )
+            .containsExactly( "nestedSpringConfigurationMappers.NameMapperImpl" );
+        generatedSource.forJavaFile( CONFIGURATION.replace( '.', '/' ) + ".java" )
+            .content()
+            .contains( "@org.springframework.context.annotation.Bean(" +
+                "\"nestedSpringConfigurationMappers.NameMapperImpl\")" + lineSeparator() +
+                "    public org.mapstruct.ap.test.injectionstrategy.spring.configuration.nested." +
+                "NestedSpringConfigurationMappers$NameMapperImpl nestedSpringConfigurationMappers$NameMapperImpl()" );
+    }
+}
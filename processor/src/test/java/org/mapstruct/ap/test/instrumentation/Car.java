@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.instrumentation;
+
+public class Car {
+
+    private final String make;
+    private final String seats;
+
+    public Car(String make, String seats) {
+        this.make = make;
+        this.seats = seats;
+    }
+
+    public String getMake() {
+        return make;
+    }
+
+    public String getSeats() {
+        return seats;
+    }
+}
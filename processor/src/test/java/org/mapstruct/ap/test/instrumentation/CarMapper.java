@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.instrumentation;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface CarMapper {
+
+    CarDto toDto(Car car);
+
+    List<CarDto> toDtos(List<Car> cars);
+
+    CarDto[] toDtoArray(List<Car> cars);
+
+    void updateDto(Car car, @MappingTarget CarDto dto);
+
+    default String describe(Car car) {
+        return car.getMake();
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.instrumentation;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface DeclaredNamesCarMapper {
+
+    CarDto toDto(Car car);
+
+    default CarDto toDtoUninstrumented(Car car) {
+        CarDto dto = new CarDto();
+        dto.setMake( "declared" );
+        return dto;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.instrumentation;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.mapstruct.factory.Mappers;
+import org.mapstruct.instrumentation.MappingListener;
+import org.mapstruct.instrumentation.MappingListeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@WithClasses({
+    Car.class,
+    CarDto.class,
+    CarMapper.class,
+    RecordingMappingListener.class
+})
+public class InstrumentationTest {
+
+    private static final String MAPPER = CarMapper.class.getName();
+
+    @RegisterExtension
+    GeneratedSource generatedSource = new GeneratedSource();
+
+    private final RecordingMappingListener listener = new RecordingMappingListener();
+
+    @BeforeEach
+    public void setListener() {
+        MappingListeners.setListener( listener );
+    }
+
+    @AfterEach
+    public void resetListener() {
+        MappingListeners.setListener( null );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.instrumentation", value = "true")
+    public void shouldNotifyListenerAboutMappings() {
+        CarMapper mapper = Mappers.getMapper( CarMapper.class );
+
+        mapper.toDto( new Car( "Volvo", "5" ) );
+        mapper.toDtos( Arrays.asList( new Car( "Volvo", "5" ), new Car( "Saab", "4" ) ) );
+        mapper.toDtoArray( Arrays.asList( new Car( "Volvo", "5" ) ) );
+        mapper.updateDto( new Car( "Volvo", "5" ), new CarDto() );
+        mapper.describe( new Car( "Volvo", "5" ) );
+
+        assertThat( listener.getCompletedMappings() ).containsExactly(
+            MAPPER + "#toDto(Car) -> -1",
+            MAPPER + "#toDto(Car) -> -1",
+            MAPPER + "#toDto(Car) -> -1",
+            MAPPER + "#toDtos(List) -> 2",
+            MAPPER + "#toDto(Car) -> -1",
+            MAPPER + "#toDtoArray(List) -> 1",
+            MAPPER + "#updateDto(Car, CarDto) -> -1"
+        );
+        assertThat( listener.getFailures() ).isEmpty();
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.instrumentation", value = "true")
+    public void shouldCountNullResultAsEmpty() {
+        CarMapper mapper = Mappers.getMapper( CarMapper.class );
+
+        mapper.toDtos( null );
+
+        assertThat( listener.getCompletedMappings() ).containsExactly( MAPPER + "#toDtos(List) -> 0" );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.instrumentation", value = "true")
+    public void shouldNotifyListenerAboutFailedMapping() {
+        CarMapper mapper = Mappers.getMapper( CarMapper.class );
+
+        assertThatThrownBy( () -> mapper.toDto( new Car( "Volvo", "many" ) ) )
+            .isInstanceOf( NumberFormatException.class );
+
+        assertThat( listener.getCompletedMappings() ).isEmpty();
+        assertThat( listener.getFailures() ).singleElement().isInstanceOf( NumberFormatException.class );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.instrumentation", value = "true")
+    @WithClasses(DeclaredNamesCarMapper.class)
+    public void shouldNotOverrideDeclaredMethodsWithUninstrumentedImplementations() {
+        DeclaredNamesCarMapper mapper = Mappers.getMapper( DeclaredNamesCarMapper.class );
+
+        assertThat( mapper.toDto( new Car( "Volvo", "5" ) ).getMake() ).isEqualTo( "Volvo" );
+        assertThat( mapper.toDtoUninstrumented( new Car( "Volvo", "5" ) ).getMake() ).isEqualTo( "declared" );
+        assertThat( listener.getCompletedMappings() )
+            .containsExactly( DeclaredNamesCarMapper.class.getName() + "#toDto(Car) -> -1" );
+    }
+
+    @ProcessorTest
+    public void shouldNotInstrumentMapperWithoutOption() {
+        generatedSource.forMapper( CarMapper.class ).containsNoImportFor( MappingListener.class );
+        generatedSource.forMapper( CarMapper.class ).containsNoImportFor( MappingListeners.class );
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.instrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mapstruct.instrumentation.MappingListener;
+
+public class RecordingMappingListener implements MappingListener {
+
+    private final List<String> completedMappings = new ArrayList<>();
+    private final List<Throwable> failures = new ArrayList<>();
+
+    @Override
+    public void mappingCompleted(String methodId, long durationNanos, int elementCount) {
+        completedMappings.add( methodId + " -> " + elementCount );
+    }
+
+    @Override
+    public void mappingFailed(String methodId, long durationNanos, Throwable failure) {
+        failures.add( failure );
+    }
+
+    public List<String> getCompletedMappings() {
+        return completedMappings;
+    }
+
+    public List<Throwable> getFailures() {
+        return failures;
+    }
+}
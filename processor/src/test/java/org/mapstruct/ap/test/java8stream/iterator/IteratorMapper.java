@@ -0,0 +1,42 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.java8stream.iterator;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface IteratorMapper {
+
+    IteratorMapper INSTANCE = Mappers.getMapper( IteratorMapper.class );
+
+    AtomicInteger MAPPED_CARS = new AtomicInteger();
+
+    Iterator<CarDto> toDtos(Iterator<Car> cars);
+
+    Spliterator<CarDto> toDtos(Spliterator<Car> cars);
+
+    Stream<CarDto> toDtoStream(Iterator<Car> cars);
+
+    Iterator<CarDto> toDtoIterator(Stream<Car> cars);
+
+    Spliterator<CarDto> toDtoSpliterator(List<Car> cars);
+
+    List<CarDto> toDtoList(Iterator<Car> cars);
+
+    Iterator<String> toStrings(Integer[] values);
+
+    default CarDto toDto(Car car) {
+        MAPPED_CARS.incrementAndGet();
+        return new CarDto( car.getName() );
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.java8stream.iterator;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValueMappingStrategy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(nullValueMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+public interface IteratorMapperWithDefaults {
+
+    IteratorMapperWithDefaults INSTANCE = Mappers.getMapper( IteratorMapperWithDefaults.class );
+
+    Iterator<CarDto> toDtos(Iterator<Car> cars);
+
+    Spliterator<CarDto> toDtos(Spliterator<Car> cars);
+
+    default CarDto toDto(Car car) {
+        return new CarDto( car.getName() );
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.java8stream.iterator;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Car.class,
+    CarDto.class
+})
+public class IteratorMappingTest {
+
+    private final List<Car> cars = Arrays.asList( new Car( "Morris" ), new Car( "Mini" ), new Car( "Beetle" ) );
+
+    @BeforeEach
+    public void resetCounter() {
+        IteratorMapper.MAPPED_CARS.set( 0 );
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMapper.class)
+    public void shouldMapIteratorElementsWhenConsumed() {
+        Iterator<CarDto> dtos = IteratorMapper.INSTANCE.toDtos( cars.iterator() );
+
+        assertThat( IteratorMapper.MAPPED_CARS.get() ).isZero();
+        assertThat( dtos.next().getName() ).isEqualTo( "Morris" );
+        assertThat( IteratorMapper.MAPPED_CARS.get() ).isEqualTo( 1 );
+        assertThat( dtos ).toIterable().extracting( CarDto::getName ).containsExactly( "Mini", "Beetle" );
+        assertThat( IteratorMapper.MAPPED_CARS.get() ).isEqualTo( 3 );
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMapper.class)
+    public void shouldKeepSpliteratorCharacteristics() {
+        Spliterator<CarDto> dtos = IteratorMapper.INSTANCE.toDtos( cars.spliterator() );
+
+        assertThat( IteratorMapper.MAPPED_CARS.get() ).isZero();
+        assertThat( dtos.hasCharacteristics( Spliterator.SIZED ) ).isTrue();
+        assertThat( dtos.hasCharacteristics( Spliterator.ORDERED ) ).isTrue();
+        assertThat( dtos.estimateSize() ).isEqualTo( 3 );
+
+        assertThat( dtos.tryAdvance( dto -> assertThat( dto.getName() ).isEqualTo( "Morris" ) ) ).isTrue();
+        assertThat( IteratorMapper.MAPPED_CARS.get() ).isEqualTo( 1 );
+
+        Spliterator<CarDto> listDtos = IteratorMapper.INSTANCE.toDtoSpliterator( cars );
+        assertThat( listDtos.hasCharacteristics( Spliterator.SIZED ) ).isTrue();
+        assertThat( listDtos.estimateSize() ).isEqualTo( 3 );
+        assertThat( IteratorMapper.MAPPED_CARS.get() ).isEqualTo( 1 );
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMapper.class)
+    public void shouldMapBetweenIteratorsAndStreams() {
+        Stream<CarDto> dtoStream = IteratorMapper.INSTANCE.toDtoStream( cars.iterator() );
+        assertThat( IteratorMapper.MAPPED_CARS.get() ).isZero();
+        assertThat( dtoStream.map( CarDto::getName ).collect( Collectors.toList() ) )
+            .containsExactly( "Morris", "Mini", "Beetle" );
+
+        Iterator<CarDto> dtoIterator = IteratorMapper.INSTANCE.toDtoIterator( cars.stream() );
+        assertThat( dtoIterator ).toIterable().extracting( CarDto::getName )
+            .containsExactly( "Morris", "Mini", "Beetle" );
+
+        assertThat( IteratorMapper.INSTANCE.toDtoList( cars.iterator() ) ).extracting( CarDto::getName )
+            .containsExactly( "Morris", "Mini", "Beetle" );
+
+        assertThat( IteratorMapper.INSTANCE.toStrings( new Integer[] { 1, 2 } ) ).toIterable()
+            .containsExactly( "1", "2" );
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMapper.class)
+    public void shouldMapNullToNull() {
+        assertThat( IteratorMapper.INSTANCE.toDtos( (Iterator<Car>) null ) ).isNull();
+        assertThat( IteratorMapper.INSTANCE.toDtos( (Spliterator<Car>) null ) ).isNull();
+        assertThat( IteratorMapper.INSTANCE.toDtoIterator( null ) ).isNull();
+    }
+
+    @ProcessorTest
+    @WithClasses(IteratorMapperWithDefaults.class)
+    public void shouldMapNullToEmptyIteratorWhenReturningDefault() {
+        assertThat( IteratorMapperWithDefaults.INSTANCE.toDtos( (Iterator<Car>) null ) ).isExhausted();
+        assertThat( IteratorMapperWithDefaults.INSTANCE.toDtos( (Spliterator<Car>) null ).estimateSize() ).isZero();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.java8stream.primitive;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface PrimitiveStreamMapper {
+
+    PrimitiveStreamMapper INSTANCE = Mappers.getMapper( PrimitiveStreamMapper.class );
+
+    IntStream toIntStream(List<Integer> values);
+
+    IntStream parse(Stream<String> values);
+
+    LongStream toLongStream(int[] values);
+
+    LongStream toLongStream(IntStream values);
+
+    DoubleStream toDoubleStream(long[] values);
+
+    List<Integer> toList(IntStream values);
+
+    Set<String> toStrings(LongStream values);
+
+    int[] toArray(IntStream values);
+
+    double[] toArray(DoubleStream values);
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.java8stream.primitive;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValueMappingStrategy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(nullValueMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+public interface PrimitiveStreamMapperWithDefaults {
+
+    PrimitiveStreamMapperWithDefaults INSTANCE = Mappers.getMapper( PrimitiveStreamMapperWithDefaults.class );
+
+    IntStream toIntStream(List<Integer> values);
+
+    int[] toArray(IntStream values);
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.java8stream.primitive;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimitiveStreamMappingTest {
+
+    @ProcessorTest
+    @WithClasses(PrimitiveStreamMapper.class)
+    public void shouldMapToPrimitiveStreams() {
+        PrimitiveStreamMapper mapper = PrimitiveStreamMapper.INSTANCE;
+
+        assertThat( mapper.toIntStream( Arrays.asList( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+        assertThat( mapper.parse( Stream.of( "4", "5" ) ) ).containsExactly( 4, 5 );
+        assertThat( mapper.toLongStream( new int[] { 6, 7 } ) ).containsExactly( 6L, 7L );
+        assertThat( mapper.toLongStream( IntStream.of( 8, 9 ) ) ).containsExactly( 8L, 9L );
+        assertThat( mapper.toDoubleStream( new long[] { 1L } ) ).containsExactly( 1.0 );
+    }
+
+    @ProcessorTest
+    @WithClasses(PrimitiveStreamMapper.class)
+    public void shouldMapFromPrimitiveStreams() {
+        PrimitiveStreamMapper mapper = PrimitiveStreamMapper.INSTANCE;
+
+        assertThat( mapper.toList( IntStream.of( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+        assertThat( mapper.toStrings( LongStream.of( 4L, 5L ) ) ).containsExactlyInAnyOrder( "4", "5" );
+        assertThat( mapper.toArray( IntStream.of( 6, 7 ) ) ).containsExactly( 6, 7 );
+        assertThat( mapper.toArray( DoubleStream.of( 0.5 ) ) ).containsExactly( 0.5 );
+    }
+
+    @ProcessorTest
+    @WithClasses(PrimitiveStreamMapper.class)
+    public void shouldMapNullToNull() {
+        PrimitiveStreamMapper mapper = PrimitiveStreamMapper.INSTANCE;
+
+        assertThat( mapper.toIntStream( null ) ).isNull();
+        assertThat( mapper.toList( null ) ).isNull();
+        assertThat( mapper.toArray( (IntStream) null ) ).isNull();
+    }
+
+    @ProcessorTest
+    @WithClasses(PrimitiveStreamMapperWithDefaults.class)
+    public void shouldMapNullToEmpty() {
+        assertThat( PrimitiveStreamMapperWithDefaults.INSTANCE.toIntStream( null ) ).isEmpty();
+        assertThat( PrimitiveStreamMapperWithDefaults.INSTANCE.toArray( null ) ).isEmpty();
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.mappingcontrol.immutable;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.control.DeepClone;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(mappingControl = DeepClone.class)
+public interface BottleLabellingMapper {
+
+    BottleLabellingMapper INSTANCE = Mappers.getMapper( BottleLabellingMapper.class );
+
+    @Mapping(target = "brand", ignore = true)
+    Bottle toBottle(LabelledBottle bottle);
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.mappingcontrol.immutable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class Crate {
+
+    private Brand brand;
+    private Brand[] brands;
+    private int[] bottlesPerRow;
+    private BigDecimal price;
+    private Bottle bottle;
+    private List<Bottle> bottles;
+
+    public Brand getBrand() {
+        return brand;
+    }
+
+    public void setBrand(Brand brand) {
+        this.brand = brand;
+    }
+
+    public Brand[] getBrands() {
+        return brands;
+    }
+
+    public void setBrands(Brand[] brands) {
+        this.brands = brands;
+    }
+
+    public int[] getBottlesPerRow() {
+        return bottlesPerRow;
+    }
+
+    public void setBottlesPerRow(int[] bottlesPerRow) {
+        this.bottlesPerRow = bottlesPerRow;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Bottle getBottle() {
+        return bottle;
+    }
+
+    public void setBottle(Bottle bottle) {
+        this.bottle = bottle;
+    }
+
+    public List<Bottle> getBottles() {
+        return bottles;
+    }
+
+    public void setBottles(List<Bottle> bottles) {
+        this.bottles = bottles;
+    }
+}
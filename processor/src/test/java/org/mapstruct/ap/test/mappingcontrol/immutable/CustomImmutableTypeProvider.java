@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.mappingcontrol.immutable;
+
+import javax.lang.model.element.TypeElement;
+
+import org.mapstruct.ap.spi.DefaultImmutableTypeProvider;
+
+public class CustomImmutableTypeProvider extends DefaultImmutableTypeProvider {
+
+    @Override
+    public boolean isImmutable(TypeElement typeElement) {
+        return typeElement.getQualifiedName().contentEquals( Label.class.getName() )
+            || super.isImmutable( typeElement );
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.mappingcontrol.immutable;
+
+/**
+ * A mutable subtype of the immutable {@link Label}.
+ */
+public class EditableLabel extends Label {
+
+    private String color;
+
+    public EditableLabel(String text) {
+        super( text );
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+}
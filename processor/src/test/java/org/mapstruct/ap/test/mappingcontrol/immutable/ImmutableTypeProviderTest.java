@@ -0,0 +1,53 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.mappingcontrol.immutable;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.spi.ImmutableTypeProvider;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.WithServiceImplementation;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Bottle.class,
+    Brand.class,
+    Crate.class,
+    CrateCloningMapper.class,
+    Label.class
+})
+@WithServiceImplementation(provides = ImmutableTypeProvider.class, value = CustomImmutableTypeProvider.class)
+public class ImmutableTypeProviderTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    public void shouldShareTypesDeclaredImmutableByProvider() {
+        generatedSource.forMapper( CrateCloningMapper.class )
+            .content()
+            .contains( "setLabel( bottle.getLabel() )" )
+            .doesNotContain( "labelToLabel" );
+    }
+
+    @ProcessorTest
+    @WithClasses({
+        BottleLabellingMapper.class,
+        EditableLabel.class,
+        LabelledBottle.class
+    })
+    public void shouldCopyMutableSourceOfTypeDeclaredImmutable() {
+        LabelledBottle source = new LabelledBottle();
+        source.setLabel( new EditableLabel( "Pilsener" ) );
+
+        Bottle bottle = BottleLabellingMapper.INSTANCE.toBottle( source );
+
+        assertThat( bottle.getLabel() ).isNotSameAs( source.getLabel() );
+        assertThat( bottle.getLabel().getText() ).isEqualTo( "Pilsener" );
+    }
+}
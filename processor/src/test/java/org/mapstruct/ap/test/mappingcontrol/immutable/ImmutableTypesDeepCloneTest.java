@@ -0,0 +1,79 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.mappingcontrol.immutable;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Bottle.class,
+    Brand.class,
+    Crate.class,
+    CrateCloningMapper.class,
+    Label.class
+})
+public class ImmutableTypesDeepCloneTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    public void shouldShareImmutableValuesAndCopyMutableOnes() {
+        Crate crate = createCrate();
+
+        Crate clone = CrateCloningMapper.INSTANCE.clone( crate );
+
+        assertThat( clone.getBrand() ).isSameAs( Brand.GROLSCH );
+        assertThat( clone.getPrice() ).isSameAs( crate.getPrice() );
+        assertThat( clone.getBrands() ).isNotSameAs( crate.getBrands() ).containsExactly( Brand.GROLSCH );
+        assertThat( clone.getBottlesPerRow() ).isNotSameAs( crate.getBottlesPerRow() ).containsExactly( 4, 6 );
+        assertThat( clone.getBottle() ).isNotSameAs( crate.getBottle() );
+        assertThat( clone.getBottle().getBrand() ).isSameAs( Brand.HEINEKEN );
+        assertThat( clone.getBottles() ).isNotSameAs( crate.getBottles() ).hasSize( 1 );
+        assertThat( clone.getBottles().get( 0 ) ).isNotSameAs( crate.getBottles().get( 0 ) );
+
+        generatedSource.forMapper( CrateCloningMapper.class )
+            .content()
+            .as( "No copy method should be forged for an enum" )
+            .doesNotContain( "brandToBrand" );
+        generatedSource.forMapper( CrateCloningMapper.class )
+            .content()
+            .as( "Primitive arrays should be cloned" )
+            .contains( "bottlesPerRow.clone()" );
+    }
+
+    @ProcessorTest
+    public void shouldCopyTypesNotKnownToBeImmutable() {
+        Crate crate = createCrate();
+
+        Crate clone = CrateCloningMapper.INSTANCE.clone( crate );
+
+        assertThat( clone.getBottle().getLabel() ).isNotSameAs( crate.getBottle().getLabel() );
+        assertThat( clone.getBottle().getLabel().getText() ).isEqualTo( "Pilsener" );
+    }
+
+    private static Crate createCrate() {
+        Bottle bottle = new Bottle();
+        bottle.setBrand( Brand.HEINEKEN );
+        bottle.setLabel( new Label( "Pilsener" ) );
+
+        Crate crate = new Crate();
+        crate.setBrand( Brand.GROLSCH );
+        crate.setBrands( new Brand[] { Brand.GROLSCH } );
+        crate.setBottlesPerRow( new int[] { 4, 6 } );
+        crate.setPrice( new BigDecimal( "12.50" ) );
+        crate.setBottle( bottle );
+        crate.setBottles( Collections.singletonList( bottle ) );
+        return crate;
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.mappingcontrol.immutable;
+
+/**
+ * Immutable, but only known to be so by {@link CustomImmutableTypeProvider}.
+ */
+public class Label {
+
+    private final String text;
+
+    public Label(String text) {
+        this.text = text;
+    }
+
+    public String getText() {
+        return text;
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.mappingcontrol.immutable;
+
+public class LabelledBottle {
+
+    private EditableLabel label;
+
+    public EditableLabel getLabel() {
+        return label;
+    }
+
+    public void setLabel(EditableLabel label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.memoized;
+
+import org.mapstruct.EvictionPolicy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Memoized;
+import org.mapstruct.Named;
+
+@Mapper
+public interface CountryMapper {
+
+    @Memoized(maxSize = 2, allowMutableResult = true)
+    CountryDto toDto(Country country);
+
+    @Memoized(name = "byCodeAndName", allowMutableResult = true)
+    CountryDto toDto(String code, String name);
+
+    @Named("label")
+    @Memoized(eviction = EvictionPolicy.CLOCK)
+    default String toLabel(String code) {
+        return new StringBuilder( code ).append( '!' ).toString();
+    }
+}
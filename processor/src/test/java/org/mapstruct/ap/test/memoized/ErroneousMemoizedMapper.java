@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.memoized;
+
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Memoized;
+
+@Mapper
+public interface ErroneousMemoizedMapper {
+
+    @Memoized(allowMutableResult = true)
+    void update(Country country, @MappingTarget CountryDto countryDto);
+
+    @Memoized(allowMutableResult = true)
+    CountryDto toDto(Country country, @Context Object context);
+
+    @Memoized
+    CountryDto toDto(Country country);
+
+    @Memoized(maxSize = 0, allowMutableResult = true)
+    CountryDto toUncachedDto(Country country);
+
+    @Memoized
+    default String toLabel(String code, String name) {
+        return code + name;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.memoized;
+
+import org.mapstruct.MemoizationCache;
+import org.mapstruct.MemoizingMapper;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.factory.Mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Country.class,
+    CountryDto.class
+})
+public class MemoizedTest {
+
+    @ProcessorTest
+    @WithClasses(CountryMapper.class)
+    public void shouldReturnCachedResultOfMappingMethod() {
+        CountryMapper mapper = Mappers.getMapper( CountryMapper.class );
+        Country germany = new Country( "DE", "Germany" );
+
+        CountryDto dto = mapper.toDto( germany );
+
+        assertThat( dto.getCode() ).isEqualTo( "DE" );
+        assertThat( dto.getName() ).isEqualTo( "Germany" );
+        assertThat( mapper.toDto( germany ) ).isSameAs( dto );
+
+        MemoizationCache<?, ?> cache = ( (MemoizingMapper) mapper ).getMemoizationCaches().get( "toDto" );
+        assertThat( cache.getMaxSize() ).isEqualTo( 2 );
+        assertThat( cache.getHitCount() ).isEqualTo( 1 );
+        assertThat( cache.getMissCount() ).isEqualTo( 1 );
+    }
+
+    @ProcessorTest
+    @WithClasses(CountryMapper.class)
+    public void shouldUseAllParametersAsKey() {
+        CountryMapper mapper = Mappers.getMapper( CountryMapper.class );
+
+        CountryDto dto = mapper.toDto( "DE", "Germany" );
+
+        assertThat( dto.getName() ).isEqualTo( "Germany" );
+        assertThat( mapper.toDto( "DE", "Germany" ) ).isSameAs( dto );
+        assertThat( mapper.toDto( "DE", "Deutschland" ).getName() ).isEqualTo( "Deutschland" );
+
+        MemoizationCache<?, ?> cache = ( (MemoizingMapper) mapper ).getMemoizationCaches().get( "byCodeAndName" );
+        assertThat( cache.size() ).isEqualTo( 2 );
+    }
+
+    @ProcessorTest
+    @WithClasses(CountryMapper.class)
+    public void shouldReturnCachedResultOfDefaultMethod() {
+        CountryMapper mapper = Mappers.getMapper( CountryMapper.class );
+
+        String label = mapper.toLabel( "DE" );
+
+        assertThat( label ).isEqualTo( "DE!" );
+        assertThat( mapper.toLabel( "DE" ) ).isSameAs( label );
+
+        MemoizationCache<?, ?> cache = ( (MemoizingMapper) mapper ).getMemoizationCaches().get( "toLabel" );
+        assertThat( cache.getHitCount() ).isEqualTo( 1 );
+    }
+
+    @ProcessorTest
+    @WithClasses(OverloadedCountryMapper.class)
+    public void shouldNotOverrideDeclaredMethodsWithCachedImplementations() {
+        OverloadedCountryMapper mapper = Mappers.getMapper( OverloadedCountryMapper.class );
+        Country germany = new Country( "DE", "Germany" );
+
+        CountryDto dto = mapper.toDto( germany );
+
+        assertThat( dto.getName() ).isEqualTo( "Germany" );
+        assertThat( mapper.toDto( germany ) ).isSameAs( dto );
+        assertThat( mapper.toDto( "DE" ).getCode() ).isEqualTo( "DE" );
+        assertThat( mapper.toDtoUncached( germany ).getName() ).isEqualTo( "declared" );
+    }
+
+    @ProcessorTest
+    @WithClasses(ErroneousMemoizedMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousMemoizedMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 16,
+                message = "@Memoized can't be applied to update methods, as they modify their @MappingTarget " +
+                    "parameter instead of returning a result."),
+            @Diagnostic(type = ErroneousMemoizedMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 19,
+                message = "@Memoized can't be applied to methods with @Context parameters, as the context isn't " +
+                    "part of the cache key."),
+            @Diagnostic(type = ErroneousMemoizedMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 22,
+                message = "@Memoized can't be applied to a method returning the mutable type CountryDto, as all " +
+                    "callers would share the cached result. Set @Memoized#allowMutableResult to memoize it " +
+                    "nevertheless."),
+            @Diagnostic(type = ErroneousMemoizedMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 25,
+                message = "The maximum size of a memoization cache must be positive, but was 0."),
+            @Diagnostic(type = ErroneousMemoizedMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 28,
+                message = "@Memoized can only be applied to non-static, non-final and non-generic mapping methods " +
+                    "of the mapper returning a result.")
+        }
+    )
+    public void shouldReportUnsupportedMemoization() {
+    }
+}
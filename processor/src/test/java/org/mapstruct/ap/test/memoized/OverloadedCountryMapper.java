@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.memoized;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Memoized;
+
+@Mapper
+public interface OverloadedCountryMapper {
+
+    @Memoized(allowMutableResult = true)
+    CountryDto toDto(Country country);
+
+    @Memoized(name = "byCode", allowMutableResult = true)
+    @Mapping(target = "name", ignore = true)
+    CountryDto toDto(String code);
+
+    default CountryDto toDtoUncached(Country country) {
+        CountryDto dto = new CountryDto();
+        dto.setName( "declared" );
+        return dto;
+    }
+}
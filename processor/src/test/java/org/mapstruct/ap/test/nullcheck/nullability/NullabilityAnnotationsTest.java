@@ -0,0 +1,87 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.nullcheck.nullability;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Customer.class,
+    NonNull.class,
+    NullMarked.class,
+    Nullable.class,
+    Order.class,
+    OrderDto.class,
+    OrderMapper.class
+})
+public class NullabilityAnnotationsTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.nullabilityAnnotations", value = "trust")
+    public void shouldOmitNullChecksForNonNullValues() {
+        Order order = new Order( 3L, null, 42, Arrays.asList( "fragile" ), new Customer( "Alice" ) );
+
+        OrderDto dto = OrderMapper.INSTANCE.toDto( order );
+
+        assertThat( dto.getQuantity() ).isEqualTo( 3L );
+        assertThat( dto.getDiscount() ).isZero();
+        assertThat( dto.getNumber() ).isEqualTo( "42" );
+        assertThat( dto.getTags() ).containsExactly( "fragile" );
+        assertThat( dto.getCustomerName() ).isEqualTo( "Alice" );
+        assertThat( dto.getTags() ).isNotSameAs( order.getTags() );
+
+        // only the generated nested property method checks its own parameter
+        generatedSource.forMapper( OrderMapper.class ).content()
+            .containsOnlyOnce( "order == null" )
+            .doesNotContain( "getQuantity() != null" )
+            .doesNotContain( "getNumber() != null" )
+            .doesNotContain( "tags != null" )
+            .doesNotContain( "customer == null" )
+            .doesNotContain( "name == null" )
+            .doesNotContain( "assert " )
+            .contains( "getDiscount() != null" );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.nullabilityAnnotations", value = "assert")
+    public void shouldAssertNonNullValuesInsteadOfCheckingThem() {
+        generatedSource.forMapper( OrderMapper.class ).content()
+            .containsOnlyOnce( "order == null" )
+            .doesNotContain( "if ( order.getQuantity() != null )" )
+            .contains( "assert order != null;" )
+            .contains( "assert order.getQuantity() != null;" )
+            .contains( "assert customer != null;" )
+            .contains( "getDiscount() != null" );
+    }
+
+    @ProcessorTest
+    public void shouldCheckNonNullValuesByDefault() {
+        generatedSource.forMapper( OrderMapper.class ).content()
+            .contains( "if ( order == null ) {\n            return null;\n        }\n\n        OrderDto" )
+            .contains( "getQuantity() != null" )
+            .contains( "customer == null" )
+            .doesNotContain( "assert " );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.nullabilityAnnotations", value = "ignore")
+    public void shouldCheckNonNullValuesWhenIgnoringNullabilityAnnotations() {
+        generatedSource.forMapper( OrderMapper.class ).content()
+            .contains( "if ( order == null ) {\n            return null;\n        }\n\n        OrderDto" )
+            .contains( "getQuantity() != null" )
+            .contains( "customer == null" );
+    }
+}
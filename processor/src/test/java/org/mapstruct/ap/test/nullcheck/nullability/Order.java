@@ -0,0 +1,46 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.nullcheck.nullability;
+
+import java.util.List;
+
+@NullMarked
+public class Order {
+
+    private final Long quantity;
+    private final Long discount;
+    private final Integer number;
+    private final List<String> tags;
+    private final Customer customer;
+
+    public Order(Long quantity, Long discount, Integer number, List<String> tags, Customer customer) {
+        this.quantity = quantity;
+        this.discount = discount;
+        this.number = number;
+        this.tags = tags;
+        this.customer = customer;
+    }
+
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    public @Nullable Long getDiscount() {
+        return discount;
+    }
+
+    public Integer getNumber() {
+        return number;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+}
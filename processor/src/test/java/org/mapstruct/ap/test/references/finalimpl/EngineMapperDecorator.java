@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.finalimpl;
+
+public abstract class EngineMapperDecorator implements DecoratedEngineMapper {
+
+    private final DecoratedEngineMapper delegate;
+
+    public EngineMapperDecorator(DecoratedEngineMapper delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public EngineDto toDto(Engine engine) {
+        EngineDto dto = delegate.toDto( engine );
+        dto.setType( dto.getType() + " (decorated)" );
+        return dto;
+    }
+}
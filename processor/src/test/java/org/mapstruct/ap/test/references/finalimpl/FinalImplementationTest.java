@@ -0,0 +1,97 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.finalimpl;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOptions;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.mapstruct.factory.Mappers;
+
+import static java.lang.System.lineSeparator;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Car.class,
+    CarDto.class,
+    Engine.class,
+    EngineDto.class,
+    EngineMapper.class,
+    CarMapper.class
+})
+public class FinalImplementationTest {
+
+    @RegisterExtension
+    GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.finalImplementations", value = "true")
+    public void shouldGenerateFinalImplementationsInvokingEachOtherDirectly() {
+        CarDto dto = Mappers.getMapper( CarMapper.class ).toDto( new Car( "Volvo", new Engine( "V8" ) ) );
+
+        assertThat( dto.getEngine().getType() ).isEqualTo( "V8" );
+        generatedSource.forMapper( EngineMapper.class )
+            .content()
+            .contains( "public final class EngineMapperImpl implements EngineMapper {" );
+        generatedSource.forMapper( CarMapper.class )
+            .content()
+            .contains( "public final class CarMapperImpl implements CarMapper {" )
+            .contains( "private final EngineMapperImpl engineMapper = new EngineMapperImpl();" )
+            .contains( "carDto.setEngine( engineMapper.toDto( car.getEngine() ) );" );
+        generatedSource.forMapper( CarMapper.class ).containsNoImportFor( Mappers.class );
+    }
+
+    @ProcessorTest
+    @ProcessorOptions({
+        @ProcessorOption(name = "mapstruct.finalImplementations", value = "true"),
+        @ProcessorOption(name = "mapstruct.lazyMapperReferences", value = "true")
+    })
+    public void shouldInstantiateFinalImplementationLazily() {
+        CarDto dto = Mappers.getMapper( CarMapper.class ).toDto( new Car( "Volvo", new Engine( "V8" ) ) );
+
+        assertThat( dto.getEngine().getType() ).isEqualTo( "V8" );
+        generatedSource.forMapper( CarMapper.class )
+            .content()
+            .contains( "private static class EngineMapperHolder {" + lineSeparator() +
+                "        private static final EngineMapperImpl INSTANCE = new EngineMapperImpl();" )
+            .contains( "carDto.setEngine( EngineMapperHolder.INSTANCE.toDto( car.getEngine() ) );" );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.finalImplementations", value = "true")
+    @WithClasses({
+        DecoratedEngineMapper.class,
+        EngineMapperDecorator.class,
+        DecoratedEngineCarMapper.class
+    })
+    public void shouldRetrieveDecoratedMapperViaMappers() {
+        CarDto dto = Mappers.getMapper( DecoratedEngineCarMapper.class )
+            .toDto( new Car( "Volvo", new Engine( "V8" ) ) );
+
+        assertThat( dto.getEngine().getType() ).isEqualTo( "V8 (decorated)" );
+        generatedSource.forMapper( DecoratedEngineMapper.class )
+            .content()
+            .contains( "public class DecoratedEngineMapperImpl extends EngineMapperDecorator {" );
+        generatedSource.forDecoratedMapper( DecoratedEngineMapper.class )
+            .content()
+            .contains( "public class DecoratedEngineMapperImpl_ implements DecoratedEngineMapper {" );
+        generatedSource.forMapper( DecoratedEngineCarMapper.class )
+            .content()
+            .contains( "public final class DecoratedEngineCarMapperImpl implements DecoratedEngineCarMapper {" )
+            .contains( "private final DecoratedEngineMapper decoratedEngineMapper = " +
+                "Mappers.getMapper( DecoratedEngineMapper.class );" );
+    }
+
+    @ProcessorTest
+    public void shouldNotGenerateFinalImplementationsByDefault() {
+        generatedSource.forMapper( CarMapper.class )
+            .content()
+            .contains( "public class CarMapperImpl implements CarMapper {" )
+            .contains( "private final EngineMapper engineMapper = Mappers.getMapper( EngineMapper.class );" );
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.finalimpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.Mapper;
+import org.mapstruct.ap.MappingProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compiles the used mappers and the using mappers in separate compilations, as happens when the used mappers come from
+ * a library or an unchanged part of an incremental build. The component model of a used mapper is then only known if
+ * declared on its annotation, as the processor options of the first compilation are unknown to the second one.
+ */
+public class PrecompiledMapperReferenceTest {
+
+    private static final String SOURCE_DIR = "src/test/java/org/mapstruct/ap/test/references/finalimpl/";
+    private static final String OUTPUT_DIR = "org/mapstruct/ap/test/references/finalimpl/";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldInvokePrecompiledMappersDirectlyOnlyIfDeclaringDefaultComponentModel() throws Exception {
+        Path libraryOutput = tempDir.resolve( "library" );
+        compile(
+            libraryOutput,
+            Collections.emptyList(),
+            "Engine.java",
+            "EngineDto.java",
+            "EngineMapper.java",
+            "DefaultEngineMapper.java"
+        );
+
+        Path output = tempDir.resolve( "application" );
+        compile(
+            output,
+            Collections.singletonList( libraryOutput.toFile() ),
+            "Car.java",
+            "CarDto.java",
+            "CarMapper.java",
+            "DefaultEngineCarMapper.java"
+        );
+
+        assertThat( read( output.resolve( OUTPUT_DIR + "CarMapperImpl.java" ) ) )
+            .contains( "private final EngineMapper engineMapper = Mappers.getMapper( EngineMapper.class );" );
+        assertThat( read( output.resolve( OUTPUT_DIR + "DefaultEngineCarMapperImpl.java" ) ) )
+            .contains( "private final DefaultEngineMapperImpl defaultEngineMapper = new DefaultEngineMapperImpl();" );
+    }
+
+    private void compile(Path output, List<File> classPath, String... sourceFiles)
+        throws IOException, URISyntaxException {
+        Files.createDirectories( output );
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null ) ) {
+            List<File> fullClassPath = new ArrayList<>( classPath );
+            fullClassPath.add( new File( Mapper.class.getProtectionDomain().getCodeSource().getLocation().toURI() ) );
+            fileManager.setLocation( StandardLocation.CLASS_PATH, fullClassPath );
+            fileManager.setLocation( StandardLocation.CLASS_OUTPUT, Collections.singletonList( output.toFile() ) );
+            fileManager.setLocation( StandardLocation.SOURCE_OUTPUT, Collections.singletonList( output.toFile() ) );
+
+            CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                null,
+                Collections.singletonList( "-Amapstruct.finalImplementations=true" ),
+                null,
+                fileManager.getJavaFileObjectsFromFiles( Arrays.stream( sourceFiles )
+                    .map( sourceFile -> new File( SOURCE_DIR + sourceFile ) )
+                    .collect( Collectors.toList() ) )
+            );
+            task.setProcessors( Collections.singletonList( new MappingProcessor() ) );
+
+            assertThat( task.call() ).isTrue();
+        }
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String( Files.readAllBytes( file ), StandardCharsets.UTF_8 );
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.lazy;
+
+public class Car {
+
+    private final String make;
+    private final Engine engine;
+
+    public Car(String make, Engine engine) {
+        this.make = make;
+        this.engine = engine;
+    }
+
+    public String getMake() {
+        return make;
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.lazy;
+
+public class CarDto {
+
+    private String make;
+    private EngineDto engine;
+
+    public String getMake() {
+        return make;
+    }
+
+    public void setMake(String make) {
+        this.make = make;
+    }
+
+    public EngineDto getEngine() {
+        return engine;
+    }
+
+    public void setEngine(EngineDto engine) {
+        this.engine = engine;
+    }
+}
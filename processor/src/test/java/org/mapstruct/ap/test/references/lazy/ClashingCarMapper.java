@@ -0,0 +1,17 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.lazy;
+
+import org.mapstruct.Mapper;
+
+@Mapper(uses = EngineMapper.class)
+public interface ClashingCarMapper {
+
+    EngineMapperHolder toHolder(Car car);
+
+    class EngineMapperHolder1 {
+    }
+}
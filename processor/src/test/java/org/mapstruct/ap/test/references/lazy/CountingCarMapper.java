@@ -0,0 +1,14 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.lazy;
+
+import org.mapstruct.Mapper;
+
+@Mapper(uses = CountingEngineMapper.class)
+public interface CountingCarMapper {
+
+    CarDto toDto(Car car);
+}
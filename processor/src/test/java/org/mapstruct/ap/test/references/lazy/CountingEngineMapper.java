@@ -0,0 +1,24 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.lazy;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public abstract class CountingEngineMapper {
+
+    private static int instances;
+
+    protected CountingEngineMapper() {
+        instances++;
+    }
+
+    public static int getInstances() {
+        return instances;
+    }
+
+    public abstract EngineDto toDto(Engine engine);
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.lazy;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.mapstruct.factory.Mappers;
+
+import static java.lang.System.lineSeparator;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Car.class,
+    CarDto.class,
+    CarMapper.class,
+    Engine.class,
+    EngineDto.class,
+    EngineMapper.class
+})
+public class LazyMapperReferenceTest {
+
+    @RegisterExtension
+    GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.lazyMapperReferences", value = "true")
+    public void shouldObtainUsedMapperOnFirstUse() {
+        CarMapper mapper = Mappers.getMapper( CarMapper.class );
+
+        CarDto dto = mapper.toDto( new Car( "Volvo", new Engine( "V8" ) ) );
+
+        assertThat( dto.getMake() ).isEqualTo( "Volvo" );
+        assertThat( dto.getEngine().getType() ).isEqualTo( "V8" );
+        generatedSource.forMapper( CarMapper.class )
+            .content()
+            .contains( "private static class EngineMapperHolder {" + lineSeparator() +
+                "        private static final EngineMapper INSTANCE = Mappers.getMapper( EngineMapper.class );" )
+            .contains( "carDto.setEngine( EngineMapperHolder.INSTANCE.toDto( car.getEngine() ) );" );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.lazyMapperReferences", value = "true")
+    @WithClasses({
+        CountingCarMapper.class,
+        CountingEngineMapper.class
+    })
+    public void shouldNotInstantiateUsedMapperBeforeFirstUse() {
+        // the holder is shared by all instances of the mapper, also across the compilers running this test
+        int instances = CountingEngineMapper.getInstances();
+        CountingCarMapper mapper = Mappers.getMapper( CountingCarMapper.class );
+
+        assertThat( CountingEngineMapper.getInstances() ).isEqualTo( instances );
+
+        mapper.toDto( new Car( "Volvo", new Engine( "V8" ) ) );
+        assertThat( CountingEngineMapper.getInstances() ).isEqualTo( 1 );
+
+        mapper.toDto( new Car( "Saab", new Engine( "V6" ) ) );
+        assertThat( CountingEngineMapper.getInstances() ).isEqualTo( 1 );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.lazyMapperReferences", value = "true")
+    @WithClasses({
+        ClashingCarMapper.class,
+        EngineMapperHolder.class
+    })
+    public void shouldNotHideTypesVisibleInMapper() {
+        ClashingCarMapper mapper = Mappers.getMapper( ClashingCarMapper.class );
+
+        EngineMapperHolder holder = mapper.toHolder( new Car( "Volvo", new Engine( "V8" ) ) );
+
+        assertThat( holder.getEngine().getType() ).isEqualTo( "V8" );
+        generatedSource.forMapper( ClashingCarMapper.class )
+            .content()
+            .contains( "public EngineMapperHolder toHolder(Car car) {" )
+            .contains( "private static class EngineMapperHolder2 {" )
+            .contains( "engineMapperHolder.setEngine( EngineMapperHolder2.INSTANCE.toDto( car.getEngine() ) );" );
+    }
+
+    @ProcessorTest
+    public void shouldObtainUsedMapperEagerlyByDefault() {
+        CarMapper mapper = Mappers.getMapper( CarMapper.class );
+
+        assertThat( mapper.toDto( new Car( "Volvo", new Engine( "V8" ) ) ).getEngine().getType() ).isEqualTo( "V8" );
+        generatedSource.forMapper( CarMapper.class )
+            .content()
+            .contains( "private final EngineMapper engineMapper = Mappers.getMapper( EngineMapper.class );" );
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.registry;
+
+import org.mapstruct.DecoratedWith;
+import org.mapstruct.Mapper;
+
+@Mapper
+@DecoratedWith(SourceTargetMapperDecorator.class)
+public interface DecoratedSourceTargetMapper {
+
+    Target toTarget(Source source);
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.registry;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.Mapper;
+import org.mapstruct.ap.MappingProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compiles the mappers in two runs like an incremental Gradle build does: the second run only compiles the changed
+ * mapper, and reprocesses the unchanged one from its class file, which Gradle does for aggregating processors only.
+ */
+public class IncrementalMapperRegistryTest {
+
+    private static final String SOURCE_DIR = "src/test/java/org/mapstruct/ap/test/registry/";
+    private static final String REGISTRY = "org/mapstruct/ap/test/registry/MapStructMapperRegistry.java";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldRegisterUnchangedMappersAfterIncrementalCompilation() throws Exception {
+        Path firstOutput = tempDir.resolve( "first" );
+        MappingProcessor firstRun = compile(
+            firstOutput,
+            Collections.emptyList(),
+            Collections.emptyList(),
+            "Source.java",
+            "Target.java",
+            "SourceTargetMapper.java",
+            "DecoratedSourceTargetMapper.java",
+            "SourceTargetMapperDecorator.java"
+        );
+
+        assertThat( firstRun.getSupportedOptions() ).contains( "org.gradle.annotation.processing.aggregating" );
+        assertThat( read( firstOutput.resolve( REGISTRY ) ) )
+            .contains( "SourceTargetMapperImpl" )
+            .contains( "DecoratedSourceTargetMapperImpl" );
+
+        Path secondOutput = tempDir.resolve( "second" );
+        compile(
+            secondOutput,
+            Collections.singletonList( firstOutput.toFile() ),
+            Collections.singletonList( DecoratedSourceTargetMapper.class.getName() ),
+            "SourceTargetMapper.java"
+        );
+
+        assertThat( read( secondOutput.resolve( REGISTRY ) ) )
+            .contains( "SourceTargetMapperImpl" )
+            .contains( "DecoratedSourceTargetMapperImpl" );
+    }
+
+    @Test
+    public void shouldBeIsolatingWithoutRegistry() throws Exception {
+        assertThat( getSupportedOptions( Collections.emptyList() ) )
+            .contains( "org.gradle.annotation.processing.isolating" )
+            .doesNotContain( "org.gradle.annotation.processing.aggregating" );
+    }
+
+    @Test
+    public void shouldBeAggregatingWithSpringConfiguration() throws Exception {
+        List<String> options = Collections.singletonList( "-Amapstruct.generateSpringConfiguration=true" );
+        assertThat( getSupportedOptions( options ) )
+            .contains( "org.gradle.annotation.processing.aggregating" )
+            .doesNotContain( "org.gradle.annotation.processing.isolating" );
+    }
+
+    private Set<String> getSupportedOptions(List<String> options) throws IOException, URISyntaxException {
+        MappingProcessor processor = new MappingProcessor();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null ) ) {
+            fileManager.setLocation( StandardLocation.CLASS_PATH, Collections.singletonList( coreLocation() ) );
+            List<String> compilerOptions = new ArrayList<>( options );
+            compilerOptions.add( "-proc:only" );
+            CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                null,
+                compilerOptions,
+                null,
+                fileManager.getJavaFileObjects( new File( SOURCE_DIR + "SourceTargetMapper.java" ) )
+            );
+            task.setProcessors( Collections.singletonList( processor ) );
+            task.call();
+        }
+
+        return processor.getSupportedOptions();
+    }
+
+    private MappingProcessor compile(Path output, List<File> classPath, List<String> classesToProcess,
+                                     String... sourceFiles) throws IOException, URISyntaxException {
+        Files.createDirectories( output );
+        MappingProcessor processor = new MappingProcessor();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null ) ) {
+            List<File> fullClassPath = new ArrayList<>( classPath );
+            fullClassPath.add( coreLocation() );
+            fileManager.setLocation( StandardLocation.CLASS_PATH, fullClassPath );
+            fileManager.setLocation( StandardLocation.CLASS_OUTPUT, Collections.singletonList( output.toFile() ) );
+            fileManager.setLocation( StandardLocation.SOURCE_OUTPUT, Collections.singletonList( output.toFile() ) );
+
+            CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                null,
+                Collections.singletonList( "-Amapstruct.generateMapperRegistry=true" ),
+                classesToProcess,
+                fileManager.getJavaFileObjectsFromFiles( Arrays.stream( sourceFiles )
+                    .map( sourceFile -> new File( SOURCE_DIR + sourceFile ) )
+                    .collect( Collectors.toList() ) )
+            );
+            task.setProcessors( Collections.singletonList( processor ) );
+
+            assertThat( task.call() ).isTrue();
+        }
+
+        return processor;
+    }
+
+    private static File coreLocation() throws URISyntaxException {
+        return new File( Mapper.class.getProtectionDomain().getCodeSource().getLocation().toURI() );
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String( Files.readAllBytes( file ), StandardCharsets.UTF_8 );
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.registry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.ServiceLoader;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.mapstruct.factory.MapperRegistry;
+import org.mapstruct.factory.Mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Source.class,
+    Target.class,
+    SourceTargetMapper.class,
+    DecoratedSourceTargetMapper.class,
+    SourceTargetMapperDecorator.class
+})
+public class MapperRegistryTest {
+
+    private static final String REGISTRY = "org/mapstruct/ap/test/registry/MapStructMapperRegistry.java";
+    private static final String REFLECT_CONFIG =
+        "META-INF/native-image/mapstruct/org.mapstruct.ap.test.registry/reflect-config.json";
+
+    @RegisterExtension
+    GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateMapperRegistry", value = "true")
+    public void shouldRegisterMapperImplementations() {
+        List<MapperRegistry> registries = loadRegistries();
+
+        assertThat( registries ).hasSize( 1 );
+        MapperRegistry registry = registries.get( 0 );
+        assertThat( registry.getMapper( SourceTargetMapper.class ) ).isInstanceOf( SourceTargetMapper.class );
+        assertThat( registry.getMapper( DecoratedSourceTargetMapper.class ) )
+            .isInstanceOf( SourceTargetMapperDecorator.class );
+        assertThat( registry.getMapper( Source.class ) ).isNull();
+
+        generatedSource.forJavaFile( REGISTRY ).exists();
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateMapperRegistry", value = "true")
+    public void shouldMarkRegistryAsGenerated() {
+        generatedSource.forJavaFile( REGISTRY )
+            .content()
+            .containsPattern( "@javax\\.annotation(\\.processing)?\\.Generated\\(" )
+            .contains( "value = \"org.mapstruct.ap.MappingProcessor\"" );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateMapperRegistry", value = "true")
+    public void shouldRetrieveMappersFromRegistry() {
+        Target target = Mappers.getMapper( DecoratedSourceTargetMapper.class ).toTarget( new Source( "Bob" ) );
+
+        assertThat( target.getName() ).isEqualTo( "Bob (decorated)" );
+        assertThat( Mappers.getMapper( SourceTargetMapper.class ).toTarget( new Source( "Bob" ) ).getName() )
+            .isEqualTo( "Bob" );
+    }
+
+    @ProcessorTest
+    @ProcessorOption(name = "mapstruct.generateNativeImageConfig", value = "true")
+    public void shouldGenerateReflectionConfigurationForNativeImages() throws IOException {
+        assertThat( readResource( REFLECT_CONFIG ) )
+            .contains( "\"name\": \"org.mapstruct.ap.test.registry.DecoratedSourceTargetMapperImpl\"" )
+            .contains( "\"name\": \"org.mapstruct.ap.test.registry.SourceTargetMapperImpl\"" )
+            .contains( "\"name\": \"<init>\"" );
+        assertThat( loadRegistries() ).isEmpty();
+        generatedSource.forJavaFile( REGISTRY ).doesNotExist();
+    }
+
+    @ProcessorTest
+    public void shouldNotGenerateRegistryByDefault() {
+        assertThat( loadRegistries() ).isEmpty();
+        assertThat( Thread.currentThread().getContextClassLoader().getResource( REFLECT_CONFIG ) ).isNull();
+        generatedSource.forJavaFile( REGISTRY ).doesNotExist();
+    }
+
+    private static List<MapperRegistry> loadRegistries() {
+        List<MapperRegistry> registries = new ArrayList<>();
+        for ( MapperRegistry registry : ServiceLoader.load(
+            MapperRegistry.class,
+            Thread.currentThread().getContextClassLoader()
+        ) ) {
+            registries.add( registry );
+        }
+        return registries;
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream( name );
+             Scanner scanner = new Scanner( stream, StandardCharsets.UTF_8.name() ).useDelimiter( "\\A" )) {
+            return scanner.next();
+        }
+    }
+}
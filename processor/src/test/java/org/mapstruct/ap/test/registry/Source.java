@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.registry;
+
+public class Source {
+
+    private String name;
+
+    public Source(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.registry;
+
+public abstract class SourceTargetMapperDecorator implements DecoratedSourceTargetMapper {
+
+    private final DecoratedSourceTargetMapper delegate;
+
+    public SourceTargetMapperDecorator(DecoratedSourceTargetMapper delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Target toTarget(Source source) {
+        Target target = delegate.toTarget( source );
+        target.setName( target.getName() + " (decorated)" );
+        return target;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.tomap;
+
+import java.util.Map;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface BeanToObjectMapMapper {
+
+    BeanToObjectMapMapper INSTANCE = Mappers.getMapper( BeanToObjectMapMapper.class );
+
+    @Mapping(target = "customer", source = "customer.name")
+    @Mapping(target = "internalNote", ignore = true)
+    Map<String, Object> toMap(Order order);
+
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "customer", ignore = true)
+    @Mapping(target = "internalNote", ignore = true)
+    void updateMap(Order order, @MappingTarget Map<String, Object> map);
+}
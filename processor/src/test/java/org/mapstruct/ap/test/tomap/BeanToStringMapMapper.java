@@ -0,0 +1,24 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.tomap;
+
+import java.util.Map;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface BeanToStringMapMapper {
+
+    BeanToStringMapMapper INSTANCE = Mappers.getMapper( BeanToStringMapMapper.class );
+
+    @Mapping(target = "orderDate", dateFormat = "dd.MM.yyyy")
+    @Mapping(target = "customer", ignore = true)
+    @Mapping(target = "customerName", source = "customer.name")
+    @Mapping(target = "internalNote", ignore = true)
+    Map<String, String> toMap(Order order);
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.tomap;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface OrderAttributesMapper {
+
+    OrderAttributesMapper INSTANCE = Mappers.getMapper( OrderAttributesMapper.class );
+
+    OrderAttributes toAttributes(Order order);
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.tomap;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@WithClasses({
+    Order.class,
+    Customer.class
+})
+public class ToMapMappingTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    @WithClasses(BeanToObjectMapMapper.class)
+    public void shouldMapBeanToObjectMap() {
+        Order order = createOrder();
+
+        Map<String, Object> map = BeanToObjectMapMapper.INSTANCE.toMap( order );
+
+        assertThat( map ).containsOnly(
+            entry( "name", "Jacket" ),
+            entry( "price", 25.5 ),
+            entry( "orderDate", LocalDate.of( 2021, Month.JUNE, 15 ) ),
+            entry( "customer", "Alice" )
+        );
+    }
+
+    @ProcessorTest
+    @WithClasses(BeanToObjectMapMapper.class)
+    public void shouldMapNullBeanToNullMap() {
+        assertThat( BeanToObjectMapMapper.INSTANCE.toMap( null ) ).isNull();
+    }
+
+    @ProcessorTest
+    @WithClasses(BeanToObjectMapMapper.class)
+    public void shouldUpdateObjectMap() {
+        Order order = createOrder();
+        order.setOrderDate( null );
+        Map<String, Object> map = new HashMap<>();
+        map.put( "orderDate", LocalDate.of( 2020, Month.JANUARY, 1 ) );
+        map.put( "other", "kept" );
+
+        BeanToObjectMapMapper.INSTANCE.updateMap( order, map );
+
+        assertThat( map ).containsOnly(
+            entry( "name", "Jacket" ),
+            entry( "price", 25.5 ),
+            entry( "orderDate", LocalDate.of( 2020, Month.JANUARY, 1 ) ),
+            entry( "other", "kept" )
+        );
+    }
+
+    @ProcessorTest
+    @WithClasses(BeanToStringMapMapper.class)
+    public void shouldMapBeanToStringMapWithConversions() {
+        Order order = createOrder();
+
+        Map<String, String> map = BeanToStringMapMapper.INSTANCE.toMap( order );
+
+        assertThat( map ).containsOnly(
+            entry( "name", "Jacket" ),
+            entry( "price", "25.5" ),
+            entry( "orderDate", "15.06.2021" ),
+            entry( "customerName", "Alice" )
+        );
+    }
+
+    @ProcessorTest
+    @WithClasses(BeanToStringMapMapper.class)
+    public void shouldPutNullValuesUnlessConverted() {
+        Map<String, String> map = BeanToStringMapMapper.INSTANCE.toMap( new Order() );
+
+        assertThat( map ).containsOnly(
+            entry( "name", null ),
+            entry( "price", "0.0" ),
+            entry( "customerName", null )
+        );
+    }
+
+    @ProcessorTest
+    @WithClasses({
+        OrderAttributes.class,
+        OrderAttributesMapper.class
+    })
+    public void shouldMapIntoPropertiesOfMapSubtypeWithSetters() {
+        OrderAttributes attributes = OrderAttributesMapper.INSTANCE.toAttributes( createOrder() );
+
+        assertThat( attributes.getName() ).isEqualTo( "Jacket" );
+        assertThat( attributes.getPrice() ).isEqualTo( 25.5 );
+        assertThat( attributes ).isEmpty();
+    }
+
+    @ProcessorTest
+    @WithClasses(BeanToObjectMapMapper.class)
+    public void shouldPresizeHashedMapTarget() {
+        generatedSource.forMapper( BeanToObjectMapMapper.class )
+            .content()
+            .contains( "LinkedHashMap<String, Object> map = new LinkedHashMap<String, Object>( 16 );" );
+    }
+
+    private static Order createOrder() {
+        Order order = new Order();
+        order.setName( "Jacket" );
+        order.setPrice( 25.5 );
+        order.setOrderDate( LocalDate.of( 2021, Month.JUNE, 15 ) );
+        order.setCustomer( new Customer( "Alice" ) );
+        order.setInternalNote( "fragile" );
+        return order;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.updatemethods.writeonlyifchanged;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Records the properties written through its setters, like a bytecode enhanced entity marking them dirty.
+ */
+public class ArticleEntity {
+
+    private final Set<String> dirtyProperties = new LinkedHashSet<>();
+
+    private String name;
+    private int price;
+    private long stock;
+    private String description;
+    private String status;
+    private String code;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        dirtyProperties.add( "name" );
+        this.name = name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public void setPrice(int price) {
+        dirtyProperties.add( "price" );
+        this.price = price;
+    }
+
+    public long getStock() {
+        return stock;
+    }
+
+    public void setStock(long stock) {
+        dirtyProperties.add( "stock" );
+        this.stock = stock;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        dirtyProperties.add( "description" );
+        this.description = description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        dirtyProperties.add( "status" );
+        this.status = status;
+    }
+
+    public void setCode(String code) {
+        dirtyProperties.add( "code" );
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public Set<String> getDirtyProperties() {
+        return dirtyProperties;
+    }
+}
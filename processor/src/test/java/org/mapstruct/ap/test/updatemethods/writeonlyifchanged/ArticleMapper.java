@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.updatemethods.writeonlyifchanged;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ArticleMapper {
+
+    ArticleMapper INSTANCE = Mappers.getMapper( ArticleMapper.class );
+
+    @BeanMapping(writeOnlyIfChanged = true)
+    @Mapping(target = "status", constant = "ACTIVE")
+    @Mapping(target = "dirtyProperties", ignore = true)
+    void update(ArticleDto source, @MappingTarget ArticleEntity target);
+}
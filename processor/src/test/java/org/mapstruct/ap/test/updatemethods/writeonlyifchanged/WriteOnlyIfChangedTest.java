@@ -0,0 +1,62 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.updatemethods.writeonlyifchanged;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mapstruct.ap.testutil.ProcessorTest;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    ArticleDto.class,
+    ArticleEntity.class,
+    ArticleMapper.class
+})
+public class WriteOnlyIfChangedTest {
+
+    @RegisterExtension
+    final GeneratedSource generatedSource = new GeneratedSource();
+
+    @ProcessorTest
+    public void shouldOnlyWriteChangedProperties() {
+        ArticleEntity entity = new ArticleEntity();
+        entity.setName( "Hammer" );
+        entity.setPrice( 10 );
+        entity.setStock( 5 );
+        entity.setDescription( "Steel" );
+        entity.setStatus( "ACTIVE" );
+        entity.getDirtyProperties().clear();
+
+        ArticleDto dto = new ArticleDto();
+        dto.setName( "Hammer" );
+        dto.setPrice( 12 );
+        dto.setStock( 5 );
+        dto.setCode( "H-1" );
+
+        ArticleMapper.INSTANCE.update( dto, entity );
+
+        assertThat( entity.getName() ).isEqualTo( "Hammer" );
+        assertThat( entity.getPrice() ).isEqualTo( 12 );
+        assertThat( entity.getStock() ).isEqualTo( 5 );
+        assertThat( entity.getDescription() ).isNull();
+        assertThat( entity.code() ).isEqualTo( "H-1" );
+        // the code has no read accessor, so it is always written
+        assertThat( entity.getDirtyProperties() ).containsExactlyInAnyOrder( "price", "description", "code" );
+
+        entity.getDirtyProperties().clear();
+
+        ArticleMapper.INSTANCE.update( dto, entity );
+
+        assertThat( entity.getDirtyProperties() ).containsExactly( "code" );
+
+        generatedSource.forMapper( ArticleMapper.class )
+            .content()
+            .contains( "if ( !Objects.equals( name, target.getName() ) ) {" )
+            .contains( "if ( price != target.getPrice() ) {" );
+    }
+}
@@ -32,6 +32,7 @@
 import org.apache.commons.io.output.NullOutputStream;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mapstruct.ap.internal.option.EmissionBackend;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.WithServiceImplementation;
 import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
@@ -73,9 +74,19 @@ abstract class CompilingExtension implements BeforeEachCallback {
     private String sourceOutputDir;
     private String additionalCompilerClasspath;
     private final Compiler compiler;
+    private final EmissionBackend emissionBackend;
 
     protected CompilingExtension(Compiler compiler) {
+        this( compiler, null );
+    }
+
+    /**
+     * @param compiler the compiler to compile with
+     * @param emissionBackend the backend writing the generated sources, {@code null} for the processor's default
+     */
+    protected CompilingExtension(Compiler compiler, EmissionBackend emissionBackend) {
         this.compiler = compiler;
+        this.emissionBackend = emissionBackend;
     }
 
     protected void setupDirectories(Method testMethod, Class<?> testClass) {
@@ -95,6 +106,9 @@ protected void setupDirectories(Method testMethod, Class<?> testClass) {
     }
 
     protected String getPathSuffix() {
+        if ( emissionBackend != null ) {
+            return "_" + compiler.name().toLowerCase() + "_" + emissionBackend.name().toLowerCase();
+        }
         return "_" + compiler.name().toLowerCase();
     }
 
@@ -413,6 +427,10 @@ private List<String> getProcessorOptions(Method testMethod, Class<?> testClass)
             result.add( asOptionString( option ) );
         }
 
+        if ( emissionBackend != null ) {
+            result.add( "-Amapstruct.emissionBackend=" + emissionBackend.name() );
+        }
+
         // Add all debugging info to class files
         result.add( "-g:source,lines,vars" );
 
@@ -23,6 +23,7 @@
 
 import org.junit.jupiter.api.condition.JRE;
 import org.mapstruct.ap.MappingProcessor;
+import org.mapstruct.ap.internal.option.EmissionBackend;
 import org.mapstruct.ap.testutil.compilation.model.CompilationOutcomeDescriptor;
 import org.mapstruct.ap.testutil.compilation.model.DiagnosticDescriptor;
 
@@ -44,6 +45,10 @@ class JdkCompilingExtension extends CompilingExtension {
         super( Compiler.JDK );
     }
 
+    JdkCompilingExtension(EmissionBackend emissionBackend) {
+        super( Compiler.JDK, emissionBackend );
+    }
+
     @Override
     protected CompilationOutcomeDescriptor compileWithSpecificCompiler(CompilationRequest compilationRequest,
                                                                        String sourceOutputDir,
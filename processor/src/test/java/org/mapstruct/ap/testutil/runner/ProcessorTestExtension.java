@@ -6,21 +6,27 @@
 package org.mapstruct.ap.testutil.runner;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
 import org.junit.platform.commons.support.AnnotationSupport;
+import org.mapstruct.ap.internal.option.EmissionBackend;
 import org.mapstruct.ap.testutil.ProcessorTest;
 
 /**
- * The provider of the processor tests based on the defined compilers.
+ * The provider of the processor tests based on the defined compilers. The tests of the packages with fixtures of the
+ * generated sources are additionally run with the JDK compiler and the {@link EmissionBackend#FREEMARKER} backend, so
+ * that the templates and the emitters are compared with the same fixtures.
  *
  * @author Filip Hrisafov
  */
 public class ProcessorTestExtension implements TestTemplateInvocationContextProvider {
 
+    private static final String FIXTURES_ROOT = "fixtures/";
+
     @Override
     public boolean supportsTestTemplate(ExtensionContext context) {
         return AnnotationSupport.isAnnotated( context.getTestMethod(), ProcessorTest.class );
@@ -32,7 +38,21 @@ public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContex
         ProcessorTest processorTest = AnnotationSupport.findAnnotation( testMethod, ProcessorTest.class )
             .orElseThrow( () -> new RuntimeException( "Failed to get CompilerTest on " + testMethod ) );
 
-        return Stream.of( processorTest.value() )
+        Stream<TestTemplateInvocationContext> invocationContexts = Stream.of( processorTest.value() )
             .map( ProcessorTestInvocationContext::new );
+        if ( Arrays.asList( processorTest.value() ).contains( Compiler.JDK )
+            && hasFixtures( context.getRequiredTestClass() ) ) {
+            invocationContexts = Stream.concat(
+                invocationContexts,
+                Stream.of( new ProcessorTestInvocationContext( Compiler.JDK, EmissionBackend.FREEMARKER ) )
+            );
+        }
+
+        return invocationContexts;
+    }
+
+    private static boolean hasFixtures(Class<?> testClass) {
+        String packagePath = testClass.getPackage().getName().replace( '.', '/' );
+        return testClass.getClassLoader().getResource( FIXTURES_ROOT + packagePath ) != null;
     }
 }
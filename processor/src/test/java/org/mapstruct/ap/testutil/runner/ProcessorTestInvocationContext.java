@@ -10,6 +10,7 @@
 
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.mapstruct.ap.internal.option.EmissionBackend;
 
 /**
  * The template invocation processor responsible for providing the appropriate extensions for the different compilers.
@@ -19,13 +20,22 @@
 public class ProcessorTestInvocationContext implements TestTemplateInvocationContext {
 
     protected Compiler compiler;
+    protected EmissionBackend emissionBackend;
 
     public ProcessorTestInvocationContext(Compiler compiler) {
+        this( compiler, null );
+    }
+
+    public ProcessorTestInvocationContext(Compiler compiler, EmissionBackend emissionBackend) {
         this.compiler = compiler;
+        this.emissionBackend = emissionBackend;
     }
 
     @Override
     public String getDisplayName(int invocationIndex) {
+        if ( emissionBackend != null ) {
+            return "[" + compiler.name().toLowerCase() + ", " + emissionBackend.name().toLowerCase() + "]";
+        }
         return "[" + compiler.name().toLowerCase() + "]";
     }
 
@@ -34,7 +44,7 @@ public List<Extension> getAdditionalExtensions() {
         List<Extension> extensions = new ArrayList<>();
         extensions.add( new CompilerTestEnabledOnJreCondition( compiler ) );
         if ( compiler == Compiler.JDK ) {
-            extensions.add( new JdkCompilingExtension() );
+            extensions.add( new JdkCompilingExtension( emissionBackend ) );
         }
         else if ( compiler == Compiler.ECLIPSE ) {
             extensions.add( new EclipseCompilingExtension() );
@@ -25,7 +25,7 @@ public Car toCar(Car2 car2) {
 
         int[] intData = car2.getIntData();
         if ( intData != null ) {
-            car.setIntData( Arrays.copyOf( intData, intData.length ) );
+            car.setIntData( intData.clone() );
         }
         Long[] longData = car2.getLongData();
         if ( longData != null ) {